@@ -13,7 +13,11 @@ const BoardForm = ({ onClose, onFormOpen }) => {
     loading,
     error,
     message,
+    hasNext,
+    isSearching,
     fetchPosts,
+    fetchMorePosts,
+    searchPosts,
     createPost,
     setError,
     setMessage,
@@ -21,6 +25,8 @@ const BoardForm = ({ onClose, onFormOpen }) => {
 
   const [title, setTitle] = useState('');
   const [content, setContent] = useState('');
+  const [searchField, setSearchField] = useState('title'); // 검색 대상 : title / content / username
+  const [keyword, setKeyword] = useState('');
   // 이전의 message, error useState는 BoardContext로 옮겨갔으므로 여기서는 제거하거나 필요에 따라 사용
 
   useEffect(() => {
@@ -49,6 +55,22 @@ const BoardForm = ({ onClose, onFormOpen }) => {
       setContent('');
     }
   };
+  // 게시글 검색 처리 (COUNT 없는 Slice 모드, 더 보기는 다음 page)
+  const handleSearch = (e) => {
+    e.preventDefault();
+    if (!keyword.trim()) {
+      fetchPosts(); // 빈 검색어 = 전체 목록
+      return;
+    }
+    searchPosts({ [searchField]: keyword.trim() }, 0);
+  };
+
+  // 검색 해제 : 전체 목록으로
+  const handleSearchReset = () => {
+    setKeyword('');
+    fetchPosts();
+  };
+
   // 모달 내용 클릭 시 이벤트 전파 중단 함수
   const handleModalContentClick = (e) => {
     e.stopPropagation(); // 모달 배경 클릭으로 인한 닫힘 방지
@@ -106,14 +128,44 @@ const BoardForm = ({ onClose, onFormOpen }) => {
             해주세요.
           </p>
         )}
+        {/* 게시글 검색 */}
+        <form onSubmit={handleSearch} className="board-search">
+          <select
+            value={searchField}
+            onChange={(e) => setSearchField(e.target.value)}
+            disabled={loading}
+          >
+            <option value="title">제목</option>
+            <option value="content">내용</option>
+            <option value="username">작성자</option>
+          </select>
+          <input
+            type="text"
+            placeholder="검색어"
+            value={keyword}
+            onChange={(e) => setKeyword(e.target.value)}
+            className="input-field"
+            disabled={loading}
+          />
+          <button type="submit" disabled={loading}>
+            검색
+          </button>
+          {isSearching && (
+            <button type="button" onClick={handleSearchReset} disabled={loading}>
+              전체 목록
+            </button>
+          )}
+        </form>
         {/* 게시글 목록 */}
         <div className="posts-list">
-          <h3>게시글 목록 ({posts.length}개)</h3>
+          <h3>
+            {isSearching ? '검색 결과' : '게시글 목록'} ({posts.length}개)
+          </h3>
           {posts.length === 0 && !loading ? ( // 로딩 중이 아닐 때만 '게시글 없음' 표시
             <p>게시글이 없습니다.</p>
           ) : (
             posts.map((post) => (
-              <div key={post.id} className="post-item">
+              <div key={post.postId} className="post-item">
                 <h4>{post.title}</h4>
                 <p>{post.content}</p>
                 <small>
@@ -124,6 +176,12 @@ const BoardForm = ({ onClose, onFormOpen }) => {
               </div>
             ))
           )}
+          {/* 커서 페이지네이션(검색 중에는 다음 page): 다음 묶음이 있을 때만 더 보기 버튼 노출 */}
+          {hasNext && (
+            <button type="button" onClick={fetchMorePosts} disabled={loading}>
+              더 보기
+            </button>
+          )}
         </div>
       </div>
     </section>
@@ -1,5 +1,5 @@
 // src/contexts/BoardService.jsx
-import React, { createContext, useContext, useState, useCallback } from 'react';
+import React, { createContext, useContext, useState, useCallback, useEffect, useRef } from 'react';
 // import axios from 'axios';
 import api from '../api/axiosConfig';
 
@@ -13,6 +13,10 @@ export const BoardProvider = ({ children }) => {
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState(null);
   const [message, setMessage] = useState(null); // 성공 메시지
+  const [nextCursor, setNextCursor] = useState(null); // 커서 페이지네이션: 다음 요청에 보낼 커서
+  const [hasNext, setHasNext] = useState(false); // 더 불러올 게시글이 있는지 여부
+  const [search, setSearch] = useState(null); // 검색 중이면 { condition, page }, 목록 모드면 null
+  const searchRef = useRef(null); // 스트림 이벤트 처리용 (이벤트 핸들러는 처음 만든 클로저를 계속 사용)
 
   // 게시글 목록 불러오기
   // const fetchPosts = useCallback(async () => {
@@ -37,25 +41,124 @@ export const BoardProvider = ({ children }) => {
   //     setLoading(false);
   //   }
   // }, []);
-  // 게시글 목록 불러오기
+  // 게시글 목록 불러오기 (첫 페이지)
+  // ✅ 무한 스크롤용 커서(키셋) 모드를 기본으로 사용 : GET /api/posts?cursor=
   const fetchPosts = useCallback(async () => {
     setLoading(true);
     setError(null);
+    setSearch(null); // 검색 결과에서 전체 목록으로 돌아감
+    searchRef.current = null;
     try {
-      const response = await api.get('/api/posts'); // ✅ 여기서 withCredentials 안써도 됨
-      if (Array.isArray(response.data)) {
-        setPosts(response.data);
+      const response = await api.get('/api/posts', {
+        params: { cursor: '', size: 10 }, // cursor가 빈 값이면 첫 페이지
+      });
+      const page = response.data?.data; // CommonResponse.data = PostCursorResponse
+      if (page && Array.isArray(page.content)) {
+        setPosts(page.content);
+        setNextCursor(page.nextCursor);
+        setHasNext(page.hasNext);
       } else {
         setPosts([]);
+        setNextCursor(null);
+        setHasNext(false);
       }
     } catch (err) {
       setError('게시글 불러오기 실패');
       setPosts([]);
+      setHasNext(false);
     } finally {
       setLoading(false);
     }
   }, []);
 
+  // 게시글 검색 (제목/내용/작성자)
+  // ✅ COUNT 쿼리 없는 Slice 모드를 기본으로 사용 : GET /api/posts/search?paging=slice
+  const searchPosts = useCallback(async (condition, page = 0) => {
+    setLoading(true);
+    setError(null);
+    try {
+      const response = await api.get('/api/posts/search', {
+        params: { ...condition, paging: 'slice', page, size: 10 },
+      });
+      const slice = response.data?.data; // CommonResponse.data = PostSliceResponse
+      if (slice && Array.isArray(slice.content)) {
+        setPosts((prev) => (page === 0 ? slice.content : [...prev, ...slice.content]));
+        setHasNext(slice.hasNext);
+        setNextCursor(null); // 검색 결과는 커서가 아닌 page 번호로 이어서 조회
+        setSearch({ condition, page });
+        searchRef.current = condition;
+      } else {
+        setPosts([]);
+        setHasNext(false);
+      }
+    } catch (err) {
+      setError('게시글 검색 실패');
+      setPosts([]);
+      setHasNext(false);
+    } finally {
+      setLoading(false);
+    }
+  }, []);
+
+  // 게시글 목록 이어서 불러오기 (다음 페이지)
+  // ✅ 응답으로 받은 nextCursor를 그대로 돌려보내면 OFFSET 없이 다음 묶음을 가져옴
+  // ✅ 검색 중이면 검색 결과의 다음 page (위 searchPosts)
+  const fetchMorePosts = useCallback(async () => {
+    if (search) {
+      if (hasNext) await searchPosts(search.condition, search.page + 1);
+      return;
+    }
+    if (!hasNext || !nextCursor) return;
+    setLoading(true);
+    setError(null);
+    try {
+      const response = await api.get('/api/posts', {
+        params: { cursor: nextCursor, size: 10 },
+      });
+      const page = response.data?.data;
+      if (page && Array.isArray(page.content)) {
+        setPosts((prev) => [...prev, ...page.content]);
+        setNextCursor(page.nextCursor);
+        setHasNext(page.hasNext);
+      }
+    } catch (err) {
+      setError('게시글 불러오기 실패');
+    } finally {
+      setLoading(false);
+    }
+  }, [hasNext, nextCursor, search, searchPosts]);
+
+  // 게시글 실시간 스트림 (SSE) : 작성/수정/삭제가 커밋되면 목록에 바로 반영 (폴링 없음)
+  // ✅ 스트림이 연결되어 있는 동안에는 작성/수정/삭제 후 목록 전체를 다시 불러오지 않음
+  const streamOpen = useRef(false);
+  useEffect(() => {
+    const source = new EventSource(`${api.defaults.baseURL}/api/posts/stream`);
+    source.onopen = () => {
+      streamOpen.current = true;
+    };
+    source.onerror = () => {
+      streamOpen.current = false; // EventSource가 retry 후 자동으로 다시 연결
+    };
+    source.addEventListener('created', (e) => {
+      if (searchRef.current) return; // 검색 결과에는 조건에 맞는지 모르는 새 글을 끼워 넣지 않음
+      const { post } = JSON.parse(e.data);
+      setPosts((prev) => (prev.some((p) => p.postId === post.postId) ? prev : [post, ...prev]));
+    });
+    source.addEventListener('updated', (e) => {
+      const { post } = JSON.parse(e.data);
+      setPosts((prev) => prev.map((p) => (p.postId === post.postId ? post : p)));
+    });
+    source.addEventListener('deleted', (e) => {
+      const { postId } = JSON.parse(e.data);
+      setPosts((prev) => prev.filter((p) => p.postId !== postId));
+    });
+    // 놓친 변경이 있음 : 검색 중이면 검색 첫 페이지, 아니면 목록 첫 페이지를 다시 불러옴
+    source.addEventListener('reload', () =>
+      searchRef.current ? searchPosts(searchRef.current, 0) : fetchPosts()
+    );
+    return () => source.close();
+  }, [fetchPosts, searchPosts]);
+
   // 게시글 작성
   const createPost = useCallback(
     async (newPostData) => {
@@ -78,7 +181,7 @@ export const BoardProvider = ({ children }) => {
           }
         );
         setMessage('게시글이 성공적으로 작성되었습니다.');
-        fetchPosts(); // 작성 후 목록 새로고침
+        if (!streamOpen.current) fetchPosts(); // 스트림이 끊겨 있을 때만 목록 새로고침
         return true;
       } catch (err) {
         console.error('게시글 작성에 실패했습니다.', err);
@@ -97,9 +200,10 @@ export const BoardProvider = ({ children }) => {
     [isLoggedIn, fetchPosts]
   );
 
-  // 게시글 수정 (추후 구현)
+  // 게시글 수정 : post는 상세 조회 응답 (postId, version 사용)
+  // 💡 version을 함께 보내야 그 사이 다른 수정이 있었을 때 덮어쓰지 않고 409로 알려줌
   const updatePost = useCallback(
-    async (postId, updatedPostData) => {
+    async (post, updatedPostData) => {
       setLoading(true);
       setError(null);
       setMessage(null);
@@ -109,21 +213,22 @@ export const BoardProvider = ({ children }) => {
         return false;
       }
       try {
-        await axios.put(
-          `http://localhost:8080/api/posts/${postId}`,
-          updatedPostData,
-          {
-            withCredentials: true,
-          }
-        );
+        await api.patch(`/api/posts/${post.postId}`, {
+          ...updatedPostData,
+          version: post.version,
+        });
         setMessage('게시글이 성공적으로 수정되었습니다.');
-        fetchPosts();
+        if (!streamOpen.current) fetchPosts();
         return true;
       } catch (err) {
         if (err.response && err.response.status === 403) {
           setError(
             '게시글 수정 권한이 없습니다. 본인의 게시글만 수정 가능합니다.'
           );
+        } else if (err.response && err.response.status === 409) {
+          setError(
+            '다른 곳에서 게시글이 먼저 수정되었습니다. 새로고침 후 다시 시도해 주세요.'
+          );
         } else {
           setError(
             err.response?.data?.message || '게시글 수정 중 오류가 발생했습니다.'
@@ -153,7 +258,7 @@ export const BoardProvider = ({ children }) => {
           withCredentials: true,
         });
         setMessage('게시글이 성공적으로 삭제되었습니다.');
-        fetchPosts();
+        if (!streamOpen.current) fetchPosts();
         return true;
       } catch (err) {
         if (err.response && err.response.status === 403) {
@@ -180,7 +285,11 @@ export const BoardProvider = ({ children }) => {
         loading,
         error,
         message,
+        hasNext,
+        isSearching: search !== null,
         fetchPosts,
+        fetchMorePosts,
+        searchPosts,
         createPost,
         updatePost,
         deletePost,
@@ -3,8 +3,10 @@ package springboot_first.pr;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaAuditing
+@EnableScheduling // 삭제 게시글 보관(PostArchiver) 등 예약 작업
 @SpringBootApplication
 public class PrApplication {
 
@@ -70,6 +70,8 @@ public class SecurityConfig {
 
                 // ✅ 게시글 조회 (GET)은 인증 없이 모두 접근 허용 (비회원도 게시글을 볼 수 있도록)
                 .requestMatchers(HttpMethod.GET, "/api/posts/**").permitAll()
+                // ✅ 작성자별 게시글 목록 (GET)도 비회원 접근 허용
+                .requestMatchers(HttpMethod.GET, "/api/users/*/posts").permitAll()
                 
                 // 나머지 모든 요청은 인증(로그인/토큰 유효)을 요구합니다.
                 .anyRequest().authenticated() 
@@ -0,0 +1,163 @@
+package springboot_first.pr.controller.post;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import springboot_first.pr.dto.postDTO.response.PostArchiveStatusResponse;
+import springboot_first.pr.dto.postDTO.response.PostImportResponse;
+import springboot_first.pr.dto.response.CommonResponse;
+import springboot_first.pr.service.post.PostArchiver;
+import springboot_first.pr.service.post.PostExportService;
+import springboot_first.pr.service.post.PostImportService;
+import springboot_first.pr.service.user.UserService;
+
+
+@Slf4j
+@RestController // 1️⃣ 컨트롤러 선언
+@RequiredArgsConstructor // 2️⃣ 생성자 자동 생성
+@RequestMapping("/api/admin/posts") // 3️⃣ 기본 경로 설정 : 관리자 전용 게시글 API (인증 필요 + 서비스에서 ADMIN 권한 확인)
+
+public class AdminPostController {
+
+  private final PostExportService postExportService;
+  private final PostImportService postImportService;
+  private final PostArchiver postArchiver; // 삭제 게시글 보관 작업 (상태 조회 / 일시 정지)
+  private final UserService userService; // 관리자 권한 확인
+
+  /**
+   * 1️⃣ 게시글 전체 내보내기 API (GET /api/admin/posts/export?since=2025-01-01T00:00:00)
+   * - 응답 : application/x-ndjson (게시글 1건 = JSON 1줄), 삭제된 게시글 제외
+   * - since : 수정 시각이 이 시각 이후인 게시글만 수정 시각 순으로 (증분 내보내기, 마지막 줄의 updatedAt을 다음 since로 사용)
+   *   💡 경계 시각의 게시글은 다음 내보내기에 다시 나올 수 있으므로 받는 쪽은 postId 기준으로 덮어쓰기
+   * - Accept-Encoding에 gzip이 있으면 출력하면서 바로 압축 (Content-Encoding: gzip)
+   */
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportPosts(
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+      @AuthenticationPrincipal String currentUserId)
+  {
+      log.info("GET 게시글 내보내기 요청 접수. 요청자: {}, since: {}", currentUserId, since);
+
+      // 1️⃣ 권한 확인은 스트리밍 시작 전에 (실패 시 일반 오류 응답)
+      userService.checkAdmin(currentUserId);
+
+      // 2️⃣ 응답 본문은 컨트롤러 반환 후 비동기 스레드에서 출력
+      boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+      StreamingResponseBody body = out -> postExportService.export(since, out, gzip);
+
+      ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK)
+          .contentType(MediaType.APPLICATION_NDJSON)
+          .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"posts.ndjson\"")
+          .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+      if (gzip) {
+          response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+      }
+      return response.body(body);
+  }
+
+  /**
+   * 2️⃣ 게시글 일괄 가져오기 API (POST /api/admin/posts/import)
+   * - 요청 본문 : JSON 배열(application/json) 또는 NDJSON(application/x-ndjson), 한 건 = { title, content, authorUserId, createdAt?, updatedAt? }
+   * - 요청 본문을 한 번에 읽지 않고 스트리밍으로 읽으면서 post.import.chunk-size 건마다 커밋
+   * - 잘못된 게시글은 건너뛰고, 건너뛴 개수와 사유(일부)를 응답
+   */
+  @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  public ResponseEntity<CommonResponse<PostImportResponse>> importPosts(
+      HttpServletRequest request,
+      @AuthenticationPrincipal String currentUserId) throws IOException
+  {
+      log.info("POST 게시글 일괄 가져오기 요청 접수. 요청자: {}, Content-Type: {}", currentUserId, request.getContentType());
+
+      // 1️⃣ 권한 확인
+      userService.checkAdmin(currentUserId);
+
+      // 2️⃣ Service 계층 호출 (요청 본문 스트림을 그대로 전달)
+      PostImportResponse responseDTO = postImportService.importPosts(request.getInputStream());
+
+      // 3️⃣ 응답 포장 (HTTP 200 OK)
+      CommonResponse<PostImportResponse> commonResponse = CommonResponse.success(
+          "게시글 일괄 가져오기를 완료했습니다.",
+          responseDTO
+      );
+      log.info("게시글 일괄 가져오기 응답 성공. {}", responseDTO);
+
+      return ResponseEntity.status(HttpStatus.OK).body(commonResponse);
+  }
+
+  // 〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️ 삭제 게시글 보관(archive) 작업 〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+  /**
+   * 3️⃣ 보관 작업 상태 조회 API (GET /api/admin/posts/archive)
+   * - 일시 정지 여부, 실행 중 여부, 누적/마지막 실행 보관 건수
+   */
+  @GetMapping("/archive")
+  public ResponseEntity<CommonResponse<PostArchiveStatusResponse>> archiveStatus(
+      @AuthenticationPrincipal String currentUserId)
+  {
+      userService.checkAdmin(currentUserId);
+
+      CommonResponse<PostArchiveStatusResponse> commonResponse = CommonResponse.success(
+          "삭제 게시글 보관 작업 상태를 조회했습니다.",
+          postArchiver.status()
+      );
+      return ResponseEntity.status(HttpStatus.OK).body(commonResponse);
+  }
+
+  /**
+   * 4️⃣ 보관 작업 일시 정지 API (POST /api/admin/posts/archive/pause)
+   * - 실행 중이면 현재 배치까지만 처리하고 멈춤, 이후 예약 실행은 재개할 때까지 건너뜀
+   * 💡 서버 재시작 시에는 post.archive.paused 설정값으로 돌아감
+   */
+  @PostMapping("/archive/pause")
+  public ResponseEntity<CommonResponse<PostArchiveStatusResponse>> pauseArchive(
+      @AuthenticationPrincipal String currentUserId)
+  {
+      log.info("POST 삭제 게시글 보관 작업 일시 정지 요청. 요청자: {}", currentUserId);
+      userService.checkAdmin(currentUserId);
+
+      postArchiver.pause();
+
+      CommonResponse<PostArchiveStatusResponse> commonResponse = CommonResponse.success(
+          "삭제 게시글 보관 작업을 일시 정지했습니다.",
+          postArchiver.status()
+      );
+      return ResponseEntity.status(HttpStatus.OK).body(commonResponse);
+  }
+
+  /**
+   * 5️⃣ 보관 작업 재개 API (POST /api/admin/posts/archive/resume)
+   */
+  @PostMapping("/archive/resume")
+  public ResponseEntity<CommonResponse<PostArchiveStatusResponse>> resumeArchive(
+      @AuthenticationPrincipal String currentUserId)
+  {
+      log.info("POST 삭제 게시글 보관 작업 재개 요청. 요청자: {}", currentUserId);
+      userService.checkAdmin(currentUserId);
+
+      postArchiver.resume();
+
+      CommonResponse<PostArchiveStatusResponse> commonResponse = CommonResponse.success(
+          "삭제 게시글 보관 작업을 재개했습니다.",
+          postArchiver.status()
+      );
+      return ResponseEntity.status(HttpStatus.OK).body(commonResponse);
+  }
+}
@@ -0,0 +1,107 @@
+package springboot_first.pr.controller.post;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import springboot_first.pr.dto.commentDTO.request.CommentCreateRequest;
+import springboot_first.pr.dto.commentDTO.response.CommentPageResponse;
+import springboot_first.pr.dto.commentDTO.response.CommentResponse;
+import springboot_first.pr.dto.response.CommonResponse;
+import springboot_first.pr.exception.AuthenticationException;
+import springboot_first.pr.service.post.comment.CommentService;
+
+@Slf4j
+@RestController // 1️⃣컨트롤러 선언
+@RequiredArgsConstructor // 2️⃣ 생성자 주입
+@RequestMapping("/api/posts/{postId}/comments") // 3️⃣ 게시글 하위 경로 (GET은 SecurityConfig의 /api/posts/** 규칙으로 로그인 없이 허용)
+public class CommentController {
+
+  private final CommentService commentService;
+
+  /**
+   * 1️⃣ 댓글 / 답글 작성 API (POST /api/posts/{postId}/comments)
+   * - 요청 : { content, parentId? } (parentId가 있으면 그 댓글의 답글)
+   */
+  @PostMapping
+  public ResponseEntity<CommonResponse<CommentResponse>> createComment(
+      @PathVariable Long postId,
+      @AuthenticationPrincipal String currentUserId,
+      @Valid @RequestBody CommentCreateRequest request)
+  {
+      log.info("POST 댓글 작성 요청 접수. PostId: {}, 사용자: {}, 부모 댓글: {}", postId, currentUserId, request.getParentId());
+
+      if (currentUserId == null) {
+          throw new AuthenticationException("인증 정보가 없습니다. 로그인해주세요.");
+      }
+
+      CommentResponse response = commentService.createComment(postId, currentUserId, request);
+
+      return ResponseEntity
+          .status(HttpStatus.CREATED)
+          .body(CommonResponse.success("댓글이 성공적으로 작성되었습니다.", response));
+  }
+
+  /**
+   * 2️⃣ 댓글 목록 API (GET /api/posts/{postId}/comments?cursor=&size=20)
+   * - 최상위 댓글 size 개 (작성 순) + 각 댓글의 답글 트리 전체 (children)
+   * - 첫 페이지는 cursor 생략, 이후에는 응답의 nextCursor를 그대로 전달
+   */
+  @GetMapping
+  public ResponseEntity<CommonResponse<CommentPageResponse>> findComments(
+      @PathVariable Long postId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size)
+  {
+      log.debug("GET 댓글 목록 요청 접수. PostId: {}, cursor: {}, size: {}", postId, cursor, size);
+
+      CommentPageResponse response = commentService.findComments(postId, cursor, size);
+
+      return ResponseEntity
+          .status(HttpStatus.OK)
+          .body(CommonResponse.success("댓글 목록을 성공적으로 조회했습니다.", response));
+  }
+
+  /**
+   * 3️⃣ 댓글 스레드 API (GET /api/posts/{postId}/comments/{commentId})
+   * - 댓글 하나와 그 아래 모든 답글 (children)
+   */
+  @GetMapping("/{commentId}")
+  public ResponseEntity<CommonResponse<CommentResponse>> findThread(
+      @PathVariable Long postId,
+      @PathVariable Long commentId)
+  {
+      CommentResponse response = commentService.findThread(postId, commentId);
+
+      return ResponseEntity
+          .status(HttpStatus.OK)
+          .body(CommonResponse.success("댓글을 성공적으로 조회했습니다.", response));
+  }
+
+  /**
+   * 4️⃣ 댓글 삭제 API (DELETE /api/posts/{postId}/comments/{commentId}, 작성자 본인만)
+   */
+  @DeleteMapping("/{commentId}")
+  public ResponseEntity<CommonResponse<?>> deleteComment(
+      @PathVariable Long postId,
+      @PathVariable Long commentId,
+      @AuthenticationPrincipal String currentUserId)
+  {
+      log.info("DELETE 댓글 삭제 요청 접수. PostId: {}, CommentId: {}, 사용자: {}", postId, commentId, currentUserId);
+
+      commentService.deleteComment(postId, commentId, currentUserId);
+
+      return ResponseEntity.ok(CommonResponse.success("댓글이 성공적으로 삭제되었습니다."));
+  }
+}
@@ -9,16 +9,27 @@ import lombok.extern.slf4j.Slf4j;
 import springboot_first.pr.dto.postDTO.request.PostCreateRequest;
 import springboot_first.pr.dto.postDTO.request.PostSearchRequest;
 import springboot_first.pr.dto.postDTO.request.PostUpdateRequest;
+import springboot_first.pr.dto.postDTO.response.PostBatchResponse;
+import springboot_first.pr.dto.postDTO.response.PostCursorResponse;
 import springboot_first.pr.dto.postDTO.response.PostDetailResponse;
+import springboot_first.pr.dto.postDTO.response.PostDetailVersion;
 import springboot_first.pr.dto.postDTO.response.PostListResponse;
+import springboot_first.pr.dto.postDTO.response.PostSliceResponse;
+import springboot_first.pr.dto.postDTO.response.PostSuggestResponse;
+import springboot_first.pr.dto.postDTO.response.PostTrendingResponse;
 import springboot_first.pr.dto.response.CommonResponse;
 import springboot_first.pr.exception.AuthenticationException;
 import springboot_first.pr.service.post.PostService;
+import springboot_first.pr.service.post.PostStreamBroadcaster;
+import springboot_first.pr.service.post.suggest.PostSuggestService;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -30,6 +41,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.data.domain.Sort;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Optional;
 
 
 @Slf4j
@@ -40,6 +56,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 public class PostController {
   
   private final PostService postService;
+  private final PostSuggestService postSuggestService;
+  private final PostStreamBroadcaster postStreamBroadcaster;
   
 
   // 〰️〰️〰️〰️〰️〰️〰️〰️ GET/POST/PATCH/DELETE 매핑 확인 〰️〰️〰️〰️〰️〰️〰️〰️ //
@@ -92,9 +110,15 @@ public class PostController {
   public ResponseEntity<CommonResponse<Page<PostListResponse>>> findAllPosts(
       // @PageableDefault: 파라미터가 없을 때 기본값 (1페이지, 10개, 최신순) 설정
       @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) 
-      Pageable pageable) 
+      Pageable pageable,
+      WebRequest webRequest) // 조건부 GET(If-None-Match) 확인용
   {
       log.info("GET 게시글 목록 조회 요청 접수. Pageable: {}", pageable);
+
+      // 0️⃣ 목록 버전이 클라이언트의 ETag와 같으면 조회/직렬화 없이 304 Not Modified
+      if (webRequest.checkNotModified(PostEtags.list(postService.currentListVersion()))) {
+          return notModified();
+      }
       
       // 1️⃣ Service 계층 호출 (Pageable 객체를 그대로 전달)
       Page<PostListResponse> responsePage = postService.findAllPosts(pageable);
@@ -107,6 +131,62 @@ public class PostController {
       
       log.info("게시글 목록 조회 응답 성공. Total Pages: {}", responsePage.getTotalPages());
       
+      return ResponseEntity
+          .status(HttpStatus.OK)
+          .cacheControl(CacheControl.noCache()) // 저장은 허용하되 매번 ETag로 재검증
+          .body(commonResponse);
+  }
+
+  /**
+   * 2️⃣-1 게시글 목록 조회 API (GET /api/posts?paging=slice) - COUNT 없는 Slice 페이지네이션
+   * - 전체 개수/전체 페이지 수 대신 hasNext만 제공하므로 COUNT(*) 쿼리가 실행되지 않음
+   */
+  @GetMapping(params = "paging=slice") // GET /api/posts?paging=slice&page=0&size=10
+  public ResponseEntity<CommonResponse<PostSliceResponse>> findAllPostsSlice(
+      @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC)
+      Pageable pageable)
+  {
+      log.info("GET 게시글 목록(Slice) 조회 요청 접수. Pageable: {}", pageable);
+
+      // 1️⃣ Service 계층 호출
+      PostSliceResponse responseSlice = postService.findAllPostsSlice(pageable);
+
+      // 2️⃣ 응답 포장 (HTTP 200 OK)
+      CommonResponse<PostSliceResponse> commonResponse = CommonResponse.success(
+          "게시글 목록을 성공적으로 조회했습니다.",
+          responseSlice
+      );
+
+      log.info("게시글 목록(Slice) 조회 응답 성공. hasNext: {}", responseSlice.isHasNext());
+
+      return ResponseEntity
+          .status(HttpStatus.OK)
+          .body(commonResponse);
+  }
+
+  /**
+   * 2️⃣-2 게시글 목록 조회 API (GET /api/posts?cursor=...) - 커서(키셋) 페이지네이션
+   * - cursor 파라미터가 있으면(빈 값 포함) 이 메서드로 매핑, 없으면 기존 offset 방식(findAllPosts) 유지
+   * - 첫 페이지는 cursor= (빈 값), 이후에는 응답의 nextCursor를 그대로 전달
+   */
+  @GetMapping(params = "cursor") // GET /api/posts?cursor=
+  public ResponseEntity<CommonResponse<PostCursorResponse>> findPostsByCursor(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size)
+  {
+      log.info("GET 게시글 목록(커서) 조회 요청 접수. cursor: {}, size: {}", cursor, size);
+
+      // 1️⃣ Service 계층 호출
+      PostCursorResponse response = postService.findPostsByCursor(cursor, size);
+
+      // 2️⃣ 응답 포장 (HTTP 200 OK)
+      CommonResponse<PostCursorResponse> commonResponse = CommonResponse.success(
+          "게시글 목록을 성공적으로 조회했습니다.",
+          response
+      );
+
+      log.info("게시글 목록(커서) 조회 응답 성공. 조회 건수: {}, hasNext: {}", response.getContent().size(), response.isHasNext());
+
       return ResponseEntity
           .status(HttpStatus.OK)
           .body(commonResponse);
@@ -120,12 +200,30 @@ public class PostController {
    * 3️⃣ 게시글 상세 조회 API
    */
   @GetMapping("/{postId}")
-  public ResponseEntity<CommonResponse<PostDetailResponse>> findPostDetail(@PathVariable Long postId) {
+  public ResponseEntity<CommonResponse<PostDetailResponse>> findPostDetail(
+      @PathVariable Long postId,
+      WebRequest webRequest) // 조건부 GET(If-None-Match) 확인용
+  {
    
     log.info("GET 게시글 상세 조회 요청 접수. 접근 게시글 ID: {}", postId);
 
-    // 1️⃣ Service 계층 호출
+    // 0️⃣ 조건부 요청이면 검증 값(수정 시각 + 반영된 조회수 / 댓글 수 / 좋아요 수)만 먼저 확인해서, 바뀌지 않았으면 본문 조회/직렬화 없이 304 Not Modified
+    if (isConditional(webRequest)) {
+        Optional<PostDetailVersion> version = postService.findPostDetailVersion(postId);
+        if (version.isPresent() && webRequest.checkNotModified(PostEtags.detail(postId, version.get()))) {
+            postService.recordView(postId); // 304도 조회 1번 (클라이언트 캐시로 본문을 다시 봄)
+            return notModified();
+        }
+    }
+
+    // 1️⃣ Service 계층 호출 (게시글이 있을 때만 조회수 증가, 없으면 위에서 404)
     PostDetailResponse responseDTO = postService.findPostById(postId);
+    postService.recordView(postId);
+
+    // 💡 응답에 ETag 헤더 추가 (위에서 이미 추가되었다면 그대로 유지)
+    //    응답의 조회수에는 버퍼 값이 더해져 있으므로, 방금 채운 상세 캐시에서 검증 값을 다시 읽음 (SQL 없음)
+    postService.findPostDetailVersion(postId)
+        .ifPresent(version -> webRequest.checkNotModified(PostEtags.detail(postId, version)));
 
     // 2️⃣ 응답 포장 (HTTP OK)
     CommonResponse<PostDetailResponse> commonResponse = CommonResponse.success(
@@ -134,9 +232,32 @@ public class PostController {
     );
     log.info("게시글 상세 조회 응답 성공. : {}", responseDTO.getTitle());
 
-    return ResponseEntity.status(HttpStatus.OK).body(commonResponse);
+    return ResponseEntity.status(HttpStatus.OK).cacheControl(CacheControl.noCache()).body(commonResponse);
 
   }
+
+  /**
+   * 3️⃣-1 여러 게시글 상세 한 번에 조회 API (GET /api/posts/batch?ids=1,2,3)
+   * - 상세 조회 N번 대신 요청 1번 + SQL 최대 1번 (최대 PostService.MAX_BATCH_SIZE 개)
+   * - 요청한 순서대로 응답하고, 없는(삭제된) id는 missingIds로 알려줌
+   */
+  @GetMapping("/batch")
+  public ResponseEntity<CommonResponse<PostBatchResponse>> findPostDetails(@RequestParam List<Long> ids) {
+
+    log.info("GET 게시글 여러 건 조회 요청 접수. 요청 개수: {}", ids.size());
+
+    // 1️⃣ Service 계층 호출
+    PostBatchResponse responseDTO = postService.findPostsByIds(ids);
+
+    // 2️⃣ 응답 포장 (HTTP OK)
+    CommonResponse<PostBatchResponse> commonResponse = CommonResponse.success(
+        "게시글을 성공적으로 조회했습니다.",
+        responseDTO
+    );
+    log.info("게시글 여러 건 조회 응답 성공. 찾은 개수: {}, 없는 id: {}", responseDTO.getPosts().size(), responseDTO.getMissingIds());
+
+    return ResponseEntity.status(HttpStatus.OK).body(commonResponse);
+  }
   
 
   // 〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️ 영역 분리 〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️ //
@@ -204,16 +325,23 @@ public class PostController {
     /**
      * 6️⃣ 게시글 통합 검색 API (GET /api/posts/search)
      * - @ModelAttribute: 쿼리 파라미터(?title=...&username=...)를 DTO 객체로 바인딩
+     * - 태그 조건 : ?tags=type:red|type:rose&tags=region:bordeaux (값 안의 '|' = OR, tags 파라미터끼리 = AND)
      * - Pageable: 검색 결과에도 페이지네이션 적용
      */
     @GetMapping("/search") // GET /api/posts/search
     public ResponseEntity<CommonResponse<Page<PostListResponse>>> searchPosts(
             PostSearchRequest request, // 💡 쿼리 파라미터가 자동으로 DTO의 필드에 매핑됨
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) 
-            Pageable pageable) 
+            Pageable pageable,
+            WebRequest webRequest)
     {
         log.info("GET 게시글 통합 검색 요청 접수. 조건: {}, Pageable: {}", request, pageable);
 
+        // 0️⃣ 목록 버전이 같으면 검색 쿼리 없이 304 Not Modified (검색 조건은 URL에 포함되어 URL별로 캐시됨)
+        if (webRequest.checkNotModified(PostEtags.list(postService.currentListVersion()))) {
+            return notModified();
+        }
+
         // 1️⃣ Service 계층 호출 (검색 조건 DTO와 페이징 객체 전달)
         Page<PostListResponse> responsePage = postService.searchPosts(request, pageable);
 
@@ -227,6 +355,123 @@ public class PostController {
 
         return ResponseEntity
                 .status(HttpStatus.OK)
+                .cacheControl(CacheControl.noCache())
                 .body(commonResponse);
     }
+
+    /**
+     * 6️⃣-1 게시글 통합 검색 API (GET /api/posts/search?paging=slice) - COUNT 없는 Slice 페이지네이션
+     * - 검색 조건은 동일하지만 같은 조건의 COUNT(*) 쿼리를 생략하고 hasNext만 반환
+     */
+    @GetMapping(value = "/search", params = "paging=slice") // GET /api/posts/search?paging=slice
+    public ResponseEntity<CommonResponse<PostSliceResponse>> searchPostsSlice(
+            PostSearchRequest request,
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC)
+            Pageable pageable)
+    {
+        log.info("GET 게시글 통합 검색(Slice) 요청 접수. 조건: {}, Pageable: {}", request, pageable);
+
+        // 1️⃣ Service 계층 호출
+        PostSliceResponse responseSlice = postService.searchPostsSlice(request, pageable);
+
+        // 2️⃣ 응답 포장
+        CommonResponse<PostSliceResponse> commonResponse = CommonResponse.success(
+            "검색 결과를 성공적으로 조회했습니다.",
+            responseSlice
+        );
+
+        log.info("게시글 검색(Slice) 완료. hasNext: {}", responseSlice.isHasNext());
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(commonResponse);
+    }
+
+    /**
+     * 6️⃣-1 인기 게시글 API (GET /api/posts/trending?window=hour&size=10)
+     * - window : hour(최근 1시간, 기본값) / day(최근 24시간), 상세 조회수 기준 순위
+     * - 메모리 순위 목록에서만 조회 (1분마다 갱신, 요청마다 SQL 없음)
+     */
+    @GetMapping("/trending") // GET /api/posts/trending?window=day
+    public ResponseEntity<CommonResponse<List<PostTrendingResponse>>> findTrendingPosts(
+            @RequestParam(defaultValue = "hour") String window,
+            @RequestParam(defaultValue = "10") int size)
+    {
+        log.debug("GET 인기 게시글 요청 접수. window: {}, size: {}", window, size);
+
+        // 1️⃣ Service 계층 호출
+        List<PostTrendingResponse> trending = postService.findTrendingPosts(window, size);
+
+        // 2️⃣ 응답 포장
+        CommonResponse<List<PostTrendingResponse>> commonResponse = CommonResponse.success(
+            "인기 게시글을 성공적으로 조회했습니다.",
+            trending
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(commonResponse);
+    }
+
+    /**
+     * 6️⃣-2 게시글 실시간 스트림 API (GET /api/posts/stream, Server-Sent Events)
+     * - 글 작성/수정/삭제가 커밋되면 event: created / updated / deleted 로 목록 한 건(PostStreamEvent)을 보냄
+     * - event: reload 를 받으면 놓친 변경이 있다는 뜻이므로 목록을 다시 불러올 것
+     * - 요청 스레드는 바로 반납되고 연결만 유지됨 (비동기 응답), 구독자 수 상한을 넘으면 503 Service Unavailable
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE) // GET /api/posts/stream
+    public ResponseEntity<SseEmitter> streamPosts()
+    {
+        return postStreamBroadcaster.subscribe()
+                .map(emitter -> ResponseEntity
+                        .status(HttpStatus.OK)
+                        .header("X-Accel-Buffering", "no") // nginx 등 프록시가 이벤트를 모아두지 않도록
+                        .body(emitter))
+                .orElseGet(() -> {
+                    log.warn("게시글 스트림 구독 거절: 구독자 수 상한 초과");
+                    return ResponseEntity
+                            .status(HttpStatus.SERVICE_UNAVAILABLE)
+                            .header(HttpHeaders.RETRY_AFTER, "30")
+                            .build();
+                });
+    }
+
+    /**
+     * 7️⃣ 검색창 자동완성 API (GET /api/posts/suggest?prefix=와인)
+     * - 제목/작성자 이름이 접두어(또는 단어 시작)로 일치하는 항목을 최신 게시글 순으로 반환
+     * - 메모리 트라이에서만 조회하므로 키 입력마다 호출해도 DB 부하가 없음
+     */
+    @GetMapping("/suggest") // GET /api/posts/suggest?prefix=
+    public ResponseEntity<CommonResponse<List<PostSuggestResponse>>> suggest(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int size)
+    {
+        // ⚠️ 키 입력마다 호출되는 API라 요청 로그는 debug 레벨
+        log.debug("GET 자동완성 요청 접수. prefix: {}, size: {}", prefix, size);
+
+        // 1️⃣ Service 계층 호출
+        List<PostSuggestResponse> suggestions = postSuggestService.suggest(prefix, size);
+
+        // 2️⃣ 응답 포장
+        CommonResponse<List<PostSuggestResponse>> commonResponse = CommonResponse.success(
+            "자동완성 결과를 성공적으로 조회했습니다.",
+            suggestions
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(commonResponse);
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️ 조건부 GET 공통 처리 〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    // 클라이언트가 이전 응답의 검증자(ETag)를 보냈는지
+    private static boolean isConditional(WebRequest webRequest) {
+        return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+    }
+
+    // 304 응답 : 상태 코드와 ETag 헤더는 checkNotModified()가 이미 설정함
+    private static <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CacheControl.noCache()).build();
+    }
 }
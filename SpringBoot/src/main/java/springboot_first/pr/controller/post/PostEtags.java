@@ -0,0 +1,39 @@
+package springboot_first.pr.controller.post;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import springboot_first.pr.dto.postDTO.response.PostDetailVersion;
+
+/**
+ * 게시글 API 조건부 GET(If-None-Match)용 검증자 생성
+ * - 상세 : 게시글 id + 수정 시각 + DB에 반영된 조회수 / 댓글 수 / 좋아요 수
+ *   (약한 ETag, 개수는 수정 시각이 없으므로 Last-Modified는 보내지 않음)
+ * - 목록 : 게시글 목록 버전 번호 (약한 ETag, URL마다 따로 캐시되므로 쿼리 파라미터는 포함하지 않음)
+ * 💡 버퍼에만 있는 조회수는 조회할 때마다 바뀌므로 제외 (반영 주기마다 ETag가 바뀜)
+ */
+final class PostEtags {
+
+    private PostEtags() {
+    }
+
+    static String detail(Long postId, PostDetailVersion version) {
+        return "W/\"post-" + postId
+            + "-" + Long.toHexString(epochNanos(version.getUpdatedAt()))
+            + "-" + Long.toHexString(version.getViewCount())
+            + "-" + Integer.toHexString(version.getCommentCount())
+            + "-" + Long.toHexString(version.getLikeCount()) + "\"";
+    }
+
+    static String list(long version) {
+        return "W/\"posts-" + Long.toHexString(version) + "\"";
+    }
+
+    private static long epochNanos(LocalDateTime time) {
+        if (time == null) {
+            return 0;
+        }
+        var instant = time.atZone(ZoneId.systemDefault()).toInstant();
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+}
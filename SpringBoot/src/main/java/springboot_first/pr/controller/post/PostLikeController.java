@@ -0,0 +1,69 @@
+package springboot_first.pr.controller.post;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import springboot_first.pr.dto.postDTO.response.PostLikeResponse;
+import springboot_first.pr.dto.response.CommonResponse;
+import springboot_first.pr.exception.AuthenticationException;
+import springboot_first.pr.service.post.like.PostLikeService;
+
+@Slf4j
+@RestController // 1️⃣컨트롤러 선언
+@RequiredArgsConstructor // 2️⃣ 생성자 주입
+@RequestMapping("/api/posts/{postId}/like") // 3️⃣ 게시글 하위 경로 (POST/DELETE 는 로그인 필요)
+public class PostLikeController {
+
+  private final PostLikeService postLikeService;
+
+  /**
+   * 1️⃣ 좋아요 API (POST /api/posts/{postId}/like)
+   * - 이미 누른 게시글이면 그대로 성공 (좋아요 수 변화 없음)
+   */
+  @PostMapping
+  public ResponseEntity<CommonResponse<PostLikeResponse>> like(
+      @PathVariable Long postId,
+      @AuthenticationPrincipal String currentUserId)
+  {
+      log.debug("POST 좋아요 요청 접수. PostId: {}, 사용자: {}", postId, currentUserId);
+
+      PostLikeResponse response = postLikeService.like(postId, requireLogin(currentUserId));
+
+      return ResponseEntity
+          .status(HttpStatus.OK)
+          .body(CommonResponse.success("좋아요를 눌렀습니다.", response));
+  }
+
+  /**
+   * 2️⃣ 좋아요 취소 API (DELETE /api/posts/{postId}/like)
+   * - 누르지 않은 게시글이면 그대로 성공 (좋아요 수 변화 없음)
+   */
+  @DeleteMapping
+  public ResponseEntity<CommonResponse<PostLikeResponse>> unlike(
+      @PathVariable Long postId,
+      @AuthenticationPrincipal String currentUserId)
+  {
+      log.debug("DELETE 좋아요 취소 요청 접수. PostId: {}, 사용자: {}", postId, currentUserId);
+
+      PostLikeResponse response = postLikeService.unlike(postId, requireLogin(currentUserId));
+
+      return ResponseEntity
+          .status(HttpStatus.OK)
+          .body(CommonResponse.success("좋아요를 취소했습니다.", response));
+  }
+
+  private static String requireLogin(String currentUserId) {
+      if (currentUserId == null) {
+          throw new AuthenticationException("인증 정보가 없습니다. 로그인해주세요.");
+      }
+      return currentUserId;
+  }
+}
@@ -0,0 +1,55 @@
+package springboot_first.pr.controller.post;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import springboot_first.pr.dto.postDTO.response.PostCursorResponse;
+import springboot_first.pr.dto.response.CommonResponse;
+import springboot_first.pr.service.post.PostService;
+
+
+@Slf4j
+@RestController // 1️⃣ 컨트롤러 선언
+@RequiredArgsConstructor // 2️⃣ 생성자 자동 생성
+@RequestMapping("/api/users") // 3️⃣ 기본 경로 설정 : 특정 회원 기준으로 게시글을 조회하는 API
+
+public class UserPostController {
+
+  private final PostService postService;
+
+  /**
+   * 1️⃣ 작성자별 게시글 목록 조회 API (GET /api/users/{userId}/posts?cursor=&size=10) - 커서(키셋) 페이지네이션
+   * - userId : 작성자의 로그인 ID
+   * - 첫 페이지는 cursor 없이, 이후에는 응답의 nextCursor를 그대로 전달
+   */
+  @GetMapping("/{userId}/posts")
+  public ResponseEntity<CommonResponse<PostCursorResponse>> findPostsByAuthor(
+      @PathVariable String userId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size)
+  {
+      log.info("GET 작성자별 게시글 목록 조회 요청 접수. userId: {}, cursor: {}, size: {}", userId, cursor, size);
+
+      // 1️⃣ Service 계층 호출
+      PostCursorResponse response = postService.findPostsByAuthor(userId, cursor, size);
+
+      // 2️⃣ 응답 포장 (HTTP 200 OK)
+      CommonResponse<PostCursorResponse> commonResponse = CommonResponse.success(
+          "작성자의 게시글 목록을 성공적으로 조회했습니다.",
+          response
+      );
+
+      log.info("작성자별 게시글 목록 조회 응답 성공. 조회 건수: {}, hasNext: {}", response.getContent().size(), response.isHasNext());
+
+      return ResponseEntity
+          .status(HttpStatus.OK)
+          .body(commonResponse);
+  }
+}
@@ -0,0 +1,22 @@
+package springboot_first.pr.dto.commentDTO.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@NoArgsConstructor() // JSON 바인딩을 위한 Public 기본 생성자
+@ToString
+public class CommentCreateRequest {
+
+    @NotBlank(message = "댓글 내용은 필수 입력 값입니다.")
+    @Size(max = 1000, message = "댓글은 1000자를 초과할 수 없습니다.")
+    private String content;
+
+    // 답글을 달 댓글 id (최상위 댓글이면 생략)
+    private Long parentId;
+
+    // ⚠️ 게시글 ID는 URL 경로(/api/posts/{postId}/comments)로, 작성자는 JWT에서 받음
+}
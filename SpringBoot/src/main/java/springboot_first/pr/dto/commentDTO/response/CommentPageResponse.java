@@ -0,0 +1,39 @@
+package springboot_first.pr.dto.commentDTO.response;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// 1️⃣ 어노테이션 선언
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // private : @Builder 어노테이션이 정상적으로 작동하기 위한 보조 역할, 외부 생성 차단
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // 생성자의 접근 권한을 protected로 설정해서 외부 생성 차단
+@Getter // 각 필드 값을 조회할 수 있는 Getter 메서드 자동 생성
+@ToString // 로깅과 디버깅을 위해 추가
+@Builder // DTO 생성을 위한 빌더 패턴 추가
+
+// 댓글 목록 응답 : 최상위 댓글 기준 커서(키셋) 페이지 + 각 댓글의 답글 트리 전체
+public class CommentPageResponse {
+
+  private List<CommentResponse> content; // 이번 페이지의 최상위 댓글 (작성 순, children에 답글 트리)
+
+  private int size; // 요청한 페이지 크기 (최상위 댓글 수 기준)
+
+  private boolean hasNext; // 다음 최상위 댓글 존재 여부
+
+  private String nextCursor; // 다음 요청 때 그대로 돌려보낼 커서 (마지막 페이지면 null)
+
+  // 정적 팩토리 메서드
+  public static CommentPageResponse of(List<CommentResponse> content, int size, String nextCursor) {
+      return CommentPageResponse.builder()
+              .content(content)
+              .size(size)
+              .hasNext(nextCursor != null)
+              .nextCursor(nextCursor)
+              .build();
+  }
+}
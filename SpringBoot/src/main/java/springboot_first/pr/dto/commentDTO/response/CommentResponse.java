@@ -0,0 +1,53 @@
+package springboot_first.pr.dto.commentDTO.response;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import springboot_first.pr.entity.Comment;
+
+// 1️⃣ 어노테이션 선언
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // 생성자의 접근 권한을 protected로 설정해서 외부 생성 차단
+@Getter // 각 필드 값을 조회할 수 있는 Getter 메서드 자동 생성
+@ToString // 로깅과 디버깅을 위해 추가
+
+// 댓글 한 건 + 답글 트리 (children)
+public class CommentResponse {
+
+  private Long commentId;
+  private Long parentId; // 최상위 댓글은 null
+
+  private String authorUsername;
+  private String content; // 삭제된 댓글은 null
+
+  private boolean deleted; // 삭제됐지만 답글이 있어 자리만 남은 댓글
+  private LocalDateTime createdAt;
+
+  private List<CommentResponse> children = new ArrayList<>(); // 답글 (작성 순)
+
+  // ⚠️ JPQL 생성자 프로젝션(SELECT new ...CommentResponse(...))에서 직접 호출 : 파라미터 순서 = CommentRepository 프로젝션 순서
+  public CommentResponse(Long commentId, Long parentId, String authorUsername, String content,
+                         LocalDateTime createdAt, LocalDateTime deletedAt) {
+      this.commentId = commentId;
+      this.parentId = parentId;
+      this.authorUsername = authorUsername;
+      this.deleted = deletedAt != null;
+      this.content = deleted ? null : content;
+      this.createdAt = createdAt;
+  }
+
+  // 정적 팩토리 메서드: 방금 저장한 Comment 엔티티를 DTO로 변환 (작성자는 이미 로딩된 엔티티)
+  public static CommentResponse from(Comment comment) {
+      return new CommentResponse(comment.getId(), comment.getParentId(), comment.getUser().getUsername(),
+              comment.getContent(), comment.getCreatedAt(), comment.getDeletedAt());
+  }
+
+  // 트리 조립용 (CommentTree)
+  public void addChild(CommentResponse child) {
+      children.add(child);
+  }
+}
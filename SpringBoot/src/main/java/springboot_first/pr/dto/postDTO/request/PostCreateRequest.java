@@ -1,6 +1,9 @@
 package springboot_first.pr.dto.postDTO.request;
 
+import java.util.List;
+
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
@@ -19,6 +22,10 @@ public class PostCreateRequest {
     // 현업 팁: @Size(max = 5000) 등을 추가하여 DB TEXT 필드 크기에 맞춰 제한하기도 합니다.
     private String content;
 
+    // 태그 (선택) : type:red, region:bordeaux, vintage:2015 형식, 게시글당 최대 10개
+    @Size(max = 10, message = "태그는 10개까지 지정할 수 있습니다.")
+    private List<String> tags;
+
     // ***************************************************************
     // ⚠️ 참고: 작성자 ID는 DTO에 포함하지 않습니다.
     // JWT 토큰에서 추출하여 서비스 계층에서 처리할 것입니다.
@@ -0,0 +1,27 @@
+package springboot_first.pr.dto.postDTO.request;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// 1️⃣ 어노테이션 선언
+@NoArgsConstructor() // JSON 바인딩을 위한 Public 기본 생성자
+@Getter // 각 필드 값을 조회할 수 있는 Getter 메서드 자동 생성
+@ToString(exclude = "content") // 본문은 로그에 남기지 않음
+
+// 게시글 일괄 가져오기 한 건 (JSON 배열의 원소 또는 NDJSON 한 줄)
+// ⚠️ 검증은 건별로 PostImportService가 수행 : 잘못된 행은 건너뛰고 나머지는 계속 가져옴
+public class PostImportRequest {
+
+    private String title; // 필수, 100자 이하
+
+    private String content; // 필수
+
+    private String authorUserId; // 작성자 로그인 ID (필수, 존재하는 회원)
+
+    private LocalDateTime createdAt; // 선택 : 원본 작성일 (없으면 가져온 시각)
+
+    private LocalDateTime updatedAt; // 선택 : 원본 수정일 (없으면 가져온 시각)
+}
@@ -1,5 +1,7 @@
 package springboot_first.pr.dto.postDTO.request;
 
+import java.util.List;
+
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -16,4 +18,7 @@ public class PostSearchRequest {
   private String content;
   private String username;
 
+  // 태그 조건 : 값 하나 = OR 묶음('|' 구분), 값끼리는 AND (예 : tags=type:red|type:rose&tags=region:bordeaux), TagFilter 참고
+  private List<String> tags;
+
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package springboot_first.pr.dto.postDTO.request;
 
+import java.util.List;
+
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -18,6 +21,16 @@ public class PostUpdateRequest {
     @NotBlank(message = "내용은 필수 입력 값입니다.")
     @Size(max = 5000, message = "내용은 5000자를 초과할 수 없습니다.") // 💡 5000자 제한 추가 (TEXT 컬럼 가정)
     private String content;
+
+    // 수정 화면을 열 때 받은 게시글 버전 (상세 조회 응답의 version)
+    // 💡 그 사이 다른 수정/삭제가 있었다면 덮어쓰지 않고 409 Conflict (생략하면 400)
+    @NotNull(message = "게시글 버전은 필수 입력 값입니다. 상세 조회 응답의 version을 보내주세요.")
+    private Long version;
+
+    // 태그 (type:red, region:bordeaux, vintage:2015 형식, 최대 10개)
+    // 💡 생략(null)하면 기존 태그 유지, 빈 목록이면 태그 모두 제거
+    @Size(max = 10, message = "태그는 10개까지 지정할 수 있습니다.")
+    private List<String> tags;
     
     // ⚠️ 이 DTO는 수정할 게시글 ID를 포함 ❌
     // ID는 컨트롤러에서 URL 경로(`@PathVariable`)를 통해 받게 됨!
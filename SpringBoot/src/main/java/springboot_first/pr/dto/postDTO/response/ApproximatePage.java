@@ -0,0 +1,25 @@
+package springboot_first.pr.dto.postDTO.response;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 전체 개수(totalElements)가 캐시된 값일 수 있음을 알려주는 Page 구현
+ * - 기존 Page 응답 형식은 그대로 유지하고 JSON에 "approximate" 필드만 추가됩니다.
+ * - approximate = true : COUNT 캐시 값 사용 (TTL 이내의 오차 가능)
+ */
+public class ApproximatePage<T> extends PageImpl<T> {
+
+    private final boolean approximate;
+
+    public ApproximatePage(List<T> content, Pageable pageable, long total, boolean approximate) {
+        super(content, pageable, total);
+        this.approximate = approximate;
+    }
+
+    public boolean isApproximate() {
+        return approximate;
+    }
+}
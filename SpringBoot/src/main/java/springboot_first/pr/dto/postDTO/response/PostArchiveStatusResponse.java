@@ -0,0 +1,37 @@
+package springboot_first.pr.dto.postDTO.response;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// 1️⃣ 어노테이션 선언
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // private : @Builder 어노테이션이 정상적으로 작동하기 위한 보조 역할, 외부 생성 차단
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // 생성자의 접근 권한을 protected로 설정해서 외부 생성 차단
+@Getter // 각 필드 값을 조회할 수 있는 Getter 메서드 자동 생성
+@ToString // 로깅과 디버깅을 위해 추가
+@Builder // DTO 생성을 위한 빌더 패턴 추가
+
+// 삭제 게시글 보관(archive) 작업 상태
+public class PostArchiveStatusResponse {
+
+  private boolean paused; // 일시 정지 여부 (정지 중에는 예약 실행을 건너뜀)
+
+  private boolean running; // 지금 보관 작업이 실행 중인지
+
+  private Duration retention; // 삭제 후 이 기간이 지난 게시글만 보관 테이블로 이동
+
+  private long totalArchived; // 서버 시작 후 보관한 게시글 수
+
+  private LocalDateTime lastRunAt; // 마지막 실행 시작 시각 (실행한 적 없으면 null)
+
+  private long lastRunArchived; // 마지막 실행에서 보관한 게시글 수
+
+  private long lastRunMillis; // 마지막 실행 소요 시간 (ms, 배치 사이 대기 포함)
+
+}
@@ -0,0 +1,34 @@
+package springboot_first.pr.dto.postDTO.response;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// 1️⃣ 어노테이션 선언
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // private : @Builder 어노테이션이 정상적으로 작동하기 위한 보조 역할, 외부 생성 차단
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // 생성자의 접근 권한을 protected로 설정해서 외부 생성 차단
+@Getter // 각 필드 값을 조회할 수 있는 Getter 메서드 자동 생성
+@ToString // 로깅과 디버깅을 위해 추가
+@Builder // DTO 생성을 위한 빌더 패턴 추가
+
+// 여러 게시글 상세 한 번에 조회 응답 : 요청한 id 순서대로 찾은 게시글 + 없는(삭제된) 게시글 id
+public class PostBatchResponse {
+
+  private List<PostDetailResponse> posts; // 찾은 게시글 (요청 순서 유지, 중복 id는 한 번만)
+
+  private List<Long> missingIds; // 존재하지 않거나 삭제된 게시글 id (요청 순서 유지)
+
+  // 정적 팩토리 메서드
+  public static PostBatchResponse of(List<PostDetailResponse> posts, List<Long> missingIds) {
+      return PostBatchResponse.builder()
+              .posts(posts)
+              .missingIds(missingIds)
+              .build();
+  }
+
+}
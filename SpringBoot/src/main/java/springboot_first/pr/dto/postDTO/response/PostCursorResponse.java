@@ -0,0 +1,40 @@
+package springboot_first.pr.dto.postDTO.response;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// 1️⃣ 어노테이션 선언
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // private : @Builder 어노테이션이 정상적으로 작동하기 위한 보조 역할, 외부 생성 차단
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // 생성자의 접근 권한을 protected로 설정해서 외부 생성 차단
+@Getter // 각 필드 값을 조회할 수 있는 Getter 메서드 자동 생성
+@ToString // 로깅과 디버깅을 위해 추가
+@Builder // DTO 생성을 위한 빌더 패턴 추가
+
+// 커서(키셋) 기반 목록 응답 : 무한 스크롤 클라이언트용
+public class PostCursorResponse {
+
+  private List<PostListResponse> content; // 이번에 조회된 게시글 목록
+
+  private int size; // 요청한 페이지 크기
+
+  private boolean hasNext; // 다음 데이터 존재 여부
+
+  private String nextCursor; // 다음 요청 때 그대로 돌려보낼 커서 (마지막 페이지면 null)
+
+  // 정적 팩토리 메서드
+  public static PostCursorResponse of(List<PostListResponse> content, int size, String nextCursor) {
+      return PostCursorResponse.builder()
+              .content(content)
+              .size(size)
+              .hasNext(nextCursor != null)
+              .nextCursor(nextCursor)
+              .build();
+  }
+
+}
@@ -1,6 +1,7 @@
 package springboot_first.pr.dto.postDTO.response;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -16,7 +17,7 @@ import springboot_first.pr.entity.Post;
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // 생성자의 접근 권한을 protected로 설정해서 외부 생성 차단, JPA는 허용하도록 설정
 @Getter // 각 필드 값을 조회할 수 있는 Getter 메서드 자동 생성
 @ToString // 모든 필드를 출력할 수 있는 toString 메서드 자동 생성, ✅ 로깅과 디버깅을 위해 추가
-@Builder // DTO 생성을 위한 빌더 패턴 추가 (테스트 코드 작성에 용이하다고 한다 ✅)
+@Builder(toBuilder = true) // DTO 생성을 위한 빌더 패턴 추가 (테스트 코드 작성에 용이하다고 한다 ✅)
 @Slf4j // 로깅 사용 -> 이 로깅 메시지에 객체의 상태를 담기 위해 @ToString을 함께 사용
 
 public class PostDetailResponse {
@@ -29,11 +30,27 @@ public class PostDetailResponse {
   private String authorUserId; // 로그인 ID (userId)
   private String authorUsername; // 사용자 이름 (username)
 
+  private long viewCount; // 조회수 (DB 반영분 + 아직 반영 전인 버퍼 값)
+
+  private int commentCount; // 댓글 수 (삭제된 댓글 제외)
+
+  private long likeCount; // 좋아요 수 (조회 시점의 압축분 + 슬롯 합계)
+
+  @Builder.Default
+  private List<String> tags = List.of(); // 태그 (type:red, region:bordeaux, vintage:2015 형식, 이름순)
+
   private LocalDateTime createdAt;
   private LocalDateTime updatedAt;
 
+  private Long version; // 낙관적 락 버전 (수정 요청 시 그대로 돌려보내면 동시 수정 충돌을 감지)
+
   // 정적 팩토리 메서드: Post 엔티티를 받아 DTO로 변환
   public static PostDetailResponse from(Post post) {
+      return from(post, List.of());
+  }
+
+  // 태그는 post_tags 에서 따로 읽어서 전달 (PostTagService)
+  public static PostDetailResponse from(Post post, List<String> tags) {
       return PostDetailResponse.builder()
               .postId(post.getId())
               .title(post.getTitle())
@@ -41,8 +58,13 @@ public class PostDetailResponse {
               // ⚠️ 연관관계 User 엔티티에서 정보를 가져오기
               .authorUserId(post.getUser().getUserId())
               .authorUsername(post.getUser().getUsername())
+              .viewCount(post.getViewCount())
+              .commentCount(post.getCommentCount())
+              .likeCount(post.getLikeCount())
+              .tags(tags)
               .createdAt(post.getCreatedAt())
               .updatedAt(post.getUpdatedAt())
+              .version(post.getVersion())
               .build();
   }
 
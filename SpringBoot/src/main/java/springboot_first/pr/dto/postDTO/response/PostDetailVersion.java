@@ -0,0 +1,26 @@
+package springboot_first.pr.dto.postDTO.response;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+// 1️⃣ 어노테이션 선언
+@AllArgsConstructor // public : JPQL 생성자 프로젝션(SELECT new ...PostDetailVersion(...))에서 직접 호출
+@Getter // 각 필드 값을 조회할 수 있는 Getter 메서드 자동 생성
+@ToString // 로깅과 디버깅을 위해 추가
+
+// 게시글 상세 조건부 GET(304) 판단용 검증 값 (응답 본문에는 포함되지 않고 ETag 계산에만 사용)
+public class PostDetailVersion {
+
+  private LocalDateTime updatedAt; // 제목/본문/태그 수정 시각
+
+  private long viewCount; // DB에 반영된 조회수 (버퍼에만 있는 조회수는 제외, 반영 주기마다 바뀜)
+
+  private int commentCount; // 댓글 수 (삭제된 댓글 제외)
+
+  private long likeCount; // 좋아요 수 (압축분 + 슬롯 합계, 압축해도 합계는 그대로라 ETag가 바뀌지 않음)
+
+  // ⚠️ 필드 순서 = 생성자 파라미터 순서 (PostRepository 의 프로젝션과 반드시 일치)
+}
@@ -0,0 +1,32 @@
+package springboot_first.pr.dto.postDTO.response;
+
+import java.time.LocalDateTime;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// 1️⃣ 어노테이션 선언
+@AllArgsConstructor // public : JPQL 생성자 프로젝션(SELECT new ...PostExportResponse(...))에서 직접 호출
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // 생성자의 접근 권한을 protected로 설정해서 외부 생성 차단
+@Getter // 각 필드 값을 조회할 수 있는 Getter 메서드 자동 생성 (JSON 직렬화)
+@ToString // 로깅과 디버깅을 위해 추가
+
+// 게시글 내보내기(NDJSON) 한 줄 : 게시글 1건의 전체 정보
+// ⚠️ 필드 순서 = 생성자 파라미터 순서 (PostRepository 의 내보내기 프로젝션과 반드시 일치)
+// 엔티티가 아닌 DTO로 바로 읽으므로 영속성 컨텍스트에 쌓이지 않아, 행 수와 무관하게 메모리 사용량이 일정합니다.
+public class PostExportResponse {
+
+  private Long postId;
+  private String title;
+  private String content;
+
+  private String authorUserId; // 로그인 ID (userId)
+  private String authorUsername; // 사용자 이름 (username)
+
+  private LocalDateTime createdAt;
+  private LocalDateTime updatedAt; // 증분 내보내기 시 다음 since 값으로 사용
+
+}
@@ -0,0 +1,30 @@
+package springboot_first.pr.dto.postDTO.response;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// 1️⃣ 어노테이션 선언
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // private : @Builder 어노테이션이 정상적으로 작동하기 위한 보조 역할, 외부 생성 차단
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // 생성자의 접근 권한을 protected로 설정해서 외부 생성 차단
+@Getter // 각 필드 값을 조회할 수 있는 Getter 메서드 자동 생성
+@ToString // 로깅과 디버깅을 위해 추가
+@Builder // DTO 생성을 위한 빌더 패턴 추가
+
+// 게시글 일괄 가져오기 결과
+public class PostImportResponse {
+
+  private long imported; // 저장된 게시글 수
+
+  private long skipped; // 검증 실패로 건너뛴 게시글 수
+
+  private List<String> errors; // 건너뛴 사유 (앞쪽 일부만, "n번째 게시글: 사유")
+
+  private long elapsedMillis; // 소요 시간 (ms)
+
+}
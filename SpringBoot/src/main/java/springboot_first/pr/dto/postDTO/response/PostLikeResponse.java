@@ -0,0 +1,33 @@
+package springboot_first.pr.dto.postDTO.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// 1️⃣ 어노테이션 선언
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // private : @Builder 어노테이션이 정상적으로 작동하기 위한 보조 역할, 외부 생성 차단
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // 생성자의 접근 권한을 protected로 설정해서 외부 생성 차단
+@Getter // 각 필드 값을 조회할 수 있는 Getter 메서드 자동 생성
+@ToString // 로깅과 디버깅을 위해 추가
+@Builder // DTO 생성을 위한 빌더 패턴 추가
+
+// 좋아요 / 좋아요 취소 결과
+public class PostLikeResponse {
+
+  private Long postId;
+
+  private boolean liked; // 요청 처리 후 내 좋아요 상태
+
+  private long likeCount; // 요청 처리 직후의 좋아요 수 (압축분 + 슬롯 합계)
+
+  public static PostLikeResponse of(Long postId, boolean liked, long likeCount) {
+      return PostLikeResponse.builder()
+              .postId(postId)
+              .liked(liked)
+              .likeCount(likeCount)
+              .build();
+  }
+}
@@ -12,7 +12,7 @@ import lombok.extern.slf4j.Slf4j;
 import springboot_first.pr.entity.Post;
 
 // 1️⃣ 어노테이션 선언
-@AllArgsConstructor(access = AccessLevel.PRIVATE) // private : @Builder 어노테이션이 정상적으로 작동하기 위한 보조 역할, 외부 생성 차단
+@AllArgsConstructor // public : @Builder 보조 + JPQL 생성자 프로젝션(SELECT new ...PostListResponse(...))에서 직접 호출
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // 생성자의 접근 권한을 protected로 설정해서 외부 생성 차단, JPA는 허용하도록 설정
 @Getter // 각 필드 값을 조회할 수 있는 Getter 메서드 자동 생성
 @ToString // 모든 필드를 출력할 수 있는 toString 메서드 자동 생성, ✅ 로깅과 디버깅을 위해 추가
@@ -28,7 +28,16 @@ public class PostListResponse {
   private String authorUsername; // 목록에서 누가 썼는지 보여주기 위해 작성자 이름만 포함
   
   private LocalDateTime createdAt;
+
+  private long viewCount; // 조회수 (DB 반영분, 버퍼 반영 주기만큼 늦을 수 있음)
+
+  private int commentCount; // 댓글 수 (Posts.comment_count 반정규화 값, COUNT 쿼리 없음)
+
+  private long likeCount; // 좋아요 수 (압축분 + 슬롯 합계, post_likes COUNT 없음)
   
+  // ⚠️ 필드 순서 = 생성자 파라미터 순서 (PostRepository / PostQueryRepositoryImpl 의 프로젝션과 반드시 일치)
+  // 목록/검색 쿼리는 이 생성자로 바로 프로젝션하므로 Post/User 엔티티와 content 컬럼을 읽지 않습니다.
+
   // 정적 팩토리 메서드: Post 엔티티를 받아 DTO로 변환
   public static PostListResponse from(Post post) {
       return PostListResponse.builder()
@@ -36,6 +45,9 @@ public class PostListResponse {
               .title(post.getTitle())
               .authorUsername(post.getUser().getUsername())
               .createdAt(post.getCreatedAt())
+              .viewCount(post.getViewCount())
+              .commentCount(post.getCommentCount())
+              .likeCount(post.getLikeCount())
               .build();
     }
 
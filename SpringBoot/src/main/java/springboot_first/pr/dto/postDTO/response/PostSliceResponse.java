@@ -0,0 +1,42 @@
+package springboot_first.pr.dto.postDTO.response;
+
+import java.util.List;
+
+import org.springframework.data.domain.Slice;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// 1️⃣ 어노테이션 선언
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // private : @Builder 어노테이션이 정상적으로 작동하기 위한 보조 역할, 외부 생성 차단
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // 생성자의 접근 권한을 protected로 설정해서 외부 생성 차단
+@Getter // 각 필드 값을 조회할 수 있는 Getter 메서드 자동 생성
+@ToString // 로깅과 디버깅을 위해 추가
+@Builder // DTO 생성을 위한 빌더 패턴 추가
+
+// COUNT 쿼리 없는 Slice 목록 응답 : 전체 개수 대신 다음 페이지 존재 여부(hasNext)만 제공
+public class PostSliceResponse {
+
+  private List<PostListResponse> content; // 이번 페이지의 게시글 목록
+
+  private int page; // 현재 페이지 번호 (0부터 시작)
+
+  private int size; // 페이지 크기
+
+  private boolean hasNext; // 다음 페이지 존재 여부 (size + 1 건 조회로 판단)
+
+  // 정적 팩토리 메서드: Spring Data Slice를 응답 DTO로 변환
+  public static PostSliceResponse from(Slice<PostListResponse> slice) {
+      return PostSliceResponse.builder()
+              .content(slice.getContent())
+              .page(slice.getNumber())
+              .size(slice.getSize())
+              .hasNext(slice.hasNext())
+              .build();
+  }
+
+}
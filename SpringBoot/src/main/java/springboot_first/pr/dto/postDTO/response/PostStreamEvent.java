@@ -0,0 +1,40 @@
+package springboot_first.pr.dto.postDTO.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// 1️⃣ 어노테이션 선언
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // private : 정적 팩토리 메서드로만 생성
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // 생성자의 접근 권한을 protected로 설정해서 외부 생성 차단
+@Getter // 각 필드 값을 조회할 수 있는 Getter 메서드 자동 생성
+@ToString // 로깅과 디버깅을 위해 추가
+
+// 게시글 실시간 스트림(GET /api/posts/stream) 이벤트 한 건 = 목록 변경분(delta)
+public class PostStreamEvent {
+
+  public enum Type {
+    CREATED, // post : 새 게시글 (목록 맨 앞에 추가)
+    UPDATED, // post : 바뀐 게시글 (같은 postId 항목 교체)
+    DELETED, // postId만 : 목록에서 제거
+    RELOAD   // 내용 없음 : 놓친 변경이 있으니 목록을 다시 불러올 것 (일괄 가져오기, 버퍼 초과 등)
+  }
+
+  private Type type;
+  private Long postId;
+  private PostListResponse post; // CREATED / UPDATED 일 때만
+
+  public static PostStreamEvent of(Type type, PostListResponse post) {
+      return new PostStreamEvent(type, post.getPostId(), post);
+  }
+
+  public static PostStreamEvent deleted(Long postId) {
+      return new PostStreamEvent(Type.DELETED, postId, null);
+  }
+
+  public static PostStreamEvent reload() {
+      return new PostStreamEvent(Type.RELOAD, null, null);
+  }
+}
@@ -0,0 +1,41 @@
+package springboot_first.pr.dto.postDTO.response;
+
+import java.time.LocalDateTime;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import springboot_first.pr.service.post.suggest.PostSuggestIndex;
+
+// 1️⃣ 어노테이션 선언
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // private : @Builder 어노테이션이 정상적으로 작동하기 위한 보조 역할, 외부 생성 차단
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // 생성자의 접근 권한을 protected로 설정해서 외부 생성 차단
+@Getter // 각 필드 값을 조회할 수 있는 Getter 메서드 자동 생성
+@ToString // 로깅과 디버깅을 위해 추가
+@Builder // DTO 생성을 위한 빌더 패턴 추가
+
+// 검색창 자동완성 응답 1건
+public class PostSuggestResponse {
+
+  private String type; // TITLE(게시글 제목) 또는 AUTHOR(작성자 이름)
+
+  private String text; // 추천 문자열
+
+  private Long postId; // 이 문자열을 가진 가장 최근 게시글 ID (제목 추천 클릭 시 바로 상세로 이동)
+
+  private LocalDateTime lastPostedAt; // 가장 최근 게시글 작성일 (정렬 기준)
+
+  // 정적 팩토리 메서드
+  public static PostSuggestResponse from(PostSuggestIndex.Suggestion suggestion) {
+      return PostSuggestResponse.builder()
+              .type(suggestion.type().name())
+              .text(suggestion.text())
+              .postId(suggestion.postId())
+              .lastPostedAt(suggestion.lastPostedAt())
+              .build();
+  }
+
+}
@@ -0,0 +1,41 @@
+package springboot_first.pr.dto.postDTO.response;
+
+import java.time.LocalDateTime;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// 1️⃣ 어노테이션 선언
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // private : @Builder 어노테이션이 정상적으로 작동하기 위한 보조 역할, 외부 생성 차단
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // 생성자의 접근 권한을 protected로 설정해서 외부 생성 차단
+@Getter // 각 필드 값을 조회할 수 있는 Getter 메서드 자동 생성
+@ToString // 로깅과 디버깅을 위해 추가
+@Builder(toBuilder = true) // DTO 생성을 위한 빌더 패턴 추가 (순위만 바꾼 복사본 생성용 toBuilder)
+
+// 인기 게시글 (최근 1시간 / 1일 조회수 순위) 한 건
+public class PostTrendingResponse {
+
+  private int rank; // 순위 (1부터)
+
+  private Long postId;
+  private String title;
+  private String authorUsername;
+  private LocalDateTime createdAt;
+
+  private long recentViews; // 집계 구간(최근 1시간 / 1일) 안의 조회수
+
+  public static PostTrendingResponse of(int rank, PostListResponse post, long recentViews) {
+      return PostTrendingResponse.builder()
+              .rank(rank)
+              .postId(post.getPostId())
+              .title(post.getTitle())
+              .authorUsername(post.getAuthorUsername())
+              .createdAt(post.getCreatedAt())
+              .recentViews(recentViews)
+              .build();
+  }
+}
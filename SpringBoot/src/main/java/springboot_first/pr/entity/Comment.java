@@ -0,0 +1,100 @@
+package springboot_first.pr.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 게시글 댓글 (Post 1 : N Comment, 답글은 같은 테이블에 트리로 저장)
+ * - path : 루트부터 자기 자신까지 댓글 id를 고정 길이 36진수(CommentPath)로 이어 붙인 경로 (materialized path)
+ *   → 경로 순으로 정렬하면 부모가 항상 자식보다 앞에 오고, 한 스레드(댓글 + 모든 답글)는 (post_id, path) 인덱스의 연속 구간이 됨
+ * - 삭제는 Soft Delete : 답글이 달린 댓글도 트리 구조가 유지되도록 행은 남기고 내용만 숨김
+ */
+// 1️⃣ 어노테이션 선언
+@Entity
+@Getter
+@ToString
+@Builder
+@Table(name = "comments",
+    indexes = {
+        @Index(name = "idx_comments_post_path", columnList = "post_id, path"), // 스레드 통째 조회 (경로 범위 스캔)
+        @Index(name = "idx_comments_post_parent_id", columnList = "post_id, parent_id, id") // 최상위 댓글 키셋 페이지네이션
+    })
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // private : @Builder 어노테이션이 정상적으로 작동하기 위한 보조 역할, 외부 생성 차단
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA 기본 생성자
+@EntityListeners(AuditingEntityListener.class)
+public class Comment {
+
+  @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "post_id", nullable = false)
+  @ToString.Exclude
+  private Post post;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "user_id", nullable = false)
+  @ToString.Exclude
+  private User user; // 댓글 작성자
+
+  @Column(name = "parent_id")
+  private Long parentId; // 부모 댓글 id (최상위 댓글은 null)
+
+  @Column(nullable = false)
+  private int depth; // 0 = 최상위 댓글
+
+  @Column(nullable = false, length = 80) // 세그먼트 8자 × 최대 깊이 10 (CommentPath)
+  private String path;
+
+  @Column(nullable = false, length = 1000)
+  private String content;
+
+  @CreatedDate
+  @Column(updatable = false)
+  private LocalDateTime createdAt;
+
+  private LocalDateTime deletedAt;
+
+  /**
+   * 새 댓글 생성 (id가 INSERT 후에 정해지므로 path는 저장 후 assignPath로 완성)
+   * @param parentPath 부모 댓글의 경로 (최상위 댓글은 빈 문자열)
+   */
+  public static Comment create(Post post, User author, Long parentId, int depth, String parentPath, String content) {
+    if (author == null) {
+        throw new IllegalArgumentException("댓글 작성자 정보는 필수입니다.");
+    }
+    return Comment.builder()
+        .post(post)
+        .user(author)
+        .parentId(parentId)
+        .depth(depth)
+        .path(parentPath)
+        .content(content)
+        .build();
+  }
+
+  // 비즈니스 로직 : INSERT로 받은 id를 경로 끝에 붙임 (같은 트랜잭션의 flush 때 UPDATE 1번)
+  public void assignPath(String path) {
+    this.path = path;
+  }
+}
@@ -0,0 +1,54 @@
+package springboot_first.pr.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관(archive)된 댓글 : 게시글을 posts_archive 로 옮길 때 그 게시글의 댓글(답글 트리 포함)을 함께 옮겨 둔 테이블
+ * - 애플리케이션은 이 테이블을 조회하지 않음 (복구/감사용), 행은 PostArchiver의 INSERT … SELECT 로만 생성
+ * 💡 id / 경로(path)는 원래 값을 그대로 사용하므로 복구 시 트리 구조가 그대로 유지됨
+ */
+// 1️⃣ 어노테이션 선언
+@Entity
+@Getter
+@Table(name = "comments_archive",
+    indexes = @Index(name = "idx_comments_archive_post_path", columnList = "post_id, path")) // 게시글별 댓글 트리 복구
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA 기본 생성자 (직접 생성하지 않음)
+public class CommentArchive {
+
+  @Id
+  private Long id; // 원래 댓글 ID
+
+  @Column(name = "post_id", nullable = false)
+  private Long postId; // 원래 게시글 ID (posts_archive.id)
+
+  @Column(name = "user_id", nullable = false)
+  private Long userId; // 댓글 작성자 PK (외래 키 없음)
+
+  @Column(name = "parent_id")
+  private Long parentId;
+
+  @Column(nullable = false)
+  private int depth;
+
+  @Column(nullable = false, length = 80)
+  private String path;
+
+  @Column(nullable = false, length = 1000)
+  private String content;
+
+  private LocalDateTime createdAt;
+
+  private LocalDateTime deletedAt; // 댓글 자체의 삭제 일자 (삭제되지 않은 댓글은 null)
+
+  @Column(nullable = false)
+  private LocalDateTime archivedAt; // 보관 테이블로 옮긴 일자
+}
@@ -3,12 +3,15 @@ package springboot_first.pr.entity;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Formula;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
@@ -16,9 +19,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -34,13 +40,19 @@ import lombok.extern.slf4j.Slf4j;
 @ToString
 @Builder // 서비스에서 엔티티 생성 시 훨씬 편함
 @Slf4j // 로깅 추가
-@Table(name = "Posts") // ⚠️ 실제 DB 테이블 이름인 "Posts"를 지정
+@Table(name = "Posts", // ⚠️ 실제 DB 테이블 이름인 "Posts"를 지정
+    indexes = {
+        @Index(name = "idx_posts_created_at_id", columnList = "created_at, id"), // 키셋 페이지네이션(최신순) 전용 복합 인덱스
+        @Index(name = "idx_posts_user_created_at_id", columnList = "user_id, created_at, id"), // 작성자별 게시글(최신순) 전용 복합 인덱스
+        @Index(name = "idx_posts_updated_at_id", columnList = "updated_at, id"), // 증분 내보내기(수정 시각 순) 전용 복합 인덱스
+        @Index(name = "idx_posts_deleted_at", columnList = "deleted_at") // 보관 대상(삭제 후 보관 기간 경과) 검색용 (PostArchiver)
+    })
 @AllArgsConstructor(access = AccessLevel.PRIVATE) // private : @Builder 어노테이션이 정상적으로 작동하기 위한 보조 역할, 외부 생성 차단
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // 생성자의 접근 권한을 protected로 설정해서 외부 생성 차단, JPA는 허용하도록 설정
 // ✔ JPA 규칙 준수, 엔티티 생성 ∙ 수정 규칙 강제, 나중에 유지보수할 때 버그 확률 급감
 @EntityListeners(AuditingEntityListener.class)
 /* 💡 Soft Delete를 위한 핵심 어노테이션 추가 */
-@SQLDelete(sql = "UPDATE posts SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?") // 1️⃣ delete 호출 시 UPDATE 실행
+@SQLDelete(sql = "UPDATE posts SET deleted_at = CURRENT_TIMESTAMP, version = version + 1 WHERE id = ? AND version = ?") // 1️⃣ delete 호출 시 UPDATE 실행 (⚠️ @Version 엔티티는 id, version 순서로 바인딩)
 @SQLRestriction("deleted_at IS NULL")
 
 public class Post {
@@ -51,8 +63,15 @@ public class Post {
   @Column(nullable = false, length = 100)
   private String title; // 게시글 제목
 
-  @Column(nullable = false, columnDefinition = "TEXT")
-  private String content; // 게시글 내용 (TEXT 타입으로 설정하여 긴 내용 저장)
+  // *****************************************************************
+  // 게시글 본문은 별도 테이블(post_bodies)로 분리 (Post 1 : 1 PostBody)
+  // - 목록/검색은 Posts 행만 읽고, 본문은 상세 조회/수정 때만 지연 로딩됨
+  // - 외래 키를 Posts 쪽(body_id)에 두어야 LAZY 프록시가 정상 동작함‼️
+  // *****************************************************************
+  @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true, optional = false)
+  @JoinColumn(name = "body_id", nullable = false, unique = true)
+  @ToString.Exclude // toString 호출만으로 본문이 로딩되지 않도록 제외
+  private PostBody body; // 게시글 본문 (TEXT)
   
   // *****************************************************************
   // 핵심: User 엔티티와의 연관 관계 (N:1 관계 설정)
@@ -74,6 +93,34 @@ public class Post {
 
   private LocalDateTime deletedAt; // 삭제 일자 
 
+  // 조회수 : 조회마다 UPDATE 하지 않고 PostViewCounter가 모아서 주기적으로 더함 (버전/수정 시각은 바뀌지 않음)
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private long viewCount;
+
+  // 댓글 수 (삭제되지 않은 댓글) : 댓글 작성/삭제 트랜잭션에서 함께 증감, 목록에서 COUNT 없이 보여주기 위한 반정규화 값
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private int commentCount;
+
+  // 좋아요 수 (압축분) : 좋아요/취소는 post_like_shards 의 슬롯 행에만 더하고, PostLikeShardCompactor가 주기적으로 여기로 합침
+  // ⚠️ 이 값만으로는 최근 좋아요가 빠져 있으므로 화면에는 likeCount(압축분 + 슬롯 합계)를 사용
+  @ColumnDefault("0")
+  @Column(name = "like_count", nullable = false)
+  @ToString.Exclude
+  private long compactedLikeCount;
+
+  // 좋아요 수 (정확한 값) : 게시글을 읽는 SELECT에 슬롯 합계 서브쿼리가 함께 붙음 (PK (post_id, slot) 범위 스캔, 슬롯은 게시글당 최대 N행)
+  @Formula("like_count + COALESCE((SELECT SUM(s.like_count) FROM post_like_shards s WHERE s.post_id = id), 0)")
+  private long likeCount;
+
+  // 낙관적 락 버전 : 수정/삭제마다 1씩 증가, 클라이언트가 보낸 버전과 다르면 409 Conflict
+  // 💡 @ColumnDefault : 일괄 가져오기(JDBC INSERT)처럼 버전을 지정하지 않은 INSERT는 0으로 저장
+  @Version
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private Long version;
+
   public static Post create(String title, String content, User author) {
     log.info("User Entity create() 메서드 호출, title: {}, content: {}, author: {}", title, content, author); 
 
@@ -83,18 +130,25 @@ public class Post {
         
         return Post.builder()
             .title(title)
-            .content(content)
+            .body(PostBody.of(content))
             .user(author)
             .build();
     }
 
+  /**
+   * 게시글 본문 조회 (⚠️ 호출 시 본문이 아직 로딩되지 않았다면 post_bodies 조회 발생)
+   */
+  public String getContent() {
+      return body.getContent();
+  }
+
   /**
    * 비즈니스 로직 : 게시글 내용 수정을 위한 메서드
    * 엔티티 내에서 데이터를 변경하는 것이 객체지향적이라고 한다
    */
   public void update(String title, String content) {
       this.title = title;
-      this.content = content;
+      this.body.update(content);
   }
 
   /**
@@ -0,0 +1,67 @@
+package springboot_first.pr.entity;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.ColumnDefault;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관(archive)된 게시글 : 삭제 후 보관 기간이 지난 게시글을 Posts / post_bodies 에서 옮겨 둔 테이블
+ * - Posts 테이블과 인덱스에는 살아 있는 게시글(+ 보관 대기 중인 최근 삭제 글)만 남도록 PostArchiver가 주기적으로 이동합니다.
+ * - 애플리케이션은 이 테이블을 조회하지 않음 (복구/감사용), 행은 PostArchiver의 INSERT … SELECT 로만 생성
+ * 💡 id는 원래 게시글 id를 그대로 사용, 본문은 별도 테이블 없이 함께 보관
+ * 💡 댓글 / 좋아요 기록 / 태그 연결은 comments_archive / post_likes_archive / post_tags_archive 로 함께 옮김
+ */
+// 1️⃣ 어노테이션 선언
+@Entity
+@Getter
+@Table(name = "posts_archive",
+    indexes = {
+        @Index(name = "idx_posts_archive_user_id", columnList = "user_id"), // 회원별 보관 게시글 조회
+        @Index(name = "idx_posts_archive_archived_at", columnList = "archived_at") // 보관 시각 기준 정리
+    })
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA 기본 생성자 (직접 생성하지 않음)
+public class PostArchive {
+
+  @Id
+  private Long id; // 원래 게시글 ID
+
+  @Column(nullable = false, length = 100)
+  private String title;
+
+  @Column(nullable = false, columnDefinition = "TEXT")
+  @Convert(converter = PostBodyContentConverter.class) // post_bodies 저장 형식 그대로 복사됨
+  private String content;
+
+  @Column(name = "user_id", nullable = false)
+  private Long userId; // 작성자 PK (회원 탈퇴와 무관하게 보관하도록 외래 키 없음)
+
+  private long viewCount; // 보관 시점의 조회수
+
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private int commentCount; // 보관 시점의 댓글 수 (삭제되지 않은 댓글)
+
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private long likeCount; // 보관 시점의 좋아요 수 (압축분 + 슬롯 합계, 슬롯 행은 보관하지 않음)
+
+  private LocalDateTime createdAt;
+
+  private LocalDateTime updatedAt;
+
+  @Column(nullable = false)
+  private LocalDateTime deletedAt; // 삭제(Soft Delete) 일자
+
+  @Column(nullable = false)
+  private LocalDateTime archivedAt; // 보관 테이블로 옮긴 일자
+}
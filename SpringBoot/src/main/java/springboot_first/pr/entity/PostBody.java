@@ -0,0 +1,48 @@
+package springboot_first.pr.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 본문 (Post 1 : 1 PostBody)
+ * - 큰 TEXT 컬럼을 Posts 행에서 분리해서, 목록/검색 스캔이 읽는 Posts 행과 인덱스를 작게 유지합니다.
+ * - Post.body 는 LAZY 이므로 상세 조회/수정처럼 본문이 필요한 곳에서만 로딩됩니다.
+ * - 기존 DB 이관 스크립트 : resources/db/post_bodies_migration.sql
+ */
+// 1️⃣ 어노테이션 선언
+@Entity // 게시글 본문 전용 엔티티
+@Getter
+@Builder
+@Table(name = "post_bodies") // ⚠️ 본문(TEXT)만 따로 저장하는 테이블
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // private : @Builder 보조, 외부 생성 차단
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA 기본 생성자
+public class PostBody {
+
+  @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false, columnDefinition = "TEXT")
+  @Convert(converter = PostBodyContentConverter.class) // 긴 본문은 압축해서 저장 (post.body-compression.enabled)
+  private String content; // 게시글 내용
+
+  public static PostBody of(String content) {
+    return PostBody.builder()
+        .content(content)
+        .build();
+  }
+
+  // 비즈니스 로직 : 본문 수정
+  public void update(String content) {
+    this.content = content;
+  }
+}
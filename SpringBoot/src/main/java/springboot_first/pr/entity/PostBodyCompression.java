@@ -0,0 +1,195 @@
+package springboot_first.pr.entity;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 본문(post_bodies.content) 저장 형식 : 긴 본문은 Deflate로 압축해서 저장
+ * - 저장 형식 : [표시 문자 U+E000][형식 문자][내용]
+ *     'D' : Deflate(raw) 압축 바이트를 Base64로 (TEXT 컬럼을 그대로 쓰기 위해 문자열로 저장)
+ *     'R' : 원문 그대로 (원문이 표시 문자로 시작하는 경우에만 붙는 이스케이프)
+ *   표시 문자로 시작하지 않는 값은 원문 (압축 도입 전에 저장된 행 포함) → 기존 행은 그대로 읽힘
+ * - enabled=false 여도 읽기(decode)는 항상 동작하므로, 압축을 켰다가 꺼도 이미 압축된 행을 읽을 수 있음
+ * - threshold 자 이상이고 압축 결과가 원문보다 작을 때만 압축 (짧은 본문은 Base64 오버헤드 때문에 오히려 커짐)
+ * 💡 PostBody는 LAZY라 압축 해제는 본문이 필요한 상세 조회/수정/색인/내보내기에서만 일어나고, 목록/검색 결과는 본문을 읽지 않음
+ * ⚠️ 압축된 본문은 DB의 LIKE / FULLTEXT 본문 검색에 걸리지 않으므로 post.search.engine=memory 에서만 켤 수 있음
+ */
+@Slf4j
+@Component
+public class PostBodyCompression {
+
+    static final char MARKER = '\uE000'; // 유니코드 사용자 정의 영역 문자 (일반 본문에 거의 나오지 않음)
+    static final char DEFLATE = 'D';
+    static final char RAW = 'R';
+
+    // 스프링 빈이 없는 곳(JPA 슬라이스 테스트 등)에서 쓰는 기본값 : 압축하지 않고 읽기만
+    public static final PostBodyCompression DISABLED = new PostBodyCompression(false, Integer.MAX_VALUE);
+
+    private final boolean enabled;
+    private final int threshold;
+
+    // 📊 저장/입출력 절감량 (압축된 본문만 집계, 바이트는 UTF-8 기준)
+    private final LongAdder writtenOriginalBytes = new LongAdder();
+    private final LongAdder writtenStoredBytes = new LongAdder();
+    private final LongAdder readStoredBytes = new LongAdder();
+    private final LongAdder readOriginalBytes = new LongAdder();
+    private final LongAdder compressedRows = new LongAdder();
+    private final LongAdder migratedRows = new LongAdder();
+
+    private PostBodyCompression(boolean enabled, int threshold) {
+        this.enabled = enabled;
+        this.threshold = threshold;
+    }
+
+    @Autowired
+    public PostBodyCompression(
+            @Value("${post.body-compression.enabled:false}") boolean enabled,
+            @Value("${post.body-compression.threshold:1024}") int threshold,
+            @Value("${post.search.engine:like}") String searchEngine,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this(enabled, threshold);
+        if (enabled && !"memory".equals(searchEngine)) {
+            throw new IllegalStateException("post.body-compression.enabled=true 는 post.search.engine=memory 에서만 사용할 수 있습니다. "
+                + "(압축된 본문은 " + searchEngine + " 검색의 본문 조건에 걸리지 않음)");
+        }
+        meterRegistry.ifAvailable(this::registerMetrics);
+        log.info("게시글 본문 압축 설정. enabled: {}, threshold: {}자", enabled, threshold);
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        bytesCounter(registry, "write", "original", writtenOriginalBytes);
+        bytesCounter(registry, "write", "stored", writtenStoredBytes);
+        bytesCounter(registry, "read", "stored", readStoredBytes);
+        bytesCounter(registry, "read", "original", readOriginalBytes);
+        FunctionCounter.builder("post.body.compression.rows", compressedRows, LongAdder::sum)
+            .description("압축해서 저장한 게시글 본문 수 (작성/수정/가져오기)")
+            .tag("source", "write")
+            .register(registry);
+        FunctionCounter.builder("post.body.compression.rows", migratedRows, LongAdder::sum)
+            .description("백그라운드로 압축 형식으로 바꾼 기존 게시글 본문 수")
+            .tag("source", "migration")
+            .register(registry);
+    }
+
+    private static void bytesCounter(MeterRegistry registry, String op, String form, LongAdder adder) {
+        FunctionCounter.builder("post.body.compression.bytes", adder, LongAdder::sum)
+            .description("압축된 게시글 본문 바이트 수 (original : 원문, stored : DB 저장 형식)")
+            .baseUnit("bytes")
+            .tag("op", op)
+            .tag("form", form)
+            .register(registry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 저장 형식 변환 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    /**
+     * 원문 → DB 저장 형식
+     */
+    public String encode(String content) {
+        if (content == null || content.isEmpty()) {
+            return content;
+        }
+        if (enabled && content.length() >= threshold) {
+            byte[] original = content.getBytes(StandardCharsets.UTF_8);
+            String stored = MARKER + "" + DEFLATE + Base64.getEncoder().encodeToString(deflate(original));
+            long storedBytes = stored.length() + 2L; // 표시 문자만 UTF-8 3바이트, 나머지는 ASCII
+            if (storedBytes < original.length) {
+                writtenOriginalBytes.add(original.length);
+                writtenStoredBytes.add(storedBytes);
+                compressedRows.increment();
+                return stored;
+            }
+        }
+        return content.charAt(0) == MARKER ? MARKER + "" + RAW + content : content;
+    }
+
+    /**
+     * DB 저장 형식 → 원문
+     */
+    public String decode(String stored) {
+        if (stored == null || stored.length() < 2 || stored.charAt(0) != MARKER) {
+            return stored;
+        }
+        switch (stored.charAt(1)) {
+            case RAW:
+                return stored.substring(2);
+            case DEFLATE:
+                byte[] original = inflate(Base64.getDecoder().decode(stored.substring(2)));
+                readStoredBytes.add(stored.length() + 2L);
+                readOriginalBytes.add(original.length);
+                return new String(original, StandardCharsets.UTF_8);
+            default:
+                return stored; // 형식 문자가 없으면 표시 문자로 시작하는 옛 원문
+        }
+    }
+
+    /**
+     * 이미 저장 형식으로 바뀐 값인지 (백그라운드 변환 대상 판별)
+     */
+    public static boolean isEncoded(String stored) {
+        return stored != null && stored.length() >= 2 && stored.charAt(0) == MARKER
+            && (stored.charAt(1) == DEFLATE || stored.charAt(1) == RAW);
+    }
+
+    // 백그라운드 변환(PostBodyCompressionMigrator)이 옮긴 행 수 집계
+    public void recordMigrated(long rows) {
+        migratedRows.add(rows);
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ Deflate (zlib 헤더 없는 raw 형식) 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2 + 16);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end(); // 네이티브 메모리 해제
+        }
+    }
+
+    private static byte[] inflate(byte[] input) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(buffer);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("압축된 게시글 본문이 손상되었습니다.");
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축된 게시글 본문이 손상되었습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
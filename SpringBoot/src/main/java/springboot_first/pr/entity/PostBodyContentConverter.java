@@ -0,0 +1,33 @@
+package springboot_first.pr.entity;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 게시글 본문 컬럼 변환기 : 엔티티에는 항상 원문, DB에는 PostBodyCompression 저장 형식
+ * - Hibernate가 스프링 빈 컨테이너로 생성하므로 PostBodyCompression 빈이 있으면 주입받고,
+ *   없으면(JPA 슬라이스 테스트 등) 압축 없이 읽기만 하는 기본값을 사용합니다.
+ * 💡 JPQL 파라미터(b.content = :content 등)에도 같은 변환이 적용됨
+ */
+@Converter
+public class PostBodyContentConverter implements AttributeConverter<String, String> {
+
+  private PostBodyCompression compression = PostBodyCompression.DISABLED;
+
+  @Autowired(required = false)
+  public void setCompression(PostBodyCompression compression) {
+    this.compression = compression;
+  }
+
+  @Override
+  public String convertToDatabaseColumn(String content) {
+    return compression.encode(content);
+  }
+
+  @Override
+  public String convertToEntityAttribute(String stored) {
+    return compression.decode(stored);
+  }
+}
@@ -0,0 +1,52 @@
+package springboot_first.pr.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 게시글 좋아요 (회원 1명당 게시글 1번, Post N : M User)
+ * - 누가 좋아요를 눌렀는지만 기록하고, 좋아요 수는 이 테이블을 COUNT 하지 않고 PostLikeShard 슬롯 합계로 구함
+ * - 행 추가/삭제는 PostLikeService가 JDBC로 직접 실행 (유니크 키 충돌 = 이미 누른 좋아요)
+ * 💡 서로 다른 회원의 좋아요는 (post_id, user_id) 유니크 인덱스의 다른 키를 잠그므로 서로 기다리지 않음
+ */
+// 1️⃣ 어노테이션 선언
+@Entity
+@Getter
+@ToString
+@Table(name = "post_likes",
+    uniqueConstraints = @UniqueConstraint(name = "uk_post_likes_post_user", columnNames = {"post_id", "user_id"}), // 중복 좋아요 방지 + 게시글별 조회
+    indexes = @Index(name = "idx_post_likes_user_id", columnList = "user_id, created_at")) // 회원별 좋아요 목록 / 탈퇴 정리
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA 기본 생성자 (테이블 매핑 전용, 생성은 JDBC INSERT)
+public class PostLike {
+
+  @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "post_id", nullable = false)
+  @ToString.Exclude
+  private Post post;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "user_id", nullable = false)
+  @ToString.Exclude
+  private User user; // 좋아요를 누른 회원
+
+  @Column(nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+}
@@ -0,0 +1,38 @@
+package springboot_first.pr.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관(archive)된 좋아요 기록 : 게시글을 posts_archive 로 옮길 때 누가 좋아요를 눌렀는지(post_likes)를 함께 옮겨 둔 테이블
+ * - 좋아요 수는 슬롯(post_like_shards) 합계까지 더해서 posts_archive.like_count 에 보관
+ * - 애플리케이션은 이 테이블을 조회하지 않음 (복구/감사용), 행은 PostArchiver의 INSERT … SELECT 로만 생성
+ */
+// 1️⃣ 어노테이션 선언
+@Entity
+@Getter
+@Table(name = "post_likes_archive",
+    indexes = @Index(name = "idx_post_likes_archive_post_id", columnList = "post_id")) // 게시글별 좋아요 복구
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA 기본 생성자 (직접 생성하지 않음)
+public class PostLikeArchive {
+
+  @Id
+  private Long id; // 원래 좋아요 기록 ID
+
+  @Column(name = "post_id", nullable = false)
+  private Long postId; // 원래 게시글 ID (posts_archive.id)
+
+  @Column(name = "user_id", nullable = false)
+  private Long userId; // 좋아요를 누른 회원 PK (외래 키 없음)
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+}
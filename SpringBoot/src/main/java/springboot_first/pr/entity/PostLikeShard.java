@@ -0,0 +1,52 @@
+package springboot_first.pr.entity;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 게시글 좋아요 수 슬롯 (게시글 1 : N 슬롯, PK = (post_id, slot))
+ * - 좋아요 1번마다 0 ~ post.like.shards-1 중 무작위 슬롯 행에 +1 (취소는 -1) → 인기 글에 좋아요가 몰려도 한 행 잠금에 줄 서지 않음
+ * - 좋아요 수 = Posts.like_count(압축분) + 이 테이블의 게시글별 합계 (Post.likeCount @Formula)
+ * - 게시글의 첫 좋아요 때 슬롯 행 N개를 0으로 만들어 두고, PostLikeShardCompactor가 주기적으로 슬롯 값을 Posts.like_count 로 옮김 (행은 0으로 남김)
+ * ⚠️ 슬롯 하나의 값은 음수일 수 있음 (좋아요와 취소가 다른 슬롯에 기록됨), 합계만 의미가 있음
+ */
+// 1️⃣ 어노테이션 선언
+@Entity
+@Getter
+@ToString
+@Table(name = "post_like_shards")
+@IdClass(PostLikeShard.Key.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA 기본 생성자 (테이블 매핑 전용, 증감은 JDBC UPDATE)
+public class PostLikeShard {
+
+  @Id
+  @Column(name = "post_id")
+  private Long postId; // FK를 두지 않음 : 좋아요 트랜잭션이 Posts 행을 잠그지 않도록 (보관 시 PostArchiver가 함께 지움)
+
+  @Id
+  private int slot;
+
+  @Column(nullable = false)
+  private long likeCount;
+
+  // 복합 키 (post_id, slot)
+  @Getter
+  @EqualsAndHashCode
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Key implements Serializable {
+    private Long postId;
+    private int slot;
+  }
+}
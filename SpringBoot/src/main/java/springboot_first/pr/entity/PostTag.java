@@ -0,0 +1,52 @@
+package springboot_first.pr.entity;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 게시글 - 태그 연결 (Post N : M Tag, PK = (post_id, tag_id))
+ * - 게시글의 태그 목록은 PK 범위, 태그별 게시글은 (tag_id, post_id) 인덱스로 읽음
+ * - 검색은 이 테이블을 조인하지 않고 PostTagIndex(태그별 게시글 id 비트맵)로 후보 id를 구함
+ *   (색인 구축 전이나 후보가 너무 많을 때만 이 테이블 서브쿼리로 처리)
+ * - 쓰기는 PostTagService가 게시글 작성/수정 트랜잭션에서 JDBC로 교체
+ */
+// 1️⃣ 어노테이션 선언
+@Entity
+@Getter
+@ToString
+@Table(name = "post_tags",
+    indexes = @Index(name = "idx_post_tags_tag_post", columnList = "tag_id, post_id")) // 태그 → 게시글 (SQL 태그 검색)
+@IdClass(PostTag.Key.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA 기본 생성자 (테이블 매핑 + 태그 검색 서브쿼리 전용)
+public class PostTag {
+
+  @Id
+  @Column(name = "post_id")
+  private Long postId;
+
+  @Id
+  @Column(name = "tag_id")
+  private Long tagId;
+
+  // 복합 키 (post_id, tag_id)
+  @Getter
+  @EqualsAndHashCode
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Key implements Serializable {
+    private Long postId;
+    private Long tagId;
+  }
+}
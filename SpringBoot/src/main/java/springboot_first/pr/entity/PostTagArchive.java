@@ -0,0 +1,46 @@
+package springboot_first.pr.entity;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관(archive)된 게시글 - 태그 연결 : 게시글을 posts_archive 로 옮길 때 post_tags 행을 함께 옮겨 둔 테이블
+ * - 태그 사전(tags)은 지우지 않으므로 tag_id 그대로 복구 가능
+ * - 애플리케이션은 이 테이블을 조회하지 않음 (복구/감사용), 행은 PostArchiver의 INSERT … SELECT 로만 생성
+ */
+// 1️⃣ 어노테이션 선언
+@Entity
+@Getter
+@Table(name = "post_tags_archive")
+@IdClass(PostTagArchive.Key.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA 기본 생성자 (직접 생성하지 않음)
+public class PostTagArchive {
+
+  @Id
+  @Column(name = "post_id")
+  private Long postId; // 원래 게시글 ID (posts_archive.id)
+
+  @Id
+  @Column(name = "tag_id")
+  private Long tagId;
+
+  // 복합 키 (post_id, tag_id)
+  @Getter
+  @EqualsAndHashCode
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Key implements Serializable {
+    private Long postId;
+    private Long tagId;
+  }
+}
@@ -0,0 +1,34 @@
+package springboot_first.pr.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 게시글 태그 사전 (와인 종류 / 산지 / 빈티지)
+ * - name : TagName 규칙으로 정규화한 "종류:값" (예 : region:bordeaux), 같은 태그는 1행만
+ * - 행 추가는 PostTagService가 처음 쓰이는 태그일 때 JDBC로 실행 (동시에 추가되면 유니크 키로 한쪽만 성공)
+ */
+// 1️⃣ 어노테이션 선언
+@Entity
+@Getter
+@ToString
+@Table(name = "tags",
+    uniqueConstraints = @UniqueConstraint(name = "uk_tags_name", columnNames = "name"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA 기본 생성자 (테이블 매핑 전용)
+public class Tag {
+
+  @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false, length = 40) // TagName.MAX_LENGTH
+  private String name;
+}
@@ -9,6 +9,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AccessLevel;
@@ -26,7 +27,8 @@ import springboot_first.pr.dto.userDTO.request.UserRegisterRequest;
 @ToString(exclude = "password") // pw 필드를 제외하고 모든 필드를 출력할 수 있는 toString 메서드 자동 생성
 @Builder // 서비스에서 엔티티 생성 시 훨씬 편함
 @Slf4j // 로깅 추가
-@Table(name = "users") // ⚠️ (중요) 실제 DB 테이블 이름인 "users"를 지정
+@Table(name = "users", // ⚠️ (중요) 실제 DB 테이블 이름인 "users"를 지정
+    indexes = @Index(name = "idx_users_username", columnList = "username")) // 작성자 이름 검색 → 사용자 id 조회용 인덱스
 @AllArgsConstructor(access = AccessLevel.PRIVATE) // private : @Builder 어노테이션이 정상적으로 작동하기 위한 보조 역할, 외부 생성 차단
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // 생성자의 접근 권한을 protected로 설정해서 외부 생성 차단, JPA는 허용하도록 설정
 // ✔ JPA 규칙 준수, 엔티티 생성 ∙ 수정 규칙 강제, 나중에 유지보수할 때 버그 확률 급감
@@ -0,0 +1,17 @@
+package springboot_first.pr.exception;
+
+// 클라이언트 입력 오류 (위/변조된 커서, 형식이 틀린 태그, 범위를 벗어난 파라미터 등) → 400 Bad Request, 메시지를 그대로 응답
+// 💡 IllegalArgumentException 을 상속 : 호출하는 쪽에서는 기존처럼 잘못된 인자로 다룰 수 있고,
+//    라이브러리/JPA가 던진 IllegalArgumentException 과 달리 메시지를 클라이언트에 보여도 되는 예외임을 구분
+public class BadRequestException extends IllegalArgumentException {
+
+    // 1. 메시지를 인수로 받는 생성자
+    public BadRequestException(String message) {
+        super(message);
+    }
+
+    // 2. 메시지와 원인(Throwable)을 받는 생성자
+    public BadRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
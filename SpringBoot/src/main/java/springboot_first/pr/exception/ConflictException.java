@@ -0,0 +1,15 @@
+package springboot_first.pr.exception;
+
+// RuntimeException 상속: 동시 수정 충돌 (클라이언트가 보낸 버전이 이미 바뀐 경우) → 409 Conflict
+public class ConflictException extends RuntimeException {
+
+    // 1. 기본 생성자
+    public ConflictException() {
+        super("다른 요청이 먼저 변경했습니다. 새로고침 후 다시 시도해 주세요.");
+    }
+
+    // 2. 메시지를 인수로 받는 생성자 (PostService에서 사용)
+    public ConflictException(String message) {
+        super(message);
+    }
+}
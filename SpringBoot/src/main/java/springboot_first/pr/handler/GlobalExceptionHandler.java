@@ -1,14 +1,17 @@
 package springboot_first.pr.handler;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import springboot_first.pr.exception.BadRequestException;
 import springboot_first.pr.exception.DuplicateUserException;
 import springboot_first.pr.exception.InvalidCredentialException;
+import springboot_first.pr.exception.ConflictException;
 import springboot_first.pr.exception.ResourceNotFoundException;
 // 💡 테스트 코드에서 사용하는 커스텀 예외로 임포트
 import springboot_first.pr.exception.AuthenticationException; 
@@ -79,6 +82,51 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.NOT_FOUND); // 404
     }
 
+    /**
+     * 💡 4️⃣-1 동시 수정 충돌 처리 (게시글 버전 불일치) - 409 Conflict
+     * - OptimisticLockingFailureException : 엔티티 Dirty Checking 경로에서 @Version 충돌이 난 경우
+     */
+    @ExceptionHandler({ConflictException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<Map<String, String>> handleConflictException(RuntimeException ex) {
+        log.warn("동시 수정 충돌 (409 Conflict): {}", ex.getMessage());
+
+        Map<String, String> response = new HashMap<>();
+        // ⚠️ 락 실패 예외 메시지에는 엔티티/SQL 정보가 들어 있으므로 그대로 노출하지 않음
+        response.put("message", ex instanceof ConflictException
+            ? ex.getMessage()
+            : "다른 요청이 먼저 변경했습니다. 새로고침 후 다시 시도해 주세요.");
+
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT); // 409
+    }
+
+    /**
+     * 💡 5️⃣ 잘못된 요청 파라미터 처리 (위/변조된 커서, 형식이 틀린 태그 등) - 400 Bad Request
+     * - 서비스가 클라이언트 입력을 검사해서 던진 BadRequestException 만 메시지를 그대로 응답
+     */
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<Map<String, String>> handleBadRequestException(BadRequestException ex) {
+        log.warn("잘못된 요청 (400 Bad Request): {}", ex.getMessage());
+
+        Map<String, String> response = new HashMap<>();
+        response.put("message", ex.getMessage());
+
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST); // 400
+    }
+
+    /**
+     * 💡 5️⃣-1 그 밖의 IllegalArgumentException (라이브러리 / JPA 등) - 400 Bad Request
+     * ⚠️ 메시지에 내부 구현(엔티티, 쿼리, 설정 값) 정보가 들어 있을 수 있으므로 고정 메시지로 응답하고 상세 내용은 로그에만 남김
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalArgumentException(IllegalArgumentException ex) {
+        log.warn("잘못된 요청 (400 Bad Request, 상세 비공개): {}", ex.getMessage(), ex);
+
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "잘못된 요청입니다.");
+
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST); // 400
+    }
+
 
 
 
@@ -0,0 +1,48 @@
+package springboot_first.pr.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import springboot_first.pr.dto.commentDTO.response.CommentResponse;
+import springboot_first.pr.entity.Comment;
+
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    // 💡 댓글 트리용 DTO 프로젝션 : 작성자 이름만 조인, 엔티티는 만들지 않음
+    String TREE_PROJECTION = "SELECT new springboot_first.pr.dto.commentDTO.response.CommentResponse("
+                           + "c.id, c.parentId, u.username, c.content, c.createdAt, c.deletedAt) FROM Comment c JOIN c.user u ";
+
+    // 1️⃣ 최상위 댓글 키셋 페이지 (idx_comments_post_parent_id 범위 스캔, 작성 순)
+    // - 게시글을 조인하면 Post의 @SQLRestriction(deleted_at IS NULL)이 붙어서 삭제된 게시글의 댓글은 나오지 않음
+    @Query("SELECT c.id FROM Comment c JOIN c.post p WHERE p.id = :postId AND c.parentId IS NULL AND c.id > :afterId ORDER BY c.id")
+    List<Long> findRootIds(Long postId, Long afterId, Limit limit);
+
+    // 2️⃣ 스레드 통째 조회 : 경로 구간 [fromPath, toPath) 를 (post_id, path) 인덱스 범위 스캔 1번으로
+    // - 경로 순 정렬 = 부모가 항상 자식보다 먼저 (CommentTree가 한 번 훑어서 트리로 조립)
+    @Query(TREE_PROJECTION + "WHERE c.post.id = :postId AND c.path >= :fromPath AND c.path < :toPath ORDER BY c.path")
+    List<CommentResponse> findTreeByPathRange(Long postId, String fromPath, String toPath);
+
+    // 3️⃣ 댓글 하나의 경로 (스레드 조회 시작점, 삭제된 게시글이면 empty)
+    @Query("SELECT c.path FROM Comment c JOIN c.post p WHERE p.id = :postId AND c.id = :id")
+    Optional<String> findPathById(Long postId, Long id);
+
+    // 4️⃣ 답글을 달 부모 댓글 (삭제된 댓글에는 답글 불가)
+    @Query("SELECT c FROM Comment c WHERE c.post.id = :postId AND c.id = :id AND c.deletedAt IS NULL")
+    Optional<Comment> findActiveById(Long postId, Long id);
+
+    // 5️⃣ Soft Delete : 작성자 조건을 건 UPDATE 1번 (0건이면 findAuthorUserIdById로 404 / 401 구분)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.deletedAt = :now "
+         + "WHERE c.post.id = :postId AND c.id = :id AND c.deletedAt IS NULL "
+         + "AND c.user.id = (SELECT u.id FROM User u WHERE u.userId = :ownerUserId)")
+    int softDeleteIfOwner(Long postId, Long id, String ownerUserId, LocalDateTime now);
+
+    @Query("SELECT u.userId FROM Comment c JOIN c.user u WHERE c.post.id = :postId AND c.id = :id AND c.deletedAt IS NULL")
+    Optional<String> findAuthorUserIdById(Long postId, Long id);
+}
@@ -0,0 +1,21 @@
+package springboot_first.pr.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import springboot_first.pr.dto.postDTO.response.PostListResponse;
+
+/**
+ * 게시글 검색 전용 커스텀 리포지토리 (구현체: PostQueryRepositoryImpl)
+ * - Specification은 엔티티만 반환할 수 있어서, 검색 결과를 DTO로 바로 프로젝션하기 위해 분리
+ * - 검색 조건(PostSearchCriteria)은 서비스 계층이 요청을 변환해서 넘김 (작성자 이름 → 사용자 id 목록)
+ */
+public interface PostQueryRepository {
+
+    // 1️⃣ 통합 검색 (데이터 + COUNT)
+    Page<PostListResponse> searchPage(PostSearchCriteria criteria, Pageable pageable);
+
+    // 2️⃣ 통합 검색 (COUNT 없이 size + 1 건 조회)
+    Slice<PostListResponse> searchSlice(PostSearchCriteria criteria, Pageable pageable);
+}
@@ -0,0 +1,209 @@
+package springboot_first.pr.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import springboot_first.pr.dto.postDTO.response.PostListResponse;
+import springboot_first.pr.entity.Post;
+
+/**
+ * PostQueryRepository 구현체
+ * - 검색 조건은 제목/본문/작성자/태그뿐이라 WHERE 절 조합이 고정된 개수(조건 비트 × 태그 서브쿼리 묶음 수)로 정해져 있습니다.
+ *   조합(+ 정렬)별 JPQL 문자열을 미리 만들어 두고 같은 문자열을 재사용하므로,
+ *   Hibernate의 쿼리 플랜 캐시(HQL 문자열 → 파싱/SQL 변환 결과)가 매 요청마다 적중합니다.
+ *   (요청마다 새로 만든 Criteria 트리는 플랜 캐시 대상이 아니어서 매번 해석/SQL 생성이 필요했음)
+ * - 작성자 조건은 서비스 계층이 이름 → 사용자 id 목록으로 바꿔서 넘기고(PostSearchCriteria.authorIds), posts.user_id IN (...)으로 검색합니다.
+ *   (users 조인은 결과 행의 작성자 이름을 읽을 때만 사용, COUNT 쿼리는 users를 조인하지 않음)
+ * - 태그 조건은 서비스 계층이 PostTagIndex 비트맵 교집합으로 후보 게시글 id를 먼저 구해 넘기고(PostSearchCriteria.tags), p.id IN (...)으로 검색합니다.
+ *   (후보가 너무 많거나 색인 구축 전이면 OR 묶음마다 post_tags 서브쿼리)
+ * - SELECT new PostListResponse(...)로 DTO를 바로 생성하므로 N+1 지연 로딩이 발생하지 않음‼️
+ */
+public class PostQueryRepositoryImpl implements PostQueryRepository {
+
+    // 검색 조건 비트 (조합 번호 = 비트 OR + 태그 서브쿼리 묶음 수 × TAG_GROUP)
+    private static final int TITLE = 1;
+    private static final int CONTENT = 2;
+    private static final int USERNAME = 4;
+    private static final int TAG_IDS = 8;
+    private static final int TAG_GROUP = 16;
+    private static final int VARIANTS = TAG_GROUP * (TagCondition.MAX_GROUPS + 1);
+
+    private static final String SELECT =
+        "SELECT new springboot_first.pr.dto.postDTO.response.PostListResponse(p.id, p.title, u.username, p.createdAt, p.viewCount, p.commentCount, p.likeCount) "
+      + "FROM Post p JOIN p.user u";
+
+    // 조합별 데이터 쿼리(정렬 제외) / COUNT 쿼리 : 클래스 로딩 시 한 번만 생성
+    private static final String[] CONTENT_QUERIES = new String[VARIANTS];
+    private static final String[] COUNT_QUERIES = new String[VARIANTS];
+
+    static {
+        for (int variant = 0; variant < VARIANTS; variant++) {
+            String bodyJoin = has(variant, CONTENT) ? " JOIN p.body b" : "";
+
+            CONTENT_QUERIES[variant] = SELECT + bodyJoin + where(variant);
+            // COUNT는 users 조인 없이 posts(+ post_bodies)만 사용
+            COUNT_QUERIES[variant] = "SELECT COUNT(p) FROM Post p" + bodyJoin + where(variant);
+        }
+    }
+
+    // 정렬까지 붙인 최종 데이터 쿼리 캐시 (조합 × 정렬, 비정상적으로 많은 정렬 조합은 캐시하지 않음)
+    private static final int MAX_CACHED_QUERIES = 256;
+    private final Map<QueryKey, String> contentQueryCache = new ConcurrentHashMap<>();
+
+    private record QueryKey(int variant, Sort sort) {
+    }
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Page<PostListResponse> searchPage(PostSearchCriteria criteria, Pageable pageable) {
+        TagCondition tags = criteria.tags();
+        if ((criteria.authorIds() != null && criteria.authorIds().isEmpty()) || tags.kind() == TagCondition.Kind.NO_MATCH) {
+            return new PageImpl<>(List.of(), pageable, 0); // 해당 이름의 회원 / 태그 조건에 맞는 글이 없으면 쿼리 없이 빈 결과
+        }
+
+        List<PostListResponse> content = createContentQuery(criteria, tags, pageable)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return new PageImpl<>(content, pageable, count(criteria, tags));
+    }
+
+    @Override
+    public Slice<PostListResponse> searchSlice(PostSearchCriteria criteria, Pageable pageable) {
+        TagCondition tags = criteria.tags();
+        if ((criteria.authorIds() != null && criteria.authorIds().isEmpty()) || tags.kind() == TagCondition.Kind.NO_MATCH) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        List<PostListResponse> content = createContentQuery(criteria, tags, pageable)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1) // 다음 페이지 확인용 1건 추가
+                .getResultList();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 쿼리 생성 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    private TypedQuery<PostListResponse> createContentQuery(PostSearchCriteria criteria, TagCondition tags, Pageable pageable) {
+        int variant = variant(criteria, tags);
+        QueryKey key = new QueryKey(variant, pageable.getSort());
+
+        String jpql = contentQueryCache.get(key);
+        if (jpql == null) {
+            jpql = CONTENT_QUERIES[variant] + orderBy(pageable.getSort());
+            if (contentQueryCache.size() < MAX_CACHED_QUERIES) {
+                contentQueryCache.putIfAbsent(key, jpql);
+            }
+        }
+        return bind(em.createQuery(jpql, PostListResponse.class), criteria, tags, variant);
+    }
+
+    private long count(PostSearchCriteria criteria, TagCondition tags) {
+        int variant = variant(criteria, tags);
+        return bind(em.createQuery(COUNT_QUERIES[variant], Long.class), criteria, tags, variant).getSingleResult();
+    }
+
+    // 사용자가 입력한 조건에 해당하는 파라미터만 바인딩 (LIKE 패턴은 기존과 동일하게 %검색어%)
+    private static <T> TypedQuery<T> bind(TypedQuery<T> query, PostSearchCriteria criteria, TagCondition tags, int variant) {
+        if (has(variant, TITLE)) {
+            query.setParameter("title", "%" + criteria.title() + "%");
+        }
+        if (has(variant, CONTENT)) {
+            query.setParameter("content", "%" + criteria.content() + "%");
+        }
+        if (has(variant, USERNAME)) {
+            query.setParameter("authorIds", criteria.authorIds());
+        }
+        if (has(variant, TAG_IDS)) {
+            query.setParameter("tagPostIds", tags.postIds());
+        }
+        for (int i = 0; i < tagGroups(variant); i++) {
+            query.setParameter("tagGroup" + i, tags.groups().get(i));
+        }
+        return query;
+    }
+
+    private static int variant(PostSearchCriteria criteria, TagCondition tags) {
+        int variant = 0;
+        if (StringUtils.hasText(criteria.title())) {
+            variant |= TITLE;
+        }
+        if (StringUtils.hasText(criteria.content())) {
+            variant |= CONTENT;
+        }
+        if (criteria.authorIds() != null) {
+            variant |= USERNAME;
+        }
+        if (tags.kind() == TagCondition.Kind.IDS) {
+            variant |= TAG_IDS;
+        } else if (tags.kind() == TagCondition.Kind.SUBQUERY) {
+            variant += TAG_GROUP * tags.groups().size();
+        }
+        return variant;
+    }
+
+    private static boolean has(int variant, int condition) {
+        return (variant & condition) != 0;
+    }
+
+    private static int tagGroups(int variant) {
+        return variant / TAG_GROUP;
+    }
+
+    // ① 제목 LIKE ② 본문 LIKE (post_bodies 조인) ③ 작성자 id 목록 (posts.user_id 인덱스) ④ 태그 후보 id 목록 또는 OR 묶음별 서브쿼리
+    // : 조건이 없으면 WHERE 없이 전체 조회
+    private static String where(int variant) {
+        StringBuilder where = new StringBuilder();
+        if (has(variant, TITLE)) {
+            where.append(" AND p.title LIKE :title");
+        }
+        if (has(variant, CONTENT)) {
+            where.append(" AND b.content LIKE :content");
+        }
+        if (has(variant, USERNAME)) {
+            where.append(" AND p.user.id IN :authorIds");
+        }
+        if (has(variant, TAG_IDS)) {
+            where.append(" AND p.id IN :tagPostIds");
+        }
+        for (int i = 0; i < tagGroups(variant); i++) {
+            where.append(" AND ").append(TagCondition.jpqlGroup("p.id", "tagGroup" + i));
+        }
+        return where.isEmpty() ? "" : " WHERE" + where.substring(" AND".length());
+    }
+
+    // ORDER BY p.속성 ASC/DESC : 요청의 정렬 속성은 PostService에서 먼저 확인(400)하고,
+    // 여기서도 Post 엔티티의 실제 속성만 허용 (없으면 IllegalArgumentException, JPQL에 임의 문자열이 들어가지 않도록)
+    private String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        StringBuilder orderBy = new StringBuilder(" ORDER BY ");
+        for (Sort.Order order : sort) {
+            em.getMetamodel().entity(Post.class).getAttribute(order.getProperty());
+
+            String property = "p." + order.getProperty();
+            orderBy.append(order.isIgnoreCase() ? "LOWER(" + property + ")" : property)
+                   .append(order.isAscending() ? " ASC" : " DESC")
+                   .append(", ");
+        }
+        return orderBy.substring(0, orderBy.length() - 2);
+    }
+}
@@ -1,13 +1,34 @@
 package springboot_first.pr.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import jakarta.persistence.QueryHint;
+import springboot_first.pr.dto.postDTO.response.PostDetailVersion;
+import springboot_first.pr.dto.postDTO.response.PostExportResponse;
+import springboot_first.pr.dto.postDTO.response.PostListResponse;
 import springboot_first.pr.entity.Post;
+import springboot_first.pr.service.post.search.PostIndexSource;
+
+public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificationExecutor<Post>, PostQueryRepository {
 
-public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificationExecutor<Post> {
+    // 💡 목록용 DTO 프로젝션 : users는 한 번만 조인하고, Post/User 엔티티와 content(TEXT) 컬럼은 읽지 않음
+    String LIST_PROJECTION = "SELECT new springboot_first.pr.dto.postDTO.response.PostListResponse("
+                           + "p.id, p.title, u.username, p.createdAt, p.viewCount, p.commentCount, p.likeCount) FROM Post p JOIN p.user u ";
 
     // 1️⃣ 기본 CRUD 기능은 JpaRepository 상속으로 자동 제공됨 (save, findById, findAll, delete 등)
 
@@ -15,9 +36,157 @@ public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificat
     // - JpaRepository의 findAll(Pageable pageable) 메서드를 상속받아 사용
     // - Service 계층에서 Pageable 객체를 넘기면 Page<Post> 형태로 데이터를 반환 ‼️
     // ex) public Page<Post> findAll(Pageable pageable); // (findAll즉 상속받아 쓰므로 주석처리)
+    // ⚠️ 목록 화면은 아래 4️⃣ findListPage (DTO 프로젝션)로 대체 → 작성자 지연 로딩(N+1) 제거
 
     // 〰️〰️〰️ 💠 게시글 목록 조회 〰️〰️〰️ //
 
+    // 4️⃣ 게시글 목록 조회 (Page : 데이터 + COUNT)
+    // - Pageable의 정렬(createdAt DESC 등)은 Spring Data가 ORDER BY p.xxx 로 붙여줌
+    @Query(value = LIST_PROJECTION, countQuery = "SELECT COUNT(p) FROM Post p")
+    Page<PostListResponse> findListPage(Pageable pageable);
+
+    // 4️⃣-1 COUNT 없는 목록 조회 (Slice)
+    // - 반환 타입이 Slice이면 Spring Data가 size + 1 건만 조회하고 COUNT(*) 쿼리는 실행하지 않음‼️
+    @Query(LIST_PROJECTION)
+    Slice<PostListResponse> findListSlice(Pageable pageable);
+
+    // 5️⃣ 키셋(Seek) 페이지네이션 - 첫 페이지 (커서 없음)
+    // - (created_at, id) 인덱스를 역순으로 읽으면서 limit 건만 가져옴
+    @Query(LIST_PROJECTION + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostListResponse> findFirstPageByCursor(Limit limit);
+
+    // 6️⃣ 키셋(Seek) 페이지네이션 - 다음 페이지
+    // - OFFSET 대신 "마지막으로 본 (createdAt, id) 보다 작은 행"부터 읽으므로 페이지 깊이와 무관하게 비용이 일정함‼️
+    // - createdAt <= :createdAt 조건은 인덱스 범위 시작점을 잡아주기 위한 것
+    @Query(LIST_PROJECTION
+         + "WHERE p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id) "
+         + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostListResponse> findNextPageByCursor(LocalDateTime createdAt, Long id, Limit limit);
+
+    // 6️⃣-1 작성자별 키셋 페이지네이션 (idx_posts_user_created_at_id 인덱스 사용)
+    // - p.user.id 는 posts.user_id 컬럼 그대로 비교하므로 users 조인은 작성자 이름 조회에만 쓰임
+    @Query(LIST_PROJECTION
+         + "WHERE p.user.id = :authorId "
+         + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostListResponse> findFirstPageByAuthor(Long authorId, Limit limit);
+
+    @Query(LIST_PROJECTION
+         + "WHERE p.user.id = :authorId AND p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id) "
+         + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostListResponse> findNextPageByAuthor(Long authorId, LocalDateTime createdAt, Long id, Limit limit);
+
+    // 〰️〰️〰️ 💠 게시글 상세 조회 〰️〰️〰️ //
+
+    // 7️⃣ 상세 조회/수정 전용 : 작성자 + 본문을 한 번에 조인해서 가져옴 (지연 로딩 추가 쿼리 없음)
+    // - 본문(post_bodies)을 읽는 곳은 여기뿐이고, 목록/검색 쿼리는 Posts 행만 읽음
+    @Query("SELECT p FROM Post p JOIN FETCH p.user JOIN FETCH p.body WHERE p.id = :id")
+    Optional<Post> findDetailById(Long id);
+
+    // 7️⃣-1 여러 게시글 상세 한 번에 조회 : 작성자 + 본문을 IN 쿼리 1번으로 (순서는 호출 측에서 맞춤)
+    @Query("SELECT p FROM Post p JOIN FETCH p.user JOIN FETCH p.body WHERE p.id IN :ids")
+    List<Post> findDetailsByIds(Collection<Long> ids);
+
+    // 7️⃣-2 조건부 GET(304) 판단용 : 본문/작성자 없이 수정 시각 + 조회수 / 댓글 수 / 좋아요 수만 조회
+    @Query("SELECT new springboot_first.pr.dto.postDTO.response.PostDetailVersion("
+           + "p.updatedAt, p.viewCount, p.commentCount, p.likeCount) FROM Post p WHERE p.id = :id")
+    Optional<PostDetailVersion> findDetailVersionById(Long id);
+
+    // 〰️〰️〰️ 💠 게시글 수정/삭제 (작성자 조건을 건 UPDATE 1번) 〰️〰️〰️ //
+    // 💡 엔티티를 읽어서 작성자를 비교하고 Dirty Checking 하는 대신, 조건(삭제 안 됨 + 작성자 + 버전)을 WHERE 절에 넣음
+    //    → 영향받은 행이 0이면 findAuthorUserIdById로 없음(404) / 권한 없음(401) / 버전 충돌(409)을 구분
+    // ⚠️ 벌크 UPDATE는 영속성 컨텍스트를 거치지 않으므로 실행 후 비움 (clearAutomatically)
+
+    String OWNED_BY = "p.user.id = (SELECT u.id FROM User u WHERE u.userId = :ownerUserId) ";
+
+    // 7️⃣-3 제목 수정 + 버전 증가 : 보낸 버전이 현재 버전과 같을 때만 (version은 필수)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Post p SET p.title = :title, p.updatedAt = :now, p.version = p.version + 1 "
+         + "WHERE p.id = :id AND p.deletedAt IS NULL AND p.version = :version AND " + OWNED_BY)
+    int updateTitleIfOwner(Long id, String ownerUserId, Long version, String title, LocalDateTime now);
+
+    // 7️⃣-4 본문 수정 : 본문은 별도 테이블(post_bodies)이라 UPDATE가 하나 더 필요 (7️⃣-3 성공 후에만 호출)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PostBody b SET b.content = :content WHERE b.id = (SELECT p.body.id FROM Post p WHERE p.id = :postId)")
+    int updateContent(Long postId, String content);
+
+    // 7️⃣-5 Soft Delete : 수정 중이던 다른 사용자의 저장도 버전 충돌로 실패하도록 버전 증가
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Post p SET p.deletedAt = :now, p.version = p.version + 1 "
+         + "WHERE p.id = :id AND p.deletedAt IS NULL AND " + OWNED_BY)
+    int softDeleteIfOwner(Long id, String ownerUserId, LocalDateTime now);
+
+    // 7️⃣-6 수정/삭제 실패 원인 확인용 : 작성자 로그인 ID만 조회 (삭제된 글은 empty)
+    @Query("SELECT u.userId FROM Post p JOIN p.user u WHERE p.id = :id")
+    Optional<String> findAuthorUserIdById(Long id);
+
+    // 7️⃣-7 댓글 수 증감 (댓글 작성/삭제와 같은 트랜잭션) : 삭제된/없는 게시글이면 0건
+    // 💡 수정이 아니므로 버전 / 수정 시각은 바뀌지 않음 (조회수와 같음)
+    // ⚠️ flushAutomatically : 같은 트랜잭션에서 앞서 경로를 채운 댓글이 비워지기 전에 먼저 반영되도록
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :id AND p.deletedAt IS NULL")
+    int addCommentCount(Long id, int delta);
+
+    // 7️⃣-8 좋아요 수 (압축분 + 슬롯 합계, 좋아요/취소 응답용) : 삭제된/없는 게시글이면 empty
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :id")
+    Optional<Long> findLikeCountById(Long id);
+
+    // 〰️〰️〰️ 💠 검색 엔진 지원 〰️〰️〰️ //
+
+    // 8️⃣ 여러 id의 목록 DTO 조회 (메모리 검색 엔진이 찾은 최종 페이지 로딩용, 순서는 호출 측에서 맞춤)
+    @Query(LIST_PROJECTION + "WHERE p.id IN :ids")
+    List<PostListResponse> findListByIds(Collection<Long> ids);
+
+    // 8️⃣-1 자동완성 색인 구축용 : id 순으로 afterId 다음부터 limit 건 (목록 DTO 재사용)
+    @Query(LIST_PROJECTION + "WHERE p.id > :afterId ORDER BY p.id")
+    List<PostListResponse> findListAfterId(Long afterId, Limit limit);
+
+    // 9️⃣ 역색인 구축용 : id 순으로 afterId 다음부터 limit 건 (게시글 + 작성자 + 본문)
+    @Query("SELECT new springboot_first.pr.service.post.search.PostIndexSource("
+         + "p.id, p.title, u.username, p.createdAt, b.content) "
+         + "FROM Post p JOIN p.user u JOIN p.body b WHERE p.id > :afterId ORDER BY p.id")
+    List<PostIndexSource> findIndexSourcesAfter(Long afterId, Limit limit);
+
+    // 🔟 역색인 갱신용 : 게시글 1건 (작성/수정 커밋 후)
+    @Query("SELECT new springboot_first.pr.service.post.search.PostIndexSource("
+         + "p.id, p.title, u.username, p.createdAt, b.content) "
+         + "FROM Post p JOIN p.user u JOIN p.body b WHERE p.id = :id")
+    Optional<PostIndexSource> findIndexSourceById(Long id);
+
+    // 🔟-1 일괄 가져오기 청크 반영용 : id 범위(PK 범위 스캔) 조회, 청크 사이에 끼어든 다른 게시글도 함께 읽힘 (색인 갱신은 중복 반영해도 무방)
+    @Query(LIST_PROJECTION + "WHERE p.id BETWEEN :firstId AND :lastId")
+    List<PostListResponse> findListByIdRange(Long firstId, Long lastId);
+
+    @Query("SELECT new springboot_first.pr.service.post.search.PostIndexSource("
+         + "p.id, p.title, u.username, p.createdAt, b.content) "
+         + "FROM Post p JOIN p.user u JOIN p.body b WHERE p.id BETWEEN :firstId AND :lastId")
+    List<PostIndexSource> findIndexSourcesByIdRange(Long firstId, Long lastId);
+
+    // 〰️〰️〰️ 💠 게시글 내보내기 (NDJSON) 〰️〰️〰️ //
+
+    // 1️⃣1️⃣ 전체 / 증분(updatedAt >= since) 내보내기 : 한 번에 다 읽지 않고 EXPORT_FETCH_SIZE 건씩 받아오는 Stream
+    // - 반드시 트랜잭션 안에서 사용하고, 다 읽은 뒤 close() 해야 함 (try-with-resources)
+    // - MySQL은 URL에 useCursorFetch=true 가 있어야 fetch size 단위로 서버 커서에서 읽음 (없으면 전체를 메모리에 받음)
+    int EXPORT_FETCH_SIZE = 500;
+
+    String EXPORT_PROJECTION = "SELECT new springboot_first.pr.dto.postDTO.response.PostExportResponse("
+                             + "p.id, p.title, b.content, u.userId, u.username, p.createdAt, p.updatedAt) "
+                             + "FROM Post p JOIN p.user u JOIN p.body b ";
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(EXPORT_PROJECTION + "ORDER BY p.id")
+    Stream<PostExportResponse> streamAllForExport();
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    // 증분 내보내기 : 수정 시각 순 (마지막 줄의 updatedAt = 내보낸 게시글 중 가장 최근 수정 시각), (updated_at, id) 인덱스 사용
+    @Query(EXPORT_PROJECTION + "WHERE p.updatedAt >= :since ORDER BY p.updatedAt, p.id")
+    Stream<PostExportResponse> streamUpdatedSinceForExport(LocalDateTime since);
+
     // // 3️⃣ 제목이나 내용을 이용한 검색 기능 (페이지네이션 적용)
     // // - 현업에서 자주 쓰는 쿼리 메소드 (제목에 특정 문자열이 포함된 게시글 검색)
     // Page<Post> findByTitleContaining(String title, Pageable pageable);
@@ -0,0 +1,19 @@
+package springboot_first.pr.repository;
+
+import java.util.List;
+
+/**
+ * 게시글 검색 리포지토리(PostQueryRepository)에 넘기는 검색 조건
+ * - 요청(PostSearchRequest)의 작성자 이름 / 태그는 서비스 계층(PostSearchCriteriaResolver)이 캐시와 태그 색인으로 바꿔서 넘깁니다.
+ *   (리포지토리는 캐시 / 색인 등 서비스 계층 빈에 의존하지 않음)
+ * @param authorIds 작성자 조건이 없으면 null, 이름이 일치하는 회원이 없으면 빈 목록 (쿼리 없이 빈 결과)
+ * @param tags 태그 조건 (null이면 조건 없음)
+ */
+public record PostSearchCriteria(String title, String content, List<Long> authorIds, TagCondition tags) {
+
+    public PostSearchCriteria {
+        if (tags == null) {
+            tags = TagCondition.none();
+        }
+    }
+}
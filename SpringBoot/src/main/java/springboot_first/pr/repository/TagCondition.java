@@ -0,0 +1,79 @@
+package springboot_first.pr.repository;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 검색 리포지토리에 넘기는 태그 조건 (서비스 계층의 PostTagIndex.condition 이 태그 필터로부터 만들어 PostSearchCriteria에 담음)
+ * - NONE : 태그 조건 없음
+ * - NO_MATCH : 비트맵 교집합이 비어 있음 → 쿼리 없이 빈 결과
+ * - IDS : 비트맵이 구한 후보 게시글 id (p.id IN (...)), post_tags 를 읽지 않음
+ * - SUBQUERY : 색인 구축 전이거나 후보가 너무 많을 때, OR 묶음마다 post_tags 서브쿼리 (SQL 조인 경로)
+ */
+public final class TagCondition {
+
+    public enum Kind { NONE, NO_MATCH, IDS, SUBQUERY }
+
+    public static final int MAX_GROUPS = 5; // SUBQUERY 묶음 수 상한 (검색 리포지토리가 미리 만드는 쿼리 조합 수)
+
+    private static final TagCondition NONE = new TagCondition(Kind.NONE, List.of(), List.of());
+    private static final TagCondition NO_MATCH = new TagCondition(Kind.NO_MATCH, List.of(), List.of());
+
+    private final Kind kind;
+    private final List<Long> postIds;
+    private final List<List<String>> groups;
+
+    private TagCondition(Kind kind, List<Long> postIds, List<List<String>> groups) {
+        this.kind = kind;
+        this.postIds = postIds;
+        this.groups = groups;
+    }
+
+    public static TagCondition none() {
+        return NONE;
+    }
+
+    public static TagCondition noMatch() {
+        return NO_MATCH;
+    }
+
+    public static TagCondition ids(long[] postIds) {
+        return postIds.length == 0 ? NO_MATCH : new TagCondition(Kind.IDS, Arrays.stream(postIds).boxed().toList(), List.of());
+    }
+
+    // 묶음이 없으면 조건 없음, MAX_GROUPS 개를 넘으면 IllegalArgumentException (요청 검증은 TagFilter가 먼저 함)
+    public static TagCondition subquery(List<List<String>> groups) {
+        if (groups.size() > MAX_GROUPS) {
+            throw new IllegalArgumentException("태그 묶음은 " + MAX_GROUPS + "개까지 지정할 수 있습니다: " + groups.size());
+        }
+        return groups.isEmpty() ? NONE : new TagCondition(Kind.SUBQUERY, List.of(), List.copyOf(groups));
+    }
+
+    public Kind kind() {
+        return kind;
+    }
+
+    // IDS : 후보 게시글 id (오름차순)
+    public List<Long> postIds() {
+        return postIds;
+    }
+
+    // SUBQUERY : 태그 이름 OR 묶음 목록 (묶음끼리 AND)
+    public List<List<String>> groups() {
+        return groups;
+    }
+
+    /**
+     * SUBQUERY 경로의 OR 묶음 하나 (네이티브 SQL) : 태그 이름 → tags(유니크) → post_tags (tag_id, post_id) 인덱스
+     * @param postId 바깥 쿼리의 게시글 id 컬럼 (예 : p.id)
+     * @param param 태그 이름 목록 파라미터 이름
+     */
+    public static String sqlGroup(String postId, String param) {
+        return postId + " IN (SELECT pt.post_id FROM post_tags pt JOIN tags t ON t.id = pt.tag_id WHERE t.name IN (:" + param + "))";
+    }
+
+    // SUBQUERY 경로의 OR 묶음 하나 (JPQL)
+    public static String jpqlGroup(String postId, String param) {
+        return postId + " IN (SELECT pt.postId FROM PostTag pt JOIN Tag t ON t.id = pt.tagId WHERE t.name IN :" + param + ")";
+    }
+}
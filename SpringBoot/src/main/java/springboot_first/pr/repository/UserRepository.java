@@ -1,5 +1,7 @@
 package springboot_first.pr.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -82,6 +84,17 @@ public interface UserRepository extends JpaRepository<User, Long>{
   Optional<User> findByUserIdAndPhoneNumber(String userId, String phoneNumber);
 
 
+  // 〰️〰️〰️ 💠 게시글 작성자 이름 검색에 사용 (idx_users_username 인덱스) 〰️〰️〰️ //
+  // ⚠️ 이름(본명)은 중복될 수 있으므로 목록으로 반환, 게시글 검색은 탈퇴 회원의 글도 포함하므로 deletedAt 조건 없음
+  @Query("SELECT u.id FROM User u WHERE u.username = :username")
+  List<Long> findIdsByUsername(String username);
+
+
+  // 〰️〰️〰️ 💠 게시글 일괄 가져오기 : 작성자 로그인 ID 여러 개를 한 번에 조회 〰️〰️〰️ //
+  @Query("SELECT u FROM User u WHERE u.userId IN :userIds AND u.deletedAt IS NULL")
+  List<User> findAllByUserIdIn(Collection<String> userIds);
+
+
   // 💡 회원 탈퇴 (Soft Delete) 구현을 위한 벌크 UPDATE 쿼리
   @Modifying // UPDATE 쿼리이므로 필수
   @Transactional // 쓰기 작업이므로 필수,⚠️ Repository의 벌크(Bulk) 연산에는 필수
@@ -3,6 +3,7 @@ package springboot_first.pr.service.auth;
 import java.util.Optional;
 
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties.Lettuce.Cluster.Refresh;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -49,6 +50,7 @@ public class AuthService {
 	 // 로그인시에 사용될 토근 주입
 	private final TokenProvider tokenProvider; 
 	private final RefreshTokenRepository refreshTokenRepository;
+	private final ApplicationEventPublisher eventPublisher; // 💡 가입 커밋 후 게시글 작성자 이름 검색용 캐시(같은 이름 항목) 무효화
 
 	private static final String FIXED_EMAIL_DOMAIN = "@email.com"; // 회원가입시에 사용될 고정 이메일 도메인
 	private static final String DEFAULT_ROLE = "USER"; // 💡 역할 상수 추가
@@ -106,6 +108,9 @@ public class AuthService {
 		// 6️⃣ DB 저장 및 상태 응답
 		User savedUser = userRepository.save(newUser);
 		log.info("회원가입 성공 및 DB 저장 완료: ID={}", savedUser.getId()); // 💡 [로깅] 최종 성공
+
+		// 같은 이름의 기존 회원이 있다면 작성자 검색 결과에 새 회원의 글도 포함되도록 캐시 무효화 (커밋 후 AuthorIdCache가 처리)
+		eventPublisher.publishEvent(new UserRegisteredEvent(savedUser.getUsername()));
 		
 		return UserRegisterResponse.from(savedUser);
 	} 
@@ -0,0 +1,19 @@
+package springboot_first.pr.service.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 회원가입 이벤트
+ * - 같은 이름의 작성자 id 캐시(AuthorIdCache)를 비우는 데 사용합니다.
+ * - 구독자는 @TransactionalEventListener(AFTER_COMMIT)로 가입이 커밋된 뒤에만 반응합니다.
+ *   (커밋 전에 비우면 동시 검색이 아직 보이지 않는 "회원 없음" 결과를 TTL 동안 다시 캐시할 수 있음)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class UserRegisteredEvent {
+
+    private final String username;
+}
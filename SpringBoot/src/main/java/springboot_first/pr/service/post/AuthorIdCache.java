@@ -0,0 +1,61 @@
+package springboot_first.pr.service.post;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+import springboot_first.pr.repository.UserRepository;
+import springboot_first.pr.service.auth.UserRegisteredEvent;
+
+/**
+ * 작성자 이름 → 사용자 id 목록 캐시
+ * - 게시글 검색의 작성자 조건을 users 조인 대신 posts.user_id IN (...) 조건으로 바꾸기 위해 사용합니다.
+ *   (posts 의 (user_id, created_at, id) 복합 인덱스를 그대로 탈 수 있음)
+ * - 같은 이름의 회원이 새로 가입하면 가입 커밋 후(UserRegisteredEvent) 무효화하고, 그 외에는 TTL 동안 재사용합니다.
+ */
+@Slf4j
+@Component
+public class AuthorIdCache {
+
+    private final UserRepository userRepository;
+
+    private final Cache<String, List<Long>> cache;
+
+    public AuthorIdCache(
+            UserRepository userRepository,
+            @Value("${post.author-cache.ttl:10m}") Duration ttl,
+            @Value("${post.author-cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * 이름이 일치하는 사용자 id 목록 (없으면 빈 목록, 빈 결과도 캐시)
+     */
+    public List<Long> findIds(String username) {
+        return cache.get(username, userRepository::findIdsByUsername);
+    }
+
+    /**
+     * 회원가입 등으로 이름 → id 매핑이 바뀌었을 때 호출
+     */
+    public void evict(String username) {
+        cache.invalidate(username);
+        log.debug("작성자 id 캐시 무효화: {}", username);
+    }
+
+    @TransactionalEventListener // 기본값: AFTER_COMMIT
+    public void onUserRegistered(UserRegisteredEvent event) {
+        evict(event.getUsername());
+    }
+}
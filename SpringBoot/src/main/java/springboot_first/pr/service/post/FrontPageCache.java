@@ -0,0 +1,393 @@
+package springboot_first.pr.service.post;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import springboot_first.pr.dto.postDTO.response.ApproximatePage;
+import springboot_first.pr.dto.postDTO.response.PostListResponse;
+import springboot_first.pr.repository.PostRepository;
+
+/**
+ * 게시판 첫 화면(최신순 앞쪽 N 페이지) 메모리 스냅샷
+ * - 최신순 상위 rows 건과 전체 게시글 수를 불변 스냅샷으로 보관하고, 조건이 맞는 목록 요청은 SQL 없이 응답합니다.
+ * - 글 작성/수정/삭제 커밋 후 해당 게시글만 반영하여 새 스냅샷으로 교체합니다. (읽는 쪽은 락 없이 volatile 참조만 읽음)
+ * - 갱신 모드
+ *   · stale-while-revalidate=true  : 갱신은 별도 스레드에서 수행, 그동안 읽기 요청은 직전 스냅샷으로 응답 (쓰기 응답도 지연 없음)
+ *   · stale-while-revalidate=false : 커밋한 요청 스레드에서 바로 갱신, 갱신이 끝날 때까지 읽기 요청은 DB로 조회 (작성 직후 목록에 즉시 반영)
+ * - 일괄 가져오기(PostsImportedEvent)는 청크 커밋마다 전체 재구성합니다.
+ * - 조회수 반영(PostViewsFlushedEvent), 댓글/좋아요 수 변경(PostCountsChangedEvent)은 스냅샷 안의 해당 행만 다시 읽어 교체합니다.
+ * - 마지막 전체 재구성 후 max-age가 지나면 스냅샷으로 응답하지 않고(DB 조회) 갱신 스레드에서 재구성합니다.
+ * ⚠️ 이벤트 없이 게시글을 일괄 변경하는 작업은 reload()를 호출해야 합니다.
+ */
+@Slf4j
+@Component
+public class FrontPageCache {
+
+    // 스냅샷 정렬 : 작성일 최신순, 같은 시각이면 id 역순 (키셋 쿼리와 동일)
+    private static final Comparator<PostListResponse> LATEST_FIRST = Comparator
+        .comparing(PostListResponse::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+        .thenComparing(PostListResponse::getPostId, Comparator.reverseOrder());
+
+    /**
+     * @param rows 최신순 상위 게시글 (최대 capacity 건)
+     * @param total 전체 게시글 수
+     * @param builtAt 마지막 전체 재구성 시각 (max-age 경과 시 다음 갱신에서 전체 재구성)
+     */
+    private record Snapshot(List<PostListResponse> rows, long total, long builtAt) {
+
+        // 스냅샷이 전체 게시글을 모두 담고 있는지 (그렇다면 마지막 페이지 너머 요청도 응답 가능)
+        boolean complete() {
+            return rows.size() >= total;
+        }
+    }
+
+    private final PostRepository postRepository;
+    private final int capacity;
+    private final boolean staleWhileRevalidate;
+    private final long maxAgeMillis;
+
+    private volatile Snapshot snapshot; // null = 아직 구성 전
+
+    // 동기 갱신 모드 : 커밋되었지만 아직 스냅샷에 반영되지 않은 변경 수 (0일 때만 스냅샷으로 응답)
+    private final AtomicInteger pendingChanges = new AtomicInteger();
+
+    // 비동기 갱신 모드 : 반영 대기 중인 변경 이벤트 + 단일 갱신 스레드
+    private final ConcurrentLinkedQueue<PostChangedEvent> pendingEvents = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean expiredReloadQueued = new AtomicBoolean(); // max-age 경과 재구성은 1번만 예약
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "front-page-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public FrontPageCache(
+            PostRepository postRepository,
+            @Value("${post.front-page.pages:5}") int pages,
+            @Value("${post.front-page.page-size:10}") int pageSize,
+            @Value("${post.front-page.stale-while-revalidate:true}") boolean staleWhileRevalidate,
+            @Value("${post.front-page.max-age:10m}") Duration maxAge) {
+        this.postRepository = postRepository;
+        this.capacity = pages * pageSize;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.maxAgeMillis = maxAge.toMillis();
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 조회 (SQL 없음) 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    /**
+     * 목록 Page 요청이 스냅샷 범위 안이면 응답, 아니면 empty (DB 조회로 진행)
+     */
+    public Optional<Page<PostListResponse>> page(Pageable pageable) {
+        Snapshot current = servable();
+        if (current == null || !covers(current, pageable, 0)) {
+            return Optional.empty();
+        }
+        return Optional.of(new ApproximatePage<>(rows(current, pageable.getOffset(), pageable.getPageSize()),
+            pageable, current.total(), false));
+    }
+
+    /**
+     * 목록 Slice 요청 (다음 페이지 여부 확인용 1건 포함)
+     */
+    public Optional<Slice<PostListResponse>> slice(Pageable pageable) {
+        Snapshot current = servable();
+        if (current == null || !covers(current, pageable, 1)) {
+            return Optional.empty();
+        }
+        boolean hasNext = current.total() > pageable.getOffset() + pageable.getPageSize();
+        return Optional.of(new SliceImpl<>(rows(current, pageable.getOffset(), pageable.getPageSize()), pageable, hasNext));
+    }
+
+    /**
+     * 커서 목록 첫 페이지 : 최신 limit 건
+     */
+    public Optional<List<PostListResponse>> latest(int limit) {
+        Snapshot current = servable();
+        if (current == null || (limit > current.rows().size() && !current.complete())) {
+            return Optional.empty();
+        }
+        return Optional.of(rows(current, 0, limit));
+    }
+
+    private Snapshot servable() {
+        if (!staleWhileRevalidate && pendingChanges.get() > 0) {
+            return null; // 동기 모드 : 반영 전 변경이 있으면 DB로 조회
+        }
+        Snapshot current = snapshot;
+        if (current != null && expired(current)) {
+            // ⚠️ max-age 경과 : 변경 이벤트가 없어도 오래된 목록으로 응답하지 않고, 재구성은 갱신 스레드에 맡김
+            if (expiredReloadQueued.compareAndSet(false, true)) {
+                refresher.execute(() -> {
+                    try {
+                        reloadSafely();
+                    } finally {
+                        expiredReloadQueued.set(false);
+                    }
+                });
+            }
+            return null;
+        }
+        return current;
+    }
+
+    private boolean expired(Snapshot current) {
+        return System.currentTimeMillis() - current.builtAt() > maxAgeMillis;
+    }
+
+    // 최신순 정렬 요청이고, (offset + size + extra) 가 스냅샷 안에 있거나 스냅샷이 전체를 담고 있는 경우
+    private static boolean covers(Snapshot current, Pageable pageable, int extra) {
+        if (pageable.isUnpaged() || !isLatestFirst(pageable.getSort())) {
+            return false;
+        }
+        return current.complete() || pageable.getOffset() + pageable.getPageSize() + extra <= current.rows().size();
+    }
+
+    // createdAt DESC (+ 선택적으로 id DESC) 만 스냅샷 정렬과 같음
+    private static boolean isLatestFirst(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        if (orders.isEmpty() || orders.size() > 2) {
+            return false;
+        }
+        Sort.Order first = orders.get(0);
+        if (!first.getProperty().equals("createdAt") || !first.isDescending() || first.isIgnoreCase()) {
+            return false;
+        }
+        return orders.size() == 1 || (orders.get(1).getProperty().equals("id") && orders.get(1).isDescending());
+    }
+
+    private static List<PostListResponse> rows(Snapshot current, long offset, int size) {
+        int from = (int) Math.min(offset, current.rows().size());
+        int to = (int) Math.min(offset + size, current.rows().size());
+        return current.rows().subList(from, to);
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 구성/갱신 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+    }
+
+    /**
+     * 전체 재구성 (상위 capacity 건 + COUNT) : 시작 시, max-age 경과 시, 이벤트 없는 일괄 변경 후
+     */
+    public synchronized void reload() {
+        List<PostListResponse> rows = postRepository.findFirstPageByCursor(Limit.of(capacity));
+        long total = postRepository.count();
+        snapshot = new Snapshot(List.copyOf(rows), total, System.currentTimeMillis());
+        log.debug("게시판 첫 화면 스냅샷 재구성: {}건 / 전체 {}건", rows.size(), total);
+    }
+
+    // 동기 모드 : 커밋 직전부터 스냅샷 응답을 멈추고, 트랜잭션이 끝나면(afterCompletion) 커밋된 변경을 반영한 뒤 해제
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void beforePostCommit(PostChangedEvent event) {
+        if (!staleWhileRevalidate) {
+            holdUntilCompletion(() -> applySafely(event));
+        }
+    }
+
+    @TransactionalEventListener // 기본값: AFTER_COMMIT
+    public void onPostChanged(PostChangedEvent event) {
+        if (staleWhileRevalidate) {
+            // 읽기 요청은 직전 스냅샷으로 계속 응답하고, 갱신 스레드가 모아서 반영
+            pendingEvents.add(event);
+            refresher.execute(this::drainPendingEvents);
+        }
+    }
+
+    // 일괄 가져오기 : 청크마다 게시글이 대량으로 들어오므로 건별 반영 대신 전체 재구성 (동기 모드 대기 처리는 위와 동일)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void beforeImportCommit(PostsImportedEvent event) {
+        if (!staleWhileRevalidate) {
+            holdUntilCompletion(this::reloadSafely);
+        }
+    }
+
+    @TransactionalEventListener // 기본값: AFTER_COMMIT
+    public void onPostsImported(PostsImportedEvent event) {
+        if (staleWhileRevalidate) {
+            refresher.execute(this::reloadSafely);
+        }
+    }
+
+    // 조회수 / 댓글 수 / 좋아요 수 : 목록 순서와 전체 개수는 그대로이므로 스냅샷 안의 해당 행만 다시 읽음
+    // 💡 동기 모드는 커밋한 스레드에서 바로, 비동기 모드는 갱신 스레드에서 (숫자만 바뀌므로 대기 처리는 하지 않음)
+    @TransactionalEventListener // 기본값: AFTER_COMMIT
+    public void onCountsChanged(PostCountsChangedEvent event) {
+        refreshCounts(List.of(event.getPostId()));
+    }
+
+    @TransactionalEventListener // 기본값: AFTER_COMMIT
+    public void onViewsFlushed(PostViewsFlushedEvent event) {
+        refreshCounts(event.getPostIds());
+    }
+
+    private void refreshCounts(List<Long> postIds) {
+        if (staleWhileRevalidate) {
+            refresher.execute(() -> refreshRowsSafely(postIds));
+        } else {
+            refreshRowsSafely(postIds);
+        }
+    }
+
+    /**
+     * 동기 모드 대기 : 증가는 BEFORE_COMMIT 에서, 감소는 같은 트랜잭션의 afterCompletion 에서 정확히 1번
+     * - rollback-only 트랜잭션은 BEFORE_COMMIT 자체가 호출되지 않으므로 증가/감소 모두 없음
+     * - 커밋 결과를 알 수 없으면(STATUS_UNKNOWN) 스냅샷을 비우고 갱신 스레드에서 전체 재구성
+     */
+    private void holdUntilCompletion(Runnable onCommit) {
+        pendingChanges.incrementAndGet();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        onCommit.run();
+                    } else if (status == STATUS_UNKNOWN) {
+                        snapshot = null;
+                        refresher.execute(FrontPageCache.this::reloadSafely);
+                    }
+                } finally {
+                    pendingChanges.decrementAndGet();
+                }
+            }
+        });
+    }
+
+    private void drainPendingEvents() {
+        PostChangedEvent event;
+        while ((event = pendingEvents.poll()) != null) {
+            applySafely(event);
+        }
+    }
+
+    // 갱신 실패 시 불확실한 스냅샷으로 응답하지 않도록 비우고(DB 조회로 전환), 갱신 스레드에서 전체 재구성 시도
+    private void applySafely(PostChangedEvent event) {
+        try {
+            apply(event);
+        } catch (RuntimeException e) {
+            log.warn("게시판 첫 화면 스냅샷 갱신 실패, 전체 재구성 예정: {}", event, e);
+            snapshot = null;
+            refresher.execute(this::reloadSafely);
+        }
+    }
+
+    // 재구성 실패 시 이전 스냅샷은 비워서(DB 조회로 전환) 오래된 목록으로 응답하지 않음
+    private void reloadSafely() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            snapshot = null;
+            log.warn("게시판 첫 화면 스냅샷 재구성 실패, 다음 변경 때 재시도", e);
+        }
+    }
+
+    private void refreshRowsSafely(List<Long> postIds) {
+        try {
+            refreshRows(postIds);
+        } catch (RuntimeException e) {
+            log.warn("게시판 첫 화면 스냅샷 행 갱신 실패, 전체 재구성 예정: {}건", postIds.size(), e);
+            snapshot = null;
+            refresher.execute(this::reloadSafely);
+        }
+    }
+
+    // 스냅샷에 들어 있는 게시글만 골라서 다시 읽고 같은 자리의 행을 교체 (스냅샷 밖의 게시글은 SQL 없음)
+    private synchronized void refreshRows(List<Long> postIds) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return; // 재구성 예정
+        }
+        Set<Long> changed = Set.copyOf(postIds);
+        List<Long> ids = current.rows().stream()
+            .map(PostListResponse::getPostId)
+            .filter(changed::contains)
+            .toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        Map<Long, PostListResponse> fresh = postRepository.findListByIds(ids).stream()
+            .collect(Collectors.toMap(PostListResponse::getPostId, Function.identity()));
+        // 그 사이 삭제된 글은 기존 행 유지 (삭제 이벤트에서 빠짐)
+        List<PostListResponse> rows = current.rows().stream()
+            .map(row -> fresh.getOrDefault(row.getPostId(), row))
+            .toList();
+        snapshot = new Snapshot(rows, current.total(), current.builtAt());
+    }
+
+    // 변경된 게시글 1건만 반영한 새 스냅샷으로 교체 (쓰기 쪽끼리만 직렬화, 읽기 쪽은 락 없음)
+    private synchronized void apply(PostChangedEvent event) {
+        Snapshot current = snapshot;
+        if (current == null || expired(current)) {
+            reload();
+            return;
+        }
+
+        Long postId = event.getPostId();
+        List<PostListResponse> rows = new ArrayList<>(current.rows());
+        boolean contained = rows.removeIf(post -> post.getPostId().equals(postId));
+        long total = current.total();
+
+        switch (event.getType()) {
+            case CREATED -> {
+                total++;
+                postRepository.findListByIds(List.of(postId)).forEach(rows::add);
+            }
+            case UPDATED -> {
+                if (!contained) {
+                    return; // 스냅샷 밖의 글 수정은 첫 화면과 무관
+                }
+                postRepository.findListByIds(List.of(postId)).forEach(rows::add);
+            }
+            case DELETED -> {
+                total = Math.max(0, total - 1);
+                if (contained && rows.size() < total) {
+                    // 빠진 자리를 다음 게시글로 채움 (마지막 행 다음부터 1건)
+                    PostListResponse last = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+                    rows.addAll(last == null
+                        ? postRepository.findFirstPageByCursor(Limit.of(1))
+                        : postRepository.findNextPageByCursor(last.getCreatedAt(), last.getPostId(), Limit.of(1)));
+                }
+            }
+        }
+
+        rows.sort(LATEST_FIRST);
+        List<PostListResponse> trimmed = rows.size() > capacity ? rows.subList(0, capacity) : rows;
+        snapshot = new Snapshot(List.copyOf(trimmed), total, current.builtAt());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+}
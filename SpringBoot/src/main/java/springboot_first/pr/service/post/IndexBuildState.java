@@ -0,0 +1,53 @@
+package springboot_first.pr.service.post;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 메모리 색인(역색인 / 자동완성 / 태그 비트맵)의 시작 시 구축 상태
+ * - 구축 중에 커밋된 게시글 id를 기록해서, 구축 배치가 그보다 오래된 데이터로 덮어쓰지 않게 함
+ * - 기록(recordChange) / 구축 배치 반영(applyUnlessChanged) / 완료(finish)가 같은 락을 쓰므로
+ *   "바뀐 게시글인지 확인 → 반영" 사이에 커밋 이벤트가 끼어들 수 없음
+ * 💡 이벤트 쪽은 기록한 뒤에 DB에서 최신 상태를 읽어 반영하므로, 구축 배치가 건너뛴 게시글도 최신 상태로 남음
+ */
+public final class IndexBuildState {
+
+    private final Set<Long> changedDuringBuild = new HashSet<>();
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 커밋 이벤트 : 구축 중이면 게시글 id 기록 (구축이 끝난 뒤에는 아무것도 하지 않음)
+    public synchronized void recordChange(Long postId) {
+        if (!ready) {
+            changedDuringBuild.add(postId);
+        }
+    }
+
+    public synchronized void recordChanges(Collection<Long> postIds) {
+        if (!ready) {
+            changedDuringBuild.addAll(postIds);
+        }
+    }
+
+    // 구축 배치의 게시글 하나 반영 : 구축 중에 바뀐 게시글이면 건너뜀 (이벤트가 최신 상태로 반영)
+    public synchronized void applyUnlessChanged(Long postId, Runnable apply) {
+        if (!changedDuringBuild.contains(postId)) {
+            apply.run();
+        }
+    }
+
+    /**
+     * 구축 완료
+     * @param replay 구축 중에 바뀐 게시글 id를 다시 반영 (새로 만든 색인으로 통째로 바꾸는 경우), 필요 없으면 ids -> { }
+     */
+    public synchronized void finish(Consumer<Set<Long>> replay) {
+        replay.accept(Set.copyOf(changedDuringBuild));
+        ready = true;
+        changedDuringBuild.clear();
+    }
+}
@@ -0,0 +1,229 @@
+package springboot_first.pr.service.post;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import springboot_first.pr.dto.postDTO.response.PostArchiveStatusResponse;
+
+/**
+ * 삭제된 게시글 보관(archive) 작업
+ * - Soft Delete는 deleted_at만 채우므로 삭제된 행이 Posts 테이블과 인덱스에 계속 쌓임 (모든 조회에 deleted_at IS NULL 조건만 붙음)
+ * - 삭제 후 post.archive.retention 이 지난 게시글을 posts_archive 로 옮기고 Posts / post_bodies 에서 지웁니다.
+ * - 한 배치 = 트랜잭션 1개 (대상 id 조회 → 게시글/댓글/좋아요/태그 INSERT … SELECT → DELETE 댓글/좋아요/태그 → DELETE 게시글 → DELETE 본문), 배치 사이에 batch-pause 만큼 쉬어서
+ *   잠금 시간과 복제 지연을 짧게 유지하고, 1회 실행은 max-batches-per-run 배치까지만 처리 (남은 건 다음 실행에서)
+ * - pause()로 일시 정지하면 진행 중인 실행은 현재 배치까지만 끝내고 멈춤
+ * - 댓글 / 좋아요 기록 / 태그 연결도 각각의 보관 테이블로 함께 옮겨서 보관 → 복구해도 잃는 데이터가 없음
+ *   (좋아요 수 슬롯은 행 대신 합계를 posts_archive.like_count 에, 댓글 수는 comment_count 에 보관)
+ * 💡 이미 삭제된 게시글이라 캐시/검색 색인/첫 화면 스냅샷에는 삭제 커밋 때 빠져 있으므로 따로 갱신할 것이 없음
+ * ⚠️ 서버 여러 대가 동시에 실행해도 같은 id는 보관 테이블 PK 충돌로 한쪽 배치만 롤백되고 다음 실행에서 이어서 처리됨
+ */
+@Slf4j
+@Service
+public class PostArchiver {
+
+    // 보관 기간이 지난 삭제 게시글 (idx_posts_deleted_at 범위 스캔, 오래된 것부터)
+    private static final String SELECT_EXPIRED =
+        "SELECT id, body_id FROM posts WHERE deleted_at < :cutoff ORDER BY deleted_at, id LIMIT :limit";
+    private static final String COPY_TO_ARCHIVE =
+        "INSERT INTO posts_archive (id, title, content, user_id, view_count, comment_count, like_count, created_at, updated_at, deleted_at, archived_at) "
+      + "SELECT p.id, p.title, b.content, p.user_id, p.view_count, p.comment_count, "
+      + "p.like_count + COALESCE((SELECT SUM(s.like_count) FROM post_like_shards s WHERE s.post_id = p.id), 0), "
+      + "p.created_at, p.updated_at, p.deleted_at, :archivedAt "
+      + "FROM posts p JOIN post_bodies b ON b.id = p.body_id WHERE p.id IN (:ids)";
+    private static final String COPY_COMMENTS =
+        "INSERT INTO comments_archive (id, post_id, user_id, parent_id, depth, path, content, created_at, deleted_at, archived_at) "
+      + "SELECT c.id, c.post_id, c.user_id, c.parent_id, c.depth, c.path, c.content, c.created_at, c.deleted_at, :archivedAt "
+      + "FROM comments c WHERE c.post_id IN (:ids)";
+    private static final String COPY_LIKES =
+        "INSERT INTO post_likes_archive (id, post_id, user_id, created_at) "
+      + "SELECT l.id, l.post_id, l.user_id, l.created_at FROM post_likes l WHERE l.post_id IN (:ids)";
+    private static final String COPY_TAGS =
+        "INSERT INTO post_tags_archive (post_id, tag_id) SELECT t.post_id, t.tag_id FROM post_tags t WHERE t.post_id IN (:ids)";
+    private static final String DELETE_COMMENTS = "DELETE FROM comments WHERE post_id IN (:ids)"; // 댓글이 게시글을 참조하므로 게시글보다 먼저
+    private static final String DELETE_LIKES = "DELETE FROM post_likes WHERE post_id IN (:ids)"; // 좋아요도 게시글을 참조
+    private static final String DELETE_LIKE_SHARDS = "DELETE FROM post_like_shards WHERE post_id IN (:ids)"; // 합계는 posts_archive.like_count 로 보관됨
+    private static final String DELETE_TAGS = "DELETE FROM post_tags WHERE post_id IN (:ids)"; // 태그 사전(tags)은 그대로 둠
+    private static final String DELETE_POSTS = "DELETE FROM posts WHERE id IN (:ids)";
+    private static final String DELETE_BODIES = "DELETE FROM post_bodies WHERE id IN (:bodyIds)"; // 게시글이 본문을 참조하므로 게시글 먼저
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate batchTransaction;
+    private final Duration retention;
+    private final int batchSize;
+    private final Duration batchPause;
+    private final int maxBatchesPerRun;
+
+    private final AtomicBoolean paused;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong totalArchived = new AtomicLong();
+    private final Timer batchTimer;
+
+    // 마지막 실행 결과 (상태 조회용, 실행 스레드만 기록)
+    private volatile LocalDateTime lastRunAt;
+    private volatile long lastRunArchived;
+    private volatile long lastRunMillis;
+
+    public PostArchiver(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${post.archive.retention:30d}") Duration retention,
+            @Value("${post.archive.batch-size:500}") int batchSize,
+            @Value("${post.archive.batch-pause:200ms}") Duration batchPause,
+            @Value("${post.archive.max-batches-per-run:200}") int maxBatchesPerRun,
+            @Value("${post.archive.paused:false}") boolean paused,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.paused = new AtomicBoolean(paused);
+
+        // 📊 메트릭 : 보관한 게시글 수, 배치 처리 시간, 일시 정지 여부 (/actuator/metrics/post.archive.*)
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        FunctionCounter.builder("post.archive.rows", totalArchived, AtomicLong::get)
+            .description("보관 테이블로 옮긴 삭제 게시글 수")
+            .register(registry);
+        Gauge.builder("post.archive.paused", this.paused, flag -> flag.get() ? 1 : 0)
+            .description("삭제 게시글 보관 작업 일시 정지 여부 (1 = 정지)")
+            .register(registry);
+        this.batchTimer = Timer.builder("post.archive.batch")
+            .description("삭제 게시글 보관 배치(트랜잭션 1개) 처리 시간")
+            .register(registry);
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 실행 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    /**
+     * 예약 실행 (post.archive.interval 간격, 직전 실행이 끝난 시점부터)
+     */
+    @Scheduled(initialDelayString = "${post.archive.interval:1h}", fixedDelayString = "${post.archive.interval:1h}")
+    public void archiveOnSchedule() {
+        if (paused.get()) {
+            log.debug("삭제 게시글 보관 작업 일시 정지 중. 이번 실행을 건너뜁니다.");
+            return;
+        }
+        archiveExpired();
+    }
+
+    /**
+     * 보관 기간이 지난 삭제 게시글을 배치 단위로 이동
+     * @return 이번 실행에서 보관한 게시글 수 (이미 실행 중이면 0)
+     */
+    public long archiveExpired() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("삭제 게시글 보관 작업이 이미 실행 중입니다.");
+            return 0;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        long started = System.currentTimeMillis();
+        LocalDateTime cutoff = startedAt.minus(retention);
+        long archived = 0;
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun && !paused.get(); batch++) {
+                int moved = batchTimer.record(() -> batchTransaction.execute(status -> archiveBatch(cutoff, startedAt)));
+                archived += moved;
+                totalArchived.addAndGet(moved);
+                if (moved < batchSize || !throttle()) {
+                    break; // 남은 대상 없음 또는 종료 중
+                }
+            }
+        } finally {
+            lastRunAt = startedAt;
+            lastRunArchived = archived;
+            lastRunMillis = System.currentTimeMillis() - started;
+            running.set(false);
+        }
+        if (archived > 0) {
+            log.info("삭제 게시글 보관 완료. 보관: {}건, 기준: {} 이전 삭제, {}ms", archived, cutoff, lastRunMillis);
+        }
+        return archived;
+    }
+
+    // 배치 1개 : 트랜잭션 안에서 호출됨
+    private int archiveBatch(LocalDateTime cutoff, LocalDateTime archivedAt) {
+        List<Long> ids = new ArrayList<>(batchSize);
+        List<Long> bodyIds = new ArrayList<>(batchSize);
+        jdbcTemplate.query(SELECT_EXPIRED, Map.of("cutoff", cutoff, "limit", batchSize), rs -> {
+            ids.add(rs.getLong("id"));
+            bodyIds.add(rs.getLong("body_id"));
+        });
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int copied = jdbcTemplate.update(COPY_TO_ARCHIVE, Map.of("ids", ids, "archivedAt", archivedAt));
+        if (copied != ids.size()) {
+            // 본문이 없는 등 예상과 다른 행 → 지우지 않고 롤백
+            throw new IllegalStateException("보관 테이블로 복사된 게시글 수가 대상 수와 다릅니다. (" + copied + " / " + ids.size() + ")");
+        }
+        jdbcTemplate.update(COPY_COMMENTS, Map.of("ids", ids, "archivedAt", archivedAt));
+        jdbcTemplate.update(COPY_LIKES, Map.of("ids", ids));
+        jdbcTemplate.update(COPY_TAGS, Map.of("ids", ids));
+        jdbcTemplate.update(DELETE_COMMENTS, Map.of("ids", ids));
+        jdbcTemplate.update(DELETE_LIKES, Map.of("ids", ids));
+        jdbcTemplate.update(DELETE_LIKE_SHARDS, Map.of("ids", ids));
+        jdbcTemplate.update(DELETE_TAGS, Map.of("ids", ids));
+        jdbcTemplate.update(DELETE_POSTS, Map.of("ids", ids));
+        jdbcTemplate.update(DELETE_BODIES, Map.of("bodyIds", bodyIds));
+        return ids.size();
+    }
+
+    // 배치 사이 대기 (false : 인터럽트되어 중단해야 함)
+    private boolean throttle() {
+        if (batchPause.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 일시 정지 스위치 / 상태 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    public void pause() {
+        paused.set(true);
+        log.info("삭제 게시글 보관 작업 일시 정지");
+    }
+
+    public void resume() {
+        paused.set(false);
+        log.info("삭제 게시글 보관 작업 재개");
+    }
+
+    public PostArchiveStatusResponse status() {
+        return PostArchiveStatusResponse.builder()
+            .paused(paused.get())
+            .running(running.get())
+            .retention(retention)
+            .totalArchived(totalArchived.get())
+            .lastRunAt(lastRunAt)
+            .lastRunArchived(lastRunArchived)
+            .lastRunMillis(lastRunMillis)
+            .build();
+    }
+}
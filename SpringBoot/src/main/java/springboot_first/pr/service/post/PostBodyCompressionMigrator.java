@@ -0,0 +1,117 @@
+package springboot_first.pr.service.post;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import springboot_first.pr.entity.PostBodyCompression;
+
+/**
+ * 압축 도입 전에 저장된 긴 본문을 백그라운드로 압축 형식으로 바꾸는 작업 (post.body-compression.enabled=true 일 때만)
+ * - post_bodies를 id 순서로 batch-size 건씩 훑으면서 threshold 자 이상인 원문 행만 다시 저장 (배치 1개 = 트랜잭션 1개)
+ * - 끝까지 훑으면 멈춤 (그 뒤 새로 쓰는 본문은 변환기가 저장할 때 압축), 서버를 재시작하면 처음부터 다시 확인
+ * 💡 UPDATE 조건에 읽은 원문을 함께 걸어서, 그 사이 사용자가 수정한 본문은 덮어쓰지 않고 건너뜀
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "post.body-compression.enabled", havingValue = "true")
+public class PostBodyCompressionMigrator {
+
+    private static final String SELECT_CANDIDATES =
+        "SELECT id, content FROM post_bodies WHERE id > ? AND CHAR_LENGTH(content) >= ? ORDER BY id LIMIT ?";
+    private static final String UPDATE_IF_UNCHANGED = "UPDATE post_bodies SET content = ? WHERE id = ? AND content = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate batchTransaction;
+    private final PostBodyCompression compression;
+    private final int threshold;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    // 다음 실행에서 이어서 볼 위치 (예약 실행 스레드만 사용)
+    private long lastId;
+    private boolean finished;
+
+    private record Candidate(long id, String content) {
+    }
+
+    public PostBodyCompressionMigrator(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            PostBodyCompression compression,
+            @Value("${post.body-compression.threshold:1024}") int threshold,
+            @Value("${post.body-compression.migration.batch-size:200}") int batchSize,
+            @Value("${post.body-compression.migration.max-batches-per-run:50}") int maxBatchesPerRun) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.compression = compression;
+        this.threshold = threshold;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(initialDelayString = "${post.body-compression.migration.interval:10m}",
+               fixedDelayString = "${post.body-compression.migration.interval:10m}")
+    public void migrateOnSchedule() {
+        if (!finished) {
+            migrate();
+        }
+    }
+
+    /**
+     * 최대 max-batches-per-run 배치만큼 변환
+     * @return 이번 실행에서 압축 형식으로 바꾼 본문 수
+     */
+    long migrate() {
+        long migrated = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Candidate> candidates = new ArrayList<>(batchSize);
+            jdbcTemplate.query(SELECT_CANDIDATES, rs -> {
+                candidates.add(new Candidate(rs.getLong("id"), rs.getString("content")));
+            }, lastId, threshold, batchSize);
+            if (candidates.isEmpty()) {
+                finished = true;
+                log.info("기존 게시글 본문 압축 변환 완료.");
+                break;
+            }
+
+            Integer updated = batchTransaction.execute(status -> migrateBatch(candidates));
+            migrated += updated;
+            compression.recordMigrated(updated);
+            lastId = candidates.get(candidates.size() - 1).id();
+        }
+        if (migrated > 0) {
+            log.info("기존 게시글 본문 압축 변환. 이번 실행: {}건, 마지막 id: {}", migrated, lastId);
+        }
+        return migrated;
+    }
+
+    private int migrateBatch(List<Candidate> candidates) {
+        List<Object[]> updates = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            if (PostBodyCompression.isEncoded(candidate.content())) {
+                continue; // 이미 압축(또는 이스케이프)된 행
+            }
+            String stored = compression.encode(candidate.content());
+            if (!stored.equals(candidate.content())) {
+                updates.add(new Object[] {stored, candidate.id(), candidate.content()});
+            }
+        }
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        int changed = 0;
+        for (int count : jdbcTemplate.batchUpdate(UPDATE_IF_UNCHANGED, updates)) {
+            changed += Math.max(count, 0);
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,33 @@
+package springboot_first.pr.service.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 게시글 쓰기(작성/수정/삭제) 이벤트
+ * - PostService가 쓰기 트랜잭션 안에서 발행하고,
+ *   캐시 등 구독자는 @TransactionalEventListener(AFTER_COMMIT)로 커밋이 확정된 뒤에만 반응합니다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class PostChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Type type;
+    private final Long postId;
+
+    public static PostChangedEvent created(Long postId) {
+        return new PostChangedEvent(Type.CREATED, postId);
+    }
+
+    public static PostChangedEvent updated(Long postId) {
+        return new PostChangedEvent(Type.UPDATED, postId);
+    }
+
+    public static PostChangedEvent deleted(Long postId) {
+        return new PostChangedEvent(Type.DELETED, postId);
+    }
+}
@@ -0,0 +1,110 @@
+package springboot_first.pr.service.post;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+import springboot_first.pr.dto.postDTO.request.PostSearchRequest;
+import springboot_first.pr.service.post.tag.TagFilter;
+
+/**
+ * 게시글 목록/검색의 전체 개수(COUNT) 캐시
+ * - 검색 조건(PostSearchRequest 필드)별로 COUNT 결과를 TTL 동안 보관합니다.
+ * - 캐시 적중 시 목록 API는 COUNT 없이 데이터 쿼리 1번만 실행하고, 응답에 approximate=true를 표시합니다.
+ * - 글 작성/삭제 커밋 시 전체 무효화, 수정 커밋 시 검색 조건이 있는 항목만 무효화합니다.
+ */
+@Slf4j
+@Component
+public class PostCountCache {
+
+    private final Cache<Key, Long> cache;
+
+    // 💡 무효화 세대 번호 : COUNT를 계산하는 도중 무효화가 끼어들면 오래된 값이 다시 저장되지 않도록 비교용으로 사용
+    private final AtomicLong generation = new AtomicLong();
+
+    public PostCountCache(
+            @Value("${post.count-cache.ttl:30s}") Duration ttl,
+            @Value("${post.count-cache.max-size:1000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * 캐시된 개수 조회 (없으면 null)
+     */
+    public Long get(Key key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * COUNT 쿼리 실행 전에 현재 세대 번호를 받아둠
+     */
+    public long stamp() {
+        return generation.get();
+    }
+
+    /**
+     * COUNT 결과 저장 : stamp 이후 무효화가 있었다면 저장하지 않음
+     */
+    public void put(Key key, long count, long stamp) {
+        if (generation.get() == stamp) {
+            cache.put(key, count);
+        }
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 쓰기 커밋 후 무효화 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    @TransactionalEventListener // 기본값: AFTER_COMMIT
+    public void onPostChanged(PostChangedEvent event) {
+        generation.incrementAndGet();
+
+        if (event.getType() == PostChangedEvent.Type.UPDATED) {
+            // 수정은 전체 글 수를 바꾸지 않으므로, 제목/내용/태그 조건이 걸린 검색 개수만 무효화
+            cache.asMap().keySet().removeIf(key -> !key.isUnfiltered());
+        } else {
+            cache.invalidateAll();
+        }
+        log.debug("게시글 COUNT 캐시 무효화: {}", event);
+    }
+
+    @TransactionalEventListener // 기본값: AFTER_COMMIT
+    public void onPostsImported(PostsImportedEvent event) {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+        log.debug("게시글 COUNT 캐시 무효화: {}", event);
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 캐시 키 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    /**
+     * 검색 조건 캐시 키 (공백 조건은 null로 정규화)
+     */
+    public record Key(String title, String content, String username, String tags) {
+
+        public static final Key ALL = new Key(null, null, null, null);
+
+        // ⚠️ 태그 형식이 틀리면 BadRequestException (400) : 검색 엔진을 호출하기 전에 확인됨
+        public static Key from(PostSearchRequest cond) {
+            return new Key(normalize(cond.getTitle()), normalize(cond.getContent()), normalize(cond.getUsername()),
+                TagFilter.parse(cond.getTags()).cacheKey());
+        }
+
+        public boolean isUnfiltered() {
+            return title == null && content == null && username == null && tags == null;
+        }
+
+        private static String normalize(String value) {
+            return StringUtils.hasText(value) ? value : null;
+        }
+    }
+}
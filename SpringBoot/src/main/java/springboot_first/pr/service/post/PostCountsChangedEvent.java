@@ -0,0 +1,18 @@
+package springboot_first.pr.service.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 게시글 댓글 작성/삭제, 좋아요/취소 이벤트 (게시글의 댓글 수 / 좋아요 수가 바뀜)
+ * - 게시글 수정이 아니므로 PostChangedEvent(색인 갱신)는 발행하지 않고, 댓글 수 / 좋아요 수를 담아 둔 상세 캐시를 비우고 목록 버전을 올립니다.
+ * - 구독자는 @TransactionalEventListener(AFTER_COMMIT)로 커밋이 확정된 뒤에만 반응합니다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class PostCountsChangedEvent {
+
+    private final Long postId;
+}
@@ -0,0 +1,76 @@
+package springboot_first.pr.service.post;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import springboot_first.pr.dto.postDTO.response.PostListResponse;
+import springboot_first.pr.exception.BadRequestException;
+
+/**
+ * 키셋(Seek) 페이지네이션용 커서
+ * - 마지막으로 본 게시글의 (createdAt, id) 쌍을 담고, 클라이언트에게는 불투명(Base64) 문자열로만 노출합니다.
+ * - OFFSET 없이 "이 커서보다 오래된 글"만 조회하므로 아무리 깊이 스크롤해도 조회 비용이 일정합니다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostCursor {
+
+    public static final int DEFAULT_SIZE = 10;
+    public static final int MAX_SIZE = 100;
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    // 정적 팩토리 메서드: 페이지의 마지막 게시글로 다음 커서를 생성
+    public static PostCursor from(PostListResponse post) {
+        return new PostCursor(post.getCreatedAt(), post.getPostId());
+    }
+
+    public static PostCursor of(LocalDateTime createdAt, Long id) {
+        return new PostCursor(createdAt, id);
+    }
+
+    /**
+     * 커서를 URL에 그대로 실을 수 있는 불투명 문자열로 인코딩
+     */
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 문자열을 해석
+     * ⚠️ 위/변조되었거나 형식이 잘못된 커서는 BadRequestException (400 Bad Request)
+     */
+    public static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx < 0) {
+                throw new BadRequestException("잘못된 커서 형식입니다.");
+            }
+            return new PostCursor(LocalDateTime.parse(raw.substring(0, idx)), Long.valueOf(raw.substring(idx + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) { // NumberFormatException 포함
+            throw new BadRequestException("잘못된 커서 형식입니다: " + cursor, e);
+        }
+    }
+
+    /**
+     * 요청 페이지 크기를 1 ~ MAX_SIZE 범위로 보정
+     */
+    public static int clampSize(int size) {
+        if (size < 1) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+}
@@ -0,0 +1,144 @@
+package springboot_first.pr.service.post;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import springboot_first.pr.dto.postDTO.response.PostDetailResponse;
+
+/**
+ * 게시글 상세 조회(PostDetailResponse) 캐시 (Read-through)
+ * - 게시글 id별로 크기(max-size) + TTL 기준으로 보관하고, 수정/삭제 커밋 시 해당 id만 무효화합니다.
+ * - 적중/미스/제거 통계는 Micrometer로 노출됩니다. (/actuator/metrics/cache.gets?tag=cache:postDetail 등)
+ *
+ * 💡 무효화 경쟁 방지 : 캐시 미스로 DB를 읽는 도중에 수정 커밋 + 무효화가 끝나면, 읽어 온 값은 이미 오래된 값입니다.
+ *    id별 세대 번호(스트라이프)를 읽기 전에 받아 두고, 값을 넣은 뒤 세대가 바뀌었으면 방금 넣은 값을 다시 제거합니다.
+ *    무효화 쪽은 "세대 증가 → 제거" 순서이므로, 어느 순서로 겹쳐도 오래된 값이 캐시에 남지 않습니다.
+ */
+@Slf4j
+@Component
+public class PostDetailCache {
+
+    private static final String CACHE_NAME = "postDetail";
+
+    // 세대 번호 스트라이프 개수 (2의 거듭제곱) : 같은 칸을 쓰는 다른 id의 무효화는 불필요한 재조회 1번으로 끝남
+    private static final int STRIPES = 1024;
+
+    private final Cache<Long, PostDetailResponse> cache;
+
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+    public PostDetailCache(
+            @Value("${post.detail-cache.ttl:5m}") Duration ttl,
+            @Value("${post.detail-cache.max-size:10000}") long maxSize,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+    }
+
+    /**
+     * 캐시에 있으면 바로 반환, 없으면 loader(DB 조회)로 읽어서 저장 후 반환
+     * ⚠️ loader가 예외를 던지면(게시글 없음 등) 아무것도 저장하지 않음
+     */
+    public PostDetailResponse get(Long postId, Supplier<PostDetailResponse> loader) {
+        PostDetailResponse cached = cache.getIfPresent(postId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long stamp = generations.get(stripe(postId));
+        PostDetailResponse loaded = loader.get();
+        cache.put(postId, loaded);
+
+        // 읽는 도중(또는 저장 직전) 무효화가 있었다면 방금 저장한 값은 오래된 값일 수 있으므로 제거
+        if (generations.get(stripe(postId)) != stamp) {
+            cache.invalidate(postId);
+        }
+        return loaded;
+    }
+
+    /**
+     * 여러 게시글을 한 번에 조회 : 캐시에 없는 id만 모아서 loader(IN 쿼리 1번)로 읽고 저장
+     * - 세대 번호 확인은 get()과 같은 방식으로 id마다 수행
+     * @return 찾은 게시글 (id → 상세), 없는 게시글은 포함되지 않음
+     */
+    public Map<Long, PostDetailResponse> getAll(Collection<Long> postIds,
+            Function<List<Long>, List<PostDetailResponse>> loader) {
+        Map<Long, PostDetailResponse> found = new HashMap<>(cache.getAllPresent(postIds));
+        List<Long> misses = postIds.stream().filter(postId -> !found.containsKey(postId)).toList();
+        if (misses.isEmpty()) {
+            return found;
+        }
+
+        long[] stamps = new long[misses.size()];
+        for (int i = 0; i < stamps.length; i++) {
+            stamps[i] = generations.get(stripe(misses.get(i)));
+        }
+        for (PostDetailResponse loaded : loader.apply(misses)) {
+            cache.put(loaded.getPostId(), loaded);
+            found.put(loaded.getPostId(), loaded);
+        }
+
+        for (int i = 0; i < stamps.length; i++) {
+            if (generations.get(stripe(misses.get(i))) != stamps[i]) {
+                cache.invalidate(misses.get(i));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 캐시에 있는 값만 조회 (없으면 null, 적중/미스 통계에 포함하지 않음)
+     */
+    public PostDetailResponse peek(Long postId) {
+        return cache.asMap().get(postId);
+    }
+
+    /**
+     * 해당 게시글 캐시 무효화 (세대 증가 → 제거 순서 유지)
+     */
+    public void invalidate(Long postId) {
+        generations.incrementAndGet(stripe(postId));
+        cache.invalidate(postId);
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 쓰기 커밋 후 무효화 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    @TransactionalEventListener // 기본값: AFTER_COMMIT
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() != PostChangedEvent.Type.CREATED) {
+            invalidate(event.getPostId());
+            log.debug("게시글 상세 캐시 무효화: {}", event);
+        }
+    }
+
+    // 상세 응답의 댓글 수 / 좋아요 수가 바뀜
+    @TransactionalEventListener
+    public void onCountsChanged(PostCountsChangedEvent event) {
+        invalidate(event.getPostId());
+    }
+
+    private static int stripe(Long postId) {
+        return Long.hashCode(postId) & (STRIPES - 1);
+    }
+}
@@ -0,0 +1,98 @@
+package springboot_first.pr.service.post;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import lombok.extern.slf4j.Slf4j;
+import springboot_first.pr.dto.postDTO.response.PostExportResponse;
+import springboot_first.pr.repository.PostRepository;
+
+/**
+ * 게시글 전체 내보내기 (NDJSON : 게시글 1건 = JSON 1줄)
+ * - 페이지 단위 OFFSET 조회 대신, 정방향 Stream 하나로 fetch size 단위로 받아서 바로 출력합니다.
+ * - DTO 프로젝션이라 영속성 컨텍스트에 엔티티가 쌓이지 않으므로, 게시글 수와 무관하게 메모리 사용량이 일정합니다.
+ * - 증분 내보내기(since)는 수정 시각(updatedAt, id) 순이므로 마지막 줄의 updatedAt을 다음 since로 사용할 수 있습니다.
+ *   (since 이상 조건이라 경계 시각의 게시글은 다음 내보내기에 다시 포함될 수 있음 → 받는 쪽은 postId로 덮어쓰기)
+ * ⚠️ 응답은 컨트롤러가 반환한 뒤 별도(비동기) 스레드에서 쓰이므로, 트랜잭션은 @Transactional이 아닌 TransactionTemplate으로 엽니다.
+ */
+@Slf4j
+@Service
+public class PostExportService {
+
+    // 이 건수마다 출력 버퍼를 비워서 클라이언트가 진행 상황을 바로 받도록 함
+    private static final int FLUSH_EVERY = 1000;
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter rowWriter;
+
+    public PostExportService(
+            PostRepository postRepository,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper) {
+        this.postRepository = postRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.rowWriter = objectMapper.writerFor(PostExportResponse.class);
+    }
+
+    /**
+     * 게시글을 NDJSON으로 출력
+     * @param since null이면 전체(id 순), 있으면 수정 시각이 since 이후인 게시글만 수정 시각 순으로 (증분 내보내기)
+     * @param out 응답 출력 스트림 (닫지 않음)
+     * @param gzip true면 출력하면서 바로 gzip 압축 (끝에 gzip 트레일러까지 출력)
+     * @return 출력한 게시글 수
+     */
+    public long export(LocalDateTime since, OutputStream out, boolean gzip) throws IOException {
+        if (!gzip) {
+            return export(since, out);
+        }
+        GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024);
+        long written = export(since, compressed);
+        compressed.finish(); // gzip 트레일러 출력 (응답 스트림은 서블릿 컨테이너가 닫음)
+        return written;
+    }
+
+    private long export(LocalDateTime since, OutputStream out) {
+        Long written = readOnlyTransaction.execute(status -> {
+            try (Stream<PostExportResponse> rows = since == null
+                    ? postRepository.streamAllForExport()
+                    : postRepository.streamUpdatedSinceForExport(since)) {
+                return writeRows(rows, out);
+            }
+        });
+        log.info("게시글 내보내기 완료. since: {}, 출력 건수: {}", since, written);
+        return written;
+    }
+
+    private long writeRows(Stream<PostExportResponse> rows, OutputStream out) {
+        BufferedOutputStream buffered = new BufferedOutputStream(out, 64 * 1024);
+        long count = 0;
+        try {
+            for (PostExportResponse row : (Iterable<PostExportResponse>) rows::iterator) {
+                buffered.write(rowWriter.writeValueAsBytes(row));
+                buffered.write('\n');
+                if (++count % FLUSH_EVERY == 0) {
+                    buffered.flush();
+                }
+            }
+            buffered.flush();
+        } catch (IOException e) {
+            // 클라이언트 연결 끊김 등 : 트랜잭션(= 커서)을 정리하고 중단
+            throw new UncheckedIOException("게시글 내보내기 출력 중 오류가 발생했습니다. (" + count + "건 출력)", e);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,267 @@
+package springboot_first.pr.service.post;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import lombok.extern.slf4j.Slf4j;
+import springboot_first.pr.dto.postDTO.request.PostImportRequest;
+import springboot_first.pr.dto.postDTO.response.PostImportResponse;
+import springboot_first.pr.entity.PostBodyCompression;
+import springboot_first.pr.entity.User;
+import springboot_first.pr.exception.BadRequestException;
+import springboot_first.pr.repository.UserRepository;
+
+/**
+ * 게시글 일괄 가져오기 (JSON 배열 또는 NDJSON)
+ * - Post/PostBody는 IDENTITY 키라서 Hibernate가 INSERT를 배치로 묶지 못하므로, JDBC 배치 INSERT로 직접 저장합니다.
+ *   (본문 배치 INSERT → 생성된 본문 id로 게시글 배치 INSERT, 청크당 왕복 2번)
+ * - 입력은 Jackson 스트리밍으로 한 건씩 읽어서 chunk-size 건마다 별도 트랜잭션으로 커밋합니다. (입력 크기와 무관하게 메모리 일정)
+ * - 작성자(로그인 ID → 회원 PK)는 처음 나온 ID만 청크 단위로 한 번에 조회하고 이후에는 재사용합니다.
+ * - 청크 커밋마다 PostsImportedEvent를 발행해서 캐시/색인이 새 게시글을 반영하도록 합니다.
+ * ⚠️ MySQL은 URL에 rewriteBatchedStatements=true 가 있어야 배치가 multi-row INSERT 1번으로 전송됨
+ */
+@Slf4j
+@Service
+public class PostImportService {
+
+    private static final int MAX_TITLE_LENGTH = 100; // Post.title 컬럼 길이
+    private static final int MAX_ERRORS = 20; // 응답에 담을 건너뛴 사유 최대 개수
+
+    private static final String INSERT_BODY = "INSERT INTO post_bodies (content) VALUES (?)";
+    private static final String INSERT_POST =
+        "INSERT INTO posts (title, body_id, user_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final PostBodyCompression bodyCompression; // JPA 변환기를 거치지 않으므로 본문 저장 형식은 직접 변환
+    private final TransactionTemplate chunkTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectReader rowReader;
+    private final int chunkSize;
+
+    public PostImportService(
+            JdbcTemplate jdbcTemplate,
+            UserRepository userRepository,
+            PostBodyCompression bodyCompression,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            @Value("${post.import.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.bodyCompression = bodyCompression;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.rowReader = objectMapper.readerFor(PostImportRequest.class);
+        this.chunkSize = chunkSize;
+    }
+
+    // 검증을 통과한 한 건 (작성자 PK까지 확정)
+    private record Row(PostImportRequest request, long authorId) {
+    }
+
+    /**
+     * 입력 스트림의 게시글을 모두 가져옴
+     * - 잘못된 게시글(제목/본문 누락, 없는 작성자 등)은 건너뛰고 나머지는 계속 저장
+     * ⚠️ JSON 형식 자체가 깨진 경우 BadRequestException (400), 그 전 청크까지는 이미 커밋된 상태
+     */
+    public PostImportResponse importPosts(InputStream in) {
+        long started = System.currentTimeMillis();
+        ImportProgress progress = new ImportProgress();
+        List<PostImportRequest> chunk = new ArrayList<>(chunkSize);
+
+        // 루트가 JSON 배열이면 배열 원소를, 아니면 루트 값(NDJSON 한 줄)을 차례로 읽음
+        try (MappingIterator<PostImportRequest> rows = rowReader.readValues(in)) {
+            while (rows.hasNextValue()) {
+                chunk.add(rows.nextValue());
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, progress);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, progress);
+            }
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("가져오기 데이터 형식이 잘못되었습니다. (" + progress.imported
+                + "건 저장 후 중단, 위치: " + e.getLocation() + ")", e);
+        } catch (IOException e) {
+            throw new IllegalStateException("가져오기 데이터를 읽는 중 오류가 발생했습니다. (" + progress.imported + "건 저장 후 중단)", e);
+        }
+
+        long elapsed = System.currentTimeMillis() - started;
+        log.info("게시글 일괄 가져오기 완료. 저장: {}건, 건너뜀: {}건, {}ms", progress.imported, progress.skipped, elapsed);
+
+        return PostImportResponse.builder()
+            .imported(progress.imported)
+            .skipped(progress.skipped)
+            .errors(progress.errors)
+            .elapsedMillis(elapsed)
+            .build();
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 청크 처리 (트랜잭션 1개) 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    private void importChunk(List<PostImportRequest> chunk, ImportProgress progress) {
+        chunkTransaction.executeWithoutResult(status -> {
+            progress.resolveAuthors(chunk);
+
+            List<Row> rows = new ArrayList<>(chunk.size());
+            for (PostImportRequest request : chunk) {
+                progress.position++;
+                String error = validate(request, progress);
+                if (error != null) {
+                    progress.skip(error);
+                } else {
+                    rows.add(new Row(request, progress.authorIds.get(request.getAuthorUserId())));
+                }
+            }
+            if (rows.isEmpty()) {
+                return;
+            }
+
+            List<Long> postIds = insert(rows);
+            progress.imported += postIds.size();
+            eventPublisher.publishEvent(new PostsImportedEvent(postIds));
+        });
+    }
+
+    private static String validate(PostImportRequest request, ImportProgress progress) {
+        if (request == null) {
+            return "빈 게시글";
+        }
+        if (!StringUtils.hasText(request.getTitle())) {
+            return "제목이 없습니다.";
+        }
+        if (request.getTitle().length() > MAX_TITLE_LENGTH) {
+            return "제목은 " + MAX_TITLE_LENGTH + "자 이하여야 합니다.";
+        }
+        if (!StringUtils.hasText(request.getContent())) {
+            return "내용이 없습니다.";
+        }
+        if (!StringUtils.hasText(request.getAuthorUserId())) {
+            return "작성자 ID가 없습니다.";
+        }
+        if (!progress.authorIds.containsKey(request.getAuthorUserId())) {
+            return "작성자를 찾을 수 없습니다: " + request.getAuthorUserId();
+        }
+        return null;
+    }
+
+    // 본문 → 게시글 순서로 배치 INSERT, 생성된 게시글 id 반환
+    private List<Long> insert(List<Row> rows) {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Long> bodyIds = batchInsert(INSERT_BODY, rows.size(), (ps, i) ->
+            ps.setString(1, bodyCompression.encode(rows.get(i).request().getContent())));
+
+        return batchInsert(INSERT_POST, rows.size(), (ps, i) -> {
+            PostImportRequest request = rows.get(i).request();
+            LocalDateTime createdAt = request.getCreatedAt() != null ? request.getCreatedAt() : now;
+            ps.setString(1, request.getTitle());
+            ps.setLong(2, bodyIds.get(i));
+            ps.setLong(3, rows.get(i).authorId());
+            ps.setObject(4, createdAt);
+            ps.setObject(5, request.getUpdatedAt() != null ? request.getUpdatedAt() : now);
+        });
+    }
+
+    @FunctionalInterface
+    private interface RowSetter {
+        void set(PreparedStatement ps, int i) throws SQLException;
+    }
+
+    // 배치 INSERT 1번 + 생성된 IDENTITY 키 회수 (키 순서 = 배치 순서)
+    private List<Long> batchInsert(String sql, int size, RowSetter setter) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+            con -> con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    setter.set(ps, i);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            },
+            keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != size) {
+            throw new IllegalStateException("생성된 키 개수가 INSERT 건수와 다릅니다. (" + keys.size() + " / " + size + ")");
+        }
+        // 키 컬럼 이름은 드라이버마다 다름 (H2 : ID, MySQL : GENERATED_KEY) → 첫 번째 값 사용
+        return keys.stream()
+            .map(key -> ((Number) key.values().iterator().next()).longValue())
+            .toList();
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 진행 상황 (요청 1건 동안만 사용) 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    private final class ImportProgress {
+
+        private long position; // 지금까지 읽은 게시글 수 (오류 메시지의 n번째)
+        private long imported;
+        private long skipped;
+        private final List<String> errors = new ArrayList<>();
+
+        // 작성자 로그인 ID → 회원 PK (한 번 조회한 ID는 다시 조회하지 않음, 없는 ID도 기억)
+        private final Map<String, Long> authorIds = new HashMap<>();
+        private final Set<String> unknownAuthors = new HashSet<>();
+
+        // 이번 청크에서 처음 나온 작성자 ID만 IN 쿼리 1번으로 조회
+        void resolveAuthors(List<PostImportRequest> chunk) {
+            Set<String> lookup = new HashSet<>();
+            for (PostImportRequest request : chunk) {
+                String userId = request == null ? null : request.getAuthorUserId();
+                if (StringUtils.hasText(userId) && !authorIds.containsKey(userId) && !unknownAuthors.contains(userId)) {
+                    lookup.add(userId);
+                }
+            }
+            if (lookup.isEmpty()) {
+                return;
+            }
+            for (User user : userRepository.findAllByUserIdIn(lookup)) {
+                authorIds.put(user.getUserId(), user.getId());
+                lookup.remove(user.getUserId());
+            }
+            unknownAuthors.addAll(lookup);
+        }
+
+        void skip(String reason) {
+            skipped++;
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(position + "번째 게시글: " + reason);
+            }
+        }
+    }
+}
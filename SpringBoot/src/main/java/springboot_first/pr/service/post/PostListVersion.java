@@ -0,0 +1,43 @@
+package springboot_first.pr.service.post;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글 목록 버전 번호 (목록/검색 응답의 ETag 용)
+ * - 글 작성/수정/삭제(일괄 가져오기 포함)가 커밋될 때마다 1씩 증가하므로, 같은 URL + 같은 버전이면 목록 내용도 같다고 판단할 수 있습니다.
+ * - 목록 응답에 조회수 / 댓글 수 / 좋아요 수도 들어 있으므로 조회수 반영(PostViewCounter), 댓글·좋아요 커밋마다 함께 증가합니다.
+ * - 시작 값을 기동 시각으로 잡아서 재시작 전에 발급된 ETag와 겹치지 않도록 합니다.
+ * ⚠️ JVM 메모리 값이므로 서버가 여러 대가 되면 공유 저장소(DB/Redis)의 버전으로 바꿔야 합니다.
+ */
+@Component
+public class PostListVersion {
+
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    public long current() {
+        return version.get();
+    }
+
+    @TransactionalEventListener // 기본값: AFTER_COMMIT
+    public void onPostChanged(PostChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onPostsImported(PostsImportedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onCountsChanged(PostCountsChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onViewsFlushed(PostViewsFlushedEvent event) {
+        version.incrementAndGet();
+    }
+}
@@ -1,32 +1,49 @@
 package springboot_first.pr.service.post;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
-import jakarta.persistence.criteria.Predicate;
-import jakarta.persistence.criteria.CriteriaBuilder;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import springboot_first.pr.dto.postDTO.request.PostCreateRequest;
 import springboot_first.pr.dto.postDTO.request.PostSearchRequest;
 import springboot_first.pr.dto.postDTO.request.PostUpdateRequest;
+import springboot_first.pr.dto.postDTO.response.ApproximatePage;
+import springboot_first.pr.dto.postDTO.response.PostBatchResponse;
+import springboot_first.pr.dto.postDTO.response.PostCursorResponse;
 import springboot_first.pr.dto.postDTO.response.PostDetailResponse;
+import springboot_first.pr.dto.postDTO.response.PostDetailVersion;
 import springboot_first.pr.dto.postDTO.response.PostListResponse;
+import springboot_first.pr.dto.postDTO.response.PostSliceResponse;
+import springboot_first.pr.dto.postDTO.response.PostTrendingResponse;
 import springboot_first.pr.entity.Post;
 import springboot_first.pr.entity.User;
 import springboot_first.pr.exception.AuthenticationException;
+import springboot_first.pr.exception.BadRequestException;
+import springboot_first.pr.exception.ConflictException;
 import springboot_first.pr.exception.ResourceNotFoundException;
 import springboot_first.pr.repository.PostRepository;
 import springboot_first.pr.repository.UserRepository;
+import springboot_first.pr.service.post.search.PostSearchEngine;
+import springboot_first.pr.service.post.tag.PostTagService;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects; // 권한 확인을 위해 Objects.equals() 사용 예정
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -34,8 +51,24 @@ import java.util.Objects; // 권한 확인을 위해 Objects.equals() 사용 예
 @Transactional(readOnly = true) // 읽기 전용 트랜잭션 기본 설정
 public class PostService {
 
+    // 여러 게시글 한 번에 조회 시 최대 id 개수 (IN 목록 / 응답 크기 제한)
+    public static final int MAX_BATCH_SIZE = 50;
+
+    // 검색 정렬에 허용하는 게시글 속성 (없는 속성 → 400, 리포지토리까지 내려가면 500으로 변환되므로 먼저 확인)
+    private static final Set<String> SEARCH_SORT_PROPERTIES =
+        Set.of("id", "title", "createdAt", "updatedAt", "viewCount", "commentCount", "likeCount");
+
     private final PostRepository postRepository;
     private final UserRepository userRepository; // 게시글 작성자 정보를 가져오기 위해 필요
+    private final PostSearchEngine postSearchEngine; // 통합 검색 백엔드 (post.search.engine 속성으로 선택)
+    private final PostCountCache postCountCache; // 목록/검색 전체 개수(COUNT) 캐시
+    private final PostDetailCache postDetailCache; // 상세 조회 캐시 (수정/삭제 커밋 시 무효화)
+    private final FrontPageCache frontPageCache; // 게시판 첫 화면(최신순 앞쪽 페이지) 스냅샷
+    private final PostListVersion postListVersion; // 목록 ETag용 버전 번호
+    private final PostViewCounter postViewCounter; // 조회수 버퍼 (주기적으로 배치 UPDATE)
+    private final TrendingPosts trendingPosts; // 최근 1시간 / 1일 인기 게시글 순위 (메모리 집계)
+    private final PostTagService postTagService; // 게시글 태그 저장/조회 (검색용 비트맵 색인은 커밋 이벤트로 갱신)
+    private final ApplicationEventPublisher eventPublisher; // 쓰기 커밋 후 캐시 무효화 등을 위한 이벤트 발행
 
     /**
      * 1️⃣ 게시글 생성 (CREATE)
@@ -57,9 +90,11 @@ public class PostService {
         
         // 3️⃣ DB에 저장
         Post savedPost = postRepository.save(newPost);
+        List<String> tags = postTagService.replaceTags(savedPost.getId(), request.getTags());
+        eventPublisher.publishEvent(PostChangedEvent.created(savedPost.getId()));
 
         // 4️⃣ 응답 DTO로 변환하여 반환
-        return PostDetailResponse.from(savedPost);
+        return PostDetailResponse.from(savedPost, tags);
     }
 
 
@@ -72,16 +107,98 @@ public class PostService {
      * ⚠️ 여기에 트랜잭션을 명시하지 않고, 읽기 전용 트랜잭션 기본 설정을 클래스 레벨 설정으로 대체할 수 도 있다‼️
      */
     // @Transactional(readOnly = true) // ⚠️ 클래스 레벨 설정으로 대체 가능
+    // 💡 SUPPORTS : 첫 화면 스냅샷으로 응답할 때는 트랜잭션(= DB 커넥션)을 열지 않음, DB 조회는 리포지토리 트랜잭션 사용
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Page<PostListResponse> findAllPosts(Pageable pageable) {
 
+        // 0️⃣ 최신순 앞쪽 페이지면 메모리 스냅샷으로 바로 응답 (SQL 없음)
+        Optional<Page<PostListResponse>> frontPage = frontPageCache.page(pageable);
+        if (frontPage.isPresent()) {
+            return frontPage.get();
+        }
+
         // 1️⃣ Repository에서 페이징 처리된 Post 목록을 조회
         // ⚠️ Pageable 객체 덕분에 Repository가 SQL의 LIMIT/OFFSET을 자동으로 처리해줌‼️
-        Page<Post> postPage = postRepository.findAll(pageable); // ⬅️ 상속받은 메서드 사용
-        
+        // 💡 전체 개수는 COUNT 캐시에 있으면 재사용하고, 없을 때만 COUNT 쿼리를 함께 실행
+        return pageWithCachedCount(
+            PostCountCache.Key.ALL,
+            pageable,
+            postRepository::findListPage, // DTO 프로젝션 (데이터 + COUNT)
+            postRepository::findListSlice // 캐시 적중 시 (데이터만)
+        );
+    }
 
-        // 2️⃣ Post(Entity) Page를 PostListResponse(DTO) Page로 변환하여 반환
-        // ⚠️.map() 메서드는 각 엔티티를 DTO로 변환하면서 페이징 정보(총 페이지 수, 전체 개수 등)는 그대로 유지합니다.
-        return postPage.map(PostListResponse::from);
+    /**
+     * 2️⃣-1 게시글 목록 조회 (READ - Slice, COUNT 쿼리 없음)
+     * - Page와 달리 전체 개수를 세지 않고 size + 1 건만 조회하여 다음 페이지 여부(hasNext)만 판단
+     * - 전체 페이지 수가 필요 없는 화면(더 보기, 무한 스크롤)에서 사용
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public PostSliceResponse findAllPostsSlice(Pageable pageable) {
+        return PostSliceResponse.from(frontPageCache.slice(pageable)
+            .orElseGet(() -> postRepository.findListSlice(pageable)));
+    }
+
+    /**
+     * 2️⃣-2 게시글 목록 조회 (READ - 커서/키셋 페이지네이션)
+     * - OFFSET 스캔 없이 (createdAt, id) 인덱스를 따라 다음 묶음만 읽어오는 무한 스크롤 전용 조회
+     * - size + 1 건을 조회해서 다음 페이지 존재 여부를 COUNT 없이 판단
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null 또는 빈 문자열)
+     * @param size 페이지 크기 (1 ~ 100)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public PostCursorResponse findPostsByCursor(String cursor, int size) {
+        int pageSize = PostCursor.clampSize(size);
+        Limit limit = Limit.of(pageSize + 1); // 다음 페이지 확인용으로 1건 더 조회
+
+        // 1️⃣ 커서 유무에 따라 첫 페이지 / 다음 페이지 쿼리 선택
+        List<PostListResponse> posts;
+        if (StringUtils.hasText(cursor)) {
+            PostCursor decoded = PostCursor.decode(cursor);
+            posts = postRepository.findNextPageByCursor(decoded.getCreatedAt(), decoded.getId(), limit);
+        } else {
+            // 첫 페이지는 메모리 스냅샷 우선
+            posts = frontPageCache.latest(limit.max()).orElseGet(() -> postRepository.findFirstPageByCursor(limit));
+        }
+
+        // 2️⃣ 초과 조회된 1건으로 다음 페이지 여부 판단 후 응답 생성
+        return toCursorResponse(posts, pageSize);
+    }
+
+    /**
+     * 2️⃣-3 작성자별 게시글 목록 조회 (READ - 커서/키셋 페이지네이션)
+     * - (user_id, created_at, id) 복합 인덱스를 따라 해당 작성자의 글만 최신순으로 읽음
+     * @param userId 작성자의 로그인 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null 또는 빈 문자열)
+     * @param size 페이지 크기 (1 ~ 100)
+     */
+    public PostCursorResponse findPostsByAuthor(String userId, String cursor, int size) {
+        int pageSize = PostCursor.clampSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        // 1️⃣ 로그인 ID → 사용자 PK (탈퇴 회원은 조회 불가)
+        User author = userRepository.findByUserId(userId)
+            .orElseThrow(() -> new ResourceNotFoundException("해당 사용자를 찾을 수 없습니다. ID: " + userId));
+
+        // 2️⃣ 커서 유무에 따라 첫 페이지 / 다음 페이지 쿼리 선택
+        List<PostListResponse> posts;
+        if (StringUtils.hasText(cursor)) {
+            PostCursor decoded = PostCursor.decode(cursor);
+            posts = postRepository.findNextPageByAuthor(author.getId(), decoded.getCreatedAt(), decoded.getId(), limit);
+        } else {
+            posts = postRepository.findFirstPageByAuthor(author.getId(), limit);
+        }
+
+        return toCursorResponse(posts, pageSize);
+    }
+
+    // size + 1 건 조회 결과 → 다음 페이지 여부 판단, 잘라내기, 마지막 게시글로 다음 커서 생성 (마지막 페이지면 null)
+    private PostCursorResponse toCursorResponse(List<PostListResponse> posts, int pageSize) {
+        boolean hasNext = posts.size() > pageSize;
+        List<PostListResponse> pagePosts = hasNext ? posts.subList(0, pageSize) : posts;
+        String nextCursor = hasNext ? PostCursor.from(pagePosts.get(pagePosts.size() - 1)).encode() : null;
+
+        return PostCursorResponse.of(pagePosts, pageSize, nextCursor);
     }
 
 
@@ -89,16 +206,105 @@ public class PostService {
 
 
     /**
-     * 3️⃣ 게시글 상세 조회
+     * 3️⃣ 게시글 상세 조회 (PostDetailCache 경유, 캐시 미스일 때만 DB 조회)
+     * - SUPPORTS : 캐시 적중 시에는 트랜잭션(= DB 커넥션)을 열지 않고, 미스일 때만 리포지토리 트랜잭션으로 1번 조회
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public PostDetailResponse findPostById(Long postId){
-        
-        // 1️⃣ 게시글 ID로 조회, 없으면 예외처리 발생하기
-        Post post = postRepository.findById(postId).orElseThrow(() -> new ResourceNotFoundException("해당 게시글을 찾을 수 없습니다. ID : " + postId));
 
-        // 2️⃣ 응답 DTO로 변환하여 반환하기
-        return PostDetailResponse.from(post);
+        PostDetailResponse post = postDetailCache.get(postId, () -> {
+            // 1️⃣ 게시글 ID로 조회 (작성자 + 본문 함께 조인), 없으면 예외처리 발생하기
+            Post entity = postRepository.findDetailById(postId).orElseThrow(() -> new ResourceNotFoundException("해당 게시글을 찾을 수 없습니다. ID : " + postId));
+
+            // 2️⃣ 응답 DTO로 변환하여 반환하기 (연관 엔티티는 이미 페치 조인되어 있어 추가 조회 없음, 태그는 쿼리 1번)
+            return PostDetailResponse.from(entity, postTagService.findTagNames(postId));
+        });
+        return withPendingViews(post);
+    }
+
+    /**
+     * 3️⃣-0 조회수 1 증가 (상세 조회 API에서 게시글이 있을 때 호출, SQL 없음)
+     * 💡 메모리 버퍼에만 기록하고 PostViewCounter가 주기적으로 모아서 DB에 반영, 인기 게시글 집계에도 함께 기록
+     */
+    public void recordView(Long postId) {
+        postViewCounter.increment(postId);
+        trendingPosts.record(postId);
+    }
+
+    /**
+     * 3️⃣-3 인기 게시글 (최근 1시간 / 1일 조회수 순위, SQL 없음)
+     * - 1분마다 갱신되는 순위 목록의 앞 size 건 (1 ~ post.trending.top-k 로 보정)
+     * ⚠️ window가 hour / day 가 아니면 BadRequestException (400 Bad Request)
+     */
+    public List<PostTrendingResponse> findTrendingPosts(String window, int size) {
+        int limit = Math.max(1, Math.min(size, trendingPosts.topK()));
+        return trendingPosts.top(TrendingPosts.Window.from(window), limit);
+    }
+
+    // 캐시된 상세(= DB에 반영된 조회수)에 아직 반영 전인 조회수를 더함
+    private PostDetailResponse withPendingViews(PostDetailResponse post) {
+        long pendingViews = postViewCounter.pending(post.getPostId());
+        return pendingViews == 0 ? post : post.toBuilder().viewCount(post.getViewCount() + pendingViews).build();
+    }
+
+    /**
+     * 3️⃣-1 여러 게시글 상세 한 번에 조회 (GET /api/posts/batch?ids=1,2,3)
+     * - 캐시에 없는 게시글만 모아서 작성자 + 본문까지 IN 쿼리 1번 + 태그 IN 쿼리 1번으로 조회 (게시글 수와 무관)
+     * - 응답은 요청한 id 순서대로, 없는(삭제된) id는 missingIds로 따로 알려줌
+     * ⚠️ 중복 id는 한 번만 조회, 1 ~ MAX_BATCH_SIZE 개를 벗어나면 BadRequestException (400 Bad Request)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public PostBatchResponse findPostsByIds(List<Long> postIds) {
+        List<Long> ids = postIds == null ? List.of()
+            : postIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty() || ids.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("한 번에 조회할 게시글 id는 1 ~ " + MAX_BATCH_SIZE + "개여야 합니다.");
+        }
+
+        // 1️⃣ 캐시 + IN 쿼리로 조회 (id → 상세)
+        Map<Long, PostDetailResponse> found = postDetailCache.getAll(ids, misses -> {
+            Map<Long, List<String>> tags = postTagService.findTagNames(misses);
+            return postRepository.findDetailsByIds(misses).stream()
+                .map(post -> PostDetailResponse.from(post, tags.getOrDefault(post.getId(), List.of())))
+                .toList();
+        });
+
+        // 2️⃣ 요청 순서대로 정렬, 못 찾은 id는 따로 모음
+        List<PostDetailResponse> posts = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            PostDetailResponse post = found.get(id);
+            if (post != null) {
+                posts.add(withPendingViews(post));
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        return PostBatchResponse.of(posts, missingIds);
+    }
+
+    /**
+     * 3️⃣-2 게시글 상세 검증 값 조회 (조건부 GET 판단용 : 수정 시각 + DB에 반영된 조회수 / 댓글 수 / 좋아요 수)
+     * - 상세 캐시에 있으면 SQL 없이, 없으면 해당 컬럼만 조회 (본문/작성자 조인 없음)
+     * - 캐시된 상세는 조회수 반영 / 댓글·좋아요 커밋 시 무효화되므로 캐시의 값 = DB의 값
+     * - 게시글이 없으면 empty (상세 조회에서 404 처리)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<PostDetailVersion> findPostDetailVersion(Long postId) {
+        PostDetailResponse cached = postDetailCache.peek(postId);
+        if (cached != null) {
+            return Optional.of(new PostDetailVersion(
+                cached.getUpdatedAt(), cached.getViewCount(), cached.getCommentCount(), cached.getLikeCount()));
+        }
+        return postRepository.findDetailVersionById(postId);
+    }
+
+    /**
+     * 목록/검색 응답의 현재 버전 (글 작성/수정/삭제 커밋, 조회수 반영, 댓글/좋아요 커밋마다 증가)
+     */
+    public long currentListVersion() {
+        return postListVersion.current();
     }
 
 
@@ -107,6 +313,8 @@ public class PostService {
     /**
      * 4️⃣ 게시글 수정하기 (UPDATE)
      * 인가(Authorization) 로직 포함: 요청한 사용자가 작성자인지 확인
+     * 💡 게시글을 읽지 않고 작성자/삭제 여부/버전을 WHERE 조건으로 건 UPDATE를 바로 실행 (제목 1번 + 본문 1번)
+     * ⚠️ request.version(필수) 이후 다른 수정/삭제가 있었다면 덮어쓰지 않고 ConflictException (409)
      */
     @Transactional
     public PostDetailResponse updatePost(
@@ -114,25 +322,36 @@ public class PostService {
         String currentUserId, // 2️⃣ 현재 로그인 사용자 ID (Security Context/Principal에서 추출)
         PostUpdateRequest request) // 4️⃣ 수정 요청 데이터 (DTO)
     {
-        // 1️⃣ 게시글 조회 (수정 대상)
-        Post post = postRepository.findById(postId)
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1️⃣ 작성자 본인 + 삭제 안 됨 + 버전 일치 조건으로 제목 UPDATE, 버전 1 증가
+        int updated = postRepository.updateTitleIfOwner(postId, currentUserId, request.getVersion(), request.getTitle(), now);
+        if (updated == 0) {
+            // 2️⃣ ⚠️ 바뀐 행이 없으면 원인 확인 (없음 404 / 권한 없음 401 / 버전 충돌 409)
+            throw rejectedWrite(postId, currentUserId, "수정 권한이 없습니다. 작성자만 수정 가능합니다.");
+        }
+
+        // 3️⃣ 본문 UPDATE (제목 UPDATE가 행 잠금을 잡고 있으므로 그 사이 다른 수정이 끼어들 수 없음)
+        postRepository.updateContent(postId, request.getContent());
+        // 태그는 보냈을 때만 교체 (생략하면 기존 태그 유지)
+        List<String> tags = request.getTags() == null ? null : postTagService.replaceTags(postId, request.getTags());
+        eventPublisher.publishEvent(PostChangedEvent.updated(postId));
+
+        // 4️⃣ 응답 DTO : 상세 캐시에 수정 전 값이 있으면 바뀌지 않는 필드(작성자, 작성일)는 재사용
+        // 💡 수정에 성공했다면 수정 전 버전 = request.version 이므로 새 버전을 확정할 수 있음 (SELECT 생략)
+        PostDetailResponse before = postDetailCache.peek(postId);
+        if (before != null && request.getVersion().equals(before.getVersion())) {
+            return before.toBuilder()
+                .title(request.getTitle())
+                .content(request.getContent())
+                .tags(tags == null ? before.getTags() : tags)
+                .updatedAt(now)
+                .version(request.getVersion() + 1)
+                .build();
+        }
+        return postRepository.findDetailById(postId)
+            .map(post -> PostDetailResponse.from(post, tags == null ? postTagService.findTagNames(postId) : tags))
             .orElseThrow(() -> new ResourceNotFoundException("해당 게시글을 찾을 수 없습니다. ID: " + postId));
-            
-        log.info("수정할 게시글 찾기 완료 후 post = {}", post);
-        log.info("수정할 게시글 찾기 완료 후 post = {}", post.getUser());
-        // 2️⃣ ⚠️ 인가(Authorization) 확인: 요청 사용자와 작성자 일치 검증
-        // post.getUser().getId()는 게시글 작성자의 PK(Long)입니다.
-        if (!post.getUser().getUserId().equals(currentUserId)) {
-                throw new AuthenticationException("수정 권한이 없습니다. 작성자만 수정 가능합니다.");
-            }
-        
-        // 3️⃣ 엔티티 내부의 비즈니스 메서드를 통해 데이터 변경 (Dirty Checking 활용)
-        // post.update()를 호출하여 메모리상의 객체 상태만 변경
-        post.update(request.getTitle(), request.getContent());
-        
-        // 4️⃣ 응답 DTO로 변환하여 반환 (수정된 게시글의 상세 정보)
-        // @Transactional에 의해 메서드 종료 시 DB에 변경사항(title, content, updatedAt) 자동 반영됨
-        return PostDetailResponse.from(post);
     }
 
     // 〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️ 영역 분리 〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️ //
@@ -141,75 +360,108 @@ public class PostService {
      * 5️⃣ 게시글 삭제하기 (DELETE)
      * @param postId Soft Delete 대상 게시글 ID (Path Variable로 조회)
      * @param currentUserId 현재 로그인 사용자 ID (Security Context/Principal에서 추출)
+     * 💡 작성자 본인 + 삭제 안 됨 조건으로 deleted_at을 채우는 UPDATE 1번 (게시글/작성자 조회 없음)
      */
 
     @Transactional
     public void deletePost(Long postId, String currentUserId) {
-    // 1️⃣ 게시글 조회
-    // 💡 엔티티의 @SQLRestriction("deleted_at IS NULL") 덕분에
-    // 이미 삭제된 글은 조회되지 않고 바로 Optional.empty()가 반환됩니다.
-    Post post = postRepository.findById(postId)
-            .orElseThrow(() -> new ResourceNotFoundException("해당 게시글을 찾을 수 없거나 이미 삭제되었습니다. ID: " + postId));
-
-    // 2️⃣ 인가(Authorization) 확인: 작성자 본인인지 검증
-    if (!post.getUser().getUserId().equals(currentUserId)) {
-        throw new AuthenticationException("게시글 삭제 권한이 없습니다. 작성자만 삭제 가능합니다.");
+        int deleted = postRepository.softDeleteIfOwner(postId, currentUserId, LocalDateTime.now());
+        if (deleted == 0) {
+            throw rejectedWrite(postId, currentUserId, "게시글 삭제 권한이 없습니다. 작성자만 삭제 가능합니다.");
+        }
+        eventPublisher.publishEvent(PostChangedEvent.deleted(postId));
     }
 
-    // 3️⃣ Soft Delete 실행
-    // 💡 실제로는 DB에서 행이 삭제되지 않고 @SQLDelete에 작성한 UPDATE 문이 실행됩니다.
-    postRepository.delete(post);
+    // 수정/삭제 UPDATE가 0건일 때 원인별 예외 (실패한 경우에만 SELECT 1번)
+    private RuntimeException rejectedWrite(Long postId, String currentUserId, String forbiddenMessage) {
+        Optional<String> authorUserId = postRepository.findAuthorUserIdById(postId);
+        if (authorUserId.isEmpty()) {
+            return new ResourceNotFoundException("해당 게시글을 찾을 수 없거나 이미 삭제되었습니다. ID: " + postId);
+        }
+        if (!Objects.equals(authorUserId.get(), currentUserId)) {
+            return new AuthenticationException(forbiddenMessage);
+        }
+        // 작성자 본인이고 삭제되지도 않았는데 실패 → 보낸 버전이 이미 바뀜
+        return new ConflictException("다른 곳에서 게시글이 먼저 수정되었습니다. 새로고침 후 다시 시도해 주세요. ID: " + postId);
     }
 
 
     // 〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️ 영역 분리 〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️ //
 
     /**
-     * 6️⃣ 게시판 통합 검색 (제목, 내용, 작성자 이름)
+     * 6️⃣ 게시판 통합 검색 (제목, 내용, 작성자 이름, 태그)
      * - 사용자가 입력한 조건이 있는 경우에만 WHERE 절에 조건이 추가됩니다.
      * - 결과는 페이징 처리되어 반환됩니다.
      */
     @Transactional(readOnly = true)
     public Page<PostListResponse> searchPosts(PostSearchRequest cond, Pageable pageable) {
         log.info("게시글 통합 검색 시작. 조건: {}, 페이지정보: {}", cond, pageable);
+        validateSearchSort(pageable.getSort());
+
+        // 1️⃣ 검색 엔진 호출 (LIKE 또는 MySQL FULLTEXT, 결과는 DTO 프로젝션)
+        // 💡 삭제된 글은 엔진에서 자동으로 제외됩니다.
+        // 💡 같은 검색 조건의 COUNT 결과가 캐시에 있으면 COUNT 쿼리를 생략합니다.
+        return pageWithCachedCount(
+            PostCountCache.Key.from(cond),
+            pageable,
+            p -> postSearchEngine.searchPage(cond, p),
+            p -> postSearchEngine.searchSlice(cond, p)
+        );
+    }
 
-        // 1️⃣ 동적 쿼리 생성 (Specification 사용)
-        Specification<Post> spec = (root, query, cb) -> {
-            // 조건들을 담을 리스트 생성
-            List<Predicate> predicates = new ArrayList<>();
-
-            // ① 제목 검색 조건 추가 (값이 있을 때만)
-            if (StringUtils.hasText(cond.getTitle())) {
-                // WHERE title LIKE %검색어%
-                predicates.add(cb.like(root.get("title"), "%" + cond.getTitle() + "%"));
-            }
+    /**
+     * 6️⃣-1 게시판 통합 검색 (Slice, COUNT 쿼리 없음)
+     * - 검색 조건은 searchPosts와 동일하지만 같은 조건의 COUNT(*) 쿼리를 생략합니다.
+     */
+    @Transactional(readOnly = true)
+    public PostSliceResponse searchPostsSlice(PostSearchRequest cond, Pageable pageable) {
+        log.info("게시글 통합 검색(Slice) 시작. 조건: {}, 페이지정보: {}", cond, pageable);
+        validateSearchSort(pageable.getSort());
 
-            // ② 내용 검색 조건 추가 (값이 있을 때만)
-            if (StringUtils.hasText(cond.getContent())) {
-                // WHERE content LIKE %검색어%
-                predicates.add(cb.like(root.get("content"), "%" + cond.getContent() + "%"));
-            }
+        // 💡 size + 1 건만 조회해서 hasNext를 판단함
+        return PostSliceResponse.from(postSearchEngine.searchSlice(cond, pageable));
+    }
 
-            // ③ 작성자 이름(username) 검색 조건 추가 (값이 있을 때만)
-            if (StringUtils.hasText(cond.getUsername())) {
-                // Post 엔티티의 'user' 필드와 조인하여 'username' 필드 확인
-                // WHERE user.username = '검색어'
-                predicates.add(cb.equal(root.get("user").get("username"), cond.getUsername()));
+    private static void validateSearchSort(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!SEARCH_SORT_PROPERTIES.contains(order.getProperty())) {
+                throw new BadRequestException("정렬할 수 없는 속성입니다: " + order.getProperty());
             }
+        }
+    }
 
-            // 모든 조건들을 AND로 결합 (조건이 없으면 빈 리스트이므로 전체 조회와 동일하게 동작)
-            return cb.and(predicates.toArray(new Predicate[0]));
-        };
-
-        // 2️⃣ 리포지토리 호출
-        // 💡 Repository가 JpaSpecificationExecutor를 상속받았기에 findAll(spec, pageable) 사용 가능!
-        // 💡 엔티티의 @SQLRestriction 덕분에 삭제된 글은 여기서 자동으로 제외됩니다.
-        Page<Post> postPage = postRepository.findAll(spec, pageable);
-
-        // 3️⃣ 엔티티 Page를 DTO Page로 변환하여 반환
-        return postPage.map(PostListResponse::from);
-    }   
+    /**
+     * COUNT 캐시를 적용한 Page 조회 (목록/검색 공통)
+     * - 캐시 적중 : Slice 쿼리 1번 (size + 1 건) + 캐시된 전체 개수 → approximate = true
+     * - 캐시 미스 : 기존 Page 쿼리 (데이터 + COUNT) 후 COUNT 결과를 캐시에 저장 → approximate = false
+     */
+    private Page<PostListResponse> pageWithCachedCount(
+        PostCountCache.Key key,
+        Pageable pageable,
+        Function<Pageable, Page<PostListResponse>> pageQuery,
+        Function<Pageable, Slice<PostListResponse>> sliceQuery)
+    {
+        Long cachedTotal = postCountCache.get(key);
 
+        if (cachedTotal != null) {
+            Slice<PostListResponse> postSlice = sliceQuery.apply(pageable);
+            List<PostListResponse> content = postSlice.getContent();
 
-    
-}
\ No newline at end of file
+            // 마지막 페이지가 확인되면 offset + 조회 건수가 정확한 전체 개수
+            if (!postSlice.hasNext() && (!content.isEmpty() || pageable.getOffset() == 0)) {
+                return new ApproximatePage<>(content, pageable, pageable.getOffset() + content.size(), false);
+            }
+            // 다음 페이지가 있는데 캐시 값이 더 작으면 최소한 확인된 개수 이상으로 보정
+            long total = postSlice.hasNext()
+                ? Math.max(cachedTotal, pageable.getOffset() + content.size() + 1)
+                : cachedTotal;
+            return new ApproximatePage<>(content, pageable, total, true);
+        }
+
+        long stamp = postCountCache.stamp(); // COUNT 도중 무효화 여부 확인용
+        Page<PostListResponse> postPage = pageQuery.apply(pageable);
+        postCountCache.put(key, postPage.getTotalElements(), stamp);
+
+        return new ApproximatePage<>(postPage.getContent(), pageable, postPage.getTotalElements(), false);
+    }
+}
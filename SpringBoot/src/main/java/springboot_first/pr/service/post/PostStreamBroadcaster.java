@@ -0,0 +1,468 @@
+package springboot_first.pr.service.post;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import springboot_first.pr.dto.postDTO.response.PostListResponse;
+import springboot_first.pr.dto.postDTO.response.PostStreamEvent;
+import springboot_first.pr.repository.PostRepository;
+
+/**
+ * 게시글 실시간 스트림 (SSE, GET /api/posts/stream)
+ * - 쓰기 트랜잭션이 커밋된 뒤(PostChangedEvent / PostsImportedEvent) 목록 변경분(PostStreamEvent)을 모든 구독자에게 보냅니다.
+ * - 구독자마다 스레드를 잡지 않음 : SseEmitter(서블릿 비동기)라서 요청 스레드는 바로 반납되고 연결만 열려 있으며,
+ *   분배 스레드 1개 + 전송 스레드 writer-threads 개가 모든 구독자를 나눠서 처리합니다.
+ * - 분배 : 쌓인 커밋 이벤트를 한 번에 꺼내 목록 DTO를 IN 쿼리 1번으로 읽고, 이벤트마다 JSON을 한 번만 만들어 모든 구독자 버퍼에 넣음
+ * - 구독자 버퍼 : buffer-size 건까지, 가득 차면 가장 오래된 이벤트를 버리고(drop-oldest) 다음 전송 앞에 RELOAD를 붙임
+ *   → 느린 클라이언트 하나가 분배나 다른 구독자 전송을 막지 않음
+ * - 전송 시간 제한 : emitter.send()는 소켓 쓰기가 끝날 때까지 전송 스레드를 잡고 있으므로, 전송 1번이 send-timeout을 넘긴
+ *   구독자는 내보내고(스레드 인터럽트) 그 스레드 대신 전송 스레드를 1개 늘림 (멈춘 전송이 끝나면 다시 줄임)
+ *   → 멈춘 클라이언트가 writer-threads 개보다 많아도 다른 구독자는 send-timeout 안에 다시 받기 시작함
+ * - heartbeat 주기마다 주석 줄을 보내서 끊긴 연결을 정리하고, 프록시가 유휴 연결을 닫지 않도록 함
+ * 💡 구독자가 없으면 커밋 이벤트를 받지 않으므로 DB 조회도 없음
+ */
+@Slf4j
+@Component
+public class PostStreamBroadcaster {
+
+    private static final int INBOX_CAPACITY = 10_000; // 분배 대기 커밋 이벤트 상한 (넘치면 RELOAD 1번으로 대체)
+    private static final int DISPATCH_BATCH = 256; // 분배 1번에 꺼내는 커밋 이벤트 수
+    private static final long RECONNECT_MILLIS = 3_000; // 연결이 끊겼을 때 EventSource 재연결 대기
+
+    private final PostRepository postRepository;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final BlockingQueue<Object> inbox = new LinkedBlockingQueue<>(INBOX_CAPACITY); // PostChangedEvent | PostsImportedEvent
+    private final AtomicBoolean inboxOverflowed = new AtomicBoolean();
+    private final AtomicLong sequence = new AtomicLong(); // SSE id (구독자가 빠진 이벤트를 알아챌 수 있도록 연속 번호)
+    private final Thread dispatcher;
+    private final ThreadPoolExecutor writers; // 멈춘 전송을 대신할 스레드만큼 크기가 바뀜 (addWriter / removeWriter)
+    private volatile boolean running = true;
+
+    // 모든 구독자에게 같은 인스턴스를 보내는 고정 프레임
+    private final Set<DataWithMediaType> connectedFrame;
+    private final Set<DataWithMediaType> heartbeatFrame;
+    private final Set<DataWithMediaType> reloadFrame;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    public PostStreamBroadcaster(
+            PostRepository postRepository,
+            ObjectMapper objectMapper,
+            @Value("${post.stream.buffer-size:64}") int bufferSize,
+            @Value("${post.stream.max-subscribers:10000}") int maxSubscribers,
+            @Value("${post.stream.timeout:30m}") Duration timeout,
+            @Value("${post.stream.writer-threads:2}") int writerThreads,
+            @Value("${post.stream.send-timeout:10s}") Duration sendTimeout,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.postRepository = postRepository;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+
+        this.dispatcher = new Thread(this::dispatchLoop, "post-stream-dispatcher");
+        this.dispatcher.setDaemon(true);
+        AtomicInteger writerIndex = new AtomicInteger();
+        this.writers = new ThreadPoolExecutor(writerThreads, writerThreads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "post-stream-writer-" + writerIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.connectedFrame = SseEmitter.event().comment("connected").reconnectTime(RECONNECT_MILLIS).build();
+        this.heartbeatFrame = SseEmitter.event().comment("heartbeat").build();
+        this.reloadFrame = toFrame(PostStreamEvent.reload(), false);
+
+        meterRegistry.ifAvailable(this::registerMetrics);
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        Gauge.builder("post.stream.subscribers", subscribers, Set::size)
+            .description("게시글 스트림 구독자 수").register(registry);
+        FunctionCounter.builder("post.stream.subscribers.rejected", rejected, LongAdder::sum)
+            .description("구독자 수 상한으로 거절한 구독").register(registry);
+        FunctionCounter.builder("post.stream.subscribers.evicted", evicted, LongAdder::sum)
+            .description("전송이 send-timeout을 넘겨 내보낸 구독자").register(registry);
+        FunctionCounter.builder("post.stream.events", published, LongAdder::sum)
+            .description("게시글 스트림 이벤트 (분배한 이벤트 수)").tag("result", "published").register(registry);
+        FunctionCounter.builder("post.stream.events", sent, LongAdder::sum)
+            .description("게시글 스트림 이벤트 (구독자에게 보낸 수)").tag("result", "sent").register(registry);
+        FunctionCounter.builder("post.stream.events", dropped, LongAdder::sum)
+            .description("게시글 스트림 이벤트 (구독자 버퍼가 가득 차서 버린 수)").tag("result", "dropped").register(registry);
+    }
+
+    @PostConstruct
+    void start() {
+        dispatcher.start();
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 구독 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    /**
+     * 새 구독 (SseEmitter를 컨트롤러가 그대로 반환하면 비동기 응답으로 열려 있음)
+     * @return 구독자 수 상한에 걸리면 empty
+     */
+    public Optional<SseEmitter> subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            rejected.increment();
+            return Optional.empty();
+        }
+        return Optional.of(subscribe(new SseEmitter(timeoutMillis)));
+    }
+
+    SseEmitter subscribe(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        emitter.onTimeout(() -> {
+            subscriber.close();
+            emitter.complete(); // 클라이언트(EventSource)는 retry 후 다시 구독
+        });
+        subscribers.add(subscriber);
+        subscriber.offer(connectedFrame); // 응답 헤더를 바로 내보내고 재연결 대기 시간 지정
+        return emitter;
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 커밋 이벤트 수신 (커밋한 스레드, 큐에 넣기만) 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        enqueue(event);
+    }
+
+    @TransactionalEventListener
+    public void onPostsImported(PostsImportedEvent event) {
+        enqueue(event);
+    }
+
+    private void enqueue(Object event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        if (!inbox.offer(event)) {
+            inboxOverflowed.set(true); // 분배가 밀림 : 빠진 변경은 RELOAD 1번으로 대신 알림
+        }
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 분배 (스레드 1개) 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                dispatch(inbox.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // 쌓여 있는 커밋 이벤트를 바로 분배 (분배 스레드 없이 호출하는 테스트용)
+    int dispatchPending() {
+        Object first = inbox.poll();
+        return first == null ? 0 : dispatch(first);
+    }
+
+    private int dispatch(Object first) {
+        List<Object> batch = new ArrayList<>();
+        batch.add(first);
+        inbox.drainTo(batch, DISPATCH_BATCH - 1);
+        try {
+            for (PostStreamEvent event : toStreamEvents(batch)) {
+                broadcast(toFrame(event, true));
+            }
+        } catch (RuntimeException e) {
+            log.warn("게시글 스트림 분배 실패. 구독자에게 RELOAD를 보냅니다. 이벤트 {}건", batch.size(), e);
+            broadcast(reloadFrame);
+        }
+        return batch.size();
+    }
+
+    // 커밋 이벤트 → 스트림 이벤트 (작성/수정된 게시글은 IN 쿼리 1번으로 목록 DTO 조회)
+    private List<PostStreamEvent> toStreamEvents(List<Object> batch) {
+        boolean reload = inboxOverflowed.getAndSet(false);
+        List<PostChangedEvent> changes = new ArrayList<>(batch.size());
+        for (Object event : batch) {
+            if (event instanceof PostsImportedEvent imported) {
+                // 구독자 버퍼보다 많으면 어차피 앞부분이 버려지므로 RELOAD 1번으로 대신
+                if (imported.getPostIds().size() > bufferSize) {
+                    reload = true;
+                } else {
+                    imported.getPostIds().forEach(id -> changes.add(PostChangedEvent.created(id)));
+                }
+            } else {
+                changes.add((PostChangedEvent) event);
+            }
+        }
+        // 이번 묶음의 변경은 모두 커밋된 뒤라서 RELOAD 후 다시 읽는 목록에 포함됨
+        if (reload) {
+            return List.of(PostStreamEvent.reload());
+        }
+
+        Set<Long> ids = new LinkedHashSet<>();
+        for (PostChangedEvent change : changes) {
+            if (change.getType() != PostChangedEvent.Type.DELETED) {
+                ids.add(change.getPostId());
+            }
+        }
+        Map<Long, PostListResponse> rows = new HashMap<>();
+        if (!ids.isEmpty()) {
+            postRepository.findListByIds(ids).forEach(row -> rows.put(row.getPostId(), row));
+        }
+
+        List<PostStreamEvent> events = new ArrayList<>(changes.size());
+        for (PostChangedEvent change : changes) {
+            PostListResponse row = rows.get(change.getPostId());
+            if (change.getType() == PostChangedEvent.Type.DELETED || row == null) {
+                events.add(PostStreamEvent.deleted(change.getPostId())); // 조회 전에 삭제된 게시글 포함
+            } else {
+                events.add(PostStreamEvent.of(PostStreamEvent.Type.valueOf(change.getType().name()), row));
+            }
+        }
+        return events;
+    }
+
+    // 이벤트 1건 = JSON 직렬화 1번, 만든 프레임은 모든 구독자가 공유
+    private Set<DataWithMediaType> toFrame(PostStreamEvent event, boolean numbered) {
+        try {
+            SseEmitter.SseEventBuilder builder = SseEmitter.event();
+            if (numbered) {
+                builder.id(Long.toString(sequence.incrementAndGet()));
+            }
+            return builder
+                .name(event.getType().name().toLowerCase())
+                .data(objectMapper.writeValueAsString(event))
+                .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게시글 스트림 이벤트를 JSON으로 변환하지 못했습니다: " + event, e);
+        }
+    }
+
+    private void broadcast(Set<DataWithMediaType> frame) {
+        published.increment();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(frame);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${post.stream.heartbeat:30s}", fixedDelayString = "${post.stream.heartbeat:30s}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offerHeartbeat();
+        }
+    }
+
+    // 전송 1번이 send-timeout을 넘긴 구독자를 내보냄 (확인 주기도 send-timeout이므로 최대 2배까지 걸릴 수 있음)
+    @Scheduled(initialDelayString = "${post.stream.send-timeout:10s}", fixedDelayString = "${post.stream.send-timeout:10s}")
+    public void evictStalled() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.evictIfStalled(now);
+        }
+    }
+
+    // 멈춘 전송 스레드 1개를 대신할 스레드 추가 (최대 크기를 먼저 늘려야 core > max 예외가 나지 않음)
+    private synchronized void addWriter() {
+        writers.setMaximumPoolSize(writers.getMaximumPoolSize() + 1);
+        writers.setCorePoolSize(writers.getCorePoolSize() + 1);
+    }
+
+    // 멈췄던 전송이 끝남 : 늘렸던 스레드 1개를 되돌림 (남는 스레드는 다음 작업 대기 전에 종료됨)
+    private synchronized void removeWriter() {
+        writers.setCorePoolSize(writers.getCorePoolSize() - 1);
+        writers.setMaximumPoolSize(writers.getMaximumPoolSize() - 1);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        dispatcher.interrupt();
+        writers.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.close();
+            subscriber.emitter.complete();
+        }
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 구독자 1명 (버퍼 + 전송) 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ArrayDeque<Set<DataWithMediaType>> buffer = new ArrayDeque<>(); // 아래 필드와 함께 this로 보호
+        private boolean draining; // 전송 스레드가 이 구독자를 처리 중 (한 구독자는 한 번에 한 스레드만 전송)
+        private boolean missed; // 버퍼가 넘쳐 이벤트를 버림 → 다음 전송 앞에 RELOAD
+        private long sendStartedNanos; // 진행 중인 전송의 시작 시각 (0 = 전송 중 아님)
+        private Thread writer; // 진행 중인 전송을 맡은 스레드
+        private boolean evictedWhileSending; // 전송 시간 초과로 내보냄 → 전송이 끝나면 늘렸던 스레드를 되돌림
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(Set<DataWithMediaType> frame) {
+            boolean schedule;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (buffer.size() >= bufferSize) {
+                    Set<DataWithMediaType> oldest = buffer.pollFirst();
+                    if (oldest != heartbeatFrame && oldest != connectedFrame) {
+                        missed = true;
+                        dropped.increment();
+                    }
+                }
+                buffer.addLast(frame);
+                schedule = !draining;
+                draining = true;
+            }
+            if (schedule) {
+                try {
+                    writers.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    close(); // 종료 중
+                }
+            }
+        }
+
+        // 보낼 이벤트가 밀려 있으면 그 전송이 연결 확인을 대신함
+        void offerHeartbeat() {
+            synchronized (this) {
+                if (!buffer.isEmpty() || draining) {
+                    return;
+                }
+            }
+            offer(heartbeatFrame);
+        }
+
+        private void drain() {
+            while (true) {
+                Set<DataWithMediaType> frame;
+                boolean reloadFirst;
+                synchronized (this) {
+                    frame = buffer.pollFirst();
+                    if (frame == null || closed) {
+                        draining = false;
+                        return;
+                    }
+                    reloadFirst = missed;
+                    missed = false;
+                    sendStartedNanos = System.nanoTime();
+                    writer = Thread.currentThread();
+                }
+                boolean delivered = false;
+                try {
+                    if (reloadFirst) {
+                        emitter.send(reloadFrame);
+                    }
+                    emitter.send(frame);
+                    delivered = true;
+                    if (frame != heartbeatFrame && frame != connectedFrame) {
+                        sent.increment();
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // 클라이언트가 끊겼거나 이미 완료된 응답 : 컨테이너가 오류 콜백으로 응답을 정리함
+                    log.debug("게시글 스트림 구독자 연결 종료: {}", e.getMessage());
+                    close();
+                }
+                if (endSend()) {
+                    // 내보낸 뒤에 전송이 끝남 : 연결을 닫아서 클라이언트(EventSource)가 다시 구독하게 함
+                    if (delivered) {
+                        emitter.complete();
+                    }
+                    return;
+                }
+                if (!delivered) {
+                    return;
+                }
+            }
+        }
+
+        // 전송 종료 표시, 전송 중에 내보내졌으면 true (늘렸던 스레드를 되돌림)
+        private boolean endSend() {
+            synchronized (this) {
+                sendStartedNanos = 0;
+                writer = null;
+                if (!evictedWhileSending) {
+                    return false;
+                }
+                evictedWhileSending = false;
+                draining = false;
+            }
+            Thread.interrupted(); // 인터럽트가 전송 뒤에 도착했으면 풀로 돌아가기 전에 지움
+            removeWriter();
+            return true;
+        }
+
+        // 같은 락 안에서 인터럽트하므로, 전송이 막 끝난 스레드가 다음 구독자를 전송하다가 인터럽트되는 일은 없음
+        void evictIfStalled(long now) {
+            synchronized (this) {
+                if (sendStartedNanos == 0 || evictedWhileSending || now - sendStartedNanos < sendTimeoutNanos) {
+                    return;
+                }
+                evictedWhileSending = true;
+                addWriter(); // endSend()의 removeWriter()보다 먼저 (풀 크기가 0 밑으로 내려가지 않도록)
+                writer.interrupt();
+            }
+            log.debug("게시글 스트림 구독자 전송 시간 초과. 구독자를 내보냅니다.");
+            evicted.increment();
+            close();
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+            synchronized (this) {
+                buffer.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package springboot_first.pr.service.post;
+
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 메모리 색인(역색인 / 자동완성 / 태그 비트맵)의 게시글별 갱신 순서
+ * - 커밋 이벤트 처리는 "DB에서 최신 상태 읽기 → 색인 반영" 두 단계라서, 같은 게시글의 이벤트 두 개가 겹치면
+ *   먼저 읽은 쪽이 나중에 반영하면서 최신 상태(예 : 삭제)를 오래된 상태로 덮어쓸 수 있습니다.
+ * - 읽기 + 반영을 게시글별 락 안에서 하면, 나중에 반영하는 쪽이 항상 나중에 읽으므로 마지막 반영 = 최신 상태
+ * - 게시글 id 해시로 나눈 락(STRIPES 개)이라 다른 게시글끼리는 거의 기다리지 않음
+ * 💡 여러 게시글(일괄 가져오기 청크)은 락 번호 순서로 잡으므로 서로 교착하지 않음
+ */
+public final class PostUpdateLocks {
+
+    private static final int STRIPES = 64;
+
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+    public PostUpdateLocks() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    // 게시글 하나의 읽기 + 반영
+    public void run(Long postId, Runnable update) {
+        ReentrantLock lock = locks[stripe(postId)];
+        lock.lock();
+        try {
+            update.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 여러 게시글의 읽기 + 반영 (해당 락을 모두 번호 순서로 잡음)
+    public void runAll(Collection<Long> postIds, Runnable update) {
+        TreeSet<Integer> stripes = new TreeSet<>();
+        postIds.forEach(postId -> stripes.add(stripe(postId)));
+        int locked = 0;
+        try {
+            for (int stripe : stripes) {
+                locks[stripe].lock();
+                locked++;
+            }
+            update.run();
+        } finally {
+            for (int stripe : stripes) {
+                if (locked-- == 0) {
+                    break;
+                }
+                locks[stripe].unlock();
+            }
+        }
+    }
+
+    private static int stripe(Long postId) {
+        return Long.hashCode(postId) & (STRIPES - 1);
+    }
+}
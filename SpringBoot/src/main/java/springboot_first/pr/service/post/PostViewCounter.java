@@ -0,0 +1,208 @@
+package springboot_first.pr.service.post;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 조회수 버퍼
+ * - 상세 조회마다 posts.view_count 를 UPDATE 하면 인기 글 한 행에 잠금이 몰리므로, 메모리에서 게시글별 LongAdder로 모아 둡니다.
+ *   (LongAdder는 내부적으로 셀을 나눠서 같은 글을 동시에 조회해도 경합이 거의 없음)
+ * - flush-interval 마다 모인 증가분을 "view_count = view_count + ?" 배치 UPDATE 1번(트랜잭션 1개)으로 반영하고, 종료 시에도 한 번 반영
+ * - 버퍼 크기 제한 : 대기 중인 게시글 수가 max-pending 을 넘으면 다음 주기를 기다리지 않고 바로 반영을 시작하고,
+ *   그 2배를 넘으면 새 게시글의 조회는 버림 (버린 수는 메트릭으로 확인)
+ * 💡 조회수는 수정이 아니므로 버전(@Version) / 수정 시각은 바뀌지 않고, 반영할 때마다 PostViewsFlushedEvent로 목록 ETag를 바꾸고
+ *    상세 캐시를 비워서 상세 ETag(DB에 반영된 조회수 포함)도 바뀜
+ * ⚠️ 근사치 : 반영 전에 서버가 비정상 종료되면 버퍼의 조회수는 유실됨, 목록의 조회수는 첫 화면 스냅샷/캐시 주기만큼 늦게 보임
+ */
+@Slf4j
+@Component
+public class PostViewCounter {
+
+    private static final String ADD_VIEWS = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate flushTransaction;
+    private final PostDetailCache postDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxPending;
+
+    // 게시글 id → 아직 반영하지 않은 조회수
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean flushing = new AtomicBoolean(); // 반영 동시 실행 방지 (예약 / 한도 초과 / 종료)
+    private final AtomicBoolean earlyFlushRequested = new AtomicBoolean();
+    private final ExecutorService earlyFlusher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-view-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 📊 메트릭
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public PostViewCounter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            PostDetailCache postDetailCache,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${post.view-count.max-pending:100000}") int maxPending,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.postDetailCache = postDetailCache;
+        this.eventPublisher = eventPublisher;
+        this.maxPending = maxPending;
+        meterRegistry.ifAvailable(this::registerMetrics);
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        FunctionCounter.builder("post.views", recorded, LongAdder::sum)
+            .description("게시글 조회수 증가 (버퍼에 기록된 수)").tag("stage", "recorded").register(registry);
+        FunctionCounter.builder("post.views", flushed, LongAdder::sum)
+            .description("게시글 조회수 증가 (DB에 반영된 수)").tag("stage", "flushed").register(registry);
+        FunctionCounter.builder("post.views", dropped, LongAdder::sum)
+            .description("게시글 조회수 증가 (버퍼가 가득 차서 버린 수)").tag("stage", "dropped").register(registry);
+        Gauge.builder("post.views.pending.posts", pending, Map::size)
+            .description("조회수 반영 대기 중인 게시글 수").register(registry);
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 기록 (SQL 없음) 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    /**
+     * 조회 1번 기록
+     */
+    public void increment(Long postId) {
+        LongAdder views = pending.get(postId);
+        if (views == null) {
+            int size = pending.size();
+            if (size >= maxPending * 2) {
+                dropped.increment();
+                return;
+            }
+            if (size >= maxPending) {
+                requestEarlyFlush();
+            }
+            views = pending.computeIfAbsent(postId, id -> new LongAdder());
+        }
+        views.increment();
+        recorded.increment();
+    }
+
+    /**
+     * 아직 DB에 반영하지 않은 조회수 (상세 응답에 더해서 보여줌)
+     */
+    public long pending(Long postId) {
+        LongAdder views = pending.get(postId);
+        return views == null ? 0 : views.sum();
+    }
+
+    private void requestEarlyFlush() {
+        if (earlyFlushRequested.compareAndSet(false, true)) {
+            earlyFlusher.execute(() -> {
+                earlyFlushRequested.set(false);
+                flush();
+            });
+        }
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 반영 (배치 UPDATE) 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    @Scheduled(initialDelayString = "${post.view-count.flush-interval:10s}", fixedDelayString = "${post.view-count.flush-interval:10s}")
+    public void flushOnSchedule() {
+        flush();
+    }
+
+    /**
+     * 모인 조회수를 DB에 반영
+     * @return 반영한 게시글 수 (다른 반영이 진행 중이면 0)
+     */
+    public int flush() {
+        if (!flushing.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            List<long[]> deltas = drain();
+            if (deltas.isEmpty()) {
+                return 0;
+            }
+            // 여러 서버가 동시에 반영해도 잠금 순서가 같도록 id 순서로
+            deltas.sort(Comparator.comparingLong(delta -> delta[0]));
+            List<Object[]> args = new ArrayList<>(deltas.size());
+            List<Long> postIds = new ArrayList<>(deltas.size());
+            for (long[] delta : deltas) {
+                args.add(new Object[] {delta[1], delta[0]});
+                postIds.add(delta[0]);
+            }
+
+            try {
+                flushTransaction.executeWithoutResult(status -> {
+                    jdbcTemplate.batchUpdate(ADD_VIEWS, args);
+                    eventPublisher.publishEvent(new PostViewsFlushedEvent(postIds)); // 커밋 후 목록 버전 증가
+                });
+            } catch (DataAccessException e) {
+                // 반영 실패 : 버퍼로 되돌려서 다음 주기에 다시 시도
+                deltas.forEach(delta -> pending.computeIfAbsent(delta[0], id -> new LongAdder()).add(delta[1]));
+                log.warn("게시글 조회수 반영 실패. 다음 주기에 다시 시도합니다. 게시글 {}건", deltas.size(), e);
+                return 0;
+            }
+
+            long views = 0;
+            for (long[] delta : deltas) {
+                views += delta[1];
+                postDetailCache.invalidate(delta[0]); // 상세 캐시가 반영 전 조회수를 들고 있지 않도록
+            }
+            flushed.add(views);
+            log.debug("게시글 조회수 반영. 게시글 {}건, 조회 {}회", deltas.size(), views);
+            return deltas.size();
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    // 게시글별 증가분을 꺼내고 0으로 되돌림, 이번 주기에 조회가 없던 게시글은 버퍼에서 제거
+    private List<long[]> drain() {
+        List<long[]> deltas = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta == 0 && pending.remove(entry.getKey(), entry.getValue())) {
+                delta = entry.getValue().sumThenReset(); // 제거 직전에 들어온 조회
+            }
+            if (delta > 0) {
+                deltas.add(new long[] {entry.getKey(), delta});
+            }
+        }
+        return deltas;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        earlyFlusher.shutdownNow();
+        int posts = flush();
+        log.info("종료 전 게시글 조회수 반영. 게시글 {}건", posts);
+    }
+}
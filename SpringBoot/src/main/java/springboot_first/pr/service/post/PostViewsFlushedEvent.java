@@ -0,0 +1,23 @@
+package springboot_first.pr.service.post;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 조회수 반영 이벤트 (PostViewCounter의 배치 UPDATE 1번 = 이벤트 1개)
+ * - 게시글 수정이 아니므로 색인은 그대로 두고, 조회수를 담은 목록 응답의 버전만 올립니다.
+ * - 구독자는 @TransactionalEventListener(AFTER_COMMIT)로 반영 트랜잭션이 커밋된 뒤에만 반응합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostViewsFlushedEvent {
+
+    private final List<Long> postIds; // 조회수가 바뀐 게시글 id (오름차순)
+
+    @Override
+    public String toString() {
+        return "PostViewsFlushedEvent(count=" + postIds.size() + ")";
+    }
+}
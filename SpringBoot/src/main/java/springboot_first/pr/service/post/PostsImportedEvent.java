@@ -0,0 +1,31 @@
+package springboot_first.pr.service.post;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 일괄 가져오기 이벤트 (가져오기 청크 1개 = 이벤트 1개)
+ * - PostChangedEvent를 게시글마다 발행하면 구독자가 건별로 DB를 다시 읽으므로, 청크 단위로 한 번에 알립니다.
+ * - 구독자는 @TransactionalEventListener(AFTER_COMMIT)로 청크 커밋이 확정된 뒤에만 반응합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostsImportedEvent {
+
+    private final List<Long> postIds; // 새로 저장된 게시글 id (오름차순)
+
+    public Long firstId() {
+        return postIds.get(0);
+    }
+
+    public Long lastId() {
+        return postIds.get(postIds.size() - 1);
+    }
+
+    @Override
+    public String toString() {
+        return "PostsImportedEvent(count=" + postIds.size() + ")";
+    }
+}
@@ -0,0 +1,273 @@
+package springboot_first.pr.service.post;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.extern.slf4j.Slf4j;
+import springboot_first.pr.dto.postDTO.response.PostListResponse;
+import springboot_first.pr.dto.postDTO.response.PostTrendingResponse;
+import springboot_first.pr.exception.BadRequestException;
+import springboot_first.pr.repository.PostRepository;
+
+/**
+ * 인기 게시글 순위 (최근 1시간 / 최근 1일 조회수 기준, 메모리 집계)
+ * - 상세 조회마다 현재 1분 칸(게시글별 LongAdder)에만 더하고, 1분마다 칸을 닫아서(rotate) 구간 합계를 증분으로 갱신합니다.
+ *     1시간 : 1분 칸 60개 링 → 새 칸을 더하고 60분 전 칸을 뺌
+ *     1일   : 1시간 칸 23개 링 + 진행 중인 1시간 → 새 1분 칸을 더하고, 1시간이 찰 때마다 24시간 전 칸을 뺌
+ * - 갱신 때마다 구간 합계에서 상위 top-k 를 크기 k 최소 힙으로 고르고, 목록 정보(제목/작성자)를 IN 쿼리 1번으로 붙여서
+ *   완성된 순위 목록으로 교체 → 요청은 SQL 없이 만들어 둔 목록의 앞 size 건만 반환 (O(K))
+ * - 1분 칸에 모이는 게시글 수는 max-posts-per-minute 로 제한 (넘으면 그 1분 동안 새 게시글은 집계하지 않음)
+ * 💡 삭제 커밋된 게시글은 순위에서 바로 빼고, 제목 수정은 다음 갱신(최대 1분) 때 반영
+ * ⚠️ 서버별 메모리 집계라 재시작하면 0부터 다시 쌓이고, 여러 서버면 각 서버가 받은 조회만 반영됨 (근사치)
+ */
+@Slf4j
+@Component
+public class TrendingPosts {
+
+    // 집계 구간
+    public enum Window {
+        HOUR, DAY;
+
+        // 요청 파라미터(hour / day, 대소문자 무관) → 구간
+        public static Window from(String value) {
+            for (Window window : values()) {
+                if (window.name().equalsIgnoreCase(value)) {
+                    return window;
+                }
+            }
+            throw new BadRequestException("인기 게시글 집계 구간은 hour 또는 day 여야 합니다. 입력값: " + value);
+        }
+    }
+
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int HOUR_BUCKETS = 23; // + 진행 중인 1시간 = 최근 24시간 이내
+
+    // 순위 목록 (갱신 때마다 통째로 교체, 읽기는 잠금 없음)
+    private record Ranking(List<PostTrendingResponse> hour, List<PostTrendingResponse> day) {
+
+        List<PostTrendingResponse> of(Window window) {
+            return window == Window.HOUR ? hour : day;
+        }
+    }
+
+    private final PostRepository postRepository;
+    private final int topK;
+    private final int maxPostsPerMinute;
+
+    // 현재 1분 칸 (조회 스레드들이 동시에 더함)
+    private volatile ConcurrentHashMap<Long, LongAdder> currentMinute = new ConcurrentHashMap<>();
+
+    // ↓ 아래 상태는 rotate()에서만 변경 (동기화)
+    @SuppressWarnings("unchecked")
+    private final Map<Long, Long>[] minuteRing = new Map[MINUTES_PER_HOUR];
+    @SuppressWarnings("unchecked")
+    private final Map<Long, Long>[] hourRing = new Map[HOUR_BUCKETS];
+    private int minuteIndex;
+    private int hourIndex;
+    private int minutesInCurrentHour;
+    private Map<Long, Long> currentHour = new HashMap<>();
+    private final Map<Long, Long> hourTotals = new HashMap<>();
+    private final Map<Long, Long> dayTotals = new HashMap<>();
+    private final Map<Long, PostListResponse> rows = new HashMap<>(); // 현재 순위에 든 게시글의 목록 정보
+    private final Set<Long> deletedIds = new HashSet<>(); // 다음 갱신 때 합계에서 뺄 삭제 게시글
+
+    private volatile Ranking ranking = new Ranking(List.of(), List.of());
+
+    public TrendingPosts(
+            PostRepository postRepository,
+            @Value("${post.trending.top-k:50}") int topK,
+            @Value("${post.trending.max-posts-per-minute:50000}") int maxPostsPerMinute) {
+        this.postRepository = postRepository;
+        this.topK = topK;
+        this.maxPostsPerMinute = maxPostsPerMinute;
+    }
+
+    public int topK() {
+        return topK;
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 기록 / 조회 (SQL 없음) 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    /**
+     * 조회 1번 기록 (현재 1분 칸)
+     */
+    public void record(Long postId) {
+        ConcurrentHashMap<Long, LongAdder> bucket = currentMinute;
+        LongAdder views = bucket.get(postId);
+        if (views == null) {
+            if (bucket.size() >= maxPostsPerMinute) {
+                return;
+            }
+            views = bucket.computeIfAbsent(postId, id -> new LongAdder());
+        }
+        views.increment();
+    }
+
+    /**
+     * 구간별 상위 size 건 (마지막 갱신 시점 기준)
+     */
+    public List<PostTrendingResponse> top(Window window, int size) {
+        List<PostTrendingResponse> list = ranking.of(window);
+        return list.size() <= size ? list : list.subList(0, size);
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 1분마다 갱신 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    @Scheduled(cron = "0 * * * * *") // 매분 0초
+    public void rotateOnSchedule() {
+        try {
+            rotate();
+        } catch (RuntimeException e) {
+            log.warn("인기 게시글 순위 갱신 실패. 이번 1분 집계는 합계에 반영되었고 순위는 다음 갱신 때 다시 계산합니다.", e);
+        }
+    }
+
+    /**
+     * 현재 1분 칸을 닫고 구간 합계 / 순위를 갱신
+     * ⚠️ 칸을 교체하는 순간 이전 칸에 막 더해지던 조회 몇 건은 빠질 수 있음 (순위용 근사치라 허용)
+     */
+    synchronized void rotate() {
+        // 1️⃣ 현재 1분 칸 닫기
+        ConcurrentHashMap<Long, LongAdder> closing = currentMinute;
+        currentMinute = new ConcurrentHashMap<>();
+        Map<Long, Long> sealed = new HashMap<>(closing.size() * 2);
+        closing.forEach((id, views) -> sealed.put(id, views.sum()));
+
+        // 2️⃣ 1시간 : 새 칸 더하고 60분 전 칸 빼기
+        Map<Long, Long> expiredMinute = minuteRing[minuteIndex];
+        minuteRing[minuteIndex] = sealed;
+        minuteIndex = (minuteIndex + 1) % MINUTES_PER_HOUR;
+        add(hourTotals, sealed, 1);
+        add(hourTotals, expiredMinute, -1);
+
+        // 3️⃣ 1일 : 새 칸 더하고, 1시간이 차면 1시간 칸으로 넘기면서 24시간 전 칸 빼기
+        add(dayTotals, sealed, 1);
+        add(currentHour, sealed, 1);
+        if (++minutesInCurrentHour == MINUTES_PER_HOUR) {
+            Map<Long, Long> expiredHour = hourRing[hourIndex];
+            hourRing[hourIndex] = currentHour;
+            hourIndex = (hourIndex + 1) % HOUR_BUCKETS;
+            currentHour = new HashMap<>();
+            minutesInCurrentHour = 0;
+            add(dayTotals, expiredHour, -1);
+        }
+
+        // 4️⃣ 삭제된 게시글은 합계에서 제거 (링에 남은 값은 나중에 빠질 때 음수가 되어 함께 정리됨)
+        for (Long id : deletedIds) {
+            hourTotals.remove(id);
+            dayTotals.remove(id);
+        }
+        deletedIds.clear();
+
+        // 5️⃣ 상위 K 선택 → 목록 정보 붙여서 순위 교체
+        List<Map.Entry<Long, Long>> hourTop = selectTop(hourTotals);
+        List<Map.Entry<Long, Long>> dayTop = selectTop(dayTotals);
+        loadRows(hourTop, dayTop);
+        ranking = new Ranking(toResponses(hourTop), toResponses(dayTop));
+    }
+
+    // 합계에 칸 값을 더하거나(sign 1) 뺌(sign -1), 0 이하가 된 게시글은 제거해서 합계 크기를 최근 조회된 글로 제한
+    private static void add(Map<Long, Long> totals, Map<Long, Long> bucket, int sign) {
+        if (bucket == null) {
+            return;
+        }
+        bucket.forEach((id, views) -> {
+            long total = totals.getOrDefault(id, 0L) + sign * views;
+            if (total > 0) {
+                totals.put(id, total);
+            } else {
+                totals.remove(id);
+            }
+        });
+    }
+
+    // 크기 K 최소 힙으로 상위 K 선택 (O(n log K)), 조회수 내림차순 → 같으면 최신 글(id 큰 순) 먼저
+    private List<Map.Entry<Long, Long>> selectTop(Map<Long, Long> totals) {
+        Comparator<Map.Entry<Long, Long>> ascending = Map.Entry.<Long, Long>comparingByValue()
+            .thenComparing(Map.Entry.comparingByKey());
+        PriorityQueue<Map.Entry<Long, Long>> heap = new PriorityQueue<>(topK + 1, ascending);
+        for (Map.Entry<Long, Long> entry : totals.entrySet()) {
+            if (heap.size() < topK) {
+                heap.add(Map.entry(entry.getKey(), entry.getValue()));
+            } else if (ascending.compare(entry, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        List<Map.Entry<Long, Long>> top = new ArrayList<>(heap);
+        top.sort(ascending.reversed());
+        return top;
+    }
+
+    // 순위에 새로 든 게시글만 IN 쿼리 1번으로 목록 정보 조회 (삭제된 글은 조회되지 않음), 순위에서 빠진 글은 정리
+    private void loadRows(List<Map.Entry<Long, Long>> hourTop, List<Map.Entry<Long, Long>> dayTop) {
+        Set<Long> ids = new HashSet<>();
+        hourTop.forEach(entry -> ids.add(entry.getKey()));
+        dayTop.forEach(entry -> ids.add(entry.getKey()));
+        rows.keySet().retainAll(ids);
+
+        List<Long> missing = ids.stream().filter(id -> !rows.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            postRepository.findListByIds(missing).forEach(row -> rows.put(row.getPostId(), row));
+        }
+    }
+
+    private List<PostTrendingResponse> toResponses(List<Map.Entry<Long, Long>> top) {
+        List<PostTrendingResponse> responses = new ArrayList<>(top.size());
+        for (Map.Entry<Long, Long> entry : top) {
+            PostListResponse row = rows.get(entry.getKey());
+            if (row != null) {
+                responses.add(PostTrendingResponse.of(responses.size() + 1, row, entry.getValue()));
+            }
+        }
+        return List.copyOf(responses);
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 쓰기 커밋 반영 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        switch (event.getType()) {
+            case DELETED -> removeDeleted(event.getPostId());
+            case UPDATED -> invalidateRow(event.getPostId());
+            default -> { }
+        }
+    }
+
+    // 순위 목록에서 바로 제외하고, 합계는 다음 갱신 때 정리 (갱신 중이면 끝난 뒤에 제외)
+    private synchronized void removeDeleted(Long postId) {
+        deletedIds.add(postId);
+        Ranking current = ranking;
+        ranking = new Ranking(without(current.hour(), postId), without(current.day(), postId));
+    }
+
+    private synchronized void invalidateRow(Long postId) {
+        rows.remove(postId); // 다음 갱신 때 바뀐 제목으로 다시 조회
+    }
+
+    private static List<PostTrendingResponse> without(List<PostTrendingResponse> list, Long postId) {
+        if (list.stream().noneMatch(post -> post.getPostId().equals(postId))) {
+            return list;
+        }
+        List<PostTrendingResponse> kept = new ArrayList<>(list.size());
+        for (PostTrendingResponse post : list) {
+            if (!post.getPostId().equals(postId)) {
+                kept.add(post.toBuilder().rank(kept.size() + 1).build());
+            }
+        }
+        return List.copyOf(kept);
+    }
+}
@@ -0,0 +1,64 @@
+package springboot_first.pr.service.post.comment;
+
+import springboot_first.pr.exception.BadRequestException;
+
+/**
+ * 댓글 경로(materialized path) 인코딩
+ * - 세그먼트 1개 = 댓글 id를 36진수(0-9, a-z) SEGMENT_LENGTH 자리로 왼쪽 0 채움 → 문자열 순서 = id 순서
+ * - 경로 = 루트부터 자기 자신까지 세그먼트를 이어 붙인 문자열 (구분자 없음, 고정 길이라 자리로 구분)
+ * - 어떤 댓글의 스레드(자신 + 모든 답글) = [path, upperBound(path)) 구간
+ *   (마지막 세그먼트를 id + 1로 바꾼 값, 숫자/소문자만 쓰므로 MySQL 기본 정렬(utf8mb4_0900_ai_ci)에서도 순서가 같음)
+ * 💡 커서로 내보내는 세그먼트도 이 형식 (클라이언트에게는 불투명 문자열)
+ */
+public final class CommentPath {
+
+    public static final int SEGMENT_LENGTH = 8; // 36^8 ≈ 2.8조 개 id
+    public static final int MAX_DEPTH = 10; // 이보다 깊은 답글은 마지막 깊이에 형제로 붙임 (comments.path 길이 80)
+
+    private static final int RADIX = 36;
+    private static final long MAX_ID = (long) Math.pow(RADIX, SEGMENT_LENGTH) - 1;
+
+    private CommentPath() {
+    }
+
+    public static String segment(long id) {
+        if (id < 0 || id > MAX_ID) {
+            throw new IllegalStateException("댓글 경로로 표현할 수 없는 id 입니다: " + id);
+        }
+        String digits = Long.toString(id, RADIX);
+        return "0".repeat(SEGMENT_LENGTH - digits.length()) + digits;
+    }
+
+    public static String append(String parentPath, long id) {
+        return parentPath + segment(id);
+    }
+
+    // 경로의 마지막 세그먼트 = 그 댓글의 id
+    public static long lastId(String path) {
+        return Long.parseLong(path.substring(path.length() - SEGMENT_LENGTH), RADIX);
+    }
+
+    public static String parentPath(String path) {
+        return path.substring(0, path.length() - SEGMENT_LENGTH);
+    }
+
+    // 이 경로의 스레드 범위 끝 (미포함) : 형제 중 바로 다음 id의 경로
+    public static String upperBound(String path) {
+        return parentPath(path) + segment(lastId(path) + 1);
+    }
+
+    /**
+     * 커서(세그먼트 1개) 해석
+     * ⚠️ 위/변조되었거나 형식이 잘못된 커서는 BadRequestException (400 Bad Request)
+     */
+    public static long decodeSegment(String cursor) {
+        if (cursor == null || cursor.length() != SEGMENT_LENGTH || !cursor.chars().allMatch(CommentPath::isDigit)) {
+            throw new BadRequestException("잘못된 커서 형식입니다: " + cursor);
+        }
+        return Long.parseLong(cursor, RADIX);
+    }
+
+    private static boolean isDigit(int c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z');
+    }
+}
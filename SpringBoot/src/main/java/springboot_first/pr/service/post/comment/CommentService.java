@@ -0,0 +1,176 @@
+package springboot_first.pr.service.post.comment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import springboot_first.pr.dto.commentDTO.request.CommentCreateRequest;
+import springboot_first.pr.dto.commentDTO.response.CommentPageResponse;
+import springboot_first.pr.dto.commentDTO.response.CommentResponse;
+import springboot_first.pr.entity.Comment;
+import springboot_first.pr.entity.User;
+import springboot_first.pr.exception.AuthenticationException;
+import springboot_first.pr.exception.ResourceNotFoundException;
+import springboot_first.pr.repository.CommentRepository;
+import springboot_first.pr.repository.PostRepository;
+import springboot_first.pr.repository.UserRepository;
+import springboot_first.pr.service.post.PostCountsChangedEvent;
+
+/**
+ * 게시글 댓글 (답글 트리)
+ * - 목록 : 최상위 댓글 id 키셋 1번 + 그 댓글들의 스레드 전체를 경로 범위 1번으로 읽고 CommentTree로 조립 (답글 수와 무관하게 쿼리 2번)
+ * - 작성/삭제 : 같은 트랜잭션에서 Posts.comment_count 를 증감 → 목록/상세는 COUNT 없이 댓글 수를 보여줌
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true) // 읽기 전용 트랜잭션 기본 설정
+public class CommentService {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher; // 커밋 후 상세 캐시(댓글 수) 무효화
+
+    /**
+     * 1️⃣ 댓글 / 답글 작성
+     * - parentId가 있으면 그 댓글의 답글, 최대 깊이(CommentPath.MAX_DEPTH)에 닿으면 부모의 형제로 붙임
+     * ⚠️ 없거나 삭제된 게시글 / 부모 댓글이면 ResourceNotFoundException (404)
+     */
+    @Transactional
+    public CommentResponse createComment(Long postId, String currentUserId, CommentCreateRequest request) {
+
+        // 1️⃣ 댓글 수 +1 : 게시글이 없거나 삭제됐으면 0건 (존재 확인을 겸함)
+        // 💡 같은 게시글의 댓글 작성은 이 행 잠금으로 순서대로 커밋됨
+        if (postRepository.addCommentCount(postId, 1) == 0) {
+            throw new ResourceNotFoundException("해당 게시글을 찾을 수 없거나 이미 삭제되었습니다. ID: " + postId);
+        }
+
+        // 2️⃣ 작성자 (위 UPDATE가 영속성 컨텍스트를 비우므로 그 뒤에 조회)
+        User author = userRepository.findByUserId(currentUserId)
+            .orElseThrow(() -> new AuthenticationException("작성자 정보를 찾을 수 없습니다."));
+
+        // 3️⃣ 부모 댓글 → 깊이 / 경로 결정
+        Long parentId = null;
+        int depth = 0;
+        String parentPath = "";
+        if (request.getParentId() != null) {
+            Comment parent = commentRepository.findActiveById(postId, request.getParentId())
+                .orElseThrow(() -> new ResourceNotFoundException("답글을 달 댓글을 찾을 수 없거나 이미 삭제되었습니다. ID: " + request.getParentId()));
+            if (parent.getDepth() + 1 < CommentPath.MAX_DEPTH) {
+                parentId = parent.getId();
+                depth = parent.getDepth() + 1;
+                parentPath = parent.getPath();
+            } else {
+                parentId = parent.getParentId();
+                depth = parent.getDepth();
+                parentPath = CommentPath.parentPath(parent.getPath());
+            }
+        }
+
+        // 4️⃣ INSERT 후 받은 id로 경로 완성 (커밋 전 flush 때 UPDATE)
+        Comment comment = commentRepository.save(
+            Comment.create(postRepository.getReferenceById(postId), author, parentId, depth, parentPath, request.getContent()));
+        comment.assignPath(CommentPath.append(parentPath, comment.getId()));
+        eventPublisher.publishEvent(new PostCountsChangedEvent(postId));
+
+        return CommentResponse.from(comment);
+    }
+
+    /**
+     * 2️⃣ 댓글 목록 (최상위 댓글 기준 커서 페이지, 각 댓글의 답글 트리 포함)
+     * - 첫 페이지는 cursor 생략(또는 빈 값), 이후에는 응답의 nextCursor를 그대로 전달
+     * ⚠️ 없거나 삭제된 게시글이면 404, 위/변조된 커서는 400
+     */
+    public CommentPageResponse findComments(Long postId, String cursor, int size) {
+        int limit = clampSize(size);
+        long afterId = StringUtils.hasText(cursor) ? CommentPath.decodeSegment(cursor) : 0L;
+
+        // 1️⃣ 이번 페이지의 최상위 댓글 id (+1건으로 다음 페이지 여부 확인)
+        List<Long> rootIds = commentRepository.findRootIds(postId, afterId, Limit.of(limit + 1));
+        if (rootIds.isEmpty()) {
+            requirePost(postId); // 댓글이 없는 것인지, 게시글이 없는 것인지 구분 (빈 페이지일 때만 조회)
+            return CommentPageResponse.of(List.of(), limit, null);
+        }
+        boolean hasNext = rootIds.size() > limit;
+        if (hasNext) {
+            rootIds = rootIds.subList(0, limit);
+        }
+
+        // 2️⃣ 최상위 댓글은 경로 = 자기 세그먼트라서, 첫 댓글 ~ 마지막 댓글의 스레드가 경로 구간 하나로 이어짐
+        long firstId = rootIds.get(0);
+        long lastId = rootIds.get(rootIds.size() - 1);
+        List<CommentResponse> rows = commentRepository.findTreeByPathRange(
+            postId, CommentPath.segment(firstId), CommentPath.segment(lastId + 1));
+
+        return CommentPageResponse.of(CommentTree.assemble(rows), limit, hasNext ? CommentPath.segment(lastId) : null);
+    }
+
+    /**
+     * 3️⃣ 댓글 하나의 스레드 (자신 + 모든 답글, 경로 범위 1번)
+     * - 답글이 많아 목록에서 접힌 스레드 펼치기 / 댓글 링크용
+     * ⚠️ 없는 댓글이거나 답글 없이 삭제된 댓글이면 404
+     */
+    public CommentResponse findThread(Long postId, Long commentId) {
+        String path = commentRepository.findPathById(postId, commentId)
+            .orElseThrow(() -> new ResourceNotFoundException("해당 댓글을 찾을 수 없습니다. ID: " + commentId));
+
+        List<CommentResponse> tree = CommentTree.assemble(
+            commentRepository.findTreeByPathRange(postId, path, CommentPath.upperBound(path)));
+        if (tree.isEmpty()) {
+            throw new ResourceNotFoundException("해당 댓글을 찾을 수 없습니다. ID: " + commentId);
+        }
+        return tree.get(0);
+    }
+
+    /**
+     * 4️⃣ 댓글 삭제 (Soft Delete, 작성자 본인만)
+     * - 답글이 있으면 "삭제된 댓글" 자리로 남고, 댓글 수에서는 바로 빠짐
+     */
+    @Transactional
+    public void deleteComment(Long postId, Long commentId, String currentUserId) {
+        if (commentRepository.softDeleteIfOwner(postId, commentId, currentUserId, LocalDateTime.now()) == 0) {
+            throw rejectedDelete(postId, commentId, currentUserId);
+        }
+        postRepository.addCommentCount(postId, -1);
+        eventPublisher.publishEvent(new PostCountsChangedEvent(postId));
+        log.info("댓글 삭제 완료. 게시글 ID: {}, 댓글 ID: {}", postId, commentId);
+    }
+
+    // 삭제 UPDATE가 0건일 때 원인별 예외 (실패한 경우에만 SELECT 1번)
+    private RuntimeException rejectedDelete(Long postId, Long commentId, String currentUserId) {
+        Optional<String> authorUserId = commentRepository.findAuthorUserIdById(postId, commentId);
+        if (authorUserId.isEmpty()) {
+            return new ResourceNotFoundException("해당 댓글을 찾을 수 없거나 이미 삭제되었습니다. ID: " + commentId);
+        }
+        if (!Objects.equals(authorUserId.get(), currentUserId)) {
+            return new AuthenticationException("댓글 삭제 권한이 없습니다. 본인의 댓글만 삭제 가능합니다.");
+        }
+        return new IllegalStateException("댓글 삭제에 실패했습니다. ID: " + commentId);
+    }
+
+    private void requirePost(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new ResourceNotFoundException("해당 게시글을 찾을 수 없습니다. ID: " + postId);
+        }
+    }
+
+    private static int clampSize(int size) {
+        if (size < 1) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+}
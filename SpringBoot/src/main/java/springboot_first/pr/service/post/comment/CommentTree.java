@@ -0,0 +1,49 @@
+package springboot_first.pr.service.post.comment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import springboot_first.pr.dto.commentDTO.response.CommentResponse;
+
+/**
+ * 경로 순으로 정렬된 댓글 행 → 트리 (한 번 훑기, O(n))
+ * - 경로 순이면 부모가 항상 자식보다 먼저 나오므로, 앞에서부터 id → 노드 맵에 넣으면서 부모의 children에 붙이면 됨
+ * - 부모가 이번 결과에 없는 행(스레드 조회의 시작 댓글)은 최상위로
+ * - 삭제된 댓글은 답글이 남아 있을 때만 자리(deleted=true)를 남기고, 답글이 없으면 뺌
+ */
+public final class CommentTree {
+
+    private CommentTree() {
+    }
+
+    public static List<CommentResponse> assemble(List<CommentResponse> rowsInPathOrder) {
+        Map<Long, CommentResponse> nodes = new HashMap<>(rowsInPathOrder.size() * 2);
+        List<CommentResponse> roots = new ArrayList<>();
+        for (CommentResponse row : rowsInPathOrder) {
+            CommentResponse parent = row.getParentId() == null ? null : nodes.get(row.getParentId());
+            if (parent == null) {
+                roots.add(row);
+            } else {
+                parent.addChild(row);
+            }
+            nodes.put(row.getCommentId(), row);
+        }
+        pruneDeletedLeaves(roots);
+        return roots;
+    }
+
+    // 아래에서부터 : 답글이 모두 빠진 삭제 댓글도 함께 빠짐 (재귀 깊이 ≤ CommentPath.MAX_DEPTH)
+    private static void pruneDeletedLeaves(List<CommentResponse> siblings) {
+        Iterator<CommentResponse> it = siblings.iterator();
+        while (it.hasNext()) {
+            CommentResponse node = it.next();
+            pruneDeletedLeaves(node.getChildren());
+            if (node.isDeleted() && node.getChildren().isEmpty()) {
+                it.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package springboot_first.pr.service.post.like;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.extern.slf4j.Slf4j;
+import springboot_first.pr.dto.postDTO.response.PostLikeResponse;
+import springboot_first.pr.entity.User;
+import springboot_first.pr.exception.AuthenticationException;
+import springboot_first.pr.exception.ResourceNotFoundException;
+import springboot_first.pr.repository.PostRepository;
+import springboot_first.pr.repository.UserRepository;
+import springboot_first.pr.service.post.PostCountsChangedEvent;
+
+/**
+ * 게시글 좋아요 / 좋아요 취소
+ * - 누가 눌렀는지는 post_likes 에 1행 (유니크 키 (post_id, user_id)), 좋아요 수는 post_like_shards 의 무작위 슬롯 1행에 ±1
+ *   → 인기 글에 초당 수백 건이 몰려도 Posts 행이나 카운터 1행의 잠금에 줄 서지 않음 (슬롯 수만큼 나뉨)
+ * - 좋아요 수 = Posts.like_count(압축분) + 슬롯 합계, PostLikeShardCompactor가 주기적으로 슬롯을 압축분으로 옮김
+ * - 슬롯 행은 게시글의 첫 좋아요 때 N개를 모두 만들어 두고 지우지 않음 → 이후 좋아요/취소는 기존 행 UPDATE 만 (갭 잠금 없음)
+ * - 같은 요청을 여러 번 보내도 결과가 같음 (이미 누른 좋아요 / 누르지 않은 취소는 아무것도 바꾸지 않음)
+ * 💡 잠금 순서 : 좋아요 INSERT(FK 확인으로 Posts 행 공유 잠금) → 슬롯 행, 압축 작업도 Posts 행 → 슬롯 행 순서라서 교착이 생기지 않음
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true) // 읽기 전용 트랜잭션 기본 설정
+public class PostLikeService {
+
+    private static final String INSERT_LIKE = "INSERT INTO post_likes (post_id, user_id, created_at) VALUES (?, ?, ?)";
+    private static final String DELETE_LIKE = "DELETE FROM post_likes WHERE post_id = ? AND user_id = ?";
+    private static final String ADD_TO_SHARD = "UPDATE post_like_shards SET like_count = like_count + ? WHERE post_id = ? AND slot = ?";
+    private static final String SELECT_SLOTS = "SELECT slot FROM post_like_shards WHERE post_id = ?";
+    private static final String INSERT_SHARD = "INSERT INTO post_like_shards (post_id, slot, like_count) VALUES (?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher; // 커밋 후 상세 캐시(좋아요 수) 무효화
+    private final int shards;
+
+    public PostLikeService(
+            JdbcTemplate jdbcTemplate,
+            PostRepository postRepository,
+            UserRepository userRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${post.like.shards:16}") int shards) {
+        if (shards < 1) {
+            throw new IllegalArgumentException("post.like.shards 는 1 이상이어야 합니다: " + shards);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.shards = shards;
+    }
+
+    /**
+     * 1️⃣ 좋아요
+     * ⚠️ 없거나 삭제된 게시글이면 ResourceNotFoundException (404)
+     */
+    @Transactional
+    public PostLikeResponse like(Long postId, String currentUserId) {
+        Long userId = requireUser(currentUserId).getId();
+        if (!postRepository.existsById(postId)) { // 잠금 없는 일관된 읽기 (Posts 행을 잠그지 않음)
+            throw new ResourceNotFoundException("해당 게시글을 찾을 수 없거나 이미 삭제되었습니다. ID: " + postId);
+        }
+
+        // 1️⃣ 좋아요 기록 : 유니크 키 충돌 = 이미 누른 좋아요 (동시에 두 번 누른 경우 포함)
+        boolean added;
+        try {
+            added = jdbcTemplate.update(INSERT_LIKE, postId, userId, LocalDateTime.now()) == 1;
+        } catch (DuplicateKeyException alreadyLiked) {
+            added = false;
+        }
+
+        // 2️⃣ 처음 누른 좋아요만 슬롯에 +1
+        if (added) {
+            addToRandomShard(postId, 1);
+            eventPublisher.publishEvent(new PostCountsChangedEvent(postId));
+        }
+        return PostLikeResponse.of(postId, true, likeCount(postId));
+    }
+
+    /**
+     * 2️⃣ 좋아요 취소
+     * - 누르지 않은 게시글의 취소는 아무것도 바꾸지 않음
+     * ⚠️ 없거나 삭제된 게시글이면 ResourceNotFoundException (404)
+     */
+    @Transactional
+    public PostLikeResponse unlike(Long postId, String currentUserId) {
+        Long userId = requireUser(currentUserId).getId();
+        if (!postRepository.existsById(postId)) { // 좋아요와 같이 먼저 확인 (삭제된 게시글의 좋아요 행은 지우지 않음)
+            throw new ResourceNotFoundException("해당 게시글을 찾을 수 없거나 이미 삭제되었습니다. ID: " + postId);
+        }
+
+        if (jdbcTemplate.update(DELETE_LIKE, postId, userId) == 1) {
+            addToRandomShard(postId, -1);
+            eventPublisher.publishEvent(new PostCountsChangedEvent(postId));
+        }
+        return PostLikeResponse.of(postId, false, likeCount(postId));
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 슬롯 증감 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    /**
+     * 무작위 슬롯 1행에 delta 더하기 (슬롯 행은 미리 만들어 두므로 UPDATE 1번)
+     * ⚠️ 없는 행을 UPDATE 하면 InnoDB가 그 자리에 갭 잠금을 걸고, 같은 갭에 INSERT 하려는 두 트랜잭션이 서로를 기다려 교착
+     *    → 없는 행을 UPDATE 하지 않도록 슬롯 행부터 확인해서 만든 뒤 UPDATE
+     */
+    private void addToRandomShard(Long postId, int delta) {
+        ensureShards(postId);
+        int slot = ThreadLocalRandom.current().nextInt(shards);
+        if (jdbcTemplate.update(ADD_TO_SHARD, delta, postId, slot) != 1) {
+            throw new IllegalStateException("좋아요 수 슬롯 행이 없습니다. postId=" + postId + ", slot=" + slot);
+        }
+    }
+
+    /**
+     * 빠진 슬롯 행(0 ~ shards-1)을 like_count 0 으로 만들기 (첫 좋아요, 또는 post.like.shards 를 늘린 뒤)
+     * - 확인은 잠금 없는 일관된 읽기, 만들기는 슬롯 번호 오름차순 → 동시에 만드는 트랜잭션은 같은 행에서 차례를 기다릴 뿐 교착 없음
+     * - 동시에 먼저 만들어진 슬롯은 유니크 키 충돌로 건너뜀
+     */
+    private void ensureShards(Long postId) {
+        Set<Integer> existing = new HashSet<>(jdbcTemplate.queryForList(SELECT_SLOTS, Integer.class, postId));
+        for (int slot = 0; slot < shards; slot++) {
+            if (existing.contains(slot)) {
+                continue;
+            }
+            try {
+                jdbcTemplate.update(INSERT_SHARD, postId, slot);
+            } catch (DuplicateKeyException createdConcurrently) {
+                // 다른 좋아요 트랜잭션이 먼저 만듦
+            }
+        }
+    }
+
+    private long likeCount(Long postId) {
+        return postRepository.findLikeCountById(postId)
+            .orElseThrow(() -> new ResourceNotFoundException("해당 게시글을 찾을 수 없거나 이미 삭제되었습니다. ID: " + postId));
+    }
+
+    private User requireUser(String currentUserId) {
+        return userRepository.findByUserId(currentUserId)
+            .orElseThrow(() -> new AuthenticationException("사용자 정보를 찾을 수 없습니다."));
+    }
+}
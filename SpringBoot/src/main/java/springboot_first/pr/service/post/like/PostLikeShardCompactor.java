@@ -0,0 +1,128 @@
+package springboot_first.pr.service.post.like;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좋아요 수 슬롯 압축
+ * - 슬롯 값이 커지고 음수/양수로 흩어지지 않도록 interval 마다 0이 아닌 슬롯 값을 Posts.like_count 로 옮김
+ * - 한 배치 = 트랜잭션 1개 : 0이 아닌 슬롯 batch-size 행 조회(잠금 없음) → Posts 에 게시글별 합계 더하기 → 각 슬롯에서 "읽은 값만큼" 빼기
+ * ⚠️ 0이 된 슬롯 행은 지우지 않음 : 지우면 다음 좋아요가 행을 다시 만들어야 하고(INSERT), 그 갭 잠금에서 좋아요 트랜잭션끼리 교착이 생김
+ *   💡 읽은 뒤 들어온 좋아요는 슬롯에 그대로 남으므로 잠금 없이 읽어도 합계가 어긋나지 않음 (커밋 전후 모두 압축분 + 슬롯 합계가 같음)
+ * - (게시글 id, 슬롯) PK 순으로 이어서 읽고, 1회 실행은 max-batches-per-run 배치까지만 처리 (남은 건 다음 실행에서)
+ * 💡 Posts 행 → 슬롯 행 순서로 잠가서 좋아요 트랜잭션(같은 순서)과 교착이 생기지 않음, 조회수처럼 버전 / 수정 시각은 바뀌지 않음
+ */
+@Slf4j
+@Component
+public class PostLikeShardCompactor {
+
+    private static final String SELECT_SHARDS =
+        "SELECT post_id, slot, like_count FROM post_like_shards "
+      + "WHERE (post_id > :afterId OR (post_id = :afterId AND slot > :afterSlot)) AND like_count <> 0 "
+      + "ORDER BY post_id, slot LIMIT :limit";
+    private static final String ADD_TO_POST = "UPDATE posts SET like_count = like_count + :delta WHERE id = :postId";
+    private static final String SUBTRACT_FROM_SHARD =
+        "UPDATE post_like_shards SET like_count = like_count - :delta WHERE post_id = :postId AND slot = :slot";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate batchTransaction;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final LongAdder compactedShards = new LongAdder(); // 📊 메트릭
+
+    public PostLikeShardCompactor(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${post.like.compaction.batch-size:1000}") int batchSize,
+            @Value("${post.like.compaction.max-batches-per-run:100}") int maxBatchesPerRun,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        meterRegistry.ifAvailable(registry -> FunctionCounter.builder("post.likes.compacted.shards", compactedShards, LongAdder::sum)
+            .description("Posts.like_count 로 옮긴 좋아요 수 슬롯 행 수")
+            .register(registry));
+    }
+
+    @Scheduled(initialDelayString = "${post.like.compaction.interval:1m}", fixedDelayString = "${post.like.compaction.interval:1m}")
+    public void compactOnSchedule() {
+        compact();
+    }
+
+    /**
+     * 슬롯 값을 Posts.like_count 로 옮김
+     * @return 이번 실행에서 처리한 슬롯 행 수 (이미 실행 중이면 0)
+     */
+    public int compact() {
+        if (!running.compareAndSet(false, true)) {
+            return 0;
+        }
+        int total = 0;
+        try {
+            Shard after = new Shard(0, -1, 0);
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                List<Shard> shards = new ArrayList<>(batchSize);
+                Shard from = after;
+                batchTransaction.executeWithoutResult(status -> shards.addAll(compactBatch(from)));
+                total += shards.size();
+                compactedShards.add(shards.size());
+                if (shards.size() < batchSize) {
+                    break; // 남은 슬롯 없음
+                }
+                after = shards.get(shards.size() - 1);
+            }
+        } finally {
+            running.set(false);
+        }
+        if (total > 0) {
+            log.debug("좋아요 수 슬롯 압축 완료. 슬롯: {}행", total);
+        }
+        return total;
+    }
+
+    // 배치 1개 : 트랜잭션 안에서 호출됨, 처리한 슬롯 행을 돌려줌
+    private List<Shard> compactBatch(Shard after) {
+        List<Shard> shards = jdbcTemplate.query(SELECT_SHARDS,
+            Map.of("afterId", after.postId(), "afterSlot", after.slot(), "limit", batchSize),
+            (rs, rowNum) -> new Shard(rs.getLong("post_id"), rs.getInt("slot"), rs.getLong("like_count")));
+        if (shards.isEmpty()) {
+            return shards;
+        }
+
+        // 1️⃣ 게시글별 합계 → Posts.like_count (게시글 id 순서로 잠금)
+        Map<Long, Long> sums = new LinkedHashMap<>();
+        shards.forEach(shard -> sums.merge(shard.postId(), shard.likeCount(), Long::sum));
+        jdbcTemplate.batchUpdate(ADD_TO_POST, sums.entrySet().stream()
+            .filter(sum -> sum.getValue() != 0)
+            .map(sum -> Map.<String, Object>of("delta", sum.getValue(), "postId", sum.getKey()))
+            .toArray(Map[]::new));
+
+        // 2️⃣ 슬롯에서 읽은 값만큼 빼기 (슬롯 행은 0으로 남겨 둠)
+        jdbcTemplate.batchUpdate(SUBTRACT_FROM_SHARD, shards.stream()
+            .map(shard -> Map.<String, Object>of("delta", shard.likeCount(), "postId", shard.postId(), "slot", shard.slot()))
+            .toArray(Map[]::new));
+        return shards;
+    }
+
+    private record Shard(long postId, int slot, long likeCount) {
+    }
+}
@@ -0,0 +1,62 @@
+package springboot_first.pr.service.post.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 한글용 문자 바이그램(2-gram) 토크나이저
+ * - 한글은 띄어쓰기 없이 단어가 이어지는 경우가 많아서 형태소 대신 글자 2개 단위로 잘라 색인합니다.
+ *   예) "레드와인" → 레드, 드와, 와인 (+ 한 글자 검색용 유니그램 레, 드, 와, 인)
+ * - 공백 기준으로 단어를 나눈 뒤 단어 내부에서만 n-gram을 만들고, 영문은 소문자로 정규화합니다.
+ */
+public final class BigramTokenizer {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private BigramTokenizer() {
+    }
+
+    /**
+     * 색인용 토큰 : 단어별 유니그램 + 바이그램
+     */
+    public static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    tokens.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어 토큰 : 한 글자 단어는 유니그램, 두 글자 이상은 바이그램만 사용 (모든 토큰을 포함해야 일치)
+     */
+    public static Set<String> queryTokens(String query) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(query)) {
+            if (word.length() == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    public static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT).trim();
+    }
+
+    private static String[] words(String text) {
+        String normalized = normalize(text);
+        return normalized.isEmpty() ? new String[0] : WHITESPACE.split(normalized);
+    }
+}
@@ -0,0 +1,199 @@
+package springboot_first.pr.service.post.search;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import springboot_first.pr.dto.postDTO.request.PostSearchRequest;
+import springboot_first.pr.dto.postDTO.response.PostListResponse;
+import springboot_first.pr.repository.TagCondition;
+import springboot_first.pr.service.post.AuthorIdCache;
+import springboot_first.pr.service.post.tag.PostTagIndex;
+import springboot_first.pr.service.post.tag.TagFilter;
+
+/**
+ * MySQL FULLTEXT 검색 엔진 (ngram 파서)
+ * - 제목/본문 조건을 MATCH ... AGAINST (BOOLEAN MODE) 로 바꿔서 FULLTEXT 인덱스를 사용합니다.
+ * - ngram 파서는 공백 없이 이어지는 한글도 2글자 단위로 잘라 색인하므로 한글 부분 검색에 적합합니다.
+ * - 검색어를 큰따옴표로 감싼 구문(phrase) 검색으로 보내서 LIKE '%검색어%' 와 최대한 비슷하게 동작시킵니다.
+ * ⚠️ MySQL 전용 (H2 등에서는 post.search.engine=like 사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "post.search.engine", havingValue = "fulltext")
+public class FullTextPostSearchEngine implements PostSearchEngine {
+
+    // ngram_token_size 기본값(2)보다 짧은 검색어는 FULLTEXT로 찾을 수 없으므로 LIKE로 처리
+    private static final int MIN_TOKEN_LENGTH = 2;
+
+    // Pageable 정렬 속성 → 컬럼 매핑 (이외의 속성은 무시하고 최신순)
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+        "createdAt", "p.created_at",
+        "updatedAt", "p.updated_at",
+        "title", "p.title",
+        "id", "p.id"
+    );
+
+    // 좋아요 수 = 압축분 + 슬롯 합계 (Post.likeCount @Formula 와 같은 식)
+    private static final String LIKE_COUNT =
+        "p.like_count + COALESCE((SELECT SUM(s.like_count) FROM post_like_shards s WHERE s.post_id = p.id), 0) AS like_count";
+
+    private static final RowMapper<PostListResponse> ROW_MAPPER = (rs, rowNum) -> new PostListResponse(
+        rs.getLong("id"),
+        rs.getString("title"),
+        rs.getString("username"),
+        rs.getTimestamp("created_at").toLocalDateTime(),
+        rs.getLong("view_count"),
+        rs.getInt("comment_count"),
+        rs.getLong("like_count")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final AuthorIdCache authorIdCache;
+    private final PostTagIndex postTagIndex;
+
+    @Value("${post.search.fulltext.create-index:true}")
+    private boolean createIndex;
+
+    @Override
+    public Page<PostListResponse> searchPage(PostSearchRequest cond, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String fromWhere = fromWhere(cond, params);
+
+        List<PostListResponse> content = jdbcTemplate.query(
+            select(fromWhere, pageable, pageable.getPageSize()), params, ROW_MAPPER);
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*)" + fromWhere, params, Long.class);
+
+        return new PageImpl<>(content, pageable, total == null ? 0 : total);
+    }
+
+    @Override
+    public Slice<PostListResponse> searchSlice(PostSearchRequest cond, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String fromWhere = fromWhere(cond, params);
+
+        List<PostListResponse> content = jdbcTemplate.query(
+            select(fromWhere, pageable, pageable.getPageSize() + 1), params, ROW_MAPPER); // 다음 페이지 확인용 1건 추가
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ SQL 생성 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    private String select(String fromWhere, Pageable pageable, int limit) {
+        return "SELECT p.id, p.title, u.username, p.created_at, p.view_count, p.comment_count, " + LIKE_COUNT + fromWhere
+             + orderBy(pageable.getSort())
+             + " LIMIT " + limit + " OFFSET " + pageable.getOffset();
+    }
+
+    // 💡 @SQLRestriction은 네이티브 쿼리에 적용되지 않으므로 deleted_at 조건을 직접 추가
+    private String fromWhere(PostSearchRequest cond, MapSqlParameterSource params) {
+        StringBuilder from = new StringBuilder(" FROM posts p JOIN users u ON u.id = p.user_id");
+        StringBuilder where = new StringBuilder(" WHERE p.deleted_at IS NULL");
+
+        // ① 제목 : MATCH(p.title) AGAINST ('"검색어"' IN BOOLEAN MODE)
+        if (StringUtils.hasText(cond.getTitle())) {
+            where.append(" AND ").append(matchOrLike("p.title", "title", cond.getTitle(), params));
+        }
+        // ② 내용 : 본문 조건이 있을 때만 post_bodies 조인
+        if (StringUtils.hasText(cond.getContent())) {
+            from.append(" JOIN post_bodies b ON b.id = p.body_id");
+            where.append(" AND ").append(matchOrLike("b.content", "content", cond.getContent(), params));
+        }
+        // ③ 작성자 : 이름 → 사용자 id 목록(캐시)으로 바꿔서 posts.user_id 인덱스 사용 (일치하는 회원이 없으면 결과 없음)
+        if (StringUtils.hasText(cond.getUsername())) {
+            List<Long> authorIds = authorIdCache.findIds(cond.getUsername());
+            where.append(authorIds.isEmpty() ? " AND 1 = 0" : " AND p.user_id IN (:authorIds)");
+            params.addValue("authorIds", authorIds);
+        }
+        // ④ 태그 : 비트맵 교집합 → 후보 id 목록 (후보가 많거나 색인 구축 전이면 OR 묶음마다 post_tags 서브쿼리)
+        TagCondition tags = postTagIndex.condition(TagFilter.parse(cond.getTags()));
+        switch (tags.kind()) {
+            case NO_MATCH -> where.append(" AND 1 = 0");
+            case IDS -> {
+                where.append(" AND p.id IN (:tagPostIds)");
+                params.addValue("tagPostIds", tags.postIds());
+            }
+            case SUBQUERY -> {
+                for (int i = 0; i < tags.groups().size(); i++) {
+                    where.append(" AND ").append(TagCondition.sqlGroup("p.id", "tagGroup" + i));
+                    params.addValue("tagGroup" + i, tags.groups().get(i));
+                }
+            }
+            case NONE -> { }
+        }
+        return from.append(where).toString();
+    }
+
+    private String matchOrLike(String column, String param, String keyword, MapSqlParameterSource params) {
+        String term = keyword.replace("\"", "").trim(); // 구문 검색용 따옴표와 충돌하지 않도록 제거
+        if (term.length() < MIN_TOKEN_LENGTH) {
+            params.addValue(param, "%" + keyword + "%");
+            return column + " LIKE :" + param;
+        }
+        params.addValue(param, "\"" + term + "\"");
+        return "MATCH(" + column + ") AGAINST (:" + param + " IN BOOLEAN MODE)";
+    }
+
+    private String orderBy(Sort sort) {
+        StringBuilder orderBy = new StringBuilder();
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column != null) {
+                orderBy.append(orderBy.isEmpty() ? " ORDER BY " : ", ")
+                       .append(column).append(order.isAscending() ? " ASC" : " DESC");
+            }
+        }
+        if (orderBy.isEmpty()) {
+            orderBy.append(" ORDER BY p.created_at DESC");
+        }
+        return orderBy.append(", p.id DESC").toString(); // 같은 시각 게시글의 순서 고정
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ FULLTEXT 인덱스 준비 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    /**
+     * 애플리케이션 시작 후(ddl-auto로 테이블이 준비된 뒤) FULLTEXT 인덱스가 없으면 생성
+     * - JPA @Index로는 FULLTEXT / WITH PARSER ngram 을 표현할 수 없어서 직접 DDL 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureFullTextIndexes() {
+        if (!createIndex) {
+            return;
+        }
+        createIfMissing("posts", "ft_posts_title", "title");
+        createIfMissing("post_bodies", "ft_post_bodies_content", "content");
+    }
+
+    private void createIfMissing(String table, String index, String column) {
+        Integer exists = jdbcTemplate.getJdbcTemplate().queryForObject(
+            "SELECT COUNT(*) FROM information_schema.statistics "
+          + "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+            Integer.class, table, index);
+
+        if (exists != null && exists == 0) {
+            log.info("FULLTEXT 인덱스 생성: {}.{} ({})", table, index, column);
+            jdbcTemplate.getJdbcTemplate().execute(
+                "ALTER TABLE " + table + " ADD FULLTEXT INDEX " + index + " (" + column + ") WITH PARSER ngram");
+        }
+    }
+}
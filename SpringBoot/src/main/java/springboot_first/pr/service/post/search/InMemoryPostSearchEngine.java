@@ -0,0 +1,174 @@
+package springboot_first.pr.service.post.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import springboot_first.pr.dto.postDTO.request.PostSearchRequest;
+import springboot_first.pr.dto.postDTO.response.PostListResponse;
+import springboot_first.pr.repository.PostRepository;
+import springboot_first.pr.service.post.IndexBuildState;
+import springboot_first.pr.service.post.PostUpdateLocks;
+import springboot_first.pr.service.post.PostChangedEvent;
+import springboot_first.pr.service.post.PostsImportedEvent;
+import springboot_first.pr.service.post.tag.PostIdBitmap;
+import springboot_first.pr.service.post.tag.PostTagIndex;
+import springboot_first.pr.service.post.tag.TagFilter;
+
+/**
+ * JVM 내장 역색인 검색 엔진 (DB FULLTEXT 인덱스를 쓸 수 없는 환경용)
+ * - 시작 시 PostRepository에서 전체 게시글을 id 순으로 나눠 읽어 InvertedPostIndex를 구축합니다.
+ * - 이후 작성/수정/삭제 커밋 이벤트로 해당 게시글만 색인을 갱신합니다.
+ * - 검색 조건 → 게시글 id 목록은 메모리에서 계산하고, DB는 최종 페이지의 id 목록을 읽을 때만 사용합니다.
+ * - 태그 조건은 PostTagIndex 비트맵으로 역색인 결과를 거릅니다.
+ * - 색인 구축이 끝나기 전이나 조건 없는 검색/지원하지 않는 정렬은 기본 LIKE 경로로 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "post.search.engine", havingValue = "memory")
+public class InMemoryPostSearchEngine implements PostSearchEngine {
+
+    private static final int BUILD_BATCH_SIZE = 1000;
+    private static final Set<String> SUPPORTED_SORTS = Set.of("createdAt", "id");
+
+    private final PostRepository postRepository;
+    private final PostSearchCriteriaResolver criteriaResolver;
+    private final PostTagIndex postTagIndex;
+
+    private final InvertedPostIndex index = new InvertedPostIndex();
+
+    // 색인 구축 중에 변경된 게시글 : 구축 배치가 이미 반영된 최신 상태를 오래된 데이터로 덮어쓰지 않도록 건너뜀
+    private final IndexBuildState buildState = new IndexBuildState();
+
+    // 같은 게시글의 커밋 이벤트는 "DB 읽기 → 반영"을 하나씩 (늦게 반영된 수정이 삭제를 되살리지 않도록)
+    private final PostUpdateLocks updateLocks = new PostUpdateLocks();
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 색인 구축/갱신 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        long started = System.currentTimeMillis();
+        long afterId = 0L;
+        List<PostIndexSource> batch;
+
+        do {
+            batch = postRepository.findIndexSourcesAfter(afterId, Limit.of(BUILD_BATCH_SIZE));
+            for (PostIndexSource source : batch) {
+                buildState.applyUnlessChanged(source.getPostId(), () -> upsert(source));
+                afterId = source.getPostId();
+            }
+        } while (batch.size() == BUILD_BATCH_SIZE);
+
+        buildState.finish(changed -> { }); // 바뀐 게시글은 이벤트가 이미 최신 상태로 반영함
+        log.info("게시글 역색인 구축 완료: {}건, {}ms", index.size(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener // 기본값: AFTER_COMMIT
+    public void onPostChanged(PostChangedEvent event) {
+        buildState.recordChange(event.getPostId());
+        updateLocks.run(event.getPostId(), () -> {
+            if (event.getType() == PostChangedEvent.Type.DELETED) {
+                index.remove(event.getPostId());
+                return;
+            }
+            postRepository.findIndexSourceById(event.getPostId())
+                .ifPresentOrElse(this::upsert, () -> index.remove(event.getPostId()));
+        });
+    }
+
+    // 일괄 가져오기 : 청크의 새 게시글을 id 범위 쿼리 1번으로 읽어서 색인
+    @TransactionalEventListener // 기본값: AFTER_COMMIT
+    public void onPostsImported(PostsImportedEvent event) {
+        buildState.recordChanges(event.getPostIds());
+        updateLocks.runAll(event.getPostIds(), () ->
+            postRepository.findIndexSourcesByIdRange(event.firstId(), event.lastId()).forEach(this::upsert));
+    }
+
+    private void upsert(PostIndexSource source) {
+        index.upsert(source.getPostId(), source.getTitle(), source.getContent(),
+            source.getAuthorUsername(), source.getCreatedAt());
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 검색 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    @Override
+    public Page<PostListResponse> searchPage(PostSearchRequest cond, Pageable pageable) {
+        TagFilter tags = TagFilter.parse(cond.getTags());
+        if (!canServe(cond, tags, pageable)) {
+            return postRepository.searchPage(criteriaResolver.resolve(cond), pageable);
+        }
+        long[] ids = matchingIds(cond, tags, pageable);
+        return new PageImpl<>(loadPage(ids, pageable.getOffset(), pageable.getPageSize()), pageable, ids.length);
+    }
+
+    @Override
+    public Slice<PostListResponse> searchSlice(PostSearchRequest cond, Pageable pageable) {
+        TagFilter tags = TagFilter.parse(cond.getTags());
+        if (!canServe(cond, tags, pageable)) {
+            return postRepository.searchSlice(criteriaResolver.resolve(cond), pageable);
+        }
+        long[] ids = matchingIds(cond, tags, pageable);
+        boolean hasNext = ids.length > pageable.getOffset() + pageable.getPageSize();
+        return new SliceImpl<>(loadPage(ids, pageable.getOffset(), pageable.getPageSize()), pageable, hasNext);
+    }
+
+    // 색인 준비 완료 + 검색 조건 존재 + 작성일/id 정렬일 때만 메모리 검색 (태그 조건이 있으면 태그 색인도 준비 완료)
+    // 💡 태그 조건만 있으면 기본 경로도 태그 비트맵의 후보 id로 검색하므로 그쪽으로 넘김
+    private boolean canServe(PostSearchRequest cond, TagFilter tags, Pageable pageable) {
+        boolean hasCondition = StringUtils.hasText(cond.getTitle())
+            || StringUtils.hasText(cond.getContent())
+            || StringUtils.hasText(cond.getUsername());
+        boolean supportedSort = pageable.getSort().stream()
+            .allMatch(order -> SUPPORTED_SORTS.contains(order.getProperty()));
+        return buildState.isReady() && hasCondition && supportedSort && (tags.isEmpty() || postTagIndex.isReady());
+    }
+
+    private long[] matchingIds(PostSearchRequest cond, TagFilter tags, Pageable pageable) {
+        Sort.Order first = pageable.getSort().stream().findFirst().orElse(Sort.Order.desc("createdAt"));
+        long[] ids = index.search(cond.getTitle(), cond.getContent(), cond.getUsername(), first.isAscending());
+        if (tags.isEmpty()) {
+            return ids;
+        }
+        PostIdBitmap tagged = postTagIndex.resolve(tags).orElseThrow();
+        return Arrays.stream(ids).filter(tagged::contains).toArray();
+    }
+
+    // 최종 페이지에 해당하는 id만 DB에서 읽고, 색인 순서대로 다시 정렬
+    private List<PostListResponse> loadPage(long[] ids, long offset, int size) {
+        if (offset >= ids.length) {
+            return List.of();
+        }
+        List<Long> pageIds = Arrays.stream(ids, (int) offset, (int) Math.min(ids.length, offset + size))
+            .boxed()
+            .toList();
+
+        Map<Long, PostListResponse> loaded = postRepository.findListByIds(pageIds).stream()
+            .collect(Collectors.toMap(PostListResponse::getPostId, Function.identity()));
+
+        return pageIds.stream()
+            .map(loaded::get)
+            .filter(Objects::nonNull) // 그 사이 삭제된 게시글 제외
+            .toList();
+    }
+}
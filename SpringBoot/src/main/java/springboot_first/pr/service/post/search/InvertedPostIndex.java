@@ -0,0 +1,169 @@
+package springboot_first.pr.service.post.search;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * 게시글 제목/본문/작성자 역색인 (JVM 메모리)
+ * - 토큰(바이그램) → 게시글 id 포스팅 리스트(long[]) 구조
+ * - 검색은 검색어 토큰들의 포스팅 리스트 교집합으로 후보 id를 구하고,
+ *   제목은 메모리에 보관한 제목으로 부분 문자열 일치까지 확인합니다.
+ * - 본문은 원문을 보관하지 않으므로 "모든 바이그램 포함" 기준으로 일치 판단 (MySQL ngram FULLTEXT와 같은 방식)
+ * - 읽기/쓰기 락으로 검색(다수)과 색인 갱신(소수)을 동시에 처리합니다.
+ */
+public class InvertedPostIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, PostingList> titlePostings = new HashMap<>();
+    private final Map<String, PostingList> contentPostings = new HashMap<>();
+    private final Map<String, PostingList> authorPostings = new HashMap<>();
+    private final Map<Long, Doc> docs = new HashMap<>();
+
+    // 색인된 게시글 정보 : 제목(정규화), 작성자(정규화), 작성일, 본문 토큰(삭제/수정 시 포스팅 제거용)
+    private record Doc(String title, String username, LocalDateTime createdAt, String[] contentTokens) {
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 색인 갱신 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    /**
+     * 게시글 색인 추가 또는 교체 (작성/수정)
+     */
+    public void upsert(long id, String title, String content, String username, LocalDateTime createdAt) {
+        // 토큰화는 락 밖에서 미리 수행 (락 점유 시간 최소화)
+        String normalizedTitle = BigramTokenizer.normalize(title);
+        Set<String> titleTokens = BigramTokenizer.tokenize(normalizedTitle);
+        String[] contentTokens = BigramTokenizer.tokenize(content).toArray(String[]::new);
+        Doc doc = new Doc(normalizedTitle, BigramTokenizer.normalize(username), createdAt, contentTokens);
+
+        lock.writeLock().lock();
+        try {
+            Doc old = docs.remove(id);
+            if (old != null) {
+                unindex(id, old);
+            }
+            docs.put(id, doc);
+            titleTokens.forEach(token -> posting(titlePostings, token).add(id));
+            for (String token : contentTokens) {
+                posting(contentPostings, token).add(id);
+            }
+            posting(authorPostings, doc.username()).add(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 색인 제거 (삭제)
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Doc old = docs.remove(id);
+            if (old != null) {
+                unindex(id, old);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 검색 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    /**
+     * 조건에 맞는 게시글 id 목록 (작성일 → id 순 정렬)
+     * @param title 제목 검색어 (부분 일치, 없으면 null)
+     * @param content 본문 검색어 (바이그램 전체 포함, 없으면 null)
+     * @param username 작성자 이름 (정확히 일치, 없으면 null)
+     * @param ascending true면 오래된 순, false면 최신순
+     */
+    public long[] search(String title, String content, String username, boolean ascending) {
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>();
+            if (StringUtils.hasText(title) && !collect(titlePostings, BigramTokenizer.queryTokens(title), lists)) {
+                return EMPTY;
+            }
+            if (StringUtils.hasText(content) && !collect(contentPostings, BigramTokenizer.queryTokens(content), lists)) {
+                return EMPTY;
+            }
+            if (StringUtils.hasText(username) && !collect(authorPostings, Set.of(BigramTokenizer.normalize(username)), lists)) {
+                return EMPTY;
+            }
+
+            long[] candidates = lists.isEmpty()
+                ? docs.keySet().stream().mapToLong(Long::longValue).toArray()
+                : PostingList.intersect(lists);
+
+            // 제목은 바이그램 후보를 실제 부분 문자열 일치로 한 번 더 확인
+            String normalizedTitle = StringUtils.hasText(title) ? BigramTokenizer.normalize(title) : null;
+            Comparator<Long> order = Comparator
+                .comparing((Long id) -> docs.get(id).createdAt(), Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(Comparator.naturalOrder());
+
+            return Arrays.stream(candidates)
+                .filter(id -> normalizedTitle == null || docs.get(id).title().contains(normalizedTitle))
+                .boxed()
+                .sorted(ascending ? order : order.reversed())
+                .mapToLong(Long::longValue)
+                .toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 내부 처리 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    // 토큰 하나라도 포스팅이 없으면 결과가 없으므로 false
+    private boolean collect(Map<String, PostingList> postings, Set<String> tokens, List<PostingList> into) {
+        for (String token : tokens) {
+            PostingList list = postings.get(token);
+            if (list == null || list.isEmpty()) {
+                return false;
+            }
+            into.add(list);
+        }
+        return true;
+    }
+
+    private void unindex(long id, Doc doc) {
+        for (String token : BigramTokenizer.tokenize(doc.title())) {
+            removePosting(titlePostings, token, id);
+        }
+        for (String token : doc.contentTokens()) {
+            removePosting(contentPostings, token, id);
+        }
+        removePosting(authorPostings, doc.username(), id);
+    }
+
+    private static PostingList posting(Map<String, PostingList> postings, String token) {
+        return postings.computeIfAbsent(token, key -> new PostingList());
+    }
+
+    private static void removePosting(Map<String, PostingList> postings, String token, long id) {
+        PostingList list = postings.get(token);
+        if (list != null && list.remove(id) && list.isEmpty()) {
+            postings.remove(token); // 빈 포스팅 리스트는 제거해서 메모리 회수
+        }
+    }
+}
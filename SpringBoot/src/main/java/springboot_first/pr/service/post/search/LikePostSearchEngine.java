@@ -0,0 +1,35 @@
+package springboot_first.pr.service.post.search;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import springboot_first.pr.dto.postDTO.request.PostSearchRequest;
+import springboot_first.pr.dto.postDTO.response.PostListResponse;
+import springboot_first.pr.repository.PostRepository;
+
+/**
+ * 기본 검색 엔진 : Criteria API + LIKE '%검색어%'
+ * - 인덱스를 사용할 수 없어서 게시글이 많아질수록 느려지지만, 어떤 DB에서도 동작합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "post.search.engine", havingValue = "like", matchIfMissing = true)
+public class LikePostSearchEngine implements PostSearchEngine {
+
+    private final PostRepository postRepository;
+    private final PostSearchCriteriaResolver criteriaResolver;
+
+    @Override
+    public Page<PostListResponse> searchPage(PostSearchRequest cond, Pageable pageable) {
+        return postRepository.searchPage(criteriaResolver.resolve(cond), pageable);
+    }
+
+    @Override
+    public Slice<PostListResponse> searchSlice(PostSearchRequest cond, Pageable pageable) {
+        return postRepository.searchSlice(criteriaResolver.resolve(cond), pageable);
+    }
+}
@@ -0,0 +1,21 @@
+package springboot_first.pr.service.post.search;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 역색인 구축용 게시글 데이터 (JPQL 생성자 프로젝션)
+ * - PostRepository.findIndexSources... 쿼리에서 게시글/작성자/본문을 한 번에 읽어옵니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostIndexSource {
+
+    private Long postId;
+    private String title;
+    private String authorUsername;
+    private LocalDateTime createdAt;
+    private String content;
+}
@@ -0,0 +1,34 @@
+package springboot_first.pr.service.post.search;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import lombok.RequiredArgsConstructor;
+import springboot_first.pr.dto.postDTO.request.PostSearchRequest;
+import springboot_first.pr.repository.PostSearchCriteria;
+import springboot_first.pr.repository.TagCondition;
+import springboot_first.pr.service.post.AuthorIdCache;
+import springboot_first.pr.service.post.tag.PostTagIndex;
+import springboot_first.pr.service.post.tag.TagFilter;
+
+/**
+ * 검색 요청 → 검색 리포지토리 조건 변환
+ * - 작성자 이름은 AuthorIdCache로 사용자 id 목록으로 바꿔서 넘깁니다. (posts.user_id IN (...) 조건)
+ * - 태그는 PostTagIndex 비트맵으로 후보 게시글 id(또는 서브쿼리 묶음)를 구해서 넘깁니다.
+ * ⚠️ 태그 형식이 틀리면 BadRequestException (400)
+ */
+@Component
+@RequiredArgsConstructor
+public class PostSearchCriteriaResolver {
+
+    private final AuthorIdCache authorIdCache;
+    private final PostTagIndex postTagIndex;
+
+    public PostSearchCriteria resolve(PostSearchRequest cond) {
+        List<Long> authorIds = StringUtils.hasText(cond.getUsername()) ? authorIdCache.findIds(cond.getUsername()) : null;
+        TagCondition tags = postTagIndex.condition(TagFilter.parse(cond.getTags()));
+        return new PostSearchCriteria(cond.getTitle(), cond.getContent(), authorIds, tags);
+    }
+}
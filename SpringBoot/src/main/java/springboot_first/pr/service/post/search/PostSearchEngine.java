@@ -0,0 +1,25 @@
+package springboot_first.pr.service.post.search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import springboot_first.pr.dto.postDTO.request.PostSearchRequest;
+import springboot_first.pr.dto.postDTO.response.PostListResponse;
+
+/**
+ * 게시글 통합 검색 엔진 (제목, 내용, 작성자 이름)
+ * - PostService.searchPosts 뒤에서 실제 검색을 수행하는 백엔드를 추상화합니다.
+ * - 구현체는 post.search.engine 속성으로 하나만 선택됩니다.
+ *   · like     : LikePostSearchEngine (기본값, LIKE '%검색어%', H2 테스트 포함 어디서나 동작)
+ *   · fulltext : FullTextPostSearchEngine (MySQL FULLTEXT + ngram 파서, 한글 검색용 인덱스 사용)
+ *   · memory   : InMemoryPostSearchEngine (JVM 내장 바이그램 역색인, DB 인덱스 없이 한글 검색)
+ */
+public interface PostSearchEngine {
+
+    // 1️⃣ 통합 검색 (데이터 + 전체 개수)
+    Page<PostListResponse> searchPage(PostSearchRequest cond, Pageable pageable);
+
+    // 2️⃣ 통합 검색 (전체 개수 없이 hasNext만 판단)
+    Slice<PostListResponse> searchSlice(PostSearchRequest cond, Pageable pageable);
+}
@@ -0,0 +1,92 @@
+package springboot_first.pr.service.post.search;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 역색인 포스팅 리스트 : 토큰이 등장한 게시글 id를 오름차순 long[] 로 보관
+ * - 박싱된 Long / TreeSet 대신 원시 배열을 써서 게시글 1건당 8바이트만 사용합니다.
+ * - 새 글은 id가 가장 크므로 대부분 배열 끝에 추가(append)됩니다.
+ * ⚠️ 동기화하지 않음 : InvertedPostIndex의 락 안에서만 사용
+ */
+final class PostingList {
+
+    private static final long[] EMPTY = new long[0];
+
+    private long[] ids = new long[4];
+    private int size;
+
+    boolean add(long id) {
+        int idx = Arrays.binarySearch(ids, 0, size, id);
+        if (idx >= 0) {
+            return false; // 이미 포함
+        }
+        int insertAt = -idx - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+        return true;
+    }
+
+    boolean remove(long id) {
+        int idx = Arrays.binarySearch(ids, 0, size, id);
+        if (idx < 0) {
+            return false;
+        }
+        System.arraycopy(ids, idx + 1, ids, idx, size - idx - 1);
+        size--;
+        if (ids.length > 16 && size < ids.length / 4) {
+            ids = Arrays.copyOf(ids, ids.length / 2); // 삭제가 많으면 배열 축소
+        }
+        return true;
+    }
+
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * 여러 포스팅 리스트의 교집합 (AND 검색)
+     * - 가장 짧은 리스트를 기준으로 나머지 리스트에 이진 탐색 → O(min * log(max))
+     */
+    static long[] intersect(List<PostingList> lists) {
+        if (lists.isEmpty()) {
+            return EMPTY;
+        }
+        PostingList smallest = lists.get(0);
+        for (PostingList list : lists) {
+            if (list.size < smallest.size) {
+                smallest = list;
+            }
+        }
+
+        long[] result = new long[smallest.size];
+        int count = 0;
+        outer:
+        for (int i = 0; i < smallest.size; i++) {
+            long id = smallest.ids[i];
+            for (PostingList list : lists) {
+                if (list != smallest && !list.contains(id)) {
+                    continue outer;
+                }
+            }
+            result[count++] = id;
+        }
+        return Arrays.copyOf(result, count);
+    }
+}
@@ -0,0 +1,357 @@
+package springboot_first.pr.service.post.suggest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+import springboot_first.pr.service.post.search.BigramTokenizer;
+
+/**
+ * 게시글 제목/작성자 이름 자동완성 색인 (압축 트라이 = Radix Tree, JVM 메모리)
+ * - 간선 하나에 여러 글자를 담아 노드 수를 줄이고, 각 노드에 "하위 트리에서 가장 최근 항목 TOP_K"를 미리 계산해 둡니다.
+ * - 조회는 접두어 길이만큼 간선을 따라 내려가 해당 노드의 목록을 복사하는 것이 전부라 DB 조회가 없습니다.
+ * - 제목/이름은 단어 시작 위치마다 색인하므로 "와인"으로 "보르도 와인 리뷰"도 찾을 수 있습니다.
+ * - 갱신은 바뀐 항목이 속한 경로의 노드만 다시 계산합니다.
+ */
+public class PostSuggestIndex {
+
+    // 노드마다 미리 계산해 두는 추천 개수 (= 한 번에 돌려줄 수 있는 최대 개수)
+    public static final int TOP_K = 10;
+
+    // 한 문자열에서 색인할 단어 시작 위치 최대 개수 (긴 제목으로 트라이가 커지는 것 방지)
+    private static final int MAX_WORD_KEYS = 8;
+
+    private static final Pattern WORD_START = Pattern.compile("(?<=\\s)\\S");
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Node root = new Node("");
+    private final Map<EntryKey, Entry> entries = new HashMap<>();
+    private final Map<Long, PostRef> posts = new HashMap<>();
+
+    public enum Type {
+        TITLE, AUTHOR
+    }
+
+    /**
+     * 자동완성 결과 1건
+     * @param postId 해당 문자열을 가진 가장 최근 게시글 id
+     * @param lastPostedAt 해당 게시글의 작성일 (정렬 기준)
+     */
+    public record Suggestion(Type type, String text, long postId, LocalDateTime lastPostedAt) {
+    }
+
+    // 색인된 게시글 : 수정/삭제 시 이전 항목을 찾기 위해 보관
+    private record PostRef(String title, String username, LocalDateTime createdAt) {
+    }
+
+    private record EntryKey(Type type, String normalized) {
+    }
+
+    // 항목을 참조하는 게시글 (작성일 → id 순, 마지막이 가장 최근)
+    private record Ref(LocalDateTime createdAt, long postId) implements Comparable<Ref> {
+
+        private static final Comparator<Ref> ORDER = Comparator
+            .comparing(Ref::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparingLong(Ref::postId);
+
+        @Override
+        public int compareTo(Ref other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    // 자동완성 항목 : 같은 제목(정규화 기준)/같은 작성자의 게시글들을 하나로 묶음
+    private static final class Entry {
+
+        private static final Comparator<Entry> RECENT_FIRST = Comparator
+            .comparing((Entry entry) -> entry.latest(), Comparator.reverseOrder())
+            .thenComparing(entry -> entry.text);
+
+        private final EntryKey key;
+        private final TreeSet<Ref> refs = new TreeSet<>();
+        private String text; // 화면에 보여줄 원문 (가장 최근에 색인된 게시글 기준)
+
+        private Entry(EntryKey key) {
+            this.key = key;
+        }
+
+        private Ref latest() {
+            return refs.last();
+        }
+
+        private Suggestion toSuggestion() {
+            Ref latest = latest();
+            return new Suggestion(key.type(), text, latest.postId(), latest.createdAt());
+        }
+    }
+
+    // 트라이 노드 : label = 부모에서 이 노드로 오는 간선의 문자열
+    private static final class Node {
+
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<Entry> terminals = new ArrayList<>(1);
+        private Entry[] top = new Entry[0];
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        // 루트(빈 접두어)는 조회 대상이 아니므로 TOP_K를 계산하지 않음 (자식 수가 가장 많은 노드)
+        private boolean isRoot() {
+            return label.isEmpty();
+        }
+
+        // 자신의 항목 + 자식 노드들의 TOP_K를 합쳐 다시 계산
+        private void refreshTop() {
+            Set<Entry> candidates = new LinkedHashSet<>(terminals);
+            for (Node child : children.values()) {
+                for (Entry entry : child.top) {
+                    candidates.add(entry);
+                }
+            }
+            top = candidates.stream()
+                .filter(entry -> !entry.refs.isEmpty()) // 제거 중인 항목 제외
+                .sorted(Entry.RECENT_FIRST)
+                .limit(TOP_K)
+                .toArray(Entry[]::new);
+        }
+
+        // 항목의 순위가 올라가기만 한 경우(게시글 추가) : 자식 전체를 다시 합치지 않고 기존 TOP_K에 이 항목만 끼워 넣음
+        private void promote(Entry entry) {
+            int at = Arrays.asList(top).indexOf(entry);
+            if (at < 0) {
+                if (top.length == TOP_K && Entry.RECENT_FIRST.compare(entry, top[TOP_K - 1]) >= 0) {
+                    return; // TOP_K 안에 들지 못함
+                }
+                at = Math.min(top.length, TOP_K - 1);
+                top = Arrays.copyOf(top, at + 1); // 가득 찼으면 마지막(가장 오래된) 항목 자리를 재사용
+                top[at] = entry;
+            }
+            while (at > 0 && Entry.RECENT_FIRST.compare(top[at], top[at - 1]) < 0) {
+                Entry swap = top[at - 1];
+                top[at - 1] = top[at];
+                top[at] = swap;
+                at--;
+            }
+        }
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 색인 갱신 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    /**
+     * 게시글 색인 추가 또는 교체 (작성/수정)
+     */
+    public void upsert(long postId, String title, String username, LocalDateTime createdAt) {
+        lock.writeLock().lock();
+        try {
+            PostRef old = posts.remove(postId);
+            if (old != null) {
+                detach(postId, old);
+            }
+            PostRef ref = new PostRef(title, username, createdAt);
+            posts.put(postId, ref);
+            attach(Type.TITLE, title, new Ref(createdAt, postId));
+            attach(Type.AUTHOR, username, new Ref(createdAt, postId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 색인 제거 (삭제)
+     */
+    public void remove(long postId) {
+        lock.writeLock().lock();
+        try {
+            PostRef old = posts.remove(postId);
+            if (old != null) {
+                detach(postId, old);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return posts.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 조회 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    /**
+     * 접두어로 시작하는 제목/작성자 이름을 최신순으로 최대 limit(≤ TOP_K)건 반환
+     * - 빈 접두어는 빈 목록 (전체 최신글은 목록 API 사용)
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String rest = BigramTokenizer.normalize(prefix);
+        if (rest.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            while (!rest.isEmpty()) {
+                Node child = node.children.get(rest.charAt(0));
+                if (child == null) {
+                    return List.of();
+                }
+                if (rest.length() <= child.label.length()) {
+                    // 접두어가 간선 중간에서 끝나는 경우 : 간선이 접두어로 시작하면 그 노드가 결과
+                    if (!child.label.startsWith(rest)) {
+                        return List.of();
+                    }
+                    rest = "";
+                } else {
+                    if (!rest.startsWith(child.label)) {
+                        return List.of();
+                    }
+                    rest = rest.substring(child.label.length());
+                }
+                node = child;
+            }
+
+            int count = Math.min(limit, node.top.length);
+            List<Suggestion> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(node.top[i].toSuggestion());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 내부 처리 (쓰기 락 안에서만 호출) 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    private void attach(Type type, String text, Ref ref) {
+        String normalized = BigramTokenizer.normalize(text);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        Entry entry = entries.computeIfAbsent(new EntryKey(type, normalized), Entry::new);
+        entry.refs.add(ref);
+        if (entry.latest().equals(ref)) {
+            entry.text = text.trim();
+        }
+        // 새 항목이면 경로 생성, 기존 항목이면 최신 작성일이 바뀌었을 수 있으므로 경로의 TOP_K에 반영 (순위는 오르기만 함)
+        for (String key : keys(normalized)) {
+            insert(root, key, entry, true);
+        }
+    }
+
+    private void detach(long postId, PostRef old) {
+        detachRef(Type.TITLE, old.title(), new Ref(old.createdAt(), postId));
+        detachRef(Type.AUTHOR, old.username(), new Ref(old.createdAt(), postId));
+    }
+
+    private void detachRef(Type type, String text, Ref ref) {
+        String normalized = BigramTokenizer.normalize(text);
+        Entry entry = entries.get(new EntryKey(type, normalized));
+        if (entry == null) {
+            return;
+        }
+        entry.refs.remove(ref);
+        boolean empty = entry.refs.isEmpty();
+        if (empty) {
+            entries.remove(entry.key);
+        }
+        for (String key : keys(normalized)) {
+            if (empty) {
+                remove(root, key, entry);
+            } else {
+                insert(root, key, entry, false); // 최신 게시글이 빠졌으면 순위가 내려갈 수 있으므로 전체 재계산
+            }
+        }
+    }
+
+    // 문자열 전체 + 두 번째 단어부터 각 단어 시작 위치의 접미 문자열
+    private static List<String> keys(String normalized) {
+        List<String> keys = new ArrayList<>();
+        keys.add(normalized);
+        var matcher = WORD_START.matcher(normalized);
+        while (matcher.find() && keys.size() < MAX_WORD_KEYS) {
+            keys.add(normalized.substring(matcher.start()));
+        }
+        return keys;
+    }
+
+    // rest 경로에 항목을 연결하고(이미 있으면 그대로) 되돌아오면서 TOP_K 갱신
+    // - raised : 항목의 순위가 오르기만 했으면 promote(), 아니면 refreshTop()
+    private static void insert(Node node, String rest, Entry entry, boolean raised) {
+        if (rest.isEmpty()) {
+            if (!node.terminals.contains(entry)) {
+                node.terminals.add(entry);
+            }
+        } else {
+            Node child = node.children.get(rest.charAt(0));
+            if (child == null) {
+                child = new Node(rest);
+                node.children.put(rest.charAt(0), child);
+                insert(child, "", entry, raised);
+            } else {
+                int common = commonPrefixLength(child.label, rest);
+                if (common < child.label.length()) {
+                    // 간선 분할 : [공통 부분] → [나머지 간선]
+                    Node split = new Node(child.label.substring(0, common));
+                    child.label = child.label.substring(common);
+                    split.children.put(child.label.charAt(0), child);
+                    node.children.put(split.label.charAt(0), split);
+                    split.top = child.top.clone(); // 분할 노드의 하위 = 기존 자식 하위
+                    child = split;
+                }
+                insert(child, rest.substring(common), entry, raised);
+            }
+        }
+        if (node.isRoot()) {
+            return;
+        }
+        if (raised) {
+            node.promote(entry);
+        } else {
+            node.refreshTop();
+        }
+    }
+
+    // rest 경로에서 항목을 제거하고, 비어 버린 노드는 부모에서 잘라냄 (반환값: 이 노드가 비었는지)
+    private static boolean remove(Node node, String rest, Entry entry) {
+        if (rest.isEmpty()) {
+            node.terminals.remove(entry);
+        } else {
+            Node child = node.children.get(rest.charAt(0));
+            if (child != null && rest.startsWith(child.label)
+                    && remove(child, rest.substring(child.label.length()), entry)) {
+                node.children.remove(child.label.charAt(0));
+            }
+        }
+        if (!node.isRoot()) {
+            node.refreshTop();
+        }
+        return node.terminals.isEmpty() && node.children.isEmpty();
+    }
+
+    private static int commonPrefixLength(String a, String b) {
+        int max = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < max && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,99 @@
+package springboot_first.pr.service.post.suggest;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import springboot_first.pr.dto.postDTO.response.PostListResponse;
+import springboot_first.pr.dto.postDTO.response.PostSuggestResponse;
+import springboot_first.pr.repository.PostRepository;
+import springboot_first.pr.service.post.IndexBuildState;
+import springboot_first.pr.service.post.PostUpdateLocks;
+import springboot_first.pr.service.post.PostChangedEvent;
+import springboot_first.pr.service.post.PostsImportedEvent;
+
+/**
+ * 검색창 자동완성 서비스
+ * - 시작 시 전체 게시글의 제목/작성자 이름으로 PostSuggestIndex를 구축하고,
+ *   작성/수정/삭제 커밋 이벤트마다 해당 게시글만 갱신합니다.
+ * - 조회(suggest)는 메모리 트라이만 사용하며 DB에 접근하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSuggestService {
+
+    private static final int BUILD_BATCH_SIZE = 1000;
+
+    private final PostRepository postRepository;
+
+    private final PostSuggestIndex index = new PostSuggestIndex();
+
+    // 색인 구축 중에 변경된 게시글 id : 구축 배치의 오래된 데이터로 덮어쓰지 않도록 건너뜀
+    private final IndexBuildState buildState = new IndexBuildState();
+
+    // 같은 게시글의 커밋 이벤트는 "DB 읽기 → 반영"을 하나씩 (늦게 반영된 수정이 삭제된 글이나 이전 제목을 되살리지 않도록)
+    private final PostUpdateLocks updateLocks = new PostUpdateLocks();
+
+    /**
+     * 접두어 자동완성 (최신 게시글 순, 최대 PostSuggestIndex.TOP_K 건)
+     */
+    public List<PostSuggestResponse> suggest(String prefix, int size) {
+        int limit = Math.max(1, Math.min(size, PostSuggestIndex.TOP_K));
+        return index.suggest(prefix, limit).stream()
+            .map(PostSuggestResponse::from)
+            .toList();
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 색인 구축/갱신 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        long started = System.currentTimeMillis();
+        long afterId = 0L;
+        List<PostListResponse> batch;
+
+        do {
+            batch = postRepository.findListAfterId(afterId, Limit.of(BUILD_BATCH_SIZE));
+            for (PostListResponse post : batch) {
+                buildState.applyUnlessChanged(post.getPostId(), () -> upsert(post));
+                afterId = post.getPostId();
+            }
+        } while (batch.size() == BUILD_BATCH_SIZE);
+
+        buildState.finish(changed -> { });
+        log.info("자동완성 색인 구축 완료: {}건, {}ms", index.size(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener // 기본값: AFTER_COMMIT
+    public void onPostChanged(PostChangedEvent event) {
+        buildState.recordChange(event.getPostId());
+        updateLocks.run(event.getPostId(), () -> {
+            if (event.getType() == PostChangedEvent.Type.DELETED) {
+                index.remove(event.getPostId());
+                return;
+            }
+            postRepository.findListByIds(List.of(event.getPostId())).stream()
+                .findFirst()
+                .ifPresentOrElse(this::upsert, () -> index.remove(event.getPostId()));
+        });
+    }
+
+    // 일괄 가져오기 : 청크의 새 게시글을 id 범위 쿼리 1번으로 읽어서 색인
+    @TransactionalEventListener // 기본값: AFTER_COMMIT
+    public void onPostsImported(PostsImportedEvent event) {
+        buildState.recordChanges(event.getPostIds());
+        updateLocks.runAll(event.getPostIds(), () ->
+            postRepository.findListByIdRange(event.firstId(), event.lastId()).forEach(this::upsert));
+    }
+
+    private void upsert(PostListResponse post) {
+        index.upsert(post.getPostId(), post.getTitle(), post.getAuthorUsername(), post.getCreatedAt());
+    }
+}
@@ -0,0 +1,508 @@
+package springboot_first.pr.service.post.tag;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 게시글 id 압축 비트맵 (Roaring 방식)
+ * - id 상위 16비트로 구간(container)을 나누고, 구간마다 하위 16비트만 보관
+ *   · 4096개 이하 : 정렬된 char[] (id 1개당 2바이트)
+ *   · 4096개 초과 : 65536비트 long[1024] (구간당 8KB 고정)
+ *   → 드문 태그는 배열, 흔한 태그는 비트 연산으로 처리되어 long[] / Set<Long> 보다 작고 교집합/합집합이 빠름
+ * - and / or 는 새 비트맵을 만들어 돌려주므로 결과는 락 밖에서 써도 됨
+ * ⚠️ 동기화하지 않음 : 수정(add / remove)은 PostTagIndex의 쓰기 락 안에서만, id는 0 ~ Integer.MAX_VALUE
+ */
+public final class PostIdBitmap {
+
+    private static final int ARRAY_MAX = 4096; // 이보다 많으면 비트맵 구간으로 전환 (배열 8KB = 비트맵 8KB 인 지점)
+    private static final Container[] NO_CONTAINERS = new Container[0];
+
+    private char[] keys = new char[0]; // 구간 번호 (id 상위 16비트, 오름차순)
+    private Container[] containers = NO_CONTAINERS;
+    private int size; // 구간 수
+
+    public static PostIdBitmap of(long... ids) {
+        PostIdBitmap bitmap = new PostIdBitmap();
+        for (long id : ids) {
+            bitmap.add(id);
+        }
+        return bitmap;
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 수정 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    public boolean add(long id) {
+        checkRange(id);
+        char key = high(id);
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index < 0) {
+            insertContainer(-index - 1, key, new ArrayContainer());
+            index = -index - 1;
+        }
+        Container container = containers[index];
+        int before = container.cardinality;
+        containers[index] = container.add(low(id));
+        return containers[index].cardinality != before;
+    }
+
+    public boolean remove(long id) {
+        if (id < 0 || id > Integer.MAX_VALUE) {
+            return false;
+        }
+        int index = Arrays.binarySearch(keys, 0, size, high(id));
+        if (index < 0) {
+            return false;
+        }
+        Container container = containers[index];
+        int before = container.cardinality;
+        Container after = container.remove(low(id));
+        if (after.cardinality == 0) {
+            removeContainer(index);
+        } else {
+            containers[index] = after;
+        }
+        return after.cardinality != before;
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 조회 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    public boolean contains(long id) {
+        if (id < 0 || id > Integer.MAX_VALUE) {
+            return false;
+        }
+        int index = Arrays.binarySearch(keys, 0, size, high(id));
+        return index >= 0 && containers[index].contains(low(id));
+    }
+
+    public long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality;
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // 오름차순 id 배열
+    public long[] toArray() {
+        long[] ids = new long[(int) cardinality()];
+        int offset = 0;
+        for (int i = 0; i < size; i++) {
+            offset = containers[i].copyTo(ids, offset, (long) keys[i] << 16);
+        }
+        return ids;
+    }
+
+    // 대략적인 메모리 사용량 (메트릭용)
+    public long sizeInBytes() {
+        long bytes = 16L + keys.length * 2L + containers.length * 4L;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 집합 연산 (새 비트맵) 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    /**
+     * 교집합 : 양쪽에 모두 있는 구간만 구간끼리 AND
+     */
+    public PostIdBitmap and(PostIdBitmap other) {
+        PostIdBitmap result = new PostIdBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Container container = containers[i].and(other.containers[j]);
+                if (container.cardinality > 0) {
+                    result.appendContainer(keys[i], container);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 합집합 : 구간 번호를 병합하면서 겹치는 구간만 OR
+     */
+    public PostIdBitmap or(PostIdBitmap other) {
+        PostIdBitmap result = new PostIdBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+                result.appendContainer(keys[i], containers[i].copy());
+                i++;
+            } else if (i == size || keys[i] > other.keys[j]) {
+                result.appendContainer(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendContainer(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 여러 비트맵의 교집합 : 작은 것부터 AND 해서 중간 결과를 최대한 빨리 줄임 (하나라도 비어 있으면 빈 결과)
+     */
+    public static PostIdBitmap andAll(List<PostIdBitmap> bitmaps) {
+        if (bitmaps.isEmpty()) {
+            return new PostIdBitmap();
+        }
+        List<PostIdBitmap> sorted = bitmaps.stream()
+            .sorted((a, b) -> Long.compare(a.cardinality(), b.cardinality()))
+            .toList();
+        PostIdBitmap result = sorted.get(0);
+        for (int i = 1; i < sorted.size() && !result.isEmpty(); i++) {
+            result = result.and(sorted.get(i));
+        }
+        return result == sorted.get(0) ? result.copy() : result;
+    }
+
+    public static PostIdBitmap orAll(List<PostIdBitmap> bitmaps) {
+        PostIdBitmap result = new PostIdBitmap();
+        for (PostIdBitmap bitmap : bitmaps) {
+            result = result.or(bitmap);
+        }
+        return result;
+    }
+
+    public PostIdBitmap copy() {
+        PostIdBitmap copy = new PostIdBitmap();
+        for (int i = 0; i < size; i++) {
+            copy.appendContainer(keys[i], containers[i].copy());
+        }
+        return copy;
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 구간 배열 관리 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    private void insertContainer(int index, char key, Container container) {
+        ensureCapacity();
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+    }
+
+    // 집합 연산 결과는 구간 번호 오름차순으로 만들어지므로 끝에 추가
+    private void appendContainer(char key, Container container) {
+        ensureCapacity();
+        keys[size] = key;
+        containers[size++] = container;
+    }
+
+    private void ensureCapacity() {
+        if (size == keys.length) {
+            int capacity = Math.max(4, size + (size >> 1));
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+    }
+
+    private static void checkRange(long id) {
+        if (id < 0 || id > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("비트맵에 담을 수 없는 게시글 id 입니다: " + id);
+        }
+    }
+
+    private static char high(long id) {
+        return (char) (id >>> 16);
+    }
+
+    private static char low(long id) {
+        return (char) id;
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 구간 (하위 16비트 집합) 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    private abstract static sealed class Container permits ArrayContainer, BitmapContainer {
+
+        int cardinality;
+
+        abstract boolean contains(char value);
+
+        // 추가/삭제 후의 구간 (배열 ↔ 비트맵 전환 시 새 객체)
+        abstract Container add(char value);
+
+        abstract Container remove(char value);
+
+        abstract Container and(Container other);
+
+        abstract Container or(Container other);
+
+        abstract Container copy();
+
+        abstract int copyTo(long[] target, int offset, long base);
+
+        abstract long sizeInBytes();
+    }
+
+    private static final class ArrayContainer extends Container {
+
+        char[] values;
+
+        ArrayContainer() {
+            this.values = new char[4];
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_MAX) {
+                return toBitmap().add(value);
+            }
+            int insertAt = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, cardinality + (cardinality >> 1) + 1));
+            }
+            System.arraycopy(values, insertAt, values, insertAt + 1, cardinality - insertAt);
+            values[insertAt] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+                // 삭제가 많이 쌓이면 배열을 줄임 (오래 유지되는 색인의 빈 자리)
+                if (values.length > 16 && cardinality < values.length >> 2) {
+                    values = Arrays.copyOf(values, cardinality + (cardinality >> 1) + 1);
+                }
+            }
+            return this;
+        }
+
+        @Override
+        Container and(Container other) {
+            char[] result = new char[Math.min(cardinality, other.cardinality)];
+            int count = 0;
+            if (other instanceof ArrayContainer array) {
+                // 정렬된 두 배열 병합
+                int i = 0;
+                int j = 0;
+                while (i < cardinality && j < array.cardinality) {
+                    if (values[i] < array.values[j]) {
+                        i++;
+                    } else if (values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        result[count++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        result[count++] = values[i];
+                    }
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof BitmapContainer bitmap) {
+                return bitmap.or(this);
+            }
+            ArrayContainer array = (ArrayContainer) other;
+            if (cardinality + array.cardinality > ARRAY_MAX) {
+                return toBitmap().or(array);
+            }
+            char[] result = new char[cardinality + array.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < array.cardinality) {
+                if (j == array.cardinality || (i < cardinality && values[i] < array.values[j])) {
+                    result[count++] = values[i++];
+                } else if (i == cardinality || values[i] > array.values[j]) {
+                    result[count++] = array.values[j++];
+                } else {
+                    result[count++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, cardinality), cardinality);
+        }
+
+        @Override
+        int copyTo(long[] target, int offset, long base) {
+            for (int i = 0; i < cardinality; i++) {
+                target[offset++] = base | values[i];
+            }
+            return offset;
+        }
+
+        @Override
+        long sizeInBytes() {
+            return 16L + values.length * 2L;
+        }
+
+        BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.set(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+
+        final long[] words;
+
+        BitmapContainer() {
+            this.words = new long[1024];
+        }
+
+        private BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        void set(char value) {
+            long before = words[value >>> 6];
+            long after = before | (1L << value);
+            words[value >>> 6] = after;
+            if (before != after) {
+                cardinality++;
+            }
+        }
+
+        @Override
+        Container add(char value) {
+            set(value);
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            long before = words[value >>> 6];
+            long after = before & ~(1L << value);
+            words[value >>> 6] = after;
+            if (before != after && --cardinality <= ARRAY_MAX) {
+                return toArray();
+            }
+            return this;
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer array) {
+                return array.and(this);
+            }
+            long[] otherWords = ((BitmapContainer) other).words;
+            long[] result = new long[1024];
+            int count = 0;
+            for (int i = 0; i < 1024; i++) {
+                result[i] = words[i] & otherWords[i];
+                count += Long.bitCount(result[i]);
+            }
+            BitmapContainer bitmap = new BitmapContainer(result, count);
+            return count <= ARRAY_MAX ? bitmap.toArray() : bitmap;
+        }
+
+        @Override
+        Container or(Container other) {
+            BitmapContainer result = (BitmapContainer) copy();
+            if (other instanceof ArrayContainer array) {
+                for (int i = 0; i < array.cardinality; i++) {
+                    result.set(array.values[i]);
+                }
+                return result;
+            }
+            long[] otherWords = ((BitmapContainer) other).words;
+            int count = 0;
+            for (int i = 0; i < 1024; i++) {
+                result.words[i] |= otherWords[i];
+                count += Long.bitCount(result.words[i]);
+            }
+            result.cardinality = count;
+            return result;
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        int copyTo(long[] target, int offset, long base) {
+            for (int i = 0; i < 1024; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    target[offset++] = base | ((long) i << 6) | Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                }
+            }
+            return offset;
+        }
+
+        @Override
+        long sizeInBytes() {
+            return 16L + 1024 * 8L;
+        }
+
+        ArrayContainer toArray() {
+            char[] values = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < 1024; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[count++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, count);
+        }
+    }
+}
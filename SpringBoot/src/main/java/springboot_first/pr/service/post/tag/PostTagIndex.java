@@ -0,0 +1,224 @@
+package springboot_first.pr.service.post.tag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import springboot_first.pr.repository.TagCondition;
+import springboot_first.pr.service.post.IndexBuildState;
+import springboot_first.pr.service.post.PostChangedEvent;
+import springboot_first.pr.service.post.PostUpdateLocks;
+
+/**
+ * 태그별 게시글 id 비트맵 색인 (JVM 메모리)
+ * - 태그 이름 → PostIdBitmap, 게시글 id → 태그 이름들 (삭제/수정 시 비트맵에서 빼기 위한 역방향)
+ * - 시작 시 post_tags 를 (post_id, tag_id) 순으로 나눠 읽어 구축하고, 이후 작성/수정/삭제 커밋 이벤트로 해당 게시글만 갱신
+ * - 태그 조건(OR 묶음들의 AND) → OR 묶음마다 합집합, 묶음끼리 작은 것부터 교집합 → 후보 게시글 id 집합 (post_tags 조인 없음)
+ * - 후보가 max-in-list 이하이면 검색 쿼리에 p.id IN (...)으로 넘기고, 더 많거나 구축 전이면 post_tags 서브쿼리 경로(SUBQUERY)로 처리
+ * - 같은 게시글의 커밋 이벤트는 게시글별 락으로 "DB에서 태그 읽기 → 색인 반영"을 한 번에 하나씩 처리
+ *   → 먼저 커밋된 이벤트가 늦게 반영되면서 최신 태그를 덮어쓰는 일이 없음 (나중에 반영하는 쪽이 항상 나중에 읽음)
+ * 💡 삭제된 게시글은 색인에서 빠지므로 비트맵 결과에는 항상 살아 있는 게시글만 있음
+ * ⚠️ 일괄 가져오기로 들어온 게시글은 태그가 없으므로 갱신할 것이 없음
+ */
+@Slf4j
+@Component
+public class PostTagIndex {
+
+    private static final int BUILD_BATCH_SIZE = 5000;
+    private static final String[] NO_TAGS = new String[0];
+
+    private static final String SELECT_BATCH =
+        "SELECT pt.post_id, pt.tag_id, t.name FROM post_tags pt "
+      + "JOIN tags t ON t.id = pt.tag_id JOIN posts p ON p.id = pt.post_id "
+      + "WHERE p.deleted_at IS NULL AND (pt.post_id > :afterId OR (pt.post_id = :afterId AND pt.tag_id > :afterTagId)) "
+      + "ORDER BY pt.post_id, pt.tag_id LIMIT :limit";
+    private static final String SELECT_POST_TAGS =
+        "SELECT t.name FROM post_tags pt JOIN tags t ON t.id = pt.tag_id JOIN posts p ON p.id = pt.post_id "
+      + "WHERE pt.post_id = :postId AND p.deleted_at IS NULL";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int maxInList;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostIdBitmap> bitmaps = new HashMap<>();
+    private final Map<Long, String[]> postTags = new HashMap<>();
+
+    // 게시글별 갱신 순서 (id 해시로 나눈 락, 다른 게시글끼리는 거의 기다리지 않음)
+    private final PostUpdateLocks updateLocks = new PostUpdateLocks();
+
+    // 색인 구축 중에 변경된 게시글 : 새 색인으로 바꾼 뒤 DB에서 다시 읽어 반영 (구축 배치는 그보다 오래된 데이터일 수 있음)
+    private final IndexBuildState buildState = new IndexBuildState();
+
+    public PostTagIndex(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            @Value("${post.tags.max-in-list:1000}") int maxInList,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxInList = maxInList;
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("post.tags.index.tags", this, index -> index.read(() -> index.bitmaps.size()))
+                .description("태그 비트맵 색인의 태그 수").register(registry);
+            Gauge.builder("post.tags.index.bytes", this, PostTagIndex::sizeInBytes)
+                .description("태그 비트맵 색인의 대략적인 메모리 사용량").baseUnit("bytes").register(registry);
+        });
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 색인 구축/갱신 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        long started = System.currentTimeMillis();
+        Map<String, PostIdBitmap> builtBitmaps = new HashMap<>();
+        Map<Long, List<String>> builtTags = new HashMap<>();
+        long afterId = 0;
+        long afterTagId = 0;
+        int rows;
+        do {
+            long[] last = {afterId, afterTagId};
+            rows = jdbcTemplate.query(SELECT_BATCH,
+                Map.of("afterId", afterId, "afterTagId", afterTagId, "limit", BUILD_BATCH_SIZE),
+                (rs, rowNum) -> {
+                    long postId = rs.getLong("post_id");
+                    String name = rs.getString("name");
+                    builtBitmaps.computeIfAbsent(name, key -> new PostIdBitmap()).add(postId);
+                    builtTags.computeIfAbsent(postId, id -> new ArrayList<>()).add(name);
+                    last[0] = postId;
+                    last[1] = rs.getLong("tag_id");
+                    return postId;
+                }).size();
+            afterId = last[0];
+            afterTagId = last[1];
+        } while (rows == BUILD_BATCH_SIZE);
+
+        lock.writeLock().lock();
+        try {
+            bitmaps.clear();
+            postTags.clear();
+            bitmaps.putAll(builtBitmaps);
+            builtTags.forEach((postId, names) -> postTags.put(postId, names.toArray(String[]::new)));
+            // 구축 중에 바뀐 게시글은 현재 태그로 다시 반영 (잠금 순서 : 쓰기 락 → 구축 상태)
+            buildState.finish(changed -> changed.forEach(postId -> replace(postId, loadTags(postId))));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("게시글 태그 비트맵 색인 구축 완료: 게시글 {}건, 태그 {}개, {}ms",
+            builtTags.size(), builtBitmaps.size(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener // 기본값: AFTER_COMMIT
+    public void onPostChanged(PostChangedEvent event) {
+        Long postId = event.getPostId();
+        buildState.recordChange(postId);
+        // 게시글별 락 안에서 읽기 + 반영 (DB 조회 중에는 쓰기 락을 잡지 않으므로 검색은 기다리지 않음)
+        updateLocks.run(postId, () -> {
+            String[] tags = event.getType() == PostChangedEvent.Type.DELETED ? NO_TAGS : loadTags(postId);
+            lock.writeLock().lock();
+            try {
+                replace(postId, tags);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private String[] loadTags(Long postId) {
+        return jdbcTemplate.queryForList(SELECT_POST_TAGS, Map.of("postId", postId), String.class).toArray(String[]::new);
+    }
+
+    // ⚠️ 쓰기 락 안에서 호출
+    private void replace(long postId, String[] tags) {
+        String[] old = postTags.remove(postId);
+        if (old != null) {
+            for (String name : old) {
+                PostIdBitmap bitmap = bitmaps.get(name);
+                if (bitmap != null && bitmap.remove(postId) && bitmap.isEmpty()) {
+                    bitmaps.remove(name);
+                }
+            }
+        }
+        if (tags.length > 0) {
+            for (String name : tags) {
+                bitmaps.computeIfAbsent(name, key -> new PostIdBitmap()).add(postId);
+            }
+            postTags.put(postId, tags);
+        }
+    }
+
+    // 〰️〰️〰️〰️〰️〰️〰️〰️ 검색 〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    public boolean isReady() {
+        return buildState.isReady();
+    }
+
+    /**
+     * 태그 조건 → 후보 게시글 id 비트맵 (색인 구축 전이면 empty)
+     * - OR 묶음마다 합집합, 묶음끼리 작은 것부터 교집합 (없는 태그는 빈 집합)
+     */
+    public Optional<PostIdBitmap> resolve(TagFilter filter) {
+        if (!buildState.isReady()) {
+            return Optional.empty();
+        }
+        return Optional.of(read(() -> {
+            List<PostIdBitmap> groups = new ArrayList<>(filter.groups().size());
+            for (List<String> group : filter.groups()) {
+                groups.add(PostIdBitmap.orAll(group.stream()
+                    .map(bitmaps::get)
+                    .filter(bitmap -> bitmap != null)
+                    .toList()));
+            }
+            return PostIdBitmap.andAll(groups);
+        }));
+    }
+
+    /**
+     * 검색 리포지토리용 태그 조건
+     * - 후보가 없으면 NO_MATCH, max-in-list 이하이면 IDS, 더 많거나 색인 구축 전이면 SUBQUERY
+     */
+    public TagCondition condition(TagFilter filter) {
+        if (filter.isEmpty()) {
+            return TagCondition.none();
+        }
+        return resolve(filter)
+            .map(bitmap -> {
+                if (bitmap.isEmpty()) {
+                    return TagCondition.noMatch();
+                }
+                return bitmap.cardinality() <= maxInList ? TagCondition.ids(bitmap.toArray()) : TagCondition.subquery(filter.groups());
+            })
+            .orElseGet(() -> TagCondition.subquery(filter.groups()));
+    }
+
+    // 게시글 하나의 태그 (색인 기준, 테스트/진단용)
+    public List<String> tagsOf(long postId) {
+        return read(() -> Arrays.asList(postTags.getOrDefault(postId, NO_TAGS)));
+    }
+
+    private long sizeInBytes() {
+        return read(() -> bitmaps.values().stream().mapToLong(PostIdBitmap::sizeInBytes).sum());
+    }
+
+    private <T> T read(Supplier<T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
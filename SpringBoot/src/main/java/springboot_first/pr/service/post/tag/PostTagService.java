@@ -0,0 +1,131 @@
+package springboot_first.pr.service.post.tag;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+import springboot_first.pr.exception.BadRequestException;
+
+/**
+ * 게시글 태그 저장 / 조회 (tags, post_tags)
+ * - 작성/수정 트랜잭션 안에서 게시글의 태그를 통째로 교체하고, 커밋 후 PostChangedEvent로 PostTagIndex가 비트맵을 갱신
+ * - 처음 쓰이는 태그는 tags 에 추가 (동시에 같은 태그가 추가되면 유니크 키 충돌 → 잠금 읽기로 다시 조회)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true) // 읽기 전용 트랜잭션 기본 설정
+public class PostTagService {
+
+    public static final int MAX_TAGS_PER_POST = 10;
+
+    private static final String SELECT_TAG_IDS = "SELECT id, name FROM tags WHERE name IN (:names)";
+    // 💡 잠금 읽기(current read) : REPEATABLE READ 스냅샷에는 없는, 다른 트랜잭션이 방금 커밋한 태그 행도 보임
+    private static final String SELECT_TAG_IDS_FOR_UPDATE = SELECT_TAG_IDS + " FOR UPDATE";
+    private static final String INSERT_TAG = "INSERT INTO tags (name) VALUES (:name)";
+    private static final String DELETE_POST_TAGS = "DELETE FROM post_tags WHERE post_id = :postId";
+    private static final String INSERT_POST_TAG = "INSERT INTO post_tags (post_id, tag_id) VALUES (:postId, :tagId)";
+    private static final String SELECT_TAG_NAMES =
+        "SELECT pt.post_id, t.name FROM post_tags pt JOIN tags t ON t.id = pt.tag_id WHERE pt.post_id IN (:postIds) ORDER BY t.name";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 태그 문자열 정규화 + 중복 제거 (정렬된 목록)
+     * ⚠️ 형식이 틀리거나 MAX_TAGS_PER_POST 개를 넘으면 BadRequestException (400)
+     */
+    public static List<String> normalize(List<String> rawTags) {
+        if (rawTags == null || rawTags.isEmpty()) {
+            return List.of();
+        }
+        List<String> names = rawTags.stream().map(TagName::normalize).distinct().sorted().toList();
+        if (names.size() > MAX_TAGS_PER_POST) {
+            throw new BadRequestException("게시글 태그는 " + MAX_TAGS_PER_POST + "개까지 지정할 수 있습니다.");
+        }
+        return names;
+    }
+
+    /**
+     * 게시글 태그 교체 (없던 태그는 사전에 추가)
+     * @return 저장된 태그 이름 (정규화, 정렬)
+     */
+    @Transactional
+    public List<String> replaceTags(Long postId, List<String> rawTags) {
+        List<String> names = normalize(rawTags);
+
+        jdbcTemplate.update(DELETE_POST_TAGS, Map.of("postId", postId));
+        if (names.isEmpty()) {
+            return names;
+        }
+        Map<String, Long> tagIds = tagIds(names);
+        jdbcTemplate.batchUpdate(INSERT_POST_TAG, names.stream()
+            .map(name -> Map.<String, Object>of("postId", postId, "tagId", tagIds.get(name)))
+            .toArray(Map[]::new));
+        return names;
+    }
+
+    // 태그 이름 → id (없으면 추가 후 다시 조회)
+    private Map<String, Long> tagIds(List<String> names) {
+        Map<String, Long> ids = selectTagIds(SELECT_TAG_IDS, names);
+        if (ids.size() == names.size()) {
+            return ids;
+        }
+        for (String name : names) {
+            if (!ids.containsKey(name)) {
+                try {
+                    jdbcTemplate.update(INSERT_TAG, Map.of("name", name));
+                } catch (DuplicateKeyException addedConcurrently) {
+                    // 다른 트랜잭션이 먼저 추가함 → 아래 재조회에서 id를 얻음
+                }
+            }
+        }
+        // ⚠️ 충돌한 태그는 다른 트랜잭션이 추가한 행이라 일반 SELECT(트랜잭션 시작 시점 스냅샷)로는 안 보일 수 있음
+        Map<String, Long> locked = selectTagIds(SELECT_TAG_IDS_FOR_UPDATE, names);
+        if (locked.size() != names.size()) {
+            List<String> missing = names.stream().filter(name -> !locked.containsKey(name)).toList();
+            throw new IllegalStateException("태그 id를 찾을 수 없습니다: " + missing);
+        }
+        return locked;
+    }
+
+    private Map<String, Long> selectTagIds(String sql, List<String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(sql, Map.of("names", names), rs -> {
+            ids.put(rs.getString("name"), rs.getLong("id"));
+        });
+        return ids;
+    }
+
+    /**
+     * 게시글 하나의 태그 (이름순)
+     */
+    public List<String> findTagNames(Long postId) {
+        return findTagNames(List.of(postId)).getOrDefault(postId, List.of());
+    }
+
+    /**
+     * 여러 게시글의 태그 (IN 쿼리 1번, 태그가 없는 게시글은 결과에 없음)
+     */
+    public Map<Long, List<String>> findTagNames(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Set<String>> names = new HashMap<>();
+        jdbcTemplate.query(SELECT_TAG_NAMES, Map.of("postIds", postIds), rs -> {
+            names.computeIfAbsent(rs.getLong("post_id"), id -> new LinkedHashSet<>()).add(rs.getString("name"));
+        });
+        Map<Long, List<String>> result = new HashMap<>();
+        names.forEach((postId, tags) -> result.put(postId, new ArrayList<>(tags)));
+        return result;
+    }
+}
@@ -0,0 +1,83 @@
+package springboot_first.pr.service.post.tag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.springframework.util.StringUtils;
+
+import springboot_first.pr.exception.BadRequestException;
+import springboot_first.pr.repository.TagCondition;
+
+/**
+ * 검색 태그 조건 : OR 묶음들의 AND
+ * - 요청 파라미터 tags 의 값 하나 = OR 묶음 ('|' 로 구분), 값끼리는 AND
+ *   예 : ?tags=type:red|type:rose&tags=region:bordeaux → (red OR rose) AND bordeaux
+ *   💡 ?tags=a,b 처럼 쉼표로 보내도 Spring이 값 2개로 나누므로 a AND b
+ * - 태그는 TagName 규칙으로 정규화하고 묶음 안/묶음 사이 순서를 정렬 → 같은 조건은 같은 cacheKey (COUNT 캐시 키)
+ * ⚠️ 묶음 MAX_GROUPS 개, 묶음당 태그 MAX_TAGS_PER_GROUP 개를 넘거나 형식이 틀리면 BadRequestException (400)
+ */
+public final class TagFilter {
+
+    public static final int MAX_GROUPS = TagCondition.MAX_GROUPS; // 검색 리포지토리의 쿼리 조합 수와 같음
+    public static final int MAX_TAGS_PER_GROUP = 10;
+
+    private static final TagFilter NONE = new TagFilter(List.of());
+
+    private final List<List<String>> groups;
+
+    private TagFilter(List<List<String>> groups) {
+        this.groups = groups;
+    }
+
+    public static TagFilter parse(List<String> params) {
+        if (params == null) {
+            return NONE;
+        }
+        TreeSet<List<String>> groups = new TreeSet<>((a, b) -> String.join("|", a).compareTo(String.join("|", b)));
+        for (String param : params) {
+            if (!StringUtils.hasText(param)) {
+                continue;
+            }
+            TreeSet<String> group = new TreeSet<>();
+            Arrays.stream(param.split("\\|"))
+                .filter(StringUtils::hasText)
+                .map(TagName::normalize)
+                .forEach(group::add);
+            if (group.size() > MAX_TAGS_PER_GROUP) {
+                throw new BadRequestException("태그 OR 조건은 " + MAX_TAGS_PER_GROUP + "개까지 지정할 수 있습니다.");
+            }
+            if (!group.isEmpty()) {
+                groups.add(List.copyOf(group));
+            }
+        }
+        if (groups.size() > MAX_GROUPS) {
+            throw new BadRequestException("태그 AND 조건은 " + MAX_GROUPS + "개까지 지정할 수 있습니다.");
+        }
+        return groups.isEmpty() ? NONE : new TagFilter(Collections.unmodifiableList(new ArrayList<>(groups)));
+    }
+
+    public boolean isEmpty() {
+        return groups.isEmpty();
+    }
+
+    // OR 묶음 목록 (정규화 + 정렬됨)
+    public List<List<String>> groups() {
+        return groups;
+    }
+
+    // 정규화된 조건 문자열 (없으면 null) : "region:bordeaux&type:red|type:rose"
+    public String cacheKey() {
+        if (groups.isEmpty()) {
+            return null;
+        }
+        return String.join("&", groups.stream().map(group -> String.join("|", group)).toList());
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(cacheKey());
+    }
+}
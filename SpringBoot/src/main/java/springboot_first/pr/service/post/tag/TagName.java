@@ -0,0 +1,68 @@
+package springboot_first.pr.service.post.tag;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import org.springframework.util.StringUtils;
+
+import springboot_first.pr.exception.BadRequestException;
+
+/**
+ * 게시글 태그 이름 규칙 : "종류:값" (예 : type:red, region:bordeaux, vintage:2015)
+ * - 종류 : type(와인 종류) / region(산지) / vintage(빈티지, 4자리 연도 또는 nv)
+ * - 값은 앞뒤 공백 제거 + 소문자 + 중간 공백은 '-' 로 정규화 → 같은 태그는 항상 같은 문자열 (tags.name, 비트맵 색인 키)
+ * ⚠️ 규칙에 맞지 않으면 BadRequestException (400 Bad Request)
+ */
+public final class TagName {
+
+    public static final int MAX_LENGTH = 40;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern VALUE = Pattern.compile("[\\p{L}\\p{N}][\\p{L}\\p{N}'&.-]*");
+    private static final Pattern VINTAGE = Pattern.compile("(19|20)\\d{2}|nv");
+
+    public enum Type {
+        TYPE, REGION, VINTAGE;
+
+        private final String prefix = name().toLowerCase(Locale.ROOT);
+
+        static Type from(String prefix) {
+            return Arrays.stream(values())
+                .filter(type -> type.prefix.equals(prefix))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException(
+                    "태그 종류는 type / region / vintage 중 하나여야 합니다: " + prefix));
+        }
+    }
+
+    private TagName() {
+    }
+
+    /**
+     * 태그 문자열 정규화 ("Region: Napa Valley" → "region:napa-valley")
+     */
+    public static String normalize(String raw) {
+        if (!StringUtils.hasText(raw)) {
+            throw new BadRequestException("태그가 비어 있습니다.");
+        }
+        int colon = raw.indexOf(':');
+        if (colon < 0) {
+            throw new BadRequestException("태그는 \"종류:값\" 형식이어야 합니다 (예 : region:bordeaux): " + raw);
+        }
+        Type type = Type.from(raw.substring(0, colon).trim().toLowerCase(Locale.ROOT));
+        String value = WHITESPACE.matcher(raw.substring(colon + 1).trim().toLowerCase(Locale.ROOT)).replaceAll("-");
+
+        if (!VALUE.matcher(value).matches()) {
+            throw new BadRequestException("태그 값에 사용할 수 없는 문자가 있습니다: " + raw);
+        }
+        if (type == Type.VINTAGE && !VINTAGE.matcher(value).matches()) {
+            throw new BadRequestException("빈티지 태그는 4자리 연도 또는 nv 여야 합니다: " + raw);
+        }
+        String name = type.prefix + ":" + value;
+        if (name.length() > MAX_LENGTH) {
+            throw new BadRequestException("태그는 " + MAX_LENGTH + "자를 초과할 수 없습니다: " + raw);
+        }
+        return name;
+    }
+}
@@ -25,6 +25,23 @@ private final UserRepository userRepository;
 private final RefreshTokenRepository refreshTokenRepository;
 private final PasswordEncoder passwordEncoder;
 
+private static final String ADMIN_ROLE = "ADMIN";
+
+ // 〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️ ✅ 관리자 권한 확인 〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️ //
+
+    /**
+     * 관리자 전용 API(게시글 내보내기/가져오기 등) 호출 전 권한 확인
+     * ⚠️ 회원이 없거나 role이 ADMIN이 아니면 AuthenticationException (401)
+     */
+    public void checkAdmin(String authenticatedUserId) {
+        User user = userRepository.findByUserId(authenticatedUserId)
+            .orElseThrow(() -> new AuthenticationException("인증된 사용자 정보를 찾을 수 없습니다."));
+        if (!ADMIN_ROLE.equals(user.getRole())) {
+            log.warn("관리자 권한 없음. 사용자 ID: {}, role: {}", authenticatedUserId, user.getRole());
+            throw new AuthenticationException("관리자만 사용할 수 있는 기능입니다.");
+        }
+    }
+
  // 〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️ ✅ 비밀번호 변경 〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️〰️ //
 
     // 4️⃣ 트랜잭션 선언 후 메서드 정의하기
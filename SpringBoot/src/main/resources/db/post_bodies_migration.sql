@@ -0,0 +1,28 @@
+-- ✅ 게시글 본문 분리 이관 스크립트 (MySQL)
+-- posts.content(TEXT) → post_bodies.content 로 옮기고 posts.body_id 로 연결합니다.
+-- ⚠️ 자동 실행되지 않습니다. 기존 데이터가 있는 DB에서 애플리케이션 배포 전에 한 번 수동으로 실행하세요.
+
+CREATE TABLE IF NOT EXISTS post_bodies (
+    id      BIGINT NOT NULL AUTO_INCREMENT,
+    content TEXT   NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- 1️⃣ 본문 복사 (id를 게시글 id와 맞춰서 복사하면 연결이 단순해짐)
+INSERT INTO post_bodies (id, content)
+SELECT id, content FROM posts;
+
+-- 2️⃣ 연결 컬럼 추가 및 채우기
+ALTER TABLE posts ADD COLUMN body_id BIGINT NULL;
+UPDATE posts SET body_id = id;
+
+-- 3️⃣ 제약조건 적용 후 기존 본문 컬럼 제거
+ALTER TABLE posts
+    MODIFY body_id BIGINT NOT NULL,
+    ADD CONSTRAINT uk_posts_body_id UNIQUE (body_id),
+    ADD CONSTRAINT fk_posts_body_id FOREIGN KEY (body_id) REFERENCES post_bodies (id),
+    DROP COLUMN content;
+
+-- 4️⃣ 이후 새 본문 id가 게시글 id와 겹치지 않도록 AUTO_INCREMENT 시작값 맞추기
+-- SELECT MAX(id) + 1 FROM post_bodies;  → 결과값으로 아래 실행
+-- ALTER TABLE post_bodies AUTO_INCREMENT = <위 결과값>;
@@ -0,0 +1,173 @@
+package springboot_first.pr.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import springboot_first.pr.PrApplication;
+import springboot_first.pr.dto.postDTO.request.PostSearchRequest;
+import springboot_first.pr.dto.postDTO.response.PostListResponse;
+import springboot_first.pr.entity.Post;
+import springboot_first.pr.entity.User;
+import springboot_first.pr.repository.PostRepository;
+import springboot_first.pr.repository.UserRepository;
+import springboot_first.pr.service.post.AuthorIdCache;
+import springboot_first.pr.service.post.search.PostSearchCriteriaResolver;
+
+/**
+ * 게시글 검색 쿼리 생성 방식 비교 (JMH)
+ * - criteriaPerCall : 요청마다 Criteria 트리를 새로 만드는 이전 방식 (Hibernate가 매번 해석 + SQL 생성)
+ * - precompiledJpql : 조건 조합별로 미리 만든 JPQL 문자열 재사용 (PostQueryRepositoryImpl, 쿼리 플랜 캐시 적중)
+ * 두 방식 모두 같은 H2 데이터에 같은 조건식(제목 LIKE + 작성자 id IN, 캐시된 이름 → id 목록), 같은 DTO 프로젝션,
+ * 같은 size + 1 건 조회, 같은 공유 EntityManager(호출마다 새 영속성 컨텍스트)로 실행하므로
+ * 점수 차이 = 요청당 쿼리 생성 CPU 비용 차이입니다.
+ *
+ * 실행 : mvn -B test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *        "-Dexec.args=-cp %classpath springboot_first.pr.benchmark.PostSearchQueryBenchmark"
+ * ⚠️ 클래스 이름이 *Test가 아니므로 mvn test에는 포함되지 않습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostSearchQueryBenchmark {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    private ConfigurableApplicationContext context;
+    private PostRepository postRepository;
+    private AuthorIdCache authorIdCache;
+    private PostSearchCriteriaResolver criteriaResolver;
+    private EntityManager em;
+    private PostSearchRequest cond;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(PrApplication.class)
+            .web(WebApplicationType.NONE)
+            // 💡 명령행 인자로 전달해야 application.properties(MySQL)보다 우선 적용됨
+            .run("--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN");
+
+        postRepository = context.getBean(PostRepository.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+
+        // 작성자 3명, 게시글 300건
+        context.getBean(TransactionTemplate.class).executeWithoutResult(status -> {
+            List<User> authors = new ArrayList<>();
+            for (int i = 1; i <= 3; i++) {
+                authors.add(userRepository.save(User.builder()
+                    .userId("writer" + i)
+                    .email("writer" + i + "@test.com")
+                    .username("작성자" + i)
+                    .password("encoded_password1234!")
+                    .phoneNumber("010-0000-000" + i)
+                    .role("USER")
+                    .build()));
+            }
+            for (int i = 0; i < 300; i++) {
+                postRepository.save(Post.create("와인 리뷰 " + i, "본문 " + i, authors.get(i % authors.size())));
+            }
+        });
+
+        authorIdCache = context.getBean(AuthorIdCache.class);
+        criteriaResolver = context.getBean(PostSearchCriteriaResolver.class);
+        // 리포지토리와 같은 방식 : 트랜잭션 밖에서는 호출마다 새 EntityManager를 열고 닫는 공유 프록시
+        em = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+
+        cond = new PostSearchRequest();
+        cond.setTitle("리뷰");
+        cond.setUsername("작성자1");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<PostListResponse> criteriaPerCall() {
+        return criteriaQuery(em, authorIdCache, cond, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public List<PostListResponse> precompiledJpql() {
+        return postRepository.searchSlice(criteriaResolver.resolve(cond), FIRST_PAGE).getContent();
+    }
+
+    // 이전 PostQueryRepositoryImpl의 Criteria 방식 (비교용, 조건식은 현재 리포지토리와 같게 작성자 id IN 사용)
+    private static List<PostListResponse> criteriaQuery(EntityManager em, AuthorIdCache authorIdCache, PostSearchRequest cond, Pageable pageable) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<PostListResponse> query = cb.createQuery(PostListResponse.class);
+        Root<Post> post = query.from(Post.class);
+        Join<Post, User> user = post.join("user");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (StringUtils.hasText(cond.getTitle())) {
+            predicates.add(cb.like(post.get("title"), "%" + cond.getTitle() + "%"));
+        }
+        if (StringUtils.hasText(cond.getContent())) {
+            predicates.add(cb.like(post.join("body").get("content"), "%" + cond.getContent() + "%"));
+        }
+        if (StringUtils.hasText(cond.getUsername())) {
+            predicates.add(post.get("user").get("id").in(authorIdCache.findIds(cond.getUsername())));
+        }
+
+        query.select(cb.construct(PostListResponse.class,
+                post.get("id"), post.get("title"), user.get("username"), post.get("createdAt"),
+                post.get("viewCount"), post.get("commentCount"), post.get("likeCount")));
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), post, cb));
+
+        return em.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(PostSearchQueryBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
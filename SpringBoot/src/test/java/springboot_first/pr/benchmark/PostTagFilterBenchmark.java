@@ -0,0 +1,187 @@
+package springboot_first.pr.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import springboot_first.pr.PrApplication;
+import springboot_first.pr.entity.Post;
+import springboot_first.pr.entity.User;
+import springboot_first.pr.repository.PostRepository;
+import springboot_first.pr.repository.TagCondition;
+import springboot_first.pr.repository.UserRepository;
+import springboot_first.pr.service.post.tag.PostTagIndex;
+import springboot_first.pr.service.post.tag.TagFilter;
+
+/**
+ * 태그 조건 → 후보 게시글 id 계산 방식 비교 (JMH)
+ * - bitmapIntersection : PostTagIndex 메모리 비트맵 (OR 묶음 합집합 → 묶음끼리 교집합), SQL 없음
+ * - sqlJoin : 같은 조건을 OR 묶음마다 post_tags / tags 서브쿼리로 거는 SQL (색인 구축 전 / 후보가 많을 때의 경로)
+ * 두 방식 모두 같은 H2 데이터에서 같은 id 목록(오름차순)을 만들므로 점수 차이 = 후보 id 계산 비용 차이입니다.
+ * 💡 H2 메모리 DB라 네트워크 왕복이 없으므로 실제 MySQL에서는 sqlJoin 쪽 차이가 더 커집니다.
+ *
+ * 실행 : mvn -B test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *        "-Dexec.args=-cp %classpath springboot_first.pr.benchmark.PostTagFilterBenchmark"
+ * ⚠️ 클래스 이름이 *Test가 아니므로 mvn test에는 포함되지 않습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostTagFilterBenchmark {
+
+    private static final int POSTS = 50_000;
+    private static final int CHUNK = 1_000;
+
+    private static final List<String> TYPES = List.of("type:red", "type:white", "type:rose", "type:sparkling", "type:dessert");
+    private static final List<String> REGIONS = List.of(
+        "region:bordeaux", "region:burgundy", "region:champagne", "region:rioja", "region:tuscany",
+        "region:piedmont", "region:napa-valley", "region:barossa", "region:mendoza", "region:mosel");
+
+    // 태그 조건 (AND 는 '&', OR 는 '|') : 넓은 조건 / 좁은 조건
+    @Param({
+        "type:red|type:rose&region:bordeaux|region:burgundy",
+        "type:red&region:bordeaux&vintage:2015"
+    })
+    public String tags;
+
+    private ConfigurableApplicationContext context;
+    private PostTagIndex postTagIndex;
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private TagFilter filter;
+    private String joinSql;
+    private MapSqlParameterSource joinParams;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(PrApplication.class)
+            .web(WebApplicationType.NONE)
+            // 💡 명령행 인자로 전달해야 application.properties(MySQL)보다 우선 적용됨
+            .run("--spring.datasource.url=jdbc:h2:mem:tag-benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN");
+
+        PostRepository postRepository = context.getBean(PostRepository.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+        jdbcTemplate = context.getBean(NamedParameterJdbcTemplate.class);
+        postTagIndex = context.getBean(PostTagIndex.class);
+
+        // 작성자 1명, 게시글 POSTS 건 (CHUNK 건씩 트랜잭션)
+        User author = transactionTemplate.execute(status -> userRepository.save(User.builder()
+            .userId("writer1")
+            .email("writer1@test.com")
+            .username("작성자1")
+            .password("encoded_password1234!")
+            .phoneNumber("010-0000-0001")
+            .role("USER")
+            .build()));
+        List<Long> postIds = new ArrayList<>(POSTS);
+        for (int start = 0; start < POSTS; start += CHUNK) {
+            int from = start;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = from; i < from + CHUNK; i++) {
+                    postIds.add(postRepository.save(Post.create("와인 리뷰 " + i, "본문 " + i, author)).getId());
+                }
+            });
+        }
+
+        // 태그 사전 (종류 5 + 산지 10 + 빈티지 30) + 게시글마다 종류 1 / 산지 1 / 빈티지 1 (무작위, 고정 시드)
+        List<String> names = new ArrayList<>(TYPES);
+        names.addAll(REGIONS);
+        for (int year = 1995; year < 2025; year++) {
+            names.add("vintage:" + year);
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tags (name) VALUES (:name)", names.stream()
+            .map(name -> new MapSqlParameterSource("name", name))
+            .toArray(MapSqlParameterSource[]::new));
+        Map<String, Long> tagIds = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM tags", rs -> {
+            tagIds.put(rs.getString("name"), rs.getLong("id"));
+        });
+
+        Random random = new Random(42);
+        List<MapSqlParameterSource> rows = new ArrayList<>(POSTS * 3);
+        for (Long postId : postIds) {
+            for (String name : List.of(
+                    TYPES.get(random.nextInt(TYPES.size())),
+                    REGIONS.get(random.nextInt(REGIONS.size())),
+                    "vintage:" + (1995 + random.nextInt(30)))) {
+                rows.add(new MapSqlParameterSource().addValue("postId", postId).addValue("tagId", tagIds.get(name)));
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO post_tags (post_id, tag_id) VALUES (:postId, :tagId)",
+            rows.toArray(MapSqlParameterSource[]::new));
+
+        postTagIndex.buildIndex();
+
+        // 비교 대상 SQL : 검색 리포지토리의 SUBQUERY 경로와 같은 조건식
+        filter = TagFilter.parse(Arrays.asList(tags.split("&")));
+        StringBuilder sql = new StringBuilder("SELECT p.id FROM posts p WHERE p.deleted_at IS NULL");
+        joinParams = new MapSqlParameterSource();
+        for (int i = 0; i < filter.groups().size(); i++) {
+            sql.append(" AND ").append(TagCondition.sqlGroup("p.id", "tagGroup" + i));
+            joinParams.addValue("tagGroup" + i, filter.groups().get(i));
+        }
+        joinSql = sql.append(" ORDER BY p.id").toString();
+
+        // 두 방식의 결과가 같은지 먼저 확인
+        if (!Arrays.equals(bitmapIntersection(), sqlJoin())) {
+            throw new IllegalStateException("비트맵 결과와 SQL 결과가 다릅니다: " + tags);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long[] bitmapIntersection() {
+        return postTagIndex.resolve(filter).orElseThrow().toArray();
+    }
+
+    @Benchmark
+    public long[] sqlJoin() {
+        return jdbcTemplate.queryForList(joinSql, joinParams, Long.class).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(PostTagFilterBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
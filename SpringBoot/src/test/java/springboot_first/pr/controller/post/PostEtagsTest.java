@@ -0,0 +1,76 @@
+package springboot_first.pr.controller.post;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import jakarta.persistence.EntityManager;
+import springboot_first.pr.entity.Post;
+import springboot_first.pr.entity.User;
+import springboot_first.pr.repository.PostRepository;
+import springboot_first.pr.repository.UserRepository;
+import springboot_first.pr.service.post.like.PostLikeService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(PostLikeService.class)
+@DisplayName("PostEtags 게시글 상세 ETag 테스트")
+class PostEtagsTest {
+
+    @Autowired
+    private PostLikeService postLikeService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        User author = userRepository.save(User.builder()
+                .userId("writer1")
+                .email("writer1@test.com")
+                .username("작성자1")
+                .password("encoded_password1234!")
+                .phoneNumber("010-0000-0001")
+                .role("USER")
+                .build());
+        postId = postRepository.save(Post.create("글", "본문", author)).getId();
+        em.flush();
+    }
+
+    // 조건부 GET이 비교하는 상세 ETag (본문 조회 없이 검증 값만 읽음)
+    private String detailEtag() {
+        em.clear();
+        return PostEtags.detail(postId, postRepository.findDetailVersionById(postId).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("상세_ETag: 좋아요 / 댓글 수가 바뀌면 수정 시각이 그대로여도 ETag가 바뀌어야 한다.")
+    void counts_change_detail_etag() {
+        // given
+        String before = detailEtag();
+
+        // when
+        postLikeService.like(postId, "writer1");
+        String liked = detailEtag();
+        postRepository.addCommentCount(postId, 1);
+        String commented = detailEtag();
+
+        // then
+        assertThat(liked).isNotEqualTo(before);
+        assertThat(commented).isNotEqualTo(liked);
+        assertThat(before).startsWith("W/\"post-" + postId + "-");
+        assertThat(detailEtag()).isEqualTo(commented); // 바뀐 것이 없으면 같은 ETag
+    }
+}
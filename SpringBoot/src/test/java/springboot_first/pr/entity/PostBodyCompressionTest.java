@@ -0,0 +1,80 @@
+package springboot_first.pr.entity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PostBodyCompression 본문 저장 형식 테스트")
+class PostBodyCompressionTest {
+
+    private static final String LONG_BODY = "오늘 마신 와인은 산미가 좋고 여운이 길었습니다. ".repeat(40);
+
+    private SimpleMeterRegistry registry;
+    private PostBodyCompression compression;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        compression = create(true, "memory", registry);
+    }
+
+    // 💡 인스턴스마다 메트릭 레지스트리를 따로 사용 (같은 레지스트리에 같은 이름의 미터를 두 번 등록하지 않도록)
+    private static PostBodyCompression create(boolean enabled, String searchEngine, MeterRegistry registry) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", registry);
+        return new PostBodyCompression(enabled, 100, searchEngine, beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    @DisplayName("압축_성공: 기준 길이 이상인 본문은 더 작은 형식으로 저장되고 그대로 복원되어야 하며, 절감량이 메트릭에 기록되어야 한다.")
+    void long_body_is_compressed_and_restored() {
+        // when
+        String stored = compression.encode(LONG_BODY);
+
+        // then
+        assertThat(PostBodyCompression.isEncoded(stored)).isTrue();
+        assertThat(stored.length()).isLessThan(LONG_BODY.length());
+        assertThat(compression.decode(stored)).isEqualTo(LONG_BODY);
+
+        double original = registry.get("post.body.compression.bytes").tag("op", "write").tag("form", "original").functionCounter().count();
+        double saved = registry.get("post.body.compression.bytes").tag("op", "write").tag("form", "stored").functionCounter().count();
+        assertThat(saved).isLessThan(original);
+    }
+
+    @Test
+    @DisplayName("원문_유지: 짧은 본문과 압축 도입 전에 저장된 본문은 그대로 읽혀야 한다.")
+    void short_and_legacy_bodies_stay_raw() {
+        assertThat(compression.encode("짧은 본문")).isEqualTo("짧은 본문");
+        assertThat(compression.decode("기존에 저장된 본문")).isEqualTo("기존에 저장된 본문");
+        assertThat(compression.decode(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("이스케이프: 표시 문자로 시작하는 원문도 압축 형식으로 오인되지 않고 그대로 복원되어야 한다.")
+    void marker_prefixed_body_round_trips() {
+        String tricky = PostBodyCompression.MARKER + "D 로 시작하는 본문";
+
+        String stored = compression.encode(tricky);
+
+        assertThat(stored).isNotEqualTo(tricky);
+        assertThat(compression.decode(stored)).isEqualTo(tricky);
+    }
+
+    @Test
+    @DisplayName("설정_검증: DB 본문 검색 엔진(like)과 함께 압축을 켜면 시작 시 실패해야 하고, 꺼져 있으면 압축된 본문 읽기만 해야 한다.")
+    void compression_requires_memory_search_engine() {
+        assertThatThrownBy(() -> create(true, "like", new SimpleMeterRegistry())).isInstanceOf(IllegalStateException.class);
+
+        PostBodyCompression disabled = create(false, "like", new SimpleMeterRegistry());
+        String stored = compression.encode(LONG_BODY);
+        assertThat(disabled.encode(LONG_BODY)).isEqualTo(LONG_BODY);
+        assertThat(disabled.decode(stored)).isEqualTo(LONG_BODY);
+    }
+}
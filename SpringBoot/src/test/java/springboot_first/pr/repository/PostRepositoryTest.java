@@ -0,0 +1,290 @@
+package springboot_first.pr.repository;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import springboot_first.pr.dto.postDTO.response.PostListResponse;
+import springboot_first.pr.entity.Post;
+import springboot_first.pr.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 💡 Hibernate Statistics로 실제 실행된 SQL 개수를 세어 N+1이 없는지 검증
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Repository 테스트: PostRepository - 목록/검색 DTO 프로젝션 쿼리 수 검증")
+class PostRepositoryTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private Statistics statistics;
+
+    // 📌 기본 정렬 : 최신순 (@PageableDefault 와 동일)
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    /**
+     * 작성자 3명이 게시글 15개를 나눠 작성한 상태로 시작하고, 영속성 컨텍스트를 비워 지연 로딩이 일어날 수 있는 조건을 만듭니다.
+     */
+    @BeforeEach
+    void setUp() {
+        List<User> authors = List.of(createUser("writer1", "작성자1"), createUser("writer2", "작성자2"), createUser("writer3", "작성자3"));
+        for (int i = 0; i < 15; i++) {
+            postRepository.save(Post.create("와인 리뷰 " + i, "본문 " + i, authors.get(i % authors.size())));
+        }
+        em.flush();
+        em.clear();
+
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private User createUser(String userId, String username) {
+        return userRepository.save(User.builder()
+                .userId(userId)
+                .email(userId + "@test.com")
+                .username(username)
+                .password("encoded_password1234!")
+                .phoneNumber("010-0000-000" + userId.charAt(userId.length() - 1))
+                .role("USER")
+                .build());
+    }
+
+    // =================================================================================
+    // 1️⃣ 목록 조회
+    // =================================================================================
+
+    @Test
+    @DisplayName("목록_Slice: 한 페이지를 조회할 때 SQL은 1번만 실행되고 엔티티는 하나도 로딩되지 않아야 한다.")
+    void list_slice_runs_single_query() {
+        // when
+        Slice<PostListResponse> slice = postRepository.findListSlice(FIRST_PAGE);
+        slice.getContent().forEach(PostListResponse::getAuthorUsername); // 작성자 이름까지 사용
+
+        // then
+        assertThat(slice.getContent()).hasSize(10);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(slice.getContent().get(0).getAuthorUsername()).isNotBlank();
+        assertThat(statistics.getPrepareStatementCount()).as("데이터 쿼리 1번").isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).as("Post/User 엔티티 로딩 없음").isZero();
+    }
+
+    @Test
+    @DisplayName("목록_Page: 데이터 쿼리 1번 + COUNT 쿼리 1번 외에 추가 SQL이 없어야 한다.")
+    void list_page_runs_data_and_count_query_only() {
+        // when
+        Page<PostListResponse> page = postRepository.findListPage(FIRST_PAGE);
+
+        // then
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getTotalElements()).isEqualTo(15);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("목록_커서: 키셋 첫 페이지 조회도 SQL 1번으로 끝나야 한다.")
+    void list_cursor_runs_single_query() {
+        // when
+        List<PostListResponse> posts = postRepository.findFirstPageByCursor(Limit.of(11));
+
+        // then
+        assertThat(posts).hasSize(11);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("작성자별_커서: 해당 작성자의 글만 최신순으로, 커서 다음 페이지는 이어서 조회되어야 한다.")
+    void author_cursor_pages_follow_each_other() {
+        // given
+        Long authorId = userRepository.findIdsByUsername("작성자2").get(0);
+
+        // when
+        List<PostListResponse> first = postRepository.findFirstPageByAuthor(authorId, Limit.of(3));
+        PostListResponse last = first.get(first.size() - 1);
+        List<PostListResponse> next = postRepository.findNextPageByAuthor(authorId, last.getCreatedAt(), last.getPostId(), Limit.of(10));
+
+        // then (작성자2 : i % 3 == 1 → 5건)
+        assertThat(first).hasSize(3).allMatch(post -> post.getAuthorUsername().equals("작성자2"));
+        assertThat(next).hasSize(2).allMatch(post -> post.getPostId() < last.getPostId());
+    }
+
+    @Test
+    @DisplayName("검색_작성자없음: 이름이 일치하는 회원이 없어 작성자 id 목록이 비어 있으면 쿼리 없이 빈 결과여야 한다.")
+    void search_empty_author_ids_returns_empty_without_query() {
+        // given
+        PostSearchCriteria criteria = new PostSearchCriteria(null, null, List.of(), null);
+
+        // when
+        Page<PostListResponse> page = postRepository.searchPage(criteria, FIRST_PAGE);
+
+        // then
+        assertThat(page.getTotalElements()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    // =================================================================================
+    // 2️⃣ 검색
+    // =================================================================================
+
+    @Test
+    @DisplayName("검색_Slice: 작성자 id 목록으로 받은 작성자 조건 검색도 SQL 1번만 실행되어야 한다.")
+    void search_slice_runs_single_query() {
+        // given (작성자 이름 → id 변환은 서비스 계층의 캐시 담당)
+        PostSearchCriteria criteria = new PostSearchCriteria("리뷰", null, userRepository.findIdsByUsername("작성자1"), null);
+        statistics.clear();
+
+        // when
+        Slice<PostListResponse> slice = postRepository.searchSlice(criteria, FIRST_PAGE);
+
+        // then
+        assertThat(slice.getContent()).hasSize(5)
+                .allMatch(post -> post.getAuthorUsername().equals("작성자1"));
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("검색_Page: 데이터 쿼리 1번 + COUNT 쿼리 1번 외에 추가 SQL이 없어야 한다.")
+    void search_page_runs_data_and_count_query_only() {
+        // given
+        PostSearchCriteria criteria = new PostSearchCriteria(null, "본문 1", null, null);
+
+        // when
+        Page<PostListResponse> page = postRepository.searchPage(criteria, FIRST_PAGE);
+
+        // then ("본문 1", "본문 10" ~ "본문 14")
+        assertThat(page.getTotalElements()).isEqualTo(6);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("검색_조합: 본문 + 작성자 조건, 오래된순 정렬도 미리 만든 쿼리로 같은 결과를 반환해야 한다.")
+    void search_content_and_username_ascending() {
+        // given ("본문 1" 포함 6건 중 작성자1(i % 3 == 0) : 12)
+        PostSearchCriteria criteria = new PostSearchCriteria(null, "본문 1", userRepository.findIdsByUsername("작성자1"), null);
+        Pageable oldestFirst = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "createdAt", "id"));
+
+        // when
+        Page<PostListResponse> page = postRepository.searchPage(criteria, oldestFirst);
+
+        // then
+        assertThat(page.getContent()).extracting(PostListResponse::getTitle).containsExactly("와인 리뷰 12");
+        assertThat(page.getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검색_정렬_실패: 게시글에 없는 속성으로 정렬하면 쿼리를 만들지 않고 예외가 발생해야 한다.")
+    void search_fails_on_unknown_sort_property() {
+        PostSearchCriteria criteria = new PostSearchCriteria("리뷰", null, null, null);
+
+        assertThatThrownBy(() -> postRepository.searchSlice(criteria, PageRequest.of(0, 10, Sort.by("password"))))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class) // 리포지토리 프록시가 IllegalArgumentException을 변환
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    // =================================================================================
+    // 3️⃣ 상세 조회 (본문 분리 테이블)
+    // =================================================================================
+
+    @Test
+    @DisplayName("상세_조회: 게시글 + 작성자 + 본문을 SQL 1번으로 함께 가져와야 한다.")
+    void detail_fetches_post_user_and_body_in_single_query() {
+        // given
+        Long postId = postRepository.findFirstPageByCursor(Limit.of(1)).get(0).getPostId();
+        statistics.clear();
+
+        // when
+        Post post = postRepository.findDetailById(postId).orElseThrow();
+
+        // then
+        assertThat(post.getContent()).startsWith("본문");
+        assertThat(post.getUser().getUsername()).startsWith("작성자");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상세_여러건: 여러 게시글의 작성자 + 본문도 IN 쿼리 1번으로 가져오고, 없는 id는 결과에서 빠져야 한다.")
+    void details_by_ids_fetch_in_single_query() {
+        // given
+        List<Long> ids = postRepository.findFirstPageByCursor(Limit.of(3)).stream().map(PostListResponse::getPostId).toList();
+        statistics.clear();
+
+        // when
+        List<Post> posts = postRepository.findDetailsByIds(List.of(ids.get(0), ids.get(1), ids.get(2), -1L));
+        posts.forEach(post -> post.getUser().getUsername());
+
+        // then
+        assertThat(posts).extracting(Post::getId).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(posts).allMatch(post -> post.getContent().startsWith("본문"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("본문_지연로딩: 일반 조회 시 본문은 실제로 접근하기 전까지 로딩되지 않아야 한다.")
+    void body_is_lazily_loaded() {
+        // given
+        Long postId = postRepository.findFirstPageByCursor(Limit.of(1)).get(0).getPostId();
+        statistics.clear();
+
+        // when
+        Post post = postRepository.findById(postId).orElseThrow();
+
+        // then
+        assertThat(emf.getPersistenceUnitUtil().isLoaded(post, "body")).isFalse();
+        assertThat(post.getTitle()).startsWith("와인 리뷰");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조건부_수정: 작성자 + 버전 조건 UPDATE는 한 번만 성공하고, 다른 작성자/이전 버전/삭제된 글은 0건이어야 한다.")
+    void owner_and_version_checked_update_in_single_statement() {
+        // given
+        Long postId = postRepository.findFirstPageByCursor(Limit.of(1)).get(0).getPostId();
+        String owner = postRepository.findAuthorUserIdById(postId).orElseThrow();
+        String other = owner.equals("writer1") ? "writer2" : "writer1";
+        LocalDateTime now = LocalDateTime.now();
+        statistics.clear();
+
+        // when & then : 작성 직후 버전 0
+        assertThat(postRepository.updateTitleIfOwner(postId, other, 0L, "남의 글 수정", now)).isZero();
+        assertThat(postRepository.updateTitleIfOwner(postId, owner, 0L, "첫 수정", now)).isEqualTo(1);
+        assertThat(postRepository.updateTitleIfOwner(postId, owner, 0L, "늦은 수정", now)).isZero(); // 이미 버전 1
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+
+        assertThat(postRepository.updateContent(postId, "수정된 본문")).isEqualTo(1);
+        assertThat(postRepository.softDeleteIfOwner(postId, owner, now)).isEqualTo(1);
+        assertThat(postRepository.softDeleteIfOwner(postId, owner, now)).isZero();
+        assertThat(postRepository.updateTitleIfOwner(postId, owner, 2L, "삭제 후 수정", now)).isZero(); // 삭제로 버전 2
+        assertThat(postRepository.findAuthorUserIdById(postId)).isEmpty();
+    }
+}
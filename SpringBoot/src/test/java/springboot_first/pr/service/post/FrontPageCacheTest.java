@@ -0,0 +1,204 @@
+package springboot_first.pr.service.post;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import springboot_first.pr.dto.postDTO.response.PostListResponse;
+import springboot_first.pr.repository.PostRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("FrontPageCache 게시판 첫 화면 스냅샷 테스트")
+class FrontPageCacheTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 1, 12, 0);
+    private static final PageRequest LATEST = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private FrontPageCache cache;
+
+    // id가 클수록 최신 글, 전체 5건 중 최신 4건(2페이지 × 2건)을 스냅샷으로 보관
+    private final List<PostListResponse> posts = new ArrayList<>(LongStream.rangeClosed(1, 5).mapToObj(FrontPageCacheTest::post).toList());
+
+    private static PostListResponse post(long id) {
+        return post(id, 0, 0);
+    }
+
+    private static PostListResponse post(long id, long viewCount, int commentCount) {
+        return new PostListResponse(id, "제목 " + id, "작성자", BASE.plusMinutes(id), viewCount, commentCount, 0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(postRepository.findFirstPageByCursor(any(Limit.class))).thenAnswer(invocation -> latest(((Limit) invocation.getArgument(0)).max()));
+        when(postRepository.count()).thenAnswer(invocation -> (long) posts.size());
+        when(postRepository.findListByIds(any())).thenAnswer(invocation -> posts.stream()
+            .filter(post -> ((List<?>) invocation.getArgument(0)).contains(post.getPostId())).toList());
+        when(postRepository.findNextPageByCursor(any(), anyLong(), any(Limit.class))).thenAnswer(invocation -> posts.stream()
+            .filter(post -> post.getPostId() < (Long) invocation.getArgument(1))
+            .sorted((a, b) -> Long.compare(b.getPostId(), a.getPostId()))
+            .limit(((Limit) invocation.getArgument(2)).max()).toList());
+
+        cache = new FrontPageCache(postRepository, 2, 2, false, Duration.ofMinutes(10));
+        cache.initialize();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private List<PostListResponse> latest(int limit) {
+        return posts.stream().sorted((a, b) -> Long.compare(b.getPostId(), a.getPostId())).limit(limit).toList();
+    }
+
+    private void commit(PostChangedEvent event) {
+        cache.beforePostCommit(event);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        cache.onPostChanged(event);
+    }
+
+    // 트랜잭션 종료 흉내 : 등록된 동기화의 afterCompletion 호출 후 목록 비움
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    // --- 1. 조회 테스트 ---
+    @Test
+    @DisplayName("조회_성공: 최신순 앞쪽 페이지는 스냅샷에서 전체 개수와 함께 응답해야 한다.")
+    void serves_front_pages() {
+        Page<PostListResponse> page = cache.page(PageRequest.of(1, 2, LATEST.getSort())).orElseThrow();
+
+        assertThat(page.getContent()).extracting(PostListResponse::getPostId).containsExactly(3L, 2L);
+        assertThat(page.getTotalElements()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("조회_범위밖: 스냅샷 너머의 페이지나 다른 정렬은 DB 조회로 넘겨야 한다.")
+    void misses_outside_snapshot() {
+        assertThat(cache.page(PageRequest.of(2, 2, LATEST.getSort()))).isEmpty();
+        assertThat(cache.page(PageRequest.of(0, 2, Sort.by("title")))).isEmpty();
+        assertThat(cache.slice(PageRequest.of(1, 2, LATEST.getSort()))).as("다음 페이지 확인용 1건이 스냅샷 밖").isEmpty();
+    }
+
+    @Test
+    @DisplayName("조회_대기: 동기 모드에서는 커밋 직전부터 갱신 완료 전까지 스냅샷으로 응답하지 않아야 한다.")
+    void sync_mode_stops_serving_between_commit_and_refresh() {
+        cache.beforePostCommit(PostChangedEvent.created(6L));
+
+        assertThat(cache.page(LATEST)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조회_재개: 롤백이나 결과를 알 수 없는 커밋 뒤에도 대기 수가 정확히 풀려서 스냅샷 응답을 재개해야 한다.")
+    void sync_mode_resumes_after_rollback_or_unknown_outcome() {
+        // 롤백 : 변경 없이 기존 스냅샷으로 응답
+        cache.beforePostCommit(PostChangedEvent.created(6L));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThat(cache.page(LATEST)).isPresent();
+
+        // rollback-only : BEFORE_COMMIT 없이 끝나도 대기 수가 음수가 되지 않음
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        cache.beforePostCommit(PostChangedEvent.created(6L));
+        assertThat(cache.page(LATEST)).isEmpty();
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // 결과 불명 : 대기는 풀리고, 스냅샷은 비운 뒤 재구성 (그 전까지는 DB 조회)
+        cache.beforePostCommit(PostChangedEvent.created(6L));
+        complete(TransactionSynchronization.STATUS_UNKNOWN);
+        cache.reload();
+        assertThat(cache.page(LATEST)).isPresent();
+    }
+
+    // --- 2. 갱신 테스트 ---
+    @Test
+    @DisplayName("갱신_작성: 새 글은 맨 앞에 추가되고 전체 개수가 1 증가해야 한다.")
+    void created_post_goes_first() {
+        // when
+        posts.add(post(6));
+        commit(PostChangedEvent.created(6L));
+
+        // then
+        Page<PostListResponse> page = cache.page(LATEST).orElseThrow();
+        assertThat(page.getContent()).extracting(PostListResponse::getPostId).containsExactly(6L, 5L);
+        assertThat(page.getTotalElements()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("갱신_삭제: 스냅샷 안의 글이 삭제되면 다음 글로 빈자리를 채워야 한다.")
+    void deleted_post_is_backfilled() {
+        // when
+        posts.removeIf(post -> post.getPostId() == 4L);
+        commit(PostChangedEvent.deleted(4L));
+
+        // then
+        Page<PostListResponse> page = cache.page(PageRequest.of(1, 2, LATEST.getSort())).orElseThrow();
+        assertThat(page.getContent()).extracting(PostListResponse::getPostId).containsExactly(2L, 1L);
+        assertThat(page.getTotalElements()).isEqualTo(4);
+    }
+
+    // --- 3. 숫자 갱신 테스트 ---
+    @Test
+    @DisplayName("숫자_조회수: 조회수가 반영되면 스냅샷 안의 해당 행만 새 조회수로 바뀌어야 한다.")
+    void flushed_views_update_rows() {
+        // when : 5번(스냅샷 안), 1번(스냅샷 밖) 조회수 반영
+        posts.replaceAll(post -> post.getPostId() == 5L || post.getPostId() == 1L ? post(post.getPostId(), 7, 0) : post);
+        cache.onViewsFlushed(new PostViewsFlushedEvent(List.of(1L, 5L)));
+
+        // then
+        Page<PostListResponse> page = cache.page(LATEST).orElseThrow();
+        assertThat(page.getContent()).extracting(PostListResponse::getPostId).containsExactly(5L, 4L);
+        assertThat(page.getContent()).extracting(PostListResponse::getViewCount).containsExactly(7L, 0L);
+        verify(postRepository).findListByIds(List.of(5L)); // 스냅샷 밖의 1번은 다시 읽지 않음
+    }
+
+    @Test
+    @DisplayName("숫자_댓글수: 댓글 수가 바뀌면 해당 행이 새 댓글 수로 바뀌어야 한다.")
+    void changed_counts_update_row() {
+        // when
+        posts.replaceAll(post -> post.getPostId() == 4L ? post(4L, 0, 3) : post);
+        cache.onCountsChanged(new PostCountsChangedEvent(4L));
+
+        // then
+        assertThat(cache.page(LATEST).orElseThrow().getContent())
+            .extracting(PostListResponse::getCommentCount).containsExactly(0, 3);
+    }
+
+    @Test
+    @DisplayName("조회_만료: max-age가 지난 스냅샷은 변경이 없어도 응답하지 않아야 한다.")
+    void expired_snapshot_is_not_served() throws InterruptedException {
+        // given
+        FrontPageCache shortLived = new FrontPageCache(postRepository, 2, 2, false, Duration.ofMillis(1));
+        shortLived.initialize();
+
+        // when
+        Thread.sleep(5);
+
+        // then
+        assertThat(shortLived.page(LATEST)).isEmpty();
+        shortLived.shutdown();
+    }
+}
@@ -0,0 +1,50 @@
+package springboot_first.pr.service.post;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IndexBuildState 색인 구축 중 변경 기록 테스트")
+class IndexBuildStateTest {
+
+    @Test
+    @DisplayName("구축_중_변경: 이벤트가 먼저 기록한 게시글은 구축 배치가 덮어쓰지 않고, 완료 시 다시 반영 대상으로 넘겨야 한다.")
+    void build_skips_and_replays_posts_changed_during_build() {
+        // given
+        IndexBuildState state = new IndexBuildState();
+        List<Long> applied = new ArrayList<>();
+        state.recordChange(2L); // 구축 배치가 2번 게시글을 읽은 뒤 커밋된 수정
+
+        // when
+        state.applyUnlessChanged(1L, () -> applied.add(1L));
+        state.applyUnlessChanged(2L, () -> applied.add(2L));
+        List<Set<Long>> replayed = new ArrayList<>();
+        state.finish(replayed::add);
+
+        // then
+        assertThat(applied).containsExactly(1L);
+        assertThat(replayed).containsExactly(Set.of(2L));
+        assertThat(state.isReady()).isTrue();
+    }
+
+    @Test
+    @DisplayName("구축_완료_후: 완료 뒤의 이벤트는 기록되지 않아 이후 구축 배치 반영을 막지 않아야 한다.")
+    void changes_after_finish_are_not_recorded() {
+        // given
+        IndexBuildState state = new IndexBuildState();
+        state.finish(ids -> { });
+
+        // when
+        state.recordChange(1L);
+        List<Long> applied = new ArrayList<>();
+        state.applyUnlessChanged(1L, () -> applied.add(1L));
+
+        // then
+        assertThat(applied).containsExactly(1L);
+    }
+}
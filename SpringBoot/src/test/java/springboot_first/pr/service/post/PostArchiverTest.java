@@ -0,0 +1,148 @@
+package springboot_first.pr.service.post;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import jakarta.persistence.EntityManager;
+import springboot_first.pr.entity.Post;
+import springboot_first.pr.entity.User;
+import springboot_first.pr.repository.PostRepository;
+import springboot_first.pr.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 💡 배치 크기를 2로 줄이고 대기 없이 실행해서 여러 배치로 나뉘어 옮겨지는지 확인
+@DataJpaTest(properties = {"post.archive.retention=1d", "post.archive.batch-size=2", "post.archive.batch-pause=0ms"})
+@Import(PostArchiver.class)
+@DisplayName("PostArchiver 삭제 게시글 보관 테스트")
+class PostArchiverTest {
+
+    @Autowired
+    private PostArchiver postArchiver;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    private final List<Long> postIds = new ArrayList<>();
+
+    /**
+     * 게시글 5개 : 오래전 삭제 3개(보관 대상), 방금 삭제 1개(보관 기간 안 지남), 살아 있는 글 1개
+     */
+    @BeforeEach
+    void setUp() {
+        User author = userRepository.save(User.builder()
+                .userId("writer1")
+                .email("writer1@test.com")
+                .username("작성자1")
+                .password("encoded_password1234!")
+                .phoneNumber("010-0000-0001")
+                .role("USER")
+                .build());
+        for (int i = 0; i < 5; i++) {
+            postIds.add(postRepository.save(Post.create("글 " + i, "본문 " + i, author)).getId());
+        }
+        em.flush();
+
+        LocalDateTime longAgo = LocalDateTime.now().minusDays(3);
+        for (int i = 0; i < 3; i++) {
+            jdbcTemplate.update("UPDATE posts SET deleted_at = ? WHERE id = ?", longAgo, postIds.get(i));
+        }
+        jdbcTemplate.update("UPDATE posts SET deleted_at = ? WHERE id = ?", LocalDateTime.now(), postIds.get(3));
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    @Test
+    @DisplayName("보관_성공: 보관 기간이 지난 삭제 게시글만 본문과 함께 보관 테이블로 옮겨지고 원래 테이블에서 지워져야 한다.")
+    void moves_only_expired_deleted_posts() {
+        // given (보관 작업 빈은 테스트끼리 공유되므로 누적 건수는 실행 전 값 기준으로 비교)
+        long totalBefore = postArchiver.status().getTotalArchived();
+
+        // when
+        long archived = postArchiver.archiveExpired();
+
+        // then
+        assertThat(archived).isEqualTo(3);
+        assertThat(count("posts")).isEqualTo(2);
+        assertThat(count("post_bodies")).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList("SELECT content FROM posts_archive ORDER BY id", String.class))
+            .containsExactly("본문 0", "본문 1", "본문 2");
+        assertThat(postRepository.findById(postIds.get(4))).isPresent();
+
+        assertThat(postArchiver.status().getTotalArchived()).isEqualTo(totalBefore + 3);
+        assertThat(postArchiver.archiveExpired()).isZero(); // 다시 실행해도 옮길 것이 없음
+    }
+
+    @Test
+    @DisplayName("보관_연관_데이터: 보관되는 게시글의 댓글 / 좋아요 기록 / 태그 연결도 보관 테이블로 옮겨지고, 좋아요 수는 슬롯 합계까지 보관되어야 한다.")
+    void archives_comments_likes_and_tags_with_post() {
+        // given : 보관 대상 0번 글에 댓글 + 답글, 좋아요 1건 (압축분 1 + 슬롯 2), 태그 1개
+        Long postId = postIds.get(0);
+        Long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE user_id = 'writer1'", Long.class);
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("INSERT INTO comments (id, post_id, user_id, parent_id, depth, path, content, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+            100L, postId, userId, null, 0, "0000002s", "댓글", now);
+        jdbcTemplate.update("INSERT INTO comments (id, post_id, user_id, parent_id, depth, path, content, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+            101L, postId, userId, 100L, 1, "0000002s0000002t", "답글", now);
+        jdbcTemplate.update("INSERT INTO post_likes (post_id, user_id, created_at) VALUES (?, ?, ?)", postId, userId, now);
+        jdbcTemplate.update("INSERT INTO post_like_shards (post_id, slot, like_count) VALUES (?, 0, 2)", postId);
+        jdbcTemplate.update("UPDATE posts SET comment_count = 2, like_count = 1 WHERE id = ?", postId);
+        jdbcTemplate.update("INSERT INTO tags (name) VALUES ('type:red')");
+        Long tagId = jdbcTemplate.queryForObject("SELECT id FROM tags WHERE name = 'type:red'", Long.class);
+        jdbcTemplate.update("INSERT INTO post_tags (post_id, tag_id) VALUES (?, ?)", postId, tagId);
+
+        // when
+        postArchiver.archiveExpired();
+
+        // then : 원래 테이블에서는 지워지고
+        assertThat(count("comments")).isZero();
+        assertThat(count("post_likes")).isZero();
+        assertThat(count("post_like_shards")).isZero();
+        assertThat(count("post_tags")).isZero();
+
+        // 보관 테이블에는 그대로 남음
+        assertThat(jdbcTemplate.queryForList("SELECT path FROM comments_archive WHERE post_id = ? ORDER BY path", String.class, postId))
+            .containsExactly("0000002s", "0000002s0000002t");
+        assertThat(jdbcTemplate.queryForObject("SELECT user_id FROM post_likes_archive WHERE post_id = ?", Long.class, postId)).isEqualTo(userId);
+        assertThat(jdbcTemplate.queryForObject("SELECT tag_id FROM post_tags_archive WHERE post_id = ?", Long.class, postId)).isEqualTo(tagId);
+        assertThat(jdbcTemplate.queryForMap("SELECT comment_count, like_count FROM posts_archive WHERE id = ?", postId))
+            .containsEntry("COMMENT_COUNT", 2)
+            .containsEntry("LIKE_COUNT", 3L);
+    }
+
+    @Test
+    @DisplayName("일시_정지: 정지 중에는 예약 실행이 아무것도 옮기지 않고, 재개하면 다시 옮겨야 한다.")
+    void paused_archiver_skips_scheduled_runs() {
+        // when
+        postArchiver.pause();
+        postArchiver.archiveOnSchedule();
+
+        // then
+        assertThat(count("posts_archive")).isZero();
+        assertThat(postArchiver.status().isPaused()).isTrue();
+
+        postArchiver.resume();
+        postArchiver.archiveOnSchedule();
+        assertThat(count("posts_archive")).isEqualTo(3);
+    }
+}
@@ -0,0 +1,59 @@
+package springboot_first.pr.service.post;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PostCursor 키셋 커서 인코딩/디코딩 테스트")
+class PostCursorTest {
+
+    // --- 1. 인코딩/디코딩 왕복 테스트 ---
+    @Test
+    @DisplayName("커서_성공: 인코딩한 커서를 디코딩하면 (createdAt, id)가 그대로 복원되어야 한다.")
+    void encode_decode_round_trip() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 10, 1, 12, 30, 45, 123_456_000);
+        PostCursor cursor = PostCursor.of(createdAt, 42L);
+
+        // when
+        PostCursor decoded = PostCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("커서_성공: 인코딩된 커서는 URL에 안전한 문자만 포함해야 한다.")
+    void encoded_cursor_is_url_safe() {
+        // given
+        PostCursor cursor = PostCursor.of(LocalDateTime.of(2025, 1, 1, 0, 0), Long.MAX_VALUE);
+
+        // when & then
+        assertThat(cursor.encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    // --- 2. 잘못된 커서 테스트 ---
+    @ParameterizedTest(name = "잘못된 커서 실패: 입력값 '{0}'")
+    @ValueSource(strings = {"not-a-cursor", "@@@", "MjAyNS0wMS0wMQ"})
+    @DisplayName("커서_실패: 형식이 잘못된 커서는 IllegalArgumentException이 발생해야 한다.")
+    void decode_fail_when_cursor_is_invalid(String invalid) {
+        assertThatThrownBy(() -> PostCursor.decode(invalid))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // --- 3. 페이지 크기 보정 테스트 ---
+    @Test
+    @DisplayName("크기_보정: 1 미만은 기본값, 최대값 초과는 최대값으로 보정되어야 한다.")
+    void clamp_size() {
+        assertThat(PostCursor.clampSize(0)).isEqualTo(PostCursor.DEFAULT_SIZE);
+        assertThat(PostCursor.clampSize(25)).isEqualTo(25);
+        assertThat(PostCursor.clampSize(1000)).isEqualTo(PostCursor.MAX_SIZE);
+    }
+}
@@ -0,0 +1,90 @@
+package springboot_first.pr.service.post;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import springboot_first.pr.dto.postDTO.response.PostDetailResponse;
+import springboot_first.pr.exception.ResourceNotFoundException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PostDetailCache 상세 조회 캐시 테스트")
+class PostDetailCacheTest {
+
+    private SimpleMeterRegistry registry;
+    private PostDetailCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", registry);
+        cache = new PostDetailCache(Duration.ofMinutes(5), 100, beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    private PostDetailResponse load(String title) {
+        loads.incrementAndGet();
+        return PostDetailResponse.builder().postId(1L).title(title).build();
+    }
+
+    // --- 1. Read-through 테스트 ---
+    @Test
+    @DisplayName("캐시_적중: 두 번째 조회부터는 DB(loader)를 호출하지 않고 적중 메트릭이 기록되어야 한다.")
+    void second_read_is_a_hit() {
+        // when
+        cache.get(1L, () -> load("제목"));
+        PostDetailResponse second = cache.get(1L, () -> load("다른 제목"));
+
+        // then
+        assertThat(second.getTitle()).isEqualTo("제목");
+        assertThat(loads).hasValue(1);
+        assertThat(registry.get("cache.gets").tag("cache", "postDetail").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시_실패: 게시글이 없어 loader가 예외를 던지면 아무것도 저장되지 않아야 한다.")
+    void failed_load_is_not_cached() {
+        assertThatThrownBy(() -> cache.get(1L, () -> { throw new ResourceNotFoundException("없음"); }))
+            .isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(cache.get(1L, () -> load("제목")).getTitle()).isEqualTo("제목");
+    }
+
+    // --- 2. 무효화 테스트 ---
+    @Test
+    @DisplayName("무효화_성공: 수정/삭제 이벤트 후에는 다시 DB에서 읽어야 한다.")
+    void update_event_invalidates() {
+        // given
+        cache.get(1L, () -> load("수정 전"));
+
+        // when
+        cache.onPostChanged(PostChangedEvent.updated(1L));
+
+        // then
+        assertThat(cache.get(1L, () -> load("수정 후")).getTitle()).isEqualTo("수정 후");
+    }
+
+    @Test
+    @DisplayName("무효화_경쟁: 조회 도중 무효화가 끝나면 읽어 온 오래된 값은 캐시에 남지 않아야 한다.")
+    void invalidation_during_load_does_not_resurrect_stale_value() {
+        // when : DB에서 수정 전 값을 읽는 사이 수정 커밋 + 무효화가 완료됨
+        PostDetailResponse stale = cache.get(1L, () -> {
+            PostDetailResponse old = load("수정 전");
+            cache.invalidate(1L);
+            return old;
+        });
+
+        // then : 이번 요청은 읽은 값을 그대로 받지만, 다음 요청은 새로 조회
+        assertThat(stale.getTitle()).isEqualTo("수정 전");
+        assertThat(cache.get(1L, () -> load("수정 후")).getTitle()).isEqualTo("수정 후");
+    }
+}
@@ -0,0 +1,157 @@
+package springboot_first.pr.service.post;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import springboot_first.pr.entity.Post;
+import springboot_first.pr.entity.User;
+import springboot_first.pr.repository.PostRepository;
+import springboot_first.pr.repository.UserRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class) // NDJSON 직렬화에 애플리케이션과 같은 ObjectMapper 사용
+@Import(PostExportService.class)
+@DisplayName("PostExportService 게시글 내보내기 테스트")
+class PostExportServiceTest {
+
+    private static final LocalDateTime SINCE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Autowired
+    private PostExportService postExportService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager em;
+
+    private final List<Long> postIds = new ArrayList<>();
+
+    /**
+     * 게시글 4개 : id 순서와 수정 시각 순서가 다르도록 수정 시각을 직접 지정, 마지막 글은 삭제
+     * - 0번 : since + 2시간 / 1번 : since + 1시간 / 2번 : since 1시간 전 (증분 대상 아님) / 3번 : 삭제
+     */
+    @BeforeEach
+    void setUp() {
+        User author = userRepository.save(User.builder()
+                .userId("writer1")
+                .email("writer1@test.com")
+                .username("작성자1")
+                .password("encoded_password1234!")
+                .phoneNumber("010-0000-0001")
+                .role("USER")
+                .build());
+        for (int i = 0; i < 4; i++) {
+            postIds.add(postRepository.save(Post.create("와인 리뷰 " + i, "본문 " + i + "\n두 번째 줄", author)).getId());
+        }
+        em.flush();
+
+        List<LocalDateTime> updatedAt = List.of(SINCE.plusHours(2), SINCE.plusHours(1), SINCE.minusHours(1), SINCE.plusHours(3));
+        for (int i = 0; i < postIds.size(); i++) {
+            jdbcTemplate.update("UPDATE posts SET updated_at = ? WHERE id = ?", updatedAt.get(i), postIds.get(i));
+        }
+        jdbcTemplate.update("UPDATE posts SET deleted_at = ? WHERE id = ?", LocalDateTime.now(), postIds.get(3));
+        em.clear();
+    }
+
+    private List<JsonNode> readLines(byte[] ndjson) throws Exception {
+        String text = new String(ndjson, StandardCharsets.UTF_8);
+        assertThat(text).endsWith("\n");
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : text.split("\n")) {
+            rows.add(objectMapper.readTree(line));
+        }
+        return rows;
+    }
+
+    // --- 1. 전체 / 증분 내보내기 테스트 ---
+    @Test
+    @DisplayName("전체_내보내기: 삭제되지 않은 게시글이 id 순으로 한 줄에 한 건씩 출력되어야 한다.")
+    void exports_all_live_posts_as_ndjson() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long written = postExportService.export(null, out, false);
+
+        // then (본문의 줄바꿈은 JSON 문자열 안에서 이스케이프되어 한 줄 = 한 건 유지)
+        List<JsonNode> rows = readLines(out.toByteArray());
+        assertThat(written).isEqualTo(3);
+        assertThat(rows).extracting(row -> row.get("postId").asLong()).containsExactly(postIds.get(0), postIds.get(1), postIds.get(2));
+        assertThat(rows.get(0).get("content").asText()).isEqualTo("본문 0\n두 번째 줄");
+        assertThat(rows.get(0).get("authorUserId").asText()).isEqualTo("writer1");
+    }
+
+    @Test
+    @DisplayName("증분_내보내기: since 이후 수정된 게시글만 수정 시각 순으로 출력되고, 마지막 줄의 updatedAt이 가장 최근이어야 한다.")
+    void exports_updated_since_in_updated_at_order() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long written = postExportService.export(SINCE, out, false);
+
+        // then
+        List<JsonNode> rows = readLines(out.toByteArray());
+        assertThat(written).isEqualTo(2);
+        assertThat(rows).extracting(row -> row.get("postId").asLong()).containsExactly(postIds.get(1), postIds.get(0));
+        LocalDateTime last = objectMapper.convertValue(rows.get(1).get("updatedAt"), LocalDateTime.class);
+        assertThat(last).isEqualTo(SINCE.plusHours(2));
+
+        // 마지막 줄의 updatedAt을 다음 since로 쓰면 경계 시각의 게시글만 다시 나옴
+        ByteArrayOutputStream next = new ByteArrayOutputStream();
+        postExportService.export(last, next, false);
+        assertThat(readLines(next.toByteArray())).extracting(row -> row.get("postId").asLong()).containsExactly(postIds.get(0));
+    }
+
+    // --- 2. gzip 테스트 ---
+    @Test
+    @DisplayName("gzip_내보내기: 압축을 풀면 압축하지 않은 출력과 같은 NDJSON이어야 한다.")
+    void gzip_output_matches_plain_output() throws Exception {
+        // given
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+        // when
+        postExportService.export(SINCE, plain, false);
+        long written = postExportService.export(SINCE, compressed, true);
+
+        // then
+        byte[] unzipped;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            unzipped = in.readAllBytes();
+        }
+        assertThat(written).isEqualTo(2);
+        assertThat(unzipped).isEqualTo(plain.toByteArray());
+    }
+}
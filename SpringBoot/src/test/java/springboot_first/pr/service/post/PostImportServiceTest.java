@@ -0,0 +1,169 @@
+package springboot_first.pr.service.post;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import springboot_first.pr.dto.postDTO.response.PostImportResponse;
+import springboot_first.pr.entity.Post;
+import springboot_first.pr.entity.PostBodyCompression;
+import springboot_first.pr.entity.User;
+import springboot_first.pr.repository.PostRepository;
+import springboot_first.pr.repository.UserRepository;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 💡 청크 크기를 2로 줄여서 여러 청크(= 여러 번의 배치 INSERT + 커밋 + 이벤트)가 나뉘어 처리되는지 확인
+// ⚠️ 테스트 트랜잭션 없이 실행 : 청크 트랜잭션이 바깥 트랜잭션에 합류하지 않고 실제로 커밋되어야 하므로 (데이터는 직접 정리)
+@DataJpaTest(properties = "post.import.chunk-size=2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({PostImportService.class, PostBodyCompression.class, PostImportServiceTest.CommittedImports.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class) // 요청 본문 파싱용 ObjectMapper
+@DisplayName("PostImportService 게시글 일괄 가져오기 테스트")
+class PostImportServiceTest {
+
+    // 커밋이 확정된 청크의 이벤트만 기록 (캐시/색인 구독자와 같은 AFTER_COMMIT)
+    static class CommittedImports {
+
+        private final List<PostsImportedEvent> events = new CopyOnWriteArrayList<>();
+
+        @TransactionalEventListener
+        public void onPostsImported(PostsImportedEvent event) {
+            events.add(event);
+        }
+    }
+
+    @Autowired
+    private PostImportService postImportService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CommittedImports committed;
+
+    @BeforeEach
+    void setUp() {
+        committed.events.clear();
+        userRepository.save(User.builder()
+                .userId("writer1")
+                .email("writer1@test.com")
+                .username("작성자1")
+                .password("encoded_password1234!")
+                .phoneNumber("010-0000-0001")
+                .role("USER")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM posts");
+        jdbcTemplate.update("DELETE FROM post_bodies");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    private PostImportResponse importText(String text) {
+        return postImportService.importPosts(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("NDJSON: 올바른 게시글은 본문/작성일까지 저장되고, 없는 작성자나 제목 누락은 건너뛰어야 한다.")
+    void imports_ndjson_and_skips_invalid_rows() {
+        // given (5줄 → 청크 3개)
+        String ndjson = """
+                {"title":"첫 글","content":"본문 1","authorUserId":"writer1","createdAt":"2020-05-01T10:00:00"}
+                {"title":"둘째 글","content":"본문 2","authorUserId":"writer1"}
+                {"title":"유령 글","content":"본문 3","authorUserId":"ghost"}
+                {"title":"","content":"본문 4","authorUserId":"writer1"}
+                {"title":"다섯째 글","content":"본문 5","authorUserId":"writer1"}
+                """;
+
+        // when
+        PostImportResponse response = importText(ndjson);
+
+        // then
+        assertThat(response.getImported()).isEqualTo(3);
+        assertThat(response.getSkipped()).isEqualTo(2);
+        assertThat(response.getErrors()).hasSize(2)
+                .anyMatch(error -> error.startsWith("3번째") && error.contains("ghost"))
+                .anyMatch(error -> error.startsWith("4번째"));
+
+        List<Post> posts = postRepository.findDetailsByIds(postRepository.findAll().stream().map(Post::getId).toList());
+        assertThat(posts).extracting(Post::getTitle).containsExactlyInAnyOrder("첫 글", "둘째 글", "다섯째 글");
+        Post first = posts.stream().filter(post -> post.getTitle().equals("첫 글")).findFirst().orElseThrow();
+        assertThat(first.getContent()).isEqualTo("본문 1");
+        assertThat(first.getUser().getUserId()).isEqualTo("writer1");
+        assertThat(first.getCreatedAt()).isEqualTo(LocalDateTime.of(2020, 5, 1, 10, 0));
+
+        // 저장된 게시글이 있는 청크마다 커밋 후 이벤트 1개 (두 번째 청크 [3, 4]는 모두 건너뛰어 이벤트 없음)
+        assertThat(committed.events)
+                .extracting(event -> event.getPostIds().size())
+                .containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("JSON 배열: 배열 원소도 NDJSON과 같은 방식으로 가져와야 한다.")
+    void imports_json_array() {
+        // when
+        PostImportResponse response = importText("""
+                [{"title":"배열 글 1","content":"본문","authorUserId":"writer1"},
+                 {"title":"배열 글 2","content":"본문","authorUserId":"writer1"}]
+                """);
+
+        // then
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(postRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("형식_오류: JSON이 깨져 있으면 IllegalArgumentException이 발생해야 한다.")
+    void fails_on_malformed_json() {
+        assertThatThrownBy(() -> importText("{\"title\": "))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("중간_실패: 뒤쪽 청크에서 실패해도 앞쪽 청크는 이미 커밋되어 남아 있고, 그 청크의 이벤트만 전달되어야 한다.")
+    void earlier_chunks_stay_committed_when_later_input_fails() {
+        // given (첫 청크 [1, 2]는 커밋, 세 번째 줄은 다음 청크를 채우는 중에 네 번째 줄에서 형식 오류)
+        String ndjson = """
+                {"title":"첫 글","content":"본문 1","authorUserId":"writer1"}
+                {"title":"둘째 글","content":"본문 2","authorUserId":"writer1"}
+                {"title":"셋째 글","content":"본문 3","authorUserId":"writer1"}
+                {"title": 
+                """;
+
+        // when
+        assertThatThrownBy(() -> importText(ndjson))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("2건 저장 후 중단");
+
+        // then
+        assertThat(postRepository.findAll()).extracting(Post::getTitle).containsExactlyInAnyOrder("첫 글", "둘째 글");
+        assertThat(committed.events).hasSize(1);
+        assertThat(committed.events.get(0).getPostIds()).hasSize(2);
+    }
+}
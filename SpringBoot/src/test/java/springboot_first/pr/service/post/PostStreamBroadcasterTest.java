@@ -0,0 +1,235 @@
+package springboot_first.pr.service.post;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import springboot_first.pr.dto.postDTO.response.PostListResponse;
+import springboot_first.pr.repository.PostRepository;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PostStreamBroadcaster 게시글 실시간 스트림 테스트")
+class PostStreamBroadcasterTest {
+
+    private static final Duration SEND_TIMEOUT = Duration.ofMillis(200);
+    private static final Pattern EVENT = Pattern.compile("event:(\\w+)\\ndata:\\{\"type\":\"\\w+\",\"postId\":(\\w+)");
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private PostStreamBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        // 삭제된 게시글(id 99)은 목록 조회 결과에 없음
+        when(postRepository.findListByIds(any())).thenAnswer(invocation -> ((Collection<?>) invocation.getArgument(0)).stream()
+            .map(Long.class::cast)
+            .filter(id -> id != 99L)
+            .map(id -> new PostListResponse(id, "제목 " + id, "작성자", LocalDateTime.of(2025, 10, 1, 12, 0), 0, 0, 0))
+            .toList());
+        broadcaster = new PostStreamBroadcaster(postRepository, new ObjectMapper().findAndRegisterModules(),
+            4, 100, Duration.ofMinutes(1), 2, SEND_TIMEOUT, new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    // 보낸 이벤트를 "이름:postId" 로 기록하는 emitter (연결/heartbeat 주석은 기록하지 않음)
+    private static class RecordingEmitter extends SseEmitter {
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final CountDownLatch firstSend = new CountDownLatch(1);
+        final CountDownLatch release;
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            firstSend.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            StringBuilder frame = new StringBuilder();
+            items.forEach(item -> frame.append(item.getData()));
+            Matcher matcher = EVENT.matcher(frame);
+            if (matcher.find()) {
+                events.add(matcher.group(1) + ":" + matcher.group(2));
+            }
+        }
+
+        List<String> await(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (events.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            return events;
+        }
+    }
+
+    // 소켓 쓰기가 멈춘 클라이언트 : 인터럽트로도 풀리지 않고 release 될 때까지 전송 스레드를 잡고 있음
+    private static class StuckEmitter extends SseEmitter {
+
+        final CountDownLatch firstSend = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            firstSend.countDown();
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    release.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+
+    private RecordingEmitter subscribe(CountDownLatch release) {
+        RecordingEmitter emitter = new RecordingEmitter(release);
+        broadcaster.subscribe(emitter);
+        return emitter;
+    }
+
+    // --- 1. 분배 테스트 ---
+    @Test
+    @DisplayName("분배_성공: 커밋 이벤트가 순서대로 created/updated/deleted 로 전달되고, 목록 DTO는 IN 쿼리 1번으로 읽어야 한다.")
+    void dispatches_deltas_in_commit_order_with_one_query() throws Exception {
+        // given
+        RecordingEmitter emitter = subscribe(new CountDownLatch(0));
+        broadcaster.onPostChanged(PostChangedEvent.created(1L));
+        broadcaster.onPostChanged(PostChangedEvent.updated(2L));
+        broadcaster.onPostChanged(PostChangedEvent.deleted(3L));
+        broadcaster.onPostChanged(PostChangedEvent.updated(99L)); // 조회 전에 삭제됨
+
+        // when
+        broadcaster.dispatchPending();
+
+        // then
+        assertThat(emitter.await(4)).containsExactly("created:1", "updated:2", "deleted:3", "deleted:99");
+        verify(postRepository, times(1)).findListByIds(any());
+    }
+
+    @Test
+    @DisplayName("분배_생략: 구독자가 없으면 커밋 이벤트를 받지 않고 DB도 조회하지 않아야 한다.")
+    void no_subscribers_no_work() {
+        broadcaster.onPostChanged(PostChangedEvent.created(1L));
+
+        assertThat(broadcaster.dispatchPending()).isZero();
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("분배_가져오기: 구독자 버퍼보다 많은 게시글을 한꺼번에 가져오면 reload 1건으로 대신해야 한다.")
+    void large_import_becomes_reload() throws Exception {
+        RecordingEmitter emitter = subscribe(new CountDownLatch(0));
+        broadcaster.onPostsImported(new PostsImportedEvent(LongStream.rangeClosed(1, 10).boxed().toList()));
+
+        broadcaster.dispatchPending();
+
+        assertThat(emitter.await(1)).containsExactly("reload:null");
+        verifyNoInteractions(postRepository);
+    }
+
+    // --- 2. 배압(drop-oldest) 테스트 ---
+    @Test
+    @DisplayName("배압_처리: 느린 구독자는 오래된 이벤트를 버리고 reload 후 최신 이벤트만 받으며, 다른 구독자는 모두 받아야 한다.")
+    void slow_subscriber_drops_oldest_without_blocking_others() throws Exception {
+        // given : 느린 구독자는 첫 전송(연결 주석)에서 멈춰 있음
+        CountDownLatch slowNetwork = new CountDownLatch(1);
+        RecordingEmitter slow = subscribe(slowNetwork);
+        RecordingEmitter fast = subscribe(new CountDownLatch(0));
+        assertThat(slow.firstSend.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when : 버퍼(4건)보다 많은 6건 발행
+        for (long id = 1; id <= 6; id++) {
+            broadcaster.onPostChanged(PostChangedEvent.deleted(id));
+            broadcaster.dispatchPending();
+            fast.await((int) id);
+        }
+
+        // then : 빠른 구독자는 느린 구독자를 기다리지 않고 전부 받음
+        assertThat(fast.events).containsExactly(
+            "deleted:1", "deleted:2", "deleted:3", "deleted:4", "deleted:5", "deleted:6");
+        assertThat(slow.events).isEmpty();
+
+        // then : 느린 구독자는 reload + 마지막 4건
+        slowNetwork.countDown();
+        assertThat(slow.await(5)).containsExactly("reload:null", "deleted:3", "deleted:4", "deleted:5", "deleted:6");
+    }
+
+    @Test
+    @DisplayName("전송_시간초과: 전송 스레드 수만큼 클라이언트가 멈춰도, 시간 초과로 내보낸 뒤에는 다른 구독자가 이벤트를 받아야 한다.")
+    void stalled_sends_are_evicted_so_others_keep_receiving() throws Exception {
+        // given : 전송 스레드 2개가 모두 멈춘 클라이언트의 연결 주석 전송에 잡혀 있음
+        StuckEmitter stuck1 = new StuckEmitter();
+        StuckEmitter stuck2 = new StuckEmitter();
+        broadcaster.subscribe(stuck1);
+        broadcaster.subscribe(stuck2);
+        assertThat(stuck1.firstSend.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(stuck2.firstSend.await(5, TimeUnit.SECONDS)).isTrue();
+        RecordingEmitter other = subscribe(new CountDownLatch(0));
+
+        broadcaster.onPostChanged(PostChangedEvent.deleted(1L));
+        broadcaster.dispatchPending();
+        Thread.sleep(SEND_TIMEOUT.toMillis() / 2);
+        assertThat(other.events).isEmpty(); // 아직은 전송 스레드가 없음
+
+        // when : 전송 시간 초과 확인
+        Thread.sleep(SEND_TIMEOUT.toMillis());
+        broadcaster.evictStalled();
+
+        // then : 멈춘 전송이 그대로여도 다른 구독자는 받고, 이후 이벤트도 계속 받음
+        assertThat(other.await(1)).containsExactly("deleted:1");
+        broadcaster.onPostChanged(PostChangedEvent.deleted(2L));
+        broadcaster.dispatchPending();
+        assertThat(other.await(2)).containsExactly("deleted:1", "deleted:2");
+
+        // then : 멈췄던 전송이 끝나면 내보낸 연결을 닫음 (클라이언트가 다시 구독)
+        stuck1.release.countDown();
+        stuck2.release.countDown();
+        assertThat(stuck1.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(stuck2.completed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
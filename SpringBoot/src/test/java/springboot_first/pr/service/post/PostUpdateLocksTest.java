@@ -0,0 +1,74 @@
+package springboot_first.pr.service.post;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PostUpdateLocks 게시글별 갱신 순서 테스트")
+class PostUpdateLocksTest {
+
+    @Test
+    @DisplayName("같은_게시글: 먼저 시작한 읽기 + 반영이 끝날 때까지 같은 게시글의 다음 갱신은 기다려야 한다.")
+    void same_post_updates_run_one_at_a_time() throws Exception {
+        // given : 1번 게시글 갱신이 DB 읽기 중에 멈춰 있음
+        PostUpdateLocks locks = new PostUpdateLocks();
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> locks.run(1L, () -> {
+            reading.countDown();
+            await(release);
+        }));
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> locks.run(1L, () -> { }));
+        CompletableFuture<Void> other = CompletableFuture.runAsync(() -> locks.run(2L, () -> { }));
+
+        // then : 다른 게시글은 바로, 같은 게시글은 앞의 갱신이 끝난 뒤에
+        other.get(5, TimeUnit.SECONDS);
+        Thread.sleep(100);
+        assertThat(second).isNotDone();
+        release.countDown();
+        second.get(5, TimeUnit.SECONDS);
+        first.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("여러_게시글: 청크 단위 갱신은 포함된 게시글의 갱신을 모두 막고, 끝나면 모든 락을 풀어야 한다.")
+    void run_all_blocks_every_included_post() throws Exception {
+        // given
+        PostUpdateLocks locks = new PostUpdateLocks();
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> chunk = CompletableFuture.runAsync(() -> locks.runAll(List.of(3L, 1L, 200L), () -> {
+            reading.countDown();
+            await(release);
+        }));
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<Void> single = CompletableFuture.runAsync(() -> locks.run(200L, () -> { }));
+        Thread.sleep(100);
+
+        // then
+        assertThat(single).isNotDone();
+        release.countDown();
+        chunk.get(5, TimeUnit.SECONDS);
+        single.get(5, TimeUnit.SECONDS);
+        locks.runAll(List.of(1L, 3L), () -> { }); // 락이 남아 있지 않음
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package springboot_first.pr.service.post;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import jakarta.persistence.EntityManager;
+import springboot_first.pr.entity.Post;
+import springboot_first.pr.entity.User;
+import springboot_first.pr.repository.PostRepository;
+import springboot_first.pr.repository.UserRepository;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({PostViewCounter.class, PostDetailCache.class})
+@DisplayName("PostViewCounter 조회수 버퍼 테스트")
+class PostViewCounterTest {
+
+    @Autowired
+    private PostViewCounter postViewCounter;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    private Long hotPostId;
+    private Long quietPostId;
+
+    @BeforeEach
+    void setUp() {
+        User author = userRepository.save(User.builder()
+                .userId("writer1")
+                .email("writer1@test.com")
+                .username("작성자1")
+                .password("encoded_password1234!")
+                .phoneNumber("010-0000-0001")
+                .role("USER")
+                .build());
+        hotPostId = postRepository.save(Post.create("인기 글", "본문", author)).getId();
+        quietPostId = postRepository.save(Post.create("조용한 글", "본문", author)).getId();
+        em.flush();
+    }
+
+    private long viewCount(Long postId) {
+        return jdbcTemplate.queryForObject("SELECT view_count FROM posts WHERE id = ?", Long.class, postId);
+    }
+
+    @Test
+    @DisplayName("반영_성공: 여러 스레드의 조회가 유실 없이 모였다가 게시글별 UPDATE 1번으로 더해져야 한다.")
+    void concurrent_views_are_flushed_as_one_delta() throws InterruptedException {
+        // given
+        ExecutorService viewers = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            viewers.execute(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    postViewCounter.increment(hotPostId);
+                }
+            });
+        }
+        viewers.shutdown();
+        assertThat(viewers.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        postViewCounter.increment(quietPostId);
+        assertThat(postViewCounter.pending(hotPostId)).isEqualTo(4000);
+
+        // when
+        int posts = postViewCounter.flush();
+
+        // then
+        assertThat(posts).isEqualTo(2);
+        assertThat(viewCount(hotPostId)).isEqualTo(4000);
+        assertThat(viewCount(quietPostId)).isEqualTo(1);
+        assertThat(postViewCounter.pending(hotPostId)).isZero();
+        assertThat(postViewCounter.flush()).isZero(); // 새 조회가 없으면 UPDATE 없음
+    }
+
+    @Test
+    @DisplayName("누적_반영: 반영 후 들어온 조회는 다음 반영에서 기존 조회수에 더해져야 한다.")
+    void later_views_add_to_flushed_count() {
+        // given
+        postViewCounter.increment(hotPostId);
+        postViewCounter.flush();
+
+        // when
+        postViewCounter.increment(hotPostId);
+        postViewCounter.increment(hotPostId);
+        postViewCounter.flush();
+
+        // then
+        assertThat(viewCount(hotPostId)).isEqualTo(3);
+        em.clear();
+        assertThat(postRepository.findById(hotPostId).orElseThrow().getViewCount()).isEqualTo(3);
+        // 상세 ETag 검증 값도 반영된 조회수를 따라감
+        assertThat(postRepository.findDetailVersionById(hotPostId).orElseThrow().getViewCount()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,111 @@
+package springboot_first.pr.service.post;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import springboot_first.pr.dto.postDTO.response.PostListResponse;
+import springboot_first.pr.dto.postDTO.response.PostTrendingResponse;
+import springboot_first.pr.repository.PostRepository;
+import springboot_first.pr.service.post.TrendingPosts.Window;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TrendingPosts 인기 게시글 순위 테스트")
+class TrendingPostsTest {
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private TrendingPosts trending;
+
+    @BeforeEach
+    void setUp() {
+        when(postRepository.findListByIds(any())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).stream()
+            .map(id -> new PostListResponse((Long) id, "제목 " + id, "작성자", LocalDateTime.of(2025, 10, 1, 12, 0), 0, 0, 0))
+            .toList());
+        trending = new TrendingPosts(postRepository, 3, 1000);
+    }
+
+    private void view(long postId, int times) {
+        for (int i = 0; i < times; i++) {
+            trending.record(postId);
+        }
+    }
+
+    private List<Long> ids(Window window) {
+        return trending.top(window, 10).stream().map(PostTrendingResponse::getPostId).toList();
+    }
+
+    @Test
+    @DisplayName("순위_계산: 1분 칸이 닫히면 조회수 내림차순 상위 K건만 순위에 들어가야 한다.")
+    void ranks_top_k_after_rotation() {
+        // given
+        view(1, 5);
+        view(2, 9);
+        view(3, 1);
+        view(4, 7);
+        assertThat(ids(Window.HOUR)).isEmpty(); // 갱신 전
+
+        // when
+        trending.rotate();
+
+        // then
+        assertThat(ids(Window.HOUR)).containsExactly(2L, 4L, 1L);
+        assertThat(trending.top(Window.DAY, 2)).extracting(PostTrendingResponse::getRecentViews).containsExactly(9L, 7L);
+        assertThat(trending.top(Window.HOUR, 10).get(0).getRank()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("구간_만료: 60분이 지난 조회는 1시간 순위에서 빠지고 1일 순위에는 남아야 한다.")
+    void hour_window_slides_while_day_keeps_counts() {
+        // given : 60분 전 게시글 1 조회 5번
+        view(1, 5);
+        trending.rotate();
+
+        // when : 59분 동안 게시글 2 조회 1번씩 → 60번째 갱신에서 게시글 1의 칸이 빠짐
+        for (int minute = 0; minute < 59; minute++) {
+            view(2, 1);
+            trending.rotate();
+        }
+        assertThat(ids(Window.HOUR)).containsExactly(2L, 1L);
+        trending.rotate();
+
+        // then
+        assertThat(ids(Window.HOUR)).containsExactly(2L);
+        assertThat(trending.top(Window.HOUR, 1).get(0).getRecentViews()).isEqualTo(59);
+        assertThat(ids(Window.DAY)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("삭제_반영: 삭제 커밋된 게시글은 다음 갱신을 기다리지 않고 순위에서 빠져야 한다.")
+    void deleted_post_leaves_ranking_immediately() {
+        // given
+        view(1, 3);
+        view(2, 2);
+        trending.rotate();
+
+        // when
+        trending.onPostChanged(PostChangedEvent.deleted(1L));
+
+        // then
+        assertThat(trending.top(Window.HOUR, 10)).extracting(PostTrendingResponse::getPostId, PostTrendingResponse::getRank)
+            .containsExactly(tuple(2L, 1));
+        trending.rotate(); // 다음 갱신에서는 합계에서도 빠짐
+        assertThat(ids(Window.HOUR)).containsExactly(2L);
+        assertThat(ids(Window.DAY)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("구간_검증: hour / day 외의 구간은 IllegalArgumentException 이어야 한다.")
+    void unknown_window_is_rejected() {
+        assertThat(Window.from("DAY")).isEqualTo(Window.DAY);
+        assertThatThrownBy(() -> Window.from("week")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,206 @@
+package springboot_first.pr.service.post.comment;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import jakarta.persistence.EntityManager;
+import springboot_first.pr.dto.commentDTO.request.CommentCreateRequest;
+import springboot_first.pr.dto.commentDTO.response.CommentPageResponse;
+import springboot_first.pr.dto.commentDTO.response.CommentResponse;
+import springboot_first.pr.entity.Post;
+import springboot_first.pr.entity.User;
+import springboot_first.pr.exception.AuthenticationException;
+import springboot_first.pr.exception.ResourceNotFoundException;
+import springboot_first.pr.repository.PostRepository;
+import springboot_first.pr.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import(CommentService.class)
+@DisplayName("CommentService 댓글 트리 테스트")
+class CommentServiceTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        User author = user("writer1", "010-0000-0001");
+        user("writer2", "010-0000-0002");
+        postId = postRepository.save(Post.create("글", "본문", author)).getId();
+        em.flush();
+    }
+
+    private User user(String userId, String phoneNumber) {
+        return userRepository.save(User.builder()
+                .userId(userId)
+                .email(userId + "@test.com")
+                .username(userId + "이름")
+                .password("encoded_password1234!")
+                .phoneNumber(phoneNumber)
+                .role("USER")
+                .build());
+    }
+
+    private Long write(String content, Long parentId) {
+        return write("writer1", content, parentId);
+    }
+
+    private Long write(String userId, String content, Long parentId) {
+        CommentCreateRequest request = new CommentCreateRequest();
+        ReflectionTestUtils.setField(request, "content", content);
+        ReflectionTestUtils.setField(request, "parentId", parentId);
+        return commentService.createComment(postId, userId, request).getCommentId();
+    }
+
+    private int commentCount() {
+        em.clear();
+        return postRepository.findListByIds(List.of(postId)).get(0).getCommentCount();
+    }
+
+    private static List<String> contents(List<CommentResponse> comments) {
+        return comments.stream().map(CommentResponse::getContent).toList();
+    }
+
+    // --- 1. 트리 조회 테스트 ---
+    @Test
+    @DisplayName("트리_조회: 최상위 댓글은 작성 순, 답글은 부모의 children 아래 작성 순으로 조립되고 댓글 수가 반영되어야 한다.")
+    void assembles_tree_and_counts() {
+        // given
+        Long a = write("A", null);
+        Long b = write("A-1", a);
+        write("D", null);
+        write("A-1-1", b);
+        write("A-2", a);
+
+        // when
+        CommentPageResponse page = commentService.findComments(postId, null, 10);
+
+        // then
+        assertThat(contents(page.getContent())).containsExactly("A", "D");
+        CommentResponse first = page.getContent().get(0);
+        assertThat(contents(first.getChildren())).containsExactly("A-1", "A-2");
+        assertThat(contents(first.getChildren().get(0).getChildren())).containsExactly("A-1-1");
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(commentCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("커서_페이지: 최상위 댓글 기준으로 나뉘고, 각 페이지에 그 댓글들의 답글 트리가 모두 담겨야 한다.")
+    void paginates_top_level_comments() {
+        // given
+        Long a = write("A", null);
+        Long b = write("B", null);
+        write("A-1", a); // B보다 나중에 썼지만 A 스레드에 속함
+        write("B-1", b);
+        write("C", null);
+
+        // when
+        CommentPageResponse first = commentService.findComments(postId, "", 2);
+        CommentPageResponse second = commentService.findComments(postId, first.getNextCursor(), 2);
+
+        // then
+        assertThat(contents(first.getContent())).containsExactly("A", "B");
+        assertThat(contents(first.getContent().get(0).getChildren())).containsExactly("A-1");
+        assertThat(contents(first.getContent().get(1).getChildren())).containsExactly("B-1");
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(contents(second.getContent())).containsExactly("C");
+        assertThat(second.isHasNext()).isFalse();
+
+        assertThatThrownBy(() -> commentService.findComments(postId, "잘못된커서", 2))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("깊이_제한: 최대 깊이를 넘는 답글은 마지막 깊이에 형제로 붙고, 스레드 조회에 모두 포함되어야 한다.")
+    void replies_beyond_max_depth_become_siblings() {
+        // given : 한 줄로 MAX_DEPTH + 2 단계 답글
+        Long root = write("0", null);
+        Long parent = root;
+        for (int i = 1; i < CommentPath.MAX_DEPTH + 2; i++) {
+            parent = write(String.valueOf(i), parent);
+        }
+
+        // when
+        CommentResponse thread = commentService.findThread(postId, root);
+
+        // then : 가장 깊은 댓글 아래에 마지막 두 답글이 형제로
+        CommentResponse node = thread;
+        int depth = 0;
+        while (node.getChildren().size() == 1) {
+            node = node.getChildren().get(0);
+            depth++;
+        }
+        assertThat(depth).isEqualTo(CommentPath.MAX_DEPTH - 2);
+        assertThat(contents(node.getChildren()))
+            .containsExactly(String.valueOf(CommentPath.MAX_DEPTH - 1), String.valueOf(CommentPath.MAX_DEPTH), String.valueOf(CommentPath.MAX_DEPTH + 1));
+    }
+
+    // --- 2. 삭제 테스트 ---
+    @Test
+    @DisplayName("삭제_성공: 답글이 있는 댓글은 자리만 남고, 답글 없는 댓글은 목록에서 빠지며 댓글 수가 줄어야 한다.")
+    void delete_keeps_placeholder_only_for_comments_with_replies() {
+        // given
+        Long a = write("A", null);
+        write("A-1", a);
+        Long b = write("B", null);
+
+        // when
+        commentService.deleteComment(postId, a, "writer1");
+        commentService.deleteComment(postId, b, "writer1");
+
+        // then
+        List<CommentResponse> roots = commentService.findComments(postId, null, 10).getContent();
+        assertThat(roots).hasSize(1);
+        assertThat(roots.get(0).isDeleted()).isTrue();
+        assertThat(roots.get(0).getContent()).isNull();
+        assertThat(contents(roots.get(0).getChildren())).containsExactly("A-1");
+        assertThat(commentCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제_실패: 다른 사람의 댓글은 401, 이미 삭제된 댓글은 404 가 발생해야 한다.")
+    void delete_rejects_non_owner_and_missing() {
+        Long a = write("A", null);
+
+        assertThatThrownBy(() -> commentService.deleteComment(postId, a, "writer2"))
+            .isInstanceOf(AuthenticationException.class);
+
+        commentService.deleteComment(postId, a, "writer1");
+        assertThatThrownBy(() -> commentService.deleteComment(postId, a, "writer1"))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("게시글_없음: 삭제된 게시글에는 댓글을 달 수 없고 댓글 목록도 404 가 발생해야 한다.")
+    void deleted_post_has_no_comments() {
+        // given
+        write("A", null);
+        postRepository.softDeleteIfOwner(postId, "writer1", LocalDateTime.now());
+
+        // then
+        assertThatThrownBy(() -> write("B", null)).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> commentService.findComments(postId, null, 10)).isInstanceOf(ResourceNotFoundException.class);
+    }
+}
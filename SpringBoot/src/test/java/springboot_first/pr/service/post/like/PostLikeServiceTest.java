@@ -0,0 +1,146 @@
+package springboot_first.pr.service.post.like;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import jakarta.persistence.EntityManager;
+import springboot_first.pr.dto.postDTO.response.PostDetailResponse;
+import springboot_first.pr.entity.Post;
+import springboot_first.pr.entity.User;
+import springboot_first.pr.exception.ResourceNotFoundException;
+import springboot_first.pr.repository.PostRepository;
+import springboot_first.pr.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 💡 슬롯 4개 : 좋아요 여러 건이 여러 슬롯 행으로 나뉘어 기록되는지 확인
+@DataJpaTest(properties = {"post.like.shards=4", "post.like.compaction.batch-size=3"})
+@Import({PostLikeService.class, PostLikeShardCompactor.class})
+@DisplayName("PostLikeService 게시글 좋아요 테스트")
+class PostLikeServiceTest {
+
+    @Autowired
+    private PostLikeService postLikeService;
+
+    @Autowired
+    private PostLikeShardCompactor compactor;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    private Long postId;
+
+    // 게시글 1개 + 회원 20명 (liker0 ~ liker19)
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 20; i++) {
+            userRepository.save(User.builder()
+                    .userId("liker" + i)
+                    .email("liker" + i + "@test.com")
+                    .username("회원" + i)
+                    .password("encoded_password1234!")
+                    .phoneNumber(String.format("010-0000-%04d", i))
+                    .role("USER")
+                    .build());
+        }
+        postId = postRepository.save(Post.create("글", "본문", userRepository.findByUserId("liker0").orElseThrow())).getId();
+        em.flush();
+    }
+
+    private long listLikeCount() {
+        em.clear();
+        return postRepository.findListByIds(List.of(postId)).get(0).getLikeCount();
+    }
+
+    private long detailLikeCount() {
+        em.clear();
+        return PostDetailResponse.from(postRepository.findDetailById(postId).orElseThrow()).getLikeCount();
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+
+    // --- 1. 좋아요 / 취소 테스트 ---
+    @Test
+    @DisplayName("좋아요_성공: 회원마다 1번만 세어지고, 목록/상세의 좋아요 수는 슬롯 합계와 같아야 한다.")
+    void likes_are_counted_once_per_user_across_shards() {
+        // when
+        for (int i = 0; i < 20; i++) {
+            postLikeService.like(postId, "liker" + i);
+        }
+        var again = postLikeService.like(postId, "liker0"); // 이미 누른 좋아요
+        var cancelled = postLikeService.unlike(postId, "liker1");
+        var notLiked = postLikeService.unlike(postId, "liker1"); // 이미 취소한 좋아요
+
+        // then
+        assertThat(again.isLiked()).isTrue();
+        assertThat(again.getLikeCount()).isEqualTo(20);
+        assertThat(cancelled.isLiked()).isFalse();
+        assertThat(cancelled.getLikeCount()).isEqualTo(19);
+        assertThat(notLiked.getLikeCount()).isEqualTo(19);
+
+        assertThat(count("SELECT COUNT(*) FROM post_likes")).isEqualTo(19);
+        assertThat(count("SELECT COUNT(*) FROM post_like_shards")).isEqualTo(4); // 첫 좋아요 때 슬롯 4개를 모두 만듦
+        assertThat(count("SELECT COUNT(*) FROM post_like_shards WHERE like_count <> 0")).isBetween(2, 4); // 20번 중 한 슬롯에만 몰릴 확률은 무시할 수준
+        assertThat(listLikeCount()).isEqualTo(19);
+        assertThat(detailLikeCount()).isEqualTo(19);
+    }
+
+    @Test
+    @DisplayName("좋아요_실패: 삭제된 게시글에는 좋아요/취소를 할 수 없고, 취소해도 좋아요 행이 지워지지 않아야 한다.")
+    void deleted_post_cannot_be_liked() {
+        postLikeService.like(postId, "liker2");
+        postRepository.softDeleteIfOwner(postId, "liker0", LocalDateTime.now());
+
+        assertThatThrownBy(() -> postLikeService.like(postId, "liker1"))
+            .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> postLikeService.unlike(postId, "liker2"))
+            .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(count("SELECT COUNT(*) FROM post_likes")).isEqualTo(1);
+    }
+
+    // --- 2. 압축 테스트 ---
+    @Test
+    @DisplayName("압축_성공: 슬롯 값이 Posts.like_count 로 옮겨지고 슬롯이 0이 되어도 좋아요 수는 그대로여야 한다.")
+    void compaction_moves_shards_into_post_without_changing_total() {
+        // given
+        for (int i = 0; i < 10; i++) {
+            postLikeService.like(postId, "liker" + i);
+        }
+        postLikeService.unlike(postId, "liker9");
+
+        // when
+        int compacted = compactor.compact();
+
+        // then
+        assertThat(compacted).isBetween(2, 4);
+        assertThat(count("SELECT COUNT(*) FROM post_like_shards")).isEqualTo(4); // 슬롯 행은 지우지 않고 0으로 남김
+        assertThat(count("SELECT COUNT(*) FROM post_like_shards WHERE like_count <> 0")).isZero();
+        assertThat(count("SELECT like_count FROM posts WHERE id = " + postId)).isEqualTo(9);
+        assertThat(listLikeCount()).isEqualTo(9);
+        assertThat(compactor.compact()).as("0인 슬롯은 다시 옮기지 않음").isZero();
+
+        // 압축 뒤에 들어온 좋아요는 다시 슬롯에 더해짐
+        assertThat(postLikeService.like(postId, "liker15").getLikeCount()).isEqualTo(10);
+        assertThat(detailLikeCount()).isEqualTo(10);
+    }
+}
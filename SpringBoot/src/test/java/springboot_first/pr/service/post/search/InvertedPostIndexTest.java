@@ -0,0 +1,80 @@
+package springboot_first.pr.service.post.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InvertedPostIndex 바이그램 역색인 검색 테스트")
+class InvertedPostIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+    private InvertedPostIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedPostIndex();
+        index.upsert(1L, "보르도 와인 리뷰", "타닌이 부드럽고 과일향이 풍부하다", "작성자1", BASE);
+        index.upsert(2L, "부르고뉴 와인 추천", "산미가 좋고 과일향이 은은하다", "작성자2", BASE.plusMinutes(1));
+        index.upsert(3L, "맥주 리뷰", "홉 향이 강하다", "작성자1", BASE.plusMinutes(2));
+    }
+
+    // --- 1. 검색 조건 테스트 ---
+    @Test
+    @DisplayName("검색_성공: 제목 부분 일치 결과는 최신순으로 정렬되어야 한다.")
+    void search_by_title_latest_first() {
+        assertThat(index.search("리뷰", null, null, false)).containsExactly(3L, 1L);
+        assertThat(index.search("리뷰", null, null, true)).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("검색_성공: 본문은 검색어의 모든 바이그램을 포함한 게시글만 찾아야 한다.")
+    void search_by_content_bigrams() {
+        assertThat(index.search(null, "과일향", null, false)).containsExactly(2L, 1L);
+        assertThat(index.search(null, "과일맛", null, false)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색_성공: 여러 조건은 AND로 결합되어야 한다.")
+    void search_combines_conditions() {
+        assertThat(index.search("리뷰", null, "작성자1", false)).containsExactly(3L, 1L);
+        assertThat(index.search("와인", "과일향", "작성자1", false)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("검색_성공: 제목 바이그램이 모두 있어도 실제 부분 문자열이 아니면 제외되어야 한다.")
+    void title_requires_exact_substring() {
+        // "와인 리뷰"의 바이그램(와인, 리뷰)은 1번 제목에 모두 있고 실제로도 연속됨
+        assertThat(index.search("와인 리뷰", null, null, false)).containsExactly(1L);
+        // "리뷰와인"의 바이그램(리뷰, 뷰와, 와인) 중 "뷰와"는 없음
+        assertThat(index.search("리뷰와인", null, null, false)).isEmpty();
+    }
+
+    // --- 2. 색인 갱신 테스트 ---
+    @Test
+    @DisplayName("갱신_성공: 수정된 게시글은 이전 내용으로 더 이상 검색되지 않아야 한다.")
+    void upsert_replaces_previous_tokens() {
+        // when
+        index.upsert(3L, "맥주 추천", "홉 향이 강하다", "작성자1", BASE.plusMinutes(2));
+
+        // then
+        assertThat(index.search("리뷰", null, null, false)).containsExactly(1L);
+        assertThat(index.search("추천", null, null, false)).containsExactly(3L, 2L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("삭제_성공: 삭제된 게시글은 검색 결과에서 제외되어야 한다.")
+    void remove_excludes_post() {
+        // when
+        index.remove(1L);
+
+        // then
+        assertThat(index.search(null, "과일향", null, false)).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,85 @@
+package springboot_first.pr.service.post.suggest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import springboot_first.pr.service.post.suggest.PostSuggestIndex.Suggestion;
+import springboot_first.pr.service.post.suggest.PostSuggestIndex.Type;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("PostSuggestIndex 접두어 자동완성 테스트")
+class PostSuggestIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+    private PostSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PostSuggestIndex();
+        index.upsert(1L, "와인 리뷰", "작성자1", BASE);
+        index.upsert(2L, "와인바 추천", "작성자2", BASE.plusMinutes(1));
+        index.upsert(3L, "보르도 와인 입문", "와인러버", BASE.plusMinutes(2));
+    }
+
+    // --- 1. 접두어 조회 테스트 ---
+    @Test
+    @DisplayName("자동완성_성공: 접두어로 시작하는 제목/작성자/단어 시작 일치 항목이 최신순으로 반환되어야 한다.")
+    void suggest_latest_first() {
+        assertThat(index.suggest("와인", 10))
+            .extracting(Suggestion::text)
+            .containsExactly("보르도 와인 입문", "와인러버", "와인바 추천", "와인 리뷰");
+    }
+
+    @Test
+    @DisplayName("자동완성_성공: 간선 중간에서 끝나는 접두어와 대소문자 차이도 일치해야 한다.")
+    void suggest_prefix_inside_edge() {
+        // given
+        index.upsert(4L, "Bordeaux Guide", "writer", BASE.plusMinutes(3));
+
+        // when & then
+        assertThat(index.suggest("bord", 10)).extracting(Suggestion::text).containsExactly("Bordeaux Guide");
+        assertThat(index.suggest("와인바", 10)).extracting(Suggestion::postId).containsExactly(2L);
+        assertThat(index.suggest("와인바 추천합니다", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("자동완성_성공: 같은 작성자의 글은 하나로 묶이고 가장 최근 게시글 기준으로 정렬되어야 한다.")
+    void author_grouped_by_latest_post() {
+        // given
+        index.upsert(5L, "새 글", "작성자1", BASE.plusMinutes(10));
+
+        // when & then
+        assertThat(index.suggest("작성자", 10))
+            .filteredOn(s -> s.type() == Type.AUTHOR)
+            .extracting(Suggestion::text, Suggestion::postId)
+            .containsExactly(tuple("작성자1", 5L), tuple("작성자2", 2L));
+    }
+
+    @Test
+    @DisplayName("자동완성_성공: limit 만큼만 반환되어야 한다.")
+    void suggest_respects_limit() {
+        assertThat(index.suggest("와", 2)).hasSize(2);
+        assertThat(index.suggest("", 10)).isEmpty();
+    }
+
+    // --- 2. 색인 갱신 테스트 ---
+    @Test
+    @DisplayName("갱신_성공: 수정/삭제된 게시글의 이전 제목은 더 이상 추천되지 않아야 한다.")
+    void update_and_remove() {
+        // when
+        index.upsert(2L, "맥주 추천", "작성자2", BASE.plusMinutes(1));
+        index.remove(3L);
+
+        // then
+        assertThat(index.suggest("와인", 10)).extracting(Suggestion::text).containsExactly("와인 리뷰");
+        assertThat(index.suggest("맥주", 10)).extracting(Suggestion::postId).containsExactly(2L);
+        assertThat(index.suggest("보르도", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+}
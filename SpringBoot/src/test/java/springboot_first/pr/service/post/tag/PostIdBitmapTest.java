@@ -0,0 +1,122 @@
+package springboot_first.pr.service.post.tag;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PostIdBitmap 압축 비트맵 테스트")
+class PostIdBitmapTest {
+
+    // 배열 칸(≤ 4096개)과 비트맵 칸이 섞이도록 : 앞쪽 칸은 빽빽하게, 나머지는 드문드문
+    private static BitSet randomIds(Random random, int dense, int sparse) {
+        BitSet ids = new BitSet();
+        for (int i = 0; i < dense; i++) {
+            ids.set(random.nextInt(1 << 16));
+        }
+        for (int i = 0; i < sparse; i++) {
+            ids.set(random.nextInt(1 << 22));
+        }
+        return ids;
+    }
+
+    private static PostIdBitmap bitmapOf(BitSet ids) {
+        PostIdBitmap bitmap = new PostIdBitmap();
+        ids.stream().forEach(bitmap::add);
+        return bitmap;
+    }
+
+    private static long[] toLongs(BitSet ids) {
+        return ids.stream().asLongStream().toArray();
+    }
+
+    // --- 1. 집합 연산 테스트 ---
+    @Test
+    @DisplayName("집합_연산: 교집합/합집합 결과가 BitSet 으로 계산한 결과와 같아야 한다.")
+    void and_or_match_bitset() {
+        // given
+        Random random = new Random(42);
+        BitSet a = randomIds(random, 20_000, 3_000);
+        BitSet b = randomIds(random, 15_000, 3_000);
+
+        // when
+        PostIdBitmap and = bitmapOf(a).and(bitmapOf(b));
+        PostIdBitmap or = bitmapOf(a).or(bitmapOf(b));
+
+        // then
+        BitSet expectedAnd = (BitSet) a.clone();
+        expectedAnd.and(b);
+        BitSet expectedOr = (BitSet) a.clone();
+        expectedOr.or(b);
+        assertThat(and.toArray()).containsExactly(toLongs(expectedAnd));
+        assertThat(and.cardinality()).isEqualTo(expectedAnd.cardinality());
+        assertThat(or.toArray()).containsExactly(toLongs(expectedOr));
+        assertThat(or.cardinality()).isEqualTo(expectedOr.cardinality());
+    }
+
+    @Test
+    @DisplayName("여러_비트맵: andAll / orAll 은 원본을 바꾸지 않고, 빈 목록의 교집합은 빈 집합이어야 한다.")
+    void and_all_or_all_leave_inputs_untouched() {
+        // given
+        PostIdBitmap a = PostIdBitmap.of(1, 2, 3, 70_000);
+        PostIdBitmap b = PostIdBitmap.of(2, 3, 4, 70_000);
+        PostIdBitmap c = PostIdBitmap.of(3, 70_000, 80_000);
+
+        // when
+        PostIdBitmap and = PostIdBitmap.andAll(List.of(a, b, c));
+        PostIdBitmap or = PostIdBitmap.orAll(List.of(a, b));
+
+        // then
+        assertThat(and.toArray()).containsExactly(3, 70_000);
+        assertThat(or.toArray()).containsExactly(1, 2, 3, 4, 70_000);
+        assertThat(a.toArray()).containsExactly(1, 2, 3, 70_000);
+        assertThat(PostIdBitmap.andAll(List.of()).isEmpty()).isTrue();
+    }
+
+    // --- 2. 추가/삭제 테스트 ---
+    @Test
+    @DisplayName("추가_삭제: 배열 칸 ↔ 비트맵 칸으로 바뀌어도 포함 여부와 개수가 유지되어야 한다.")
+    void add_remove_across_container_conversion() {
+        // given : 한 칸에 5000개 → 비트맵 칸
+        PostIdBitmap bitmap = new PostIdBitmap();
+        for (int id = 0; id < 5000; id++) {
+            assertThat(bitmap.add(id)).isTrue();
+        }
+        assertThat(bitmap.add(10)).isFalse();
+        long denseBytes = bitmap.sizeInBytes();
+
+        // when : 10개 중 9개를 지워서 다시 배열 칸으로
+        for (int id = 0; id < 5000; id++) {
+            if (id % 10 != 0) {
+                assertThat(bitmap.remove(id)).isTrue();
+            }
+        }
+
+        // then
+        assertThat(bitmap.cardinality()).isEqualTo(500);
+        assertThat(bitmap.contains(10)).isTrue();
+        assertThat(bitmap.contains(11)).isFalse();
+        assertThat(bitmap.remove(11)).isFalse();
+        assertThat(bitmap.sizeInBytes()).isLessThan(denseBytes);
+
+        for (int id = 0; id < 5000; id += 10) {
+            bitmap.remove(id);
+        }
+        assertThat(bitmap.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("범위_확인: 음수이거나 int 범위를 넘는 id는 IllegalArgumentException 이 발생해야 한다.")
+    void rejects_out_of_range_ids() {
+        PostIdBitmap bitmap = new PostIdBitmap();
+
+        assertThatThrownBy(() -> bitmap.add(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bitmap.add(1L << 31)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(bitmap.contains(-1)).isFalse();
+    }
+}
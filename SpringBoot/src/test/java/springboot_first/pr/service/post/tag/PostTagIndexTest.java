@@ -0,0 +1,129 @@
+package springboot_first.pr.service.post.tag;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import jakarta.persistence.EntityManager;
+import springboot_first.pr.dto.postDTO.response.PostListResponse;
+import springboot_first.pr.entity.Post;
+import springboot_first.pr.entity.User;
+import springboot_first.pr.repository.PostRepository;
+import springboot_first.pr.repository.PostSearchCriteria;
+import springboot_first.pr.repository.TagCondition;
+import springboot_first.pr.repository.UserRepository;
+import springboot_first.pr.service.post.PostChangedEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 💡 max-in-list=2 : 후보가 2건을 넘으면 post_tags 서브쿼리 경로로 검색되는지 함께 확인
+@DataJpaTest(properties = "post.tags.max-in-list=2")
+@Import({PostTagService.class, PostTagIndex.class})
+@DisplayName("PostTagIndex 태그 비트맵 검색 테스트")
+class PostTagIndexTest {
+
+    @Autowired
+    private PostTagService postTagService;
+
+    @Autowired
+    private PostTagIndex postTagIndex;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(User.builder()
+                .userId("writer1")
+                .email("writer1@test.com")
+                .username("작성자")
+                .password("encoded_password1234!")
+                .phoneNumber("010-0000-0001")
+                .role("USER")
+                .build());
+    }
+
+    private Long write(String title, String... tags) {
+        Long postId = postRepository.save(Post.create(title, "본문", author)).getId();
+        postTagService.replaceTags(postId, List.of(tags));
+        return postId;
+    }
+
+    private List<String> search(String... tags) {
+        em.flush();
+        PostSearchCriteria criteria = new PostSearchCriteria(null, null, null, postTagIndex.condition(TagFilter.parse(List.of(tags))));
+        return postRepository.searchPage(criteria, PageRequest.of(0, 10, Sort.by("id"))).getContent().stream()
+            .map(PostListResponse::getTitle)
+            .toList();
+    }
+
+    // --- 1. 태그 조건 테스트 ---
+    @Test
+    @DisplayName("태그_검색: OR 묶음은 합집합, 묶음끼리는 교집합이고 후보가 많으면 서브쿼리 경로로 같은 결과가 나와야 한다.")
+    void and_or_groups_resolve_to_candidate_ids() {
+        // given : 테스트 트랜잭션은 커밋되지 않아 이벤트가 없으므로 색인을 직접 다시 구축
+        write("보르도 레드", "type:red", "region:bordeaux", "vintage:2015");
+        write("보르도 화이트", "Type: White", "region:Bordeaux");
+        write("나파 레드", "type:red", "region:napa valley", "vintage:2015");
+        write("보르도 로제", "type:rose", "region:bordeaux");
+        postTagIndex.buildIndex();
+
+        // when
+        List<String> found = search("type:red|type:rose", "region:bordeaux");
+
+        // then
+        assertThat(found).containsExactly("보르도 레드", "보르도 로제");
+        assertThat(search("region:napa-valley", "vintage:2015")).containsExactly("나파 레드");
+        assertThat(search("type:sparkling")).isEmpty();
+        // 후보 3건 > max-in-list → 서브쿼리 경로
+        assertThat(postTagIndex.condition(TagFilter.parse(List.of("region:bordeaux"))).kind())
+            .isEqualTo(TagCondition.Kind.SUBQUERY);
+        assertThat(search("region:bordeaux")).containsExactly("보르도 레드", "보르도 화이트", "보르도 로제");
+    }
+
+    @Test
+    @DisplayName("태그_갱신: 태그 교체 / 게시글 삭제 이벤트가 비트맵 색인에 반영되어야 한다.")
+    void index_follows_post_changes() {
+        // given
+        Long red = write("레드", "type:red");
+        Long rose = write("로제", "type:rose");
+        postTagIndex.buildIndex();
+
+        // when
+        postTagService.replaceTags(red, List.of("type:white"));
+        postTagIndex.onPostChanged(PostChangedEvent.updated(red));
+        postRepository.softDeleteIfOwner(rose, "writer1", LocalDateTime.now());
+        postTagIndex.onPostChanged(PostChangedEvent.deleted(rose));
+
+        // then
+        assertThat(postTagIndex.tagsOf(red)).containsExactly("type:white");
+        assertThat(postTagIndex.condition(TagFilter.parse(List.of("type:red|type:rose"))).kind())
+            .isEqualTo(TagCondition.Kind.NO_MATCH);
+        assertThat(search("type:white")).containsExactly("레드");
+    }
+
+    @Test
+    @DisplayName("태그_형식: 종류가 틀리거나 빈티지가 연도가 아니면 IllegalArgumentException 이 발생해야 한다.")
+    void rejects_malformed_tags() {
+        assertThatThrownBy(() -> TagFilter.parse(List.of("grape:merlot"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TagFilter.parse(List.of("vintage:15"))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(TagFilter.parse(List.of("Region: Napa Valley|vintage:NV")).cacheKey()).isEqualTo("region:napa-valley|vintage:nv");
+    }
+}